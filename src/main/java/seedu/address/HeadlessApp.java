@@ -0,0 +1,128 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.ExitAppRequestEvent;
+import seedu.address.commons.util.AppUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.server.ApiServer;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point to run the app without its GUI, serving the address book to local clients through an
+ * {@link ApiServer} instead.
+ *
+ * Takes the named arguments {@code --config=FILE} as {@link MainApp} does, {@code --port=PORT} (default
+ * {@value #DEFAULT_PORT}) and {@code --threads=COUNT}, the number of requests handled at once (default
+ * {@value #DEFAULT_THREADS}).
+ */
+public class HeadlessApp {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_THREADS = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+    private static final long EVENT_DELIVERY_TIMEOUT_MILLIS = 5000;
+
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+    private final UserPrefs userPrefs;
+    private ApiServer server;
+
+    public HeadlessApp(String configFilePath) {
+        logger.info("=============================[ Initializing AddressBook ]===========================");
+        Config config = MainApp.readConfig(configFilePath);
+        MainApp.initEventDispatch(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        userPrefs = MainApp.readPrefs(userPrefsStorage);
+        StorageManager storageManager =
+                new StorageManager(MainApp.initAddressBookStorage(userPrefs), userPrefsStorage);
+        if (config.getSaveCoalescingWindow() > 0) {
+            storageManager.enableWriteBehind(config.getSaveCoalescingWindow(),
+                    EventsCenter.getInstance().getBackgroundExecutor());
+        }
+        storage = storageManager;
+
+        LogsCenter.init(config);
+
+        model = MainApp.initModelManager(storage, userPrefs);
+        logic = new LogicManager(model);
+
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    /**
+     * Starts serving the address book on {@code port}, handling up to {@code threads} requests at once.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public void start(int port, int threads) throws IOException {
+        logger.info("Starting AddressBook " + MainApp.VERSION + " without its GUI");
+        server = new ApiServer(logic, model, port, threads);
+        server.start();
+    }
+
+    /**
+     * Stops serving, then saves the changes that are still waiting to be saved.
+     */
+    public synchronized void stop() {
+        if (server == null) {
+            return;
+        }
+        logger.info("============================ [ Stopping Address Book ] =============================");
+        server.stop();
+        server = null;
+        try {
+            if (!EventsCenter.getInstance().awaitDelivery(storage, EVENT_DELIVERY_TIMEOUT_MILLIS)) {
+                logger.warning("Storage did not handle all changes before stopping");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storage.flushAddressBook();
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        // the request is raised on the thread running the command, which stopping waits for
+        new Thread(() -> {
+            stop();
+            System.exit(0);
+        }, "headless-exit").start();
+    }
+
+    /**
+     * Starts the app without its GUI, as described by the named arguments in {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int port = Integer.parseInt(namedArguments.getOrDefault("port", Integer.toString(DEFAULT_PORT)));
+        int threads = Integer.parseInt(namedArguments.getOrDefault("threads", Integer.toString(DEFAULT_THREADS)));
+
+        HeadlessApp app = new HeadlessApp(namedArguments.get("config"));
+        Runtime.getRuntime().addShutdownHook(new Thread(app::stop, "headless-shutdown"));
+        app.start(port, threads);
+    }
+}
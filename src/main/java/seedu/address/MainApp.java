@@ -14,6 +14,7 @@ import seedu.address.commons.core.Config;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -27,6 +28,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -43,6 +46,7 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(0, 6, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final long EVENT_DELIVERY_TIMEOUT_MILLIS = 5000;
 
     protected Ui ui;
     protected Logic logic;
@@ -58,11 +62,16 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(getApplicationParameter("config"));
+        initEventDispatch(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        StorageManager storageManager = new StorageManager(addressBookStorage, userPrefsStorage);
+        if (config.getSaveCoalescingWindow() > 0) {
+            storageManager.enableWriteBehind(config.getSaveCoalescingWindow(), Platform::runLater);
+        }
+        storage = storageManager;
 
         initLogging(config);
 
@@ -80,12 +89,34 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Returns an {@code AddressBookStorage} for the data format chosen in {@code userPrefs}.
+     * If the binary format is chosen but there is no binary data file yet, the xml data file is migrated to it.
+     */
+    static AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        String filePath = userPrefs.getAddressBookFilePath();
+        if (userPrefs.getAddressBookFormat() != UserPrefs.AddressBookFormat.BINARY) {
+            return userPrefs.isAddressBookJournaled()
+                    ? new JournalAddressBookStorage(filePath)
+                    : new XmlAddressBookStorage(filePath);
+        }
+
+        BinaryAddressBookStorage binaryStorage =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(filePath));
+        try {
+            binaryStorage.migrateFrom(new XmlAddressBookStorage(filePath));
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to migrate " + filePath + " to the binary format: " + StringUtil.getDetails(e));
+        }
+        return binaryStorage;
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    static Model initModelManager(Storage storage, UserPrefs userPrefs) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -109,12 +140,16 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    protected Config initConfig(String configFilePath) {
+        return readConfig(configFilePath);
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(String configFilePath) {
+    static Config readConfig(String configFilePath) {
         Config initializedConfig;
         String configFilePathUsed;
 
@@ -145,12 +180,16 @@ public class MainApp extends Application {
         return initializedConfig;
     }
 
+    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+        return readPrefs(storage);
+    }
+
     /**
      * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
      * or a new {@code UserPrefs} with default configuration if errors occur when
      * reading from the file.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+    static UserPrefs readPrefs(UserPrefsStorage storage) {
         String prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using prefs file : " + prefsFilePath);
 
@@ -177,8 +216,19 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Sets up the {@code EventsCenter} to dispatch events as {@code config} asks, before any component registers
+     * its event handlers.
+     */
+    static void initEventDispatch(Config config) {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.setAsyncDispatch(config.isAsyncEventDispatch());
+        // each change event carries the whole address book, so only the latest one pending needs handling
+        eventsCenter.coalesce(AddressBookChangedEvent.class);
+    }
+
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        EventsCenter.getInstance().registerHandler(this, Platform::runLater);
     }
 
     @Override
@@ -191,6 +241,14 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        try {
+            if (!EventsCenter.getInstance().awaitDelivery(storage, EVENT_DELIVERY_TIMEOUT_MILLIS)) {
+                logger.warning("Storage did not handle all changes before stopping");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -0,0 +1,172 @@
+package seedu.address.commons.core;
+
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that passes log records on to other handlers on a background thread, so that formatting and
+ * writing them does not hold up the thread logging them.
+ *
+ * Records wait for the background thread in a ring buffer of fixed capacity. When it is full, records below
+ * {@code WARNING} are dropped and counted, and the number dropped is logged once there is room again; records at
+ * {@code WARNING} or above wait for room instead. The parameters of a record are formatted on the background
+ * thread, so they should not be changed after being logged.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+    private static final long CLOSE_TIMEOUT_MILLIS = 5000;
+
+    private final Handler[] targets;
+    private final LogRecord[] buffer;
+    private final Thread writer;
+    private int head;
+    private int count;
+    private boolean isWriting;
+    private boolean isClosed;
+    private long droppedCount;
+    private long reportedDroppedCount;
+
+    /**
+     * @param capacity the number of records that can wait to be written.
+     * @param targets the handlers that write the records, in the order given.
+     */
+    public AsyncLogHandler(int capacity, Handler... targets) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.targets = targets.clone();
+        this.buffer = new LogRecord[capacity];
+        this.writer = new Thread(this::writeRecords, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        // the logging method is found from the stack, so it has to be found on the thread logging the record
+        record.getSourceClassName();
+
+        synchronized (this) {
+            if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+                while (count == buffer.length && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        break;
+                    }
+                }
+            }
+            if (isClosed || count == buffer.length) {
+                droppedCount++;
+                return;
+            }
+            buffer[(head + count) % buffer.length] = record;
+            count++;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Waits for the records published so far to be written, for a short while, then flushes the targets.
+     */
+    @Override
+    public void flush() {
+        synchronized (this) {
+            long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+            long remaining = FLUSH_TIMEOUT_MILLIS;
+            while ((count > 0 || isWriting) && writer.isAlive() && remaining > 0) {
+                try {
+                    wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+                remaining = deadline - System.currentTimeMillis();
+            }
+        }
+        for (Handler target : targets) {
+            target.flush();
+        }
+    }
+
+    /**
+     * Writes the records still waiting, then closes the targets.
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (isClosed) {
+                return;
+            }
+            isClosed = true;
+            notifyAll();
+        }
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (Handler target : targets) {
+            target.close();
+        }
+    }
+
+    /**
+     * Passes records from the buffer on to the targets until the handler is closed and the buffer is empty.
+     */
+    private void writeRecords() {
+        while (true) {
+            LogRecord record;
+            long newlyDroppedCount;
+            synchronized (this) {
+                isWriting = false;
+                notifyAll();
+                while (count == 0 && !isClosed) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (count == 0) {
+                    return;
+                }
+                record = buffer[head];
+                buffer[head] = null;
+                head = (head + 1) % buffer.length;
+                count--;
+                isWriting = true;
+                newlyDroppedCount = droppedCount - reportedDroppedCount;
+                reportedDroppedCount = droppedCount;
+            }
+            if (newlyDroppedCount > 0) {
+                LogRecord dropNotice = new LogRecord(Level.WARNING,
+                        newlyDroppedCount + " log records were dropped as too many were waiting to be written");
+                dropNotice.setLoggerName(AsyncLogHandler.class.getSimpleName());
+                dropNotice.setSourceClassName(AsyncLogHandler.class.getName());
+                dropNotice.setSourceMethodName("publish");
+                writeToTargets(dropNotice);
+            }
+            writeToTargets(record);
+        }
+    }
+
+    private void writeToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            target.publish(record);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.commons.core;
 
+import java.util.concurrent.Executor;
+
 import seedu.address.commons.events.BaseEvent;
 
 /**
@@ -22,6 +24,15 @@ public abstract class ComponentManager {
         eventsCenter.registerHandler(this);
     }
 
+    /**
+     * Uses default {@link EventsCenter}, calling the event handlers of this component on {@code handlerExecutor}
+     * if it dispatches events asynchronously.
+     */
+    public ComponentManager(Executor handlerExecutor) {
+        this.eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(this, handlerExecutor);
+    }
+
     protected void raise(BaseEvent event) {
         eventsCenter.post(event);
     }
@@ -14,6 +14,13 @@ public class Config {
     private String appTitle = "Address App";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    /**
+     * Changes made within this many milliseconds are saved together in the background; 0, the default, saves each
+     * change before the command returns. Changes not saved yet are lost if the app is killed.
+     */
+    private long saveCoalescingWindow = 0;
+    /** Whether the UI and storage handle events on their own threads instead of the thread raising them. */
+    private boolean asyncEventDispatch = false;
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +46,22 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public long getSaveCoalescingWindow() {
+        return saveCoalescingWindow;
+    }
+
+    public void setSaveCoalescingWindow(long saveCoalescingWindow) {
+        this.saveCoalescingWindow = saveCoalescingWindow;
+    }
+
+    public boolean isAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +75,14 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && saveCoalescingWindow == o.saveCoalescingWindow
+                && asyncEventDispatch == o.asyncEventDispatch;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, saveCoalescingWindow, asyncEventDispatch);
     }
 
     @Override
@@ -0,0 +1,148 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.EventBus;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * The events waiting to be handled by one handler, which are delivered to it in the order they were posted by
+ * tasks run on the handler's executor.
+ *
+ * Only one delivery task is submitted to the executor at a time, and it delivers every event queued by the time it
+ * runs. An event of a coalesced type replaces the instance of that type still waiting in the queue, if any, which
+ * is dropped; the newer event takes its turn after the events posted before it.
+ */
+class EventQueue {
+
+    /** A warning is logged each time the deepest the queue has been grows past a multiple of this. */
+    static final int QUEUE_DEPTH_WARNING_STEP = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(EventQueue.class);
+
+    private final Object handler;
+    private final EventBus handlerBus;
+    private final List<Class<?>> eventTypes;
+    private final Executor executor;
+    private final Set<Class<?>> coalescedTypes;
+
+    private final Deque<BaseEvent> pending = new ArrayDeque<>();
+    /** The latest pending event of each coalesced type; earlier ones still in {@code pending} are skipped. */
+    private final Map<Class<?>, BaseEvent> latestCoalesced = new HashMap<>();
+    private int depth;
+    private int peakDepth;
+    private boolean isScheduled;
+
+    /**
+     * @param eventTypes the types of events {@code handler} subscribes to.
+     * @param coalescedTypes the types of events of which only the latest pending instance is delivered.
+     */
+    EventQueue(Object handler, List<Class<?>> eventTypes, Executor executor, Set<Class<?>> coalescedTypes) {
+        this.handler = handler;
+        this.handlerBus = new EventBus(handler.getClass().getSimpleName());
+        this.handlerBus.register(handler);
+        this.eventTypes = eventTypes;
+        this.executor = executor;
+        this.coalescedTypes = coalescedTypes;
+    }
+
+    Object getHandler() {
+        return handler;
+    }
+
+    /**
+     * Returns true if the handler subscribes to {@code event}.
+     */
+    boolean accepts(BaseEvent event) {
+        return eventTypes.stream().anyMatch(type -> type.isInstance(event));
+    }
+
+    /**
+     * Queues {@code event} for the handler, and schedules its delivery if none is scheduled.
+     */
+    synchronized void offer(BaseEvent event) {
+        if (coalescedTypes.contains(event.getClass())
+                && latestCoalesced.put(event.getClass(), event) != null) {
+            depth--;
+        }
+        pending.add(event);
+        depth++;
+        if (depth > peakDepth) {
+            peakDepth = depth;
+            if (peakDepth % QUEUE_DEPTH_WARNING_STEP == 0) {
+                logger.warning(peakDepth + " events are waiting to be handled by " + handler.getClass().getName());
+            }
+        }
+        if (!isScheduled) {
+            isScheduled = true;
+            try {
+                executor.execute(this::deliverPending);
+            } catch (RejectedExecutionException ree) {
+                isScheduled = false;
+                logger.warning("Could not deliver events to " + handler.getClass().getName() + ": " + ree);
+            }
+        }
+    }
+
+    /**
+     * Delivers the pending events to the handler until none are left.
+     */
+    private void deliverPending() {
+        while (true) {
+            BaseEvent event;
+            synchronized (this) {
+                event = pending.poll();
+                if (event == null) {
+                    isScheduled = false;
+                    notifyAll();
+                    return;
+                }
+                if (coalescedTypes.contains(event.getClass())) {
+                    if (latestCoalesced.get(event.getClass()) != event) {
+                        continue;
+                    }
+                    latestCoalesced.remove(event.getClass());
+                }
+                depth--;
+            }
+            handlerBus.post(event);
+        }
+    }
+
+    /**
+     * Returns the number of events waiting to be delivered.
+     */
+    synchronized int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Returns the largest number of events that have been waiting to be delivered at once.
+     */
+    synchronized int getPeakDepth() {
+        return peakDepth;
+    }
+
+    /**
+     * Waits until the events queued so far have been delivered, for at most {@code timeoutMillis}.
+     * Returns true if they were all delivered.
+     */
+    synchronized boolean awaitDelivery(long timeoutMillis) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (isScheduled && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return !isScheduled;
+    }
+}
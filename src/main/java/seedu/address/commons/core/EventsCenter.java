@@ -1,19 +1,45 @@
 package seedu.address.commons.core;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * By default every handler is called on the thread posting the event, before {@code post} returns. With
+ * asynchronous dispatch, handlers registered with an executor are instead called on that executor, one event at a
+ * time in the order the events were posted; see {@link #registerHandler(Object, Executor)}.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
     private final EventBus eventBus;
 
+    private final List<EventQueue> queues = new CopyOnWriteArrayList<>();
+    private final List<Class<?>> handledTypes = new CopyOnWriteArrayList<>();
+    private final Map<Class<?>, Boolean> isHandledCache = new ConcurrentHashMap<>();
+    private final Set<Class<?>> coalescedTypes = ConcurrentHashMap.newKeySet();
+    private final AtomicLong deadEventCount = new AtomicLong();
+    private volatile boolean isAsyncDispatch;
+    private ExecutorService backgroundExecutor;
+
     private EventsCenter() {
         eventBus = new EventBus();
     }
@@ -29,17 +55,137 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Sets whether handlers registered with an executor are called on it. Only affects the handlers registered
+     * afterwards.
+     */
+    public void setAsyncDispatch(boolean isAsyncDispatch) {
+        this.isAsyncDispatch = isAsyncDispatch;
+    }
+
+    public boolean isAsyncDispatch() {
+        return isAsyncDispatch;
+    }
+
+    /**
+     * Returns the executor that handlers doing slow work, such as saving to disk, can be called on: a single
+     * background thread, so that their events stay in order.
+     */
+    public synchronized Executor getBackgroundExecutor() {
+        if (backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "events-background");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return backgroundExecutor;
+    }
+
+    /**
+     * Delivers only the latest pending event of {@code eventType} to each handler called on an executor, dropping
+     * the earlier ones it has not handled yet. Suits events that replace everything earlier ones said.
+     */
+    public void coalesce(Class<? extends BaseEvent> eventType) {
+        coalescedTypes.add(eventType);
+    }
+
+    /**
+     * Registers {@code handler}, to be called on the thread posting the event.
+     */
     public void registerHandler(Object handler) {
+        addHandledTypes(handler);
         eventBus.register(handler);
     }
 
+    /**
+     * Registers {@code handler}, to be called on {@code executor} if dispatch is asynchronous, or on the thread
+     * posting the event otherwise.
+     */
+    public void registerHandler(Object handler, Executor executor) {
+        if (!isAsyncDispatch) {
+            registerHandler(handler);
+            return;
+        }
+        queues.add(new EventQueue(handler, addHandledTypes(handler), executor, coalescedTypes));
+    }
+
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        logger.fine(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        if (!isHandled(event)) {
+            deadEventCount.incrementAndGet();
+            logger.log(Level.FINE, "------[Dead Event] No handler for {0}", event.getClass().getCanonicalName());
+        }
+        for (EventQueue queue : queues) {
+            if (queue.accepts(event)) {
+                queue.offer(event);
+            }
+        }
         eventBus.post(event);
         return this;
     }
 
+    /**
+     * Returns the number of events posted that no handler subscribes to.
+     */
+    public long getDeadEventCount() {
+        return deadEventCount.get();
+    }
+
+    /**
+     * Returns the number of events waiting to be handled by {@code handler}, which is 0 if it is called on the
+     * posting thread.
+     */
+    public int getQueueDepth(Object handler) {
+        return findQueue(handler).map(EventQueue::getDepth).orElse(0);
+    }
+
+    /**
+     * Returns the largest number of events that have been waiting to be handled by {@code handler} at once.
+     */
+    public int getPeakQueueDepth(Object handler) {
+        return findQueue(handler).map(EventQueue::getPeakDepth).orElse(0);
+    }
+
+    /**
+     * Waits until {@code handler} has handled the events posted so far, for at most {@code timeoutMillis}.
+     * Returns true if it has handled them all.
+     */
+    public boolean awaitDelivery(Object handler, long timeoutMillis) throws InterruptedException {
+        Optional<EventQueue> queue = findQueue(handler);
+        return !queue.isPresent() || queue.get().awaitDelivery(timeoutMillis);
+    }
+
+    private Optional<EventQueue> findQueue(Object handler) {
+        return queues.stream().filter(queue -> queue.getHandler() == handler).findFirst();
+    }
+
+    /**
+     * Returns true if a registered handler subscribes to {@code event}.
+     */
+    private boolean isHandled(BaseEvent event) {
+        return isHandledCache.computeIfAbsent(event.getClass(), eventClass ->
+                handledTypes.stream().anyMatch(type -> type.isAssignableFrom(eventClass)));
+    }
+
+    /**
+     * Records the types of events {@code handler} subscribes to as handled, and returns them.
+     */
+    private List<Class<?>> addHandledTypes(Object handler) {
+        List<Class<?>> types = new ArrayList<>();
+        for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                    types.add(method.getParameterTypes()[0]);
+                }
+            }
+        }
+        handledTypes.addAll(types);
+        isHandledCache.clear();
+        return types;
+    }
+
 }
@@ -1,10 +1,13 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,39 +19,48 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records are formatted and written on a background thread by an {@link AsyncLogHandler}, so logging does not wait
+ *   for the console or the file. Messages that are costly to build can be passed as parameters, such as
+ *   {@code logger.log(Level.INFO, "Command: {0}", commandText)}, to be formatted on that thread, or as a
+ *   {@code Supplier}, such as {@code logger.fine(() -> ...)}, to be built only if the level is logged.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
+    /** The loggers set up so far, kept here so that they are not garbage collected and created again unset. */
+    private static final Map<String, Logger> configuredLoggers = new ConcurrentHashMap<>();
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
     private static FileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The handlers shared by all loggers, including the existing ones, will log at this level from now on.
      */
-    public static void init(Config config) {
+    public static synchronized void init(Config config) {
         currentLogLevel = config.getLogLevel();
-        logger.info("currentLogLevel: " + currentLogLevel);
+        for (Handler handler : new Handler[] {asyncHandler, consoleHandler, fileHandler}) {
+            if (handler != null) {
+                handler.setLevel(currentLogLevel);
+            }
+        }
+        logger.log(Level.INFO, "currentLogLevel: {0}", currentLogLevel);
     }
 
     /**
      * Creates a logger with the given name.
+     * Its handlers are only set up the first time it is requested; later requests return it as it is.
      */
     public static Logger getLogger(String name) {
-        Logger logger = Logger.getLogger(name);
-        logger.setUseParentHandlers(false);
-
-        removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
-
-        return Logger.getLogger(name);
+        return configuredLoggers.computeIfAbsent(name, unused -> {
+            Logger logger = Logger.getLogger(name);
+            configure(logger);
+            return logger;
+        });
     }
 
     /**
@@ -62,38 +74,57 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Replaces the handlers of {@code logger} with the shared {@code asyncHandler}.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
-        }
-        logger.addHandler(consoleHandler);
+    private static synchronized void configure(Logger logger) {
+        logger.setUseParentHandlers(false);
+        removeHandlers(logger);
+        addAsyncHandler(logger);
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Returns the number of log records dropped because too many were waiting to be written.
      */
-    private static void removeHandlers(Logger logger) {
-        Handler[] handlers = logger.getHandlers();
-        for (Handler handler : handlers) {
-            logger.removeHandler(handler);
+    public static synchronized long getDroppedLogRecordCount() {
+        return asyncHandler == null ? 0 : asyncHandler.getDroppedCount();
+    }
+
+    /**
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler} if it is null.
+     */
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
         }
+        logger.addHandler(asyncHandler);
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates an {@code AsyncLogHandler} writing to a new {@code consoleHandler} and {@code fileHandler}, or only
+     * to the {@code consoleHandler} if the log file cannot be opened.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        consoleHandler = createConsoleHandler();
+        AsyncLogHandler handler;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            fileHandler = createFileHandler();
+            handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler, fileHandler);
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, consoleHandler);
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+        }
+        handler.setLevel(currentLogLevel);
+        return handler;
+    }
+
+    /**
+     * Remove all the handlers from {@code logger}.
+     */
+    private static void removeHandlers(Logger logger) {
+        Handler[] handlers = logger.getHandlers();
+        for (Handler handler : handlers) {
+            logger.removeHandler(handler);
         }
     }
 
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.events.BaseEvent;
+
+/** Indicates several changes made together to the AddressBook in the model, in the order they were made */
+public class AddressBookChangeBatchEvent extends BaseEvent {
+
+    public final List<AddressBookDeltaEvent> changes;
+
+    public AddressBookChangeBatchEvent(List<AddressBookDeltaEvent> changes) {
+        this.changes = Collections.unmodifiableList(changes);
+    }
+
+    @Override
+    public String toString() {
+        return changes.size() + " changes";
+    }
+}
@@ -0,0 +1,11 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates one change to the AddressBook in the model, so that subscribers can update what they keep of it in time
+ * proportional to the change. Changes made together by one command are raised in one
+ * {@link AddressBookChangeBatchEvent} instead. Every change is followed by an {@link AddressBookChangedEvent}.
+ */
+public abstract class AddressBookDeltaEvent extends BaseEvent {
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.ReadOnlyAddressBook;
+
+/** Indicates all the data of the AddressBook in the model was replaced, as by clear, undo or redo */
+public class AddressBookResetEvent extends AddressBookDeltaEvent {
+
+    public final ReadOnlyAddressBook data;
+
+    public AddressBookResetEvent(ReadOnlyAddressBook data) {
+        this.data = data;
+    }
+
+    @Override
+    public String toString() {
+        return "number of persons " + data.getPersonList().size();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.pair.Pair;
+
+/** Indicates a pair was added to the AddressBook in the model */
+public class PairAddedEvent extends AddressBookDeltaEvent {
+
+    public final Pair pair;
+
+    public PairAddedEvent(Pair pair) {
+        this.pair = pair;
+    }
+
+    @Override
+    public String toString() {
+        return "pair " + pair.getPairName();
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.pair.Pair;
+
+/** Indicates a pair was removed from the AddressBook in the model */
+public class PairRemovedEvent extends AddressBookDeltaEvent {
+
+    public final Pair pair;
+
+    public PairRemovedEvent(Pair pair) {
+        this.pair = pair;
+    }
+
+    @Override
+    public String toString() {
+        return "pair " + pair.getPairName();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.pair.Pair;
+
+/** Indicates a pair in the AddressBook in the model was replaced by an edited pair */
+public class PairUpdatedEvent extends AddressBookDeltaEvent {
+
+    public final Pair oldPair;
+    public final Pair newPair;
+
+    public PairUpdatedEvent(Pair oldPair, Pair newPair) {
+        this.oldPair = oldPair;
+        this.newPair = newPair;
+    }
+
+    @Override
+    public String toString() {
+        return "pair " + oldPair.getPairName() + " updated";
+    }
+}
@@ -0,0 +1,18 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.person.Person;
+
+/** Indicates a person was removed from the AddressBook in the model */
+public class PersonRemovedEvent extends AddressBookDeltaEvent {
+
+    public final Person person;
+
+    public PersonRemovedEvent(Person person) {
+        this.person = person;
+    }
+
+    @Override
+    public String toString() {
+        return "person " + person.getName();
+    }
+}
@@ -0,0 +1,20 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.person.Person;
+
+/** Indicates a person in the AddressBook in the model was replaced by an edited person */
+public class PersonUpdatedEvent extends AddressBookDeltaEvent {
+
+    public final Person oldPerson;
+    public final Person newPerson;
+
+    public PersonUpdatedEvent(Person oldPerson, Person newPerson) {
+        this.oldPerson = oldPerson;
+        this.newPerson = newPerson;
+    }
+
+    @Override
+    public String toString() {
+        return "person " + oldPerson.getName() + " updated";
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.commons.events.model;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Indicates a tag was removed from the master tag list of the AddressBook in the model, either deleted or renamed.
+ * The persons and pairs that had the tag are reported updated in the same batch.
+ */
+public class TagRemovedEvent extends AddressBookDeltaEvent {
+
+    public final Tag tag;
+
+    public TagRemovedEvent(Tag tag) {
+        this.tag = tag;
+    }
+
+    @Override
+    public String toString() {
+        return "tag " + tag.tagName;
+    }
+}
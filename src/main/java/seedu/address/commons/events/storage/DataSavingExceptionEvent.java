@@ -8,14 +8,23 @@ import seedu.address.commons.events.BaseEvent;
 public class DataSavingExceptionEvent extends BaseEvent {
 
     public final Exception exception;
+    /** How long, in milliseconds, the unsaved changes had been waiting to be saved when saving failed. */
+    public final long saveLagMillis;
 
     public DataSavingExceptionEvent(Exception exception) {
+        this(exception, 0);
+    }
+
+    public DataSavingExceptionEvent(Exception exception, long saveLagMillis) {
         this.exception = exception;
+        this.saveLagMillis = saveLagMillis;
     }
 
     @Override
     public String toString() {
-        return exception.toString();
+        return saveLagMillis == 0
+                ? exception.toString()
+                : exception.toString() + " (changes unsaved for " + saveLagMillis + "ms)";
     }
 
 }
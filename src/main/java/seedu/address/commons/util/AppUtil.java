@@ -2,6 +2,9 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javafx.scene.image.Image;
 import seedu.address.MainApp;
 
@@ -36,4 +39,19 @@ public class AppUtil {
             throw new IllegalArgumentException(errorMessage);
         }
     }
+
+    /**
+     * Returns the named arguments in {@code args}, written as {@code --name=value} like the named parameters of a
+     * JavaFX application, by name. Other arguments are ignored.
+     */
+    public static Map<String, String> getNamedArguments(String... args) {
+        Map<String, String> namedArguments = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedArguments.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return namedArguments;
+    }
 }
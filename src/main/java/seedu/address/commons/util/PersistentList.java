@@ -0,0 +1,357 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiPredicate;
+
+/**
+ * An immutable list whose updates return a new list sharing all unchanged structure with the old one.
+ * Backed by a size-annotated AVL tree, so {@code get}, {@code with}, {@code plus} and {@code minus}
+ * take O(log n) time and allocate only the O(log n) nodes on the path to the changed position.
+ *
+ * The {@code java.util.List} mutators inherited from {@link AbstractList} throw
+ * {@code UnsupportedOperationException}.
+ */
+public final class PersistentList<T> extends AbstractList<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list holding the elements of {@code elements}, in order. Takes O(n) time.
+     */
+    public static <T> PersistentList<T> from(List<? extends T> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    @Override
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of this list with the element at {@code index} replaced by {@code value}.
+     */
+    public PersistentList<T> with(int index, T value) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, value));
+    }
+
+    /**
+     * Returns a copy of this list with {@code value} appended.
+     */
+    public PersistentList<T> plus(T value) {
+        return new PersistentList<>(insert(root, size(), value));
+    }
+
+    /**
+     * Returns a copy of this list with {@code value} inserted at {@code index}.
+     */
+    public PersistentList<T> plus(int index, T value) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, value));
+    }
+
+    /**
+     * Returns a copy of this list without the element at {@code index}.
+     */
+    public PersistentList<T> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the first index, at or after {@code from}, at which this list and {@code other} hold elements that
+     * are not the same by {@code isSame}, or the size of the shorter list if there is none.
+     * Subtrees the two lists share are skipped without being visited, so comparing a list with an updated copy of
+     * itself takes O(log n) time per update.
+     */
+    public int mismatch(PersistentList<T> other, int from, BiPredicate<? super T, ? super T> isSame) {
+        requireNonNull(other);
+        requireNonNull(isSame);
+        if (from < 0 || from > Math.min(size(), other.size())) {
+            throw new IndexOutOfBoundsException("Index: " + from + ", Size: " + Math.min(size(), other.size()));
+        }
+        Cursor<T> cursor = new Cursor<>(root, false);
+        Cursor<T> otherCursor = new Cursor<>(other.root, false);
+        cursor.skip(from);
+        otherCursor.skip(from);
+        return from + matchingRun(cursor, otherCursor, isSame);
+    }
+
+    /**
+     * Returns the number of elements at the end of this list that are the same by {@code isSame} as those at the
+     * end of {@code other}. Takes O(log n) time per update that turns one list into the other, as
+     * {@link #mismatch} does.
+     */
+    public int commonSuffixLength(PersistentList<T> other, BiPredicate<? super T, ? super T> isSame) {
+        requireNonNull(other);
+        requireNonNull(isSame);
+        return matchingRun(new Cursor<>(root, true), new Cursor<>(other.root, true), isSame);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private final Deque<Node<T>> path = new ArrayDeque<>();
+            {
+                pushLeftSpine(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public T next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<T> node = path.pop();
+                pushLeftSpine(node.right);
+                return node.value;
+            }
+
+            private void pushLeftSpine(Node<T> node) {
+                for (Node<T> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    //// tree operations
+
+    /**
+     * A node of the tree. Nodes are never modified once built.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+    /**
+     * Walks the elements of a tree in order, or in reverse order, a subtree at a time.
+     */
+    private static final class Cursor<T> {
+        /** The subtrees left to walk, the next one first. */
+        private final Deque<Node<T>> pending = new ArrayDeque<>();
+        private final boolean isReversed;
+
+        Cursor(Node<T> root, boolean isReversed) {
+            this.isReversed = isReversed;
+            if (root != null) {
+                pending.push(root);
+            }
+        }
+
+        /**
+         * Replaces the next subtree with its children and its root element alone, in walking order.
+         * The next subtree must hold more than one element.
+         */
+        void split() {
+            Node<T> node = pending.pop();
+            Node<T> last = isReversed ? node.left : node.right;
+            Node<T> first = isReversed ? node.right : node.left;
+            if (last != null) {
+                pending.push(last);
+            }
+            pending.push(new Node<>(null, node.value, null));
+            if (first != null) {
+                pending.push(first);
+            }
+        }
+
+        /**
+         * Skips the next {@code count} elements.
+         */
+        void skip(int count) {
+            while (count > 0) {
+                if (pending.peek().size <= count) {
+                    count -= pending.pop().size;
+                } else {
+                    split();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of elements the two cursors walk past before they reach elements that are not the same by
+     * {@code isSame}, or the end of either tree. Subtrees both cursors reach at once are skipped whole.
+     */
+    private static <T> int matchingRun(Cursor<T> cursor, Cursor<T> otherCursor,
+                                       BiPredicate<? super T, ? super T> isSame) {
+        int matched = 0;
+        while (!cursor.pending.isEmpty() && !otherCursor.pending.isEmpty()) {
+            Node<T> next = cursor.pending.peek();
+            Node<T> otherNext = otherCursor.pending.peek();
+            if (next == otherNext) {
+                matched += next.size;
+                cursor.pending.pop();
+                otherCursor.pending.pop();
+            } else if (next.size == 1 && otherNext.size == 1) {
+                if (!isSame.test(next.value, otherNext.value)) {
+                    break;
+                }
+                matched++;
+                cursor.pending.pop();
+                otherCursor.pending.pop();
+            } else if (next.size >= otherNext.size) {
+                cursor.split();
+            } else {
+                otherCursor.split();
+            }
+        }
+        return matched;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Returns a balanced subtree holding {@code elements} from {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    private static <T> Node<T> build(List<? extends T> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(build(elements, from, mid), elements.get(mid), build(elements, mid + 1, to));
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} with the element at {@code index} replaced by {@code value}.
+     */
+    private static <T> Node<T> set(Node<T> node, int index, T value) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, value), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, value));
+        } else {
+            return new Node<>(node.left, value, node.right);
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} with {@code value} inserted at {@code index}.
+     */
+    private static <T> Node<T> insert(Node<T> node, int index, T value) {
+        if (node == null) {
+            return new Node<>(null, value, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, value), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, value));
+        }
+    }
+
+    /**
+     * Returns a copy of the subtree at {@code node} without the element at {@code index}.
+     */
+    private static <T> Node<T> remove(Node<T> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(node.left, successor.value, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code left}, {@code value} and {@code right}, rotated if the subtrees' heights
+     * differ by more than one. The heights may differ by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        int difference = heightOf(left) - heightOf(right);
+        if (difference > 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        } else if (difference < -1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+        return new Node<>(left, value, right);
+    }
+}
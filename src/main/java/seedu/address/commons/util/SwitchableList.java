@@ -0,0 +1,96 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+
+/**
+ * A read-only view of one of several observable lists, which can be switched to show another list.
+ * Changes to the current list are passed on to the listeners of this list, and switching lists is reported to
+ * them as a single replacement of all the elements.
+ */
+public class SwitchableList<E> extends ObservableListBase<E> {
+
+    private final ListChangeListener<E> sourceListener = this::onSourceChanged;
+    private ObservableList<E> source;
+
+    public SwitchableList(ObservableList<E> source) {
+        this.source = requireNonNull(source);
+        source.addListener(sourceListener);
+    }
+
+    public ObservableList<E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows {@code newSource} instead of the current list. Neither list is scanned or filtered; only the
+     * listeners of this list look at the elements shown.
+     */
+    public void setSource(ObservableList<E> newSource) {
+        requireNonNull(newSource);
+        if (newSource == source) {
+            return;
+        }
+        ObservableList<E> oldSource = source;
+        oldSource.removeListener(sourceListener);
+        source = newSource;
+        newSource.addListener(sourceListener);
+
+        beginChange();
+        nextChange(0, newSource.size(), oldSource);
+        endChange();
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Reports the changes made to the current list as changes to this list.
+     */
+    private void onSourceChanged(ListChangeListener.Change<? extends E> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                int[] permutation = new int[change.getTo() - change.getFrom()];
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permutation[i - change.getFrom()] = change.getPermutation(i);
+                }
+                nextPermutation(change.getFrom(), change.getTo(), permutation);
+            } else if (change.wasUpdated()) {
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    nextUpdate(i);
+                }
+            } else {
+                nextChange(change.getFrom(), change.getTo(), change.getRemoved());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Records that the elements from {@code from} to {@code to} took the place of the {@code removed} elements.
+     */
+    private void nextChange(int from, int to, List<? extends E> removed) {
+        if (removed.isEmpty()) {
+            if (from < to) {
+                nextAdd(from, to);
+            }
+        } else if (from == to) {
+            nextRemove(from, removed);
+        } else {
+            nextReplace(from, to, removed);
+        }
+    }
+}
@@ -1,12 +1,17 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -24,6 +29,8 @@ public class LogicManager extends ComponentManager implements Logic {
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
     private final UndoRedoStack undoRedoStack;
+    /** The commands entered since {@code begin}, or null if no batch has been started. */
+    private List<String> queuedBatch;
 
     public LogicManager(Model model) {
         this.model = model;
@@ -34,9 +41,19 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
         try {
             Command command = addressBookParser.parseCommand(commandText);
+            if (queuedBatch != null && !(command instanceof CommitCommand)) {
+                return queueInBatch(command, commandText);
+            }
+            if (command instanceof BeginCommand) {
+                queuedBatch = new ArrayList<>();
+            } else if (command instanceof CommitCommand && queuedBatch != null) {
+                CommitCommand commitCommand = (CommitCommand) command;
+                commitCommand.setQueuedLines(queuedBatch);
+                queuedBatch = null;
+            }
             command.setData(model, history, undoRedoStack);
             CommandResult result = command.execute();
             undoRedoStack.push(command);
@@ -46,6 +63,18 @@ public class LogicManager extends ComponentManager implements Logic {
         }
     }
 
+    /**
+     * Queues {@code commandText}, which has been parsed into {@code command}, in the batch started by
+     * {@code begin}, to be run when the batch is committed.
+     */
+    private CommandResult queueInBatch(Command command, String commandText) throws CommandException {
+        if (command instanceof BeginCommand) {
+            throw new CommandException(BeginCommand.MESSAGE_BATCH_ALREADY_STARTED);
+        }
+        queuedBatch.add(commandText);
+        return new CommandResult(String.format(BeginCommand.MESSAGE_QUEUED, queuedBatch.size()));
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
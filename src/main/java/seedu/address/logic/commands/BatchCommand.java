@@ -0,0 +1,133 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+
+/**
+ * Runs a batch of commands as one transaction: either all of them succeed, or none of their changes are kept.
+ * The batch is undone and redone as a whole, and its changes are saved together once all the commands succeed.
+ *
+ * Blank lines and lines starting with {@value #COMMENT_MARKER} are skipped. Commands that undo, redo, start or run
+ * batches, or exit the app cannot be used in a batch.
+ */
+public abstract class BatchCommand extends UndoableCommand {
+
+    public static final String COMMENT_MARKER = "#";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands in %2$d ms (%3$d commands per second)";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d (%2$s) failed: %3$s\nNo changes were made.";
+    public static final String MESSAGE_COMMAND_NOT_ALLOWED = "This command cannot be used in a batch";
+
+    private List<String> lines;
+
+    /**
+     * Returns the lines of commands to run. Only called the first time the batch is run; the same lines are run
+     * again when the batch is redone.
+     *
+     * @throws CommandException if the lines cannot be obtained.
+     */
+    protected abstract List<String> readLines() throws CommandException;
+
+    @Override
+    protected CommandResult executeUndoableCommand() throws CommandException {
+        requireNonNull(model);
+        if (lines == null) {
+            lines = readLines();
+        }
+        List<Command> commands = parseCommands();
+        int commandCount = (int) commands.stream().filter(command -> command != null).count();
+
+        long startTime = System.nanoTime();
+        model.beginTransaction();
+        boolean isCommitted = false;
+        try {
+            runCommands(commands);
+            model.commitTransaction();
+            isCommitted = true;
+        } finally {
+            if (!isCommitted) {
+                model.rollbackTransaction();
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long commandsPerSecond = commandCount * 1000L / Math.max(1, elapsedMillis);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, elapsedMillis, commandsPerSecond));
+    }
+
+    /**
+     * Parses every line of the batch before any is run, so that a malformed line leaves the model untouched.
+     * Skipped lines are parsed into null, keeping the commands at the index of their line.
+     */
+    private List<Command> parseCommands() throws CommandException {
+        AddressBookParser parser = new AddressBookParser();
+        List<Command> commands = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).trim();
+            if (line.isEmpty() || line.startsWith(COMMENT_MARKER)) {
+                commands.add(null);
+                continue;
+            }
+            try {
+                Command command = parser.parseCommand(line);
+                if (!isAllowedInBatch(command)) {
+                    throw new CommandException(MESSAGE_COMMAND_NOT_ALLOWED);
+                }
+                commands.add(command);
+            } catch (ParseException | CommandException e) {
+                throw failureAt(i, e);
+            }
+        }
+        return commands;
+    }
+
+    /**
+     * Runs {@code commands} in order, stopping at the first that fails.
+     */
+    private void runCommands(List<Command> commands) throws CommandException {
+        for (int i = 0; i < commands.size(); i++) {
+            Command command = commands.get(i);
+            if (command == null) {
+                continue;
+            }
+            command.setData(model, history, undoRedoStack);
+            try {
+                command.execute();
+            } catch (CommandException ce) {
+                throw failureAt(i, ce);
+            }
+        }
+    }
+
+    /**
+     * Returns the exception reporting that the line at {@code index} failed with {@code cause}.
+     */
+    private CommandException failureAt(int index, Exception cause) {
+        return new CommandException(
+                String.format(MESSAGE_COMMAND_FAILED, index + 1, lines.get(index).trim(), cause.getMessage()));
+    }
+
+    /**
+     * Returns true if {@code command} may be run as part of a batch.
+     */
+    private static boolean isAllowedInBatch(Command command) {
+        return !(command instanceof UndoCommand || command instanceof RedoCommand || command instanceof BatchCommand
+                || command instanceof BeginCommand || command instanceof ExitCommand);
+    }
+
+    @Override
+    public void setData(Model model, CommandHistory history, UndoRedoStack undoRedoStack) {
+        this.model = model;
+        this.history = history;
+        this.undoRedoStack = undoRedoStack;
+    }
+}
@@ -0,0 +1,25 @@
+package seedu.address.logic.commands;
+
+/**
+ * Starts collecting commands into a batch, to be run as one transaction by {@code commit}.
+ * The commands entered until then are checked and queued instead of being run.
+ */
+public class BeginCommand extends Command {
+
+    public static final String COMMAND_WORD = "begin";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Starts a batch of commands. The commands entered "
+            + "next are queued, and run together by " + CommitCommand.COMMAND_WORD + ". If any command fails, none "
+            + "of the changes are kept.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Batch started. Enter the commands to run, then "
+            + CommitCommand.COMMAND_WORD + ".";
+    public static final String MESSAGE_QUEUED = "Queued (%1$d commands in the batch)";
+    public static final String MESSAGE_BATCH_ALREADY_STARTED = "A batch has already been started";
+
+    @Override
+    public CommandResult execute() {
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
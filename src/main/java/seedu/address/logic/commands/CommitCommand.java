@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs the commands queued since {@code begin} as one transaction.
+ */
+public class CommitCommand extends BatchCommand {
+
+    public static final String COMMAND_WORD = "commit";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands queued since "
+            + BeginCommand.COMMAND_WORD + ". If any command fails, none of the changes are kept.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_NO_BATCH = "There is no batch to commit. Start one with "
+            + BeginCommand.COMMAND_WORD + ".";
+
+    private List<String> queuedLines;
+
+    /**
+     * Sets the commands queued since {@code begin}, which this command runs.
+     */
+    public void setQueuedLines(List<String> queuedLines) {
+        requireNonNull(queuedLines);
+        this.queuedLines = new ArrayList<>(queuedLines);
+    }
+
+    @Override
+    protected List<String> readLines() throws CommandException {
+        if (queuedLines == null) {
+            throw new CommandException(MESSAGE_NO_BATCH);
+        }
+        return queuedLines;
+    }
+}
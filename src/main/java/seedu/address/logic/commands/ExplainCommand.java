@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.query.Query;
+
+/**
+ * Lists the persons matched by a filter query, and shows the plan used to find them.
+ */
+public class ExplainCommand extends Command {
+
+    public static final String COMMAND_WORD = "explain";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filters all persons as "
+            + FilterCommand.COMMAND_WORD + " does, and shows which indexes were looked up and which terms were "
+            + "scanned, in the order they ran.\n"
+            + "Parameters: TERM [and|or [not] TERM]...\n"
+            + "Example: " + COMMAND_WORD + " math and not t/busy";
+
+    public static final String MESSAGE_PLAN = "Plan:\n%1$s\n%2$s";
+
+    private final Query query;
+
+    public ExplainCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute() {
+        String plan = model.planQuery(query).explain();
+        model.updateFilteredPersonListByQuery(query);
+        return new CommandResult(String.format(MESSAGE_PLAN, plan,
+                getMessageForPersonListShownSummary(model.getFilteredPersonList().size())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExplainCommand // instanceof handles nulls
+                && this.query.equals(((ExplainCommand) other).query)); // state check
+    }
+}
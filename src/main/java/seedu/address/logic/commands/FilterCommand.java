@@ -1,31 +1,40 @@
 package seedu.address.logic.commands;
 
-import java.util.function.Predicate;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
 
 /**
- * Finds and lists all persons in address book whose name contains any of the argument keywords.
- * Keyword matching is case sensitive.
+ * Finds and lists all persons in address book matched by a query over their attributes, tags, price and name.
+ * Keyword matching is case insensitive.
  */
 public class FilterCommand extends Command {
 
     public static final String COMMAND_WORD = "filter";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filter all persons whose tag contain any of "
-            + "the specified predicate and displays them as a list with index numbers.\n"
-            + "Parameters: TAG\n"
-            + "Example: " + COMMAND_WORD + " math";
-
-    private final Predicate<Person> predicate;
-
-    public FilterCommand(Predicate<Person> predicate) {
-        this.predicate = predicate;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Filter all persons matched by "
+            + "the specified query and displays them as a list with index numbers.\n"
+            + "Terms joined by 'and' must all match; terms joined by 'or' may match any. "
+            + "'not' before a term matches the persons it does not match, and terms can be grouped in brackets.\n"
+            + "A plain term matches the subject, level, status or role. Prefixed terms match only the "
+            + "subject (sub/), level (lvl/), status (stat/), role (r/), tag (" + PREFIX_TAG + "), "
+            + "price range (" + PREFIX_PRICE + "MIN-MAX, either bound may be left out) or name (n/).\n"
+            + "Parameters: TERM [and|or [not] TERM]...\n"
+            + "Example: " + COMMAND_WORD + " math and upper sec and " + PREFIX_PRICE + "30-50 and not "
+            + PREFIX_TAG + "busy";
+
+    private final Query query;
+
+    public FilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute() {
-        model.updateFilteredPersonList(predicate);
+        model.updateFilteredPersonListByQuery(query);
         return new CommandResult(getMessageForPersonListShownSummary(model.getFilteredPersonList().size()));
     }
 
@@ -33,6 +42,6 @@ public class FilterCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof FilterCommand // instanceof handles nulls
-                && this.predicate.equals(((FilterCommand) other).predicate)); // state check
+                && this.query.equals(((FilterCommand) other).query)); // state check
     }
 }
@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Pairs up the unmatched students and tutors in the address book that share a subject and level, within the
+ * students' budgets.
+ */
+public class MatchCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "match";
+    public static final String COMMAND_WORD_ALIAS = "mt";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Pairs up as many unmatched students and tutors as possible. A student and a tutor are paired "
+            + "only if they have the same subject and level, and the tutor's price is within the student's.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Matched %1$d students with tutors";
+    public static final String MESSAGE_NO_MATCHES = "No unmatched student could be paired with a tutor";
+    public static final String MESSAGE_DUPLICATE_PAIR = "Some of the proposed pairs already exist in the address book.";
+    public static final String MESSAGE_DUPLICATE_PERSON =
+            "Marking the matched persons would make them duplicates of other persons in the address book.";
+
+    @Override
+    public CommandResult executeUndoableCommand() throws CommandException {
+        List<PairMatcher.Match> matches = model.proposeMatches();
+        if (matches.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_MATCHES);
+        }
+        try {
+            model.addMatches(matches);
+        } catch (DuplicatePairException dpe) {
+            throw new CommandException(MESSAGE_DUPLICATE_PAIR);
+        } catch (DuplicatePersonException dpe) {
+            throw new CommandException(MESSAGE_DUPLICATE_PERSON);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, matches.size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this || other instanceof MatchCommand;
+    }
+}
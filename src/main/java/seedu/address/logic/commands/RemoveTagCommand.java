@@ -2,14 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
-
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.person.Person;
-import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -37,23 +31,14 @@ public class RemoveTagCommand extends UndoableCommand {
     @Override
     public CommandResult executeUndoableCommand() {
         requireNonNull(targetTag);
-        try {
-            model.deleteTag(targetTag);
-        } catch (PersonNotFoundException pnfe) {
-            throw new AssertionError("The target person cannot be missing");
-        }
+        model.deleteTag(targetTag);
 
         return new CommandResult(String.format(MESSAGE_DELETE_TAG_SUCCESS, targetTag));
     }
 
     @Override
     protected void preprocessUndoableCommand() throws CommandException {
-        List<Person> lastShownList = model.getFilteredPersonList();
-        Set<Tag> tagsInPersons = lastShownList.stream()
-                .map(Person::getTags)
-                .flatMap(Set::stream)
-                .collect(Collectors.toSet());
-        if (!tagsInPersons.contains(targetTag)) {
+        if (!model.hasTag(targetTag)) {
             throw new CommandException(Messages.MESSAGE_INVALID_TAG);
         }
     }
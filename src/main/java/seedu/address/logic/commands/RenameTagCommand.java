@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Renames a tag in the address book, merging it into another tag if the new name is already in use.
+ */
+public class RenameTagCommand extends UndoableCommand {
+
+    public static final String COMMAND_WORD = "renameTag";
+    public static final String COMMAND_WORD_ALIAS = "rnt";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Renames a tag in the addressbook. If a tag with the new name already exists, "
+            + "the tag is merged into it.\n"
+            + "Parameters: TAG (must be a valid tag existing in addressbook) " + PREFIX_TAG + "NEW_TAG\n"
+            + "Example: " + COMMAND_WORD + " Maths " + PREFIX_TAG + "Math";
+
+    public static final String MESSAGE_RENAME_TAG_SUCCESS = "Renamed Tag: %1$s to %2$s";
+    public static final String MESSAGE_MERGE_TAG_SUCCESS = "Merged Tag: %1$s into %2$s";
+
+    private final Tag targetTag;
+    private final Tag newTag;
+
+    private boolean isMerge;
+
+    public RenameTagCommand(Tag targetTag, Tag newTag) {
+        requireNonNull(targetTag);
+        requireNonNull(newTag);
+        this.targetTag = targetTag;
+        this.newTag = newTag;
+    }
+
+    @Override
+    public CommandResult executeUndoableCommand() {
+        model.renameTag(targetTag, newTag);
+        return new CommandResult(String.format(isMerge ? MESSAGE_MERGE_TAG_SUCCESS : MESSAGE_RENAME_TAG_SUCCESS,
+                targetTag, newTag));
+    }
+
+    @Override
+    protected void preprocessUndoableCommand() throws CommandException {
+        if (!model.hasTag(targetTag)) {
+            throw new CommandException(Messages.MESSAGE_INVALID_TAG);
+        }
+        isMerge = !targetTag.equals(newTag) && model.hasTag(newTag);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RenameTagCommand // instanceof handles nulls
+                && targetTag.equals(((RenameTagCommand) other).targetTag)
+                && newTag.equals(((RenameTagCommand) other).newTag));
+    }
+}
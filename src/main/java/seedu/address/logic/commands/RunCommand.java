@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+
+/**
+ * Runs the commands in a file, one per line, as one transaction.
+ */
+public class RunCommand extends BatchCommand {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in the specified file, one per "
+            + "line. If any command fails, none of the changes are kept. Blank lines and lines starting with "
+            + COMMENT_MARKER + " are skipped. The whole file is undone by a single undo.\n"
+            + "Parameters: FILE\n"
+            + "Example: " + COMMAND_WORD + " onboarding.txt";
+
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+
+    private final String filePath;
+
+    public RunCommand(String filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    protected List<String> readLines() throws CommandException {
+        try {
+            return Files.readAllLines(Paths.get(filePath), StandardCharsets.UTF_8);
+        } catch (IOException | RuntimeException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e));
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RunCommand // instanceof handles nulls
+                && filePath.equals(((RunCommand) other).filePath));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.List;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Person;
+
+/**
+ * Lists the tutors best suited to a student identified using it's last displayed index, best first.
+ */
+public class SuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggest";
+    public static final String COMMAND_WORD_ALIAS = "sg";
+
+    public static final int DEFAULT_COUNT = 5;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the unmatched tutors best suited to the student identified by the index number used in the "
+            + "last person listing, best first. Tutors must teach the student's subject, and are ranked by level, "
+            + "price and shared tags.\n"
+            + "Parameters: INDEX (must be a positive integer) [" + PREFIX_COUNT + "NUMBER_OF_TUTORS]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + PREFIX_COUNT + "3";
+
+    public static final String MESSAGE_SUGGEST_SUCCESS = "%1$d tutors suggested for %2$s";
+    public static final String MESSAGE_NOT_STUDENT = "The person selected is not a student";
+
+    private final Index targetIndex;
+    private final int count;
+
+    public SuggestCommand(Index targetIndex, int count) {
+        requireNonNull(targetIndex);
+        this.targetIndex = targetIndex;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        List<Person> lastShownList = model.getFilteredPersonList();
+
+        if (targetIndex.getZeroBased() >= lastShownList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+        }
+
+        Person student = lastShownList.get(targetIndex.getZeroBased());
+        if (!student.getRole().value.equalsIgnoreCase("student")) {
+            throw new CommandException(MESSAGE_NOT_STUDENT);
+        }
+
+        model.updateFilteredPersonListToSuggestedTutors(student, count);
+        return new CommandResult(String.format(MESSAGE_SUGGEST_SUCCESS, model.getFilteredPersonList().size(),
+                student.getName()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestCommand // instanceof handles nulls
+                && targetIndex.equals(((SuggestCommand) other).targetIndex)
+                && count == ((SuggestCommand) other).count); // state check
+    }
+}
@@ -5,7 +5,6 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -18,10 +17,11 @@ public abstract class UndoableCommand extends Command {
 
     /**
      * Stores the current state of {@code model#addressBook}.
+     * The snapshot shares structure with the live address book, so this does not copy it.
      */
     private void saveAddressBookSnapshot() {
         requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+        this.previousAddressBook = model.getAddressBookSnapshot();
     }
 
     /**
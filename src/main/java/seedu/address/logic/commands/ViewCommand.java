@@ -0,0 +1,78 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.VIEW_STUDENTS;
+import static seedu.address.model.Model.VIEW_TUTORS;
+import static seedu.address.model.Model.VIEW_UNMATCHED;
+
+import java.util.Objects;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.query.Query;
+
+/**
+ * Lists the persons of a view, optionally saving a filter query as a new view first.
+ * Views are kept up to date as persons change, so showing one does not filter all persons again.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the persons of the view of the specified "
+            + "name. The views " + VIEW_STUDENTS + ", " + VIEW_TUTORS + " and " + VIEW_UNMATCHED + " always exist. "
+            + "If a query is given, it is saved as a new view of that name first; queries are written as for "
+            + FilterCommand.COMMAND_WORD + ".\n"
+            + "Parameters: NAME [QUERY]\n"
+            + "Example: " + COMMAND_WORD + " mathtutors tutor and math";
+
+    public static final String MESSAGE_VIEW_SUCCESS = "Viewing %1$s\n%2$s";
+    public static final String MESSAGE_DUPLICATE_VIEW = "A view named %1$s already exists";
+    public static final String MESSAGE_UNKNOWN_VIEW = "There is no view named %1$s. The views are: %2$s";
+
+    private final String name;
+    private final Query query;
+
+    /**
+     * Creates a ViewCommand to list the persons of the existing view named {@code name}.
+     */
+    public ViewCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+        this.query = null;
+    }
+
+    /**
+     * Creates a ViewCommand to save {@code query} as a view named {@code name}, and list its persons.
+     */
+    public ViewCommand(String name, Query query) {
+        requireNonNull(name);
+        requireNonNull(query);
+        this.name = name;
+        this.query = query;
+    }
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        if (query != null) {
+            if (model.hasView(name)) {
+                throw new CommandException(String.format(MESSAGE_DUPLICATE_VIEW, name));
+            }
+            model.addView(name, query);
+        } else if (!model.hasView(name)) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_VIEW, name,
+                    String.join(", ", model.getViewNames())));
+        }
+
+        model.updateFilteredPersonListToView(name);
+        return new CommandResult(String.format(MESSAGE_VIEW_SUCCESS, name.toLowerCase(),
+                getMessageForPersonListShownSummary(model.getFilteredPersonList().size())));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ViewCommand // instanceof handles nulls
+                && name.equals(((ViewCommand) other).name)
+                && Objects.equals(query, ((ViewCommand) other).query)); // state check
+    }
+}
@@ -3,37 +3,47 @@ package seedu.address.logic.parser;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.RemoveTagCommand;
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.commands.ViewStatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ *
+ * The parser for every command word and alias is looked up in a table built once, and the command word is split
+ * from the arguments without a regular expression, so that long scripts of commands are parsed quickly.
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    /** The parsers of the command arguments, by command word and alias. */
+    private static final Map<String, Parser<? extends Command>> PARSERS = createParsers();
 
     /**
      * Parses user input into command for execution.
@@ -43,78 +53,95 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String input = userInput.trim();
+        int commandWordEnd = 0;
+        while (commandWordEnd < input.length() && !isWhitespace(input.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        if (commandWordEnd == 0 || hasLineTerminator(input, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-        case AddCommand.COMMAND_WORD_ALIAS:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-        case EditCommand.COMMAND_WORD_ALIAS:
-            return new EditCommandParser().parse(arguments);
-
-        case SelectCommand.COMMAND_WORD:
-        case SelectCommand.COMMAND_WORD_ALIAS:
-            return new SelectCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-        case DeleteCommand.COMMAND_WORD_ALIAS:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-        case ClearCommand.COMMAND_WORD_ALIAS:
-            return new ClearCommand();
-
-        case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser().parse(arguments);
-
-        case FindCommand.COMMAND_WORD:
-        case FindCommand.COMMAND_WORD_ALIAS:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-        case ListCommand.COMMAND_WORD_ALIAS:
-            return new ListCommand();
-
-        case HistoryCommand.COMMAND_WORD:
-        case HistoryCommand.COMMAND_WORD_ALIAS:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case ViewStatsCommand.COMMAND_WORD:
-            return new ViewStatsCommand();
-
-        case UndoCommand.COMMAND_WORD:
-        case UndoCommand.COMMAND_WORD_ALIAS:
-            return new UndoCommand();
+        final String commandWord = input.substring(0, commandWordEnd);
+        final String arguments = input.substring(commandWordEnd);
+        Parser<? extends Command> parser = PARSERS.get(commandWord);
+        if (parser == null) {
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case RedoCommand.COMMAND_WORD:
-        case RedoCommand.COMMAND_WORD_ALIAS:
-            return new RedoCommand();
+    /**
+     * Returns the table of parsers. The parsers of command arguments keep no state, so each is shared by every
+     * command parsed.
+     */
+    private static Map<String, Parser<? extends Command>> createParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+
+        addParser(parsers, new AddCommandParser(), AddCommand.COMMAND_WORD, AddCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new EditCommandParser(), EditCommand.COMMAND_WORD, EditCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new SelectCommandParser(), SelectCommand.COMMAND_WORD, SelectCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new SuggestCommandParser(),
+                SuggestCommand.COMMAND_WORD, SuggestCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new DeleteCommandParser(), DeleteCommand.COMMAND_WORD, DeleteCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new ClearCommand(),
+                ClearCommand.COMMAND_WORD, ClearCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new FilterCommandParser(), FilterCommand.COMMAND_WORD);
+        addParser(parsers, new ExplainCommandParser(), ExplainCommand.COMMAND_WORD);
+        addParser(parsers, new ViewCommandParser(), ViewCommand.COMMAND_WORD);
+        addParser(parsers, new FindCommandParser(), FindCommand.COMMAND_WORD, FindCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new ListCommand(), ListCommand.COMMAND_WORD, ListCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new HistoryCommand(),
+                HistoryCommand.COMMAND_WORD, HistoryCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        addParser(parsers, arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+        addParser(parsers, arguments -> new ViewStatsCommand(), ViewStatsCommand.COMMAND_WORD);
+        addParser(parsers, arguments -> new UndoCommand(), UndoCommand.COMMAND_WORD, UndoCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new RedoCommand(), RedoCommand.COMMAND_WORD, RedoCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new RemoveTagCommandParser(),
+                RemoveTagCommand.COMMAND_WORD, RemoveTagCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new RenameTagCommandParser(),
+                RenameTagCommand.COMMAND_WORD, RenameTagCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, arguments -> new MatchCommand(),
+                MatchCommand.COMMAND_WORD, MatchCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new RemarkCommandParser(), RemarkCommand.COMMAND_WORD, RemarkCommand.COMMAND_WORD_ALIAS);
+        addParser(parsers, new RunCommandParser(), RunCommand.COMMAND_WORD);
+        addParser(parsers, arguments -> new BeginCommand(), BeginCommand.COMMAND_WORD);
+        addParser(parsers, arguments -> new CommitCommand(), CommitCommand.COMMAND_WORD);
+
+        return Collections.unmodifiableMap(parsers);
+    }
 
-        case RemoveTagCommand.COMMAND_WORD:
-        case RemoveTagCommand.COMMAND_WORD_ALIAS:
-            return new RemoveTagCommandParser().parse(arguments);
+    /**
+     * Adds {@code parser} to {@code parsers} under each of {@code commandWords}.
+     */
+    private static void addParser(Map<String, Parser<? extends Command>> parsers, Parser<? extends Command> parser,
+                                  String... commandWords) {
+        for (String commandWord : commandWords) {
+            Parser<? extends Command> previous = parsers.put(commandWord, parser);
+            assert previous == null : "Command word " + commandWord + " is used twice";
+        }
+    }
 
-        case RemarkCommand.COMMAND_WORD:
-        case RemarkCommand.COMMAND_WORD_ALIAS:
-            return new RemarkCommandParser().parse(arguments);
+    /**
+     * Returns true if {@code c} is a whitespace character, as matched by {@code \s} in a regular expression.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
 
-        default:
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns true if {@code input} has a line terminator at or after {@code fromIndex}. Commands are one line
+     * long, so their arguments cannot span lines.
+     */
+    private static boolean hasLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            char c = input.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return true;
+            }
         }
+        return false;
     }
 
 }
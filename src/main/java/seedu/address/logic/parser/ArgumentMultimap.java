@@ -12,11 +12,12 @@ import java.util.Optional;
  * Values for a given key are stored in a list, and the insertion ordering is maintained.
  * Keys are unique, but the list of argument values may contain duplicate argument values, i.e. the same argument value
  * can be inserted multiple times for the same prefix.
+ * Values may be views of the arguments string they were found in, which are only copied into strings when asked for.
  */
 public class ArgumentMultimap {
 
     /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    private final Map<Prefix, List<CharSequence>> argMultimap = new HashMap<>();
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -25,18 +26,16 @@ public class ArgumentMultimap {
      * @param prefix   Prefix key with which the specified argument value is to be associated
      * @param argValue Argument value to be associated with the specified prefix key
      */
-    public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+    public void put(Prefix prefix, CharSequence argValue) {
+        argMultimap.computeIfAbsent(prefix, unused -> new ArrayList<>(1)).add(argValue);
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        List<CharSequence> values = argMultimap.get(prefix);
+        return values == null ? Optional.empty() : Optional.of(valueAt(values, values.size() - 1));
     }
 
     /**
@@ -45,16 +44,35 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
+        List<CharSequence> values = argMultimap.get(prefix);
+        if (values == null) {
             return new ArrayList<>();
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        List<String> valueStrings = new ArrayList<>(values.size());
+        for (int i = 0; i < values.size(); i++) {
+            valueStrings.add(valueAt(values, i));
+        }
+        return valueStrings;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(ArgumentTokenizer.PREAMBLE).orElse("");
+    }
+
+    /**
+     * Returns the value at {@code index} in {@code values} as a string, replacing it with the string so that it is
+     * only copied once.
+     */
+    private static String valueAt(List<CharSequence> values, int index) {
+        CharSequence value = values.get(index);
+        if (value instanceof String) {
+            return (String) value;
+        }
+        String valueString = value.toString();
+        values.set(index, valueString);
+        return valueString;
     }
 }
@@ -0,0 +1,21 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.ExplainCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ExplainCommand object
+ */
+public class ExplainCommandParser implements Parser<ExplainCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExplainCommand
+     * and returns an ExplainCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     * @see QueryParser
+     */
+    public ExplainCommand parse(String args) throws ParseException {
+        return new ExplainCommand(QueryParser.parseQuery(args, ExplainCommand.MESSAGE_USAGE));
+    }
+
+}
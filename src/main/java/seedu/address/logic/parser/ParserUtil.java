@@ -16,6 +16,7 @@ import seedu.address.model.person.Level;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Price;
+import seedu.address.model.person.PriceRange;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.Status;
@@ -168,6 +169,21 @@ public class ParserUtil {
         return price.isPresent() ? Optional.of(parsePrice(price.get())) : Optional.empty();
     }
 
+    /**
+     * Parses a {@code String range} into a {@code PriceRange}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws IllegalValueException if the given {@code range} is invalid.
+     */
+    public static PriceRange parsePriceRange(String range) throws IllegalValueException {
+        requireNonNull(range);
+        String trimmedRange = range.trim();
+        if (!PriceRange.isValidPriceRange(trimmedRange)) {
+            throw new IllegalValueException(PriceRange.MESSAGE_PRICE_RANGE_CONSTRAINTS);
+        }
+        return new PriceRange(trimmedRange);
+    }
+
     /**
      * Parses a {@code String subject} into a {@code Subject}.
      * Leading and trailing whitespaces will be trimmed.
@@ -180,7 +196,7 @@ public class ParserUtil {
         if (!Subject.isValidSubject(trimmedSubject)) {
             throw new IllegalValueException(Subject.MESSAGE_SUBJECT_CONSTRAINTS);
         }
-        return new Subject(trimmedSubject);
+        return Subject.of(trimmedSubject);
     }
 
     /**
@@ -204,7 +220,7 @@ public class ParserUtil {
         if (!Level.isValidLevel(trimmedLevel)) {
             throw new IllegalValueException(Level.MESSAGE_LEVEL_CONSTRAINTS);
         }
-        return new Level(trimmedLevel);
+        return Level.of(trimmedLevel);
     }
 
     /**
@@ -228,7 +244,7 @@ public class ParserUtil {
         if (!Status.isValidStatus(status)) {
             throw new IllegalValueException(Status.MESSAGE_STATUS_CONSTRAINTS);
         }
-        return new Status(trimmedStatus);
+        return Status.of(trimmedStatus);
     }
 
     /**
@@ -254,7 +270,7 @@ public class ParserUtil {
         if (!Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_ROLE_CONSTRAINTS);
         }
-        return new Role(trimmedRole);
+        return Role.of(trimmedRole);
     }
 
     /**
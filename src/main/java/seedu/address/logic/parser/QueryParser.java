@@ -0,0 +1,182 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_LEVEL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PRICE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_STATUS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SUBJECT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses filter queries into {@code Query} objects.
+ *
+ * A query is made of terms joined by "and" or "or", each optionally preceded by "not". Terms may be grouped in
+ * parentheses, and "and" and "or" cannot be mixed outside them. "not" only negates when it starts a term, so
+ * {@code stat/not matched} is the status "Not Matched", and the whole term {@code not matched} is the keyword
+ * "not matched" rather than the negation of "matched". A term is one or more words, matched against
+ * the subject, level, status and role of persons unless its first word starts with one of these prefixes:
+ * {@code sub/} (subject), {@code lvl/} (level), {@code stat/} (status), {@code r/} (role), {@code t/} (tag),
+ * {@code $/} (price range, see {@link ParserUtil#parsePriceRange(String)}) or {@code n/} (name keywords).
+ */
+public class QueryParser {
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String MATCHED = "matched";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+
+    private final List<String> tokens;
+    private final String usage;
+    private int next;
+
+    private QueryParser(String input, String usage) {
+        this.tokens = tokenize(input);
+        this.usage = usage;
+    }
+
+    /**
+     * Parses {@code input} into a {@code Query}.
+     *
+     * @param usage the usage message of the command being parsed, shown if the query is malformed.
+     * @throws ParseException if {@code input} is not a valid query.
+     */
+    public static Query parseQuery(String input, String usage) throws ParseException {
+        QueryParser parser = new QueryParser(input, usage);
+        if (parser.tokens.isEmpty()) {
+            throw parser.invalidFormat();
+        }
+        Query query = parser.parseExpression();
+        if (parser.next < parser.tokens.size()) {
+            throw parser.invalidFormat();
+        }
+        return query;
+    }
+
+    private static List<String> tokenize(String input) {
+        String spaced = input.replace(OPEN, " " + OPEN + " ").replace(CLOSE, " " + CLOSE + " ").trim();
+        return spaced.isEmpty() ? new ArrayList<>() : Arrays.asList(spaced.split("\\s+"));
+    }
+
+    /**
+     * Parses operands joined by the same connector, up to the end of the input or a closing parenthesis.
+     */
+    private Query parseExpression() throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseOperand());
+        String connector = null;
+        while (next < tokens.size() && !tokens.get(next).equals(CLOSE)) {
+            String token = tokens.get(next++).toLowerCase();
+            if (!(token.equals(AND) || token.equals(OR)) || (connector != null && !connector.equals(token))) {
+                throw invalidFormat();
+            }
+            connector = token;
+            operands.add(parseOperand());
+        }
+        return OR.equals(connector) ? Query.or(operands) : Query.and(operands);
+    }
+
+    /**
+     * Parses a negated operand, a parenthesised expression or a term.
+     */
+    private Query parseOperand() throws ParseException {
+        if (next >= tokens.size()) {
+            throw invalidFormat();
+        }
+        String token = tokens.get(next);
+        if (token.equalsIgnoreCase(NOT) && !isNotMatchedTerm()) {
+            next++;
+            return Query.not(parseOperand());
+        }
+        if (token.equals(OPEN)) {
+            next++;
+            Query query = parseExpression();
+            if (next >= tokens.size() || !tokens.get(next).equals(CLOSE)) {
+                throw invalidFormat();
+            }
+            next++;
+            return query;
+        }
+        return parseTerm();
+    }
+
+    /**
+     * Parses the words up to the next connector or parenthesis as a term.
+     */
+    private Query parseTerm() throws ParseException {
+        List<String> words = new ArrayList<>();
+        while (next < tokens.size() && !isConnector(tokens.get(next))) {
+            words.add(tokens.get(next++));
+        }
+        if (words.isEmpty()) {
+            throw invalidFormat();
+        }
+        String text = String.join(" ", words);
+
+        if (text.startsWith(PREFIX_SUBJECT.getPrefix())) {
+            return Query.attribute(Attribute.SUBJECT, valueOf(text, PREFIX_SUBJECT));
+        } else if (text.startsWith(PREFIX_LEVEL.getPrefix())) {
+            return Query.attribute(Attribute.LEVEL, valueOf(text, PREFIX_LEVEL));
+        } else if (text.startsWith(PREFIX_STATUS.getPrefix())) {
+            return Query.attribute(Attribute.STATUS, valueOf(text, PREFIX_STATUS));
+        } else if (text.startsWith(PREFIX_ROLE.getPrefix())) {
+            return Query.attribute(Attribute.ROLE, valueOf(text, PREFIX_ROLE));
+        } else if (text.startsWith(PREFIX_TAG.getPrefix())) {
+            String tagName = valueOf(text, PREFIX_TAG);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new ParseException(Tag.MESSAGE_TAG_CONSTRAINTS);
+            }
+            return Query.tag(tagName);
+        } else if (text.startsWith(PREFIX_PRICE.getPrefix())) {
+            try {
+                return Query.price(ParserUtil.parsePriceRange(valueOf(text, PREFIX_PRICE)));
+            } catch (IllegalValueException ive) {
+                throw new ParseException(ive.getMessage(), ive);
+            }
+        } else if (text.startsWith(PREFIX_NAME.getPrefix())) {
+            return Query.name(Arrays.asList(valueOf(text, PREFIX_NAME).split(" ")));
+        }
+        return Query.keyword(text);
+    }
+
+    /**
+     * Returns the value following {@code prefix} in {@code text}.
+     * @throws ParseException if there is no value.
+     */
+    private String valueOf(String text, Prefix prefix) throws ParseException {
+        String value = text.substring(prefix.getPrefix().length()).trim();
+        if (value.isEmpty()) {
+            throw invalidFormat();
+        }
+        return value;
+    }
+
+    /**
+     * Returns true if the next term is exactly "not matched", the status value, which is then read as a keyword.
+     */
+    private boolean isNotMatchedTerm() {
+        return next + 1 < tokens.size() && tokens.get(next + 1).equalsIgnoreCase(MATCHED)
+                && (next + 2 == tokens.size() || isConnector(tokens.get(next + 2)));
+    }
+
+    private static boolean isConnector(String token) {
+        return token.equals(OPEN) || token.equals(CLOSE) || token.equalsIgnoreCase(AND) || token.equalsIgnoreCase(OR);
+    }
+
+    private ParseException invalidFormat() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, usage));
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new RenameTagCommand object
+ */
+public class RenameTagCommandParser implements Parser<RenameTagCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RenameTagCommand
+     * and returns a RenameTagCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RenameTagCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
+        if (!argMultimap.getValue(PREFIX_TAG).isPresent()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Tag targetTag = ParserUtil.parseTag(argMultimap.getPreamble());
+            Tag newTag = ParserUtil.parseTag(argMultimap.getValue(PREFIX_TAG).get());
+            return new RenameTagCommand(targetTag, newTag);
+        } catch (IllegalValueException ive) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagCommand.MESSAGE_USAGE));
+        }
+    }
+
+}
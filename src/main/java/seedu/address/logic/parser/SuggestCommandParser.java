@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SuggestCommand object
+ */
+public class SuggestCommandParser implements Parser<SuggestCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "Number of tutors is not a non-zero unsigned integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestCommand
+     * and returns a SuggestCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SuggestCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_COUNT);
+
+        Index index;
+        try {
+            index = ParserUtil.parseIndex(argMultimap.getPreamble());
+        } catch (IllegalValueException ive) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+        }
+
+        Optional<String> count = argMultimap.getValue(PREFIX_COUNT).map(String::trim);
+        if (!count.isPresent()) {
+            return new SuggestCommand(index, SuggestCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(count.get())) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return new SuggestCommand(index, Integer.parseInt(count.get()));
+    }
+
+}
@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ViewCommand object
+ */
+public class ViewCommandParser implements Parser<ViewCommand> {
+
+    public static final String MESSAGE_INVALID_NAME = "View names should only contain alphanumeric characters";
+
+    private static final String NAME_VALIDATION_REGEX = "\\p{Alnum}+";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ViewCommand
+     * and returns a ViewCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     * @see QueryParser
+     */
+    public ViewCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        }
+
+        String[] nameAndQuery = trimmedArgs.split("\\s+", 2);
+        if (!nameAndQuery[0].matches(NAME_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_NAME);
+        }
+        if (nameAndQuery.length == 1) {
+            return new ViewCommand(nameAndQuery[0]);
+        }
+        return new ViewCommand(nameAndQuery[0], QueryParser.parseQuery(nameAndQuery[1], ViewCommand.MESSAGE_USAGE));
+    }
+
+}
@@ -1,37 +1,71 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairJoinIndex;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.pair.TutorSuggester;
 import seedu.address.model.pair.UniquePairList;
 import seedu.address.model.pair.exceptions.DuplicatePairException;
 import seedu.address.model.pair.exceptions.PairNotFoundException;
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameIndex;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .equals comparison)
+ *
+ * Every change to the person and pair lists is logged, so that a {@link #snapshot()} can be restored by undoing
+ * the changes made since it was taken, one at a time, rather than by rebuilding the lists and their indexes.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /**
+     * The number of changes the log may hold however few persons and pairs there are. Past both this and the number
+     * of persons and pairs, a new log is started, as undoing that many changes costs more than a rebuild.
+     */
+    private static final int MIN_LOG_CAPACITY = 1024;
+    private static final String UNDO_INVARIANT = "Changes are undone in the state they left the address book in";
+
     private final UniquePersonList persons;
     private final UniquePairList pairs;
-    private final UniqueTagList tags;
-
+    private final TagRegistry tags;
+    private final AttributeIndex attributeIndex;
+    private final NameIndex nameIndex;
+    private final PairJoinIndex joinIndex;
+    /** The ids to give to the next new person and pair. */
+    private long nextPersonId = 1;
+    private long nextPairId = 1;
+    private final TutorSuggester tutorSuggester;
+    /** The last change logged, or the start of the log if none has been logged since. */
+    private LoggedChange lastChange = LoggedChange.start();
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -43,7 +77,11 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         pairs = new UniquePairList();
-        tags = new UniqueTagList();
+        tags = new TagRegistry();
+        attributeIndex = new AttributeIndex();
+        nameIndex = new NameIndex();
+        joinIndex = new PairJoinIndex();
+        tutorSuggester = new TutorSuggester(persons.asObservableList(), attributeIndex);
     }
 
     public AddressBook() {}
@@ -59,200 +97,775 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// list overwrite operations
 
+    /**
+     * Replaces the persons in this address book with {@code persons}, updating the tag use counts.
+     * Persons keep their ids, except those without one or with the id of an earlier person, which are given new ids.
+     */
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
-        this.persons.setPersons(persons);
+        List<Person> replacedPersons = new ArrayList<>(this.persons.asObservableList());
+        List<Person> syncedPersons = assignPersonIds(persons).stream()
+                .map(this::acquireTags)
+                .collect(Collectors.toList());
+        try {
+            this.persons.setPersons(syncedPersons);
+        } catch (DuplicatePersonException dpe) {
+            syncedPersons.forEach(person -> tags.release(person.getTags()));
+            throw dpe;
+        }
+        replacedPersons.forEach(person -> tags.release(person.getTags()));
+        rebuildIndexes();
+        lastChange = LoggedChange.start();
     }
 
+    /**
+     * Replaces the pairs in this address book with {@code pairs}, updating the tag use counts.
+     * Pairs are given ids as persons are in {@link #setPersons(List)}, and are linked to their persons.
+     */
     public void setPairs(List<Pair> pairs) throws DuplicatePairException {
-        this.pairs.setPairs(pairs);
+        List<Pair> replacedPairs = new ArrayList<>(this.pairs.asObservableList());
+        List<Pair> syncedPairs = linkByName(assignPairIds(pairs)).stream()
+                .map(this::acquireTags)
+                .collect(Collectors.toList());
+        try {
+            this.pairs.setPairs(syncedPairs);
+        } catch (DuplicatePairException dpe) {
+            syncedPairs.forEach(pair -> tags.release(pair.getTags()));
+            throw dpe;
+        }
+        replacedPairs.forEach(pair -> tags.release(pair.getTags()));
+        rebuildJoinIndex();
+        lastChange = LoggedChange.start();
     }
 
+    /**
+     * Replaces the master tag list with {@code tags}, followed by any other tags of the current persons and pairs.
+     */
     public void setTags(Set<Tag> tags) {
         this.tags.setTags(tags);
+        recountTags();
     }
 
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * A snapshot of this {@code AddressBook} is restored as by {@link #restore}.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
-        setTags(new HashSet<>(newData.getTagList()));
-        List<Person> syncedPersonList = newData.getPersonList().stream()
-                .map(this::syncWithMasterTagList)
+        if (newData instanceof AddressBookSnapshot) {
+            restore((AddressBookSnapshot) newData, new ChangeListener() {});
+            return;
+        }
+
+        // the current persons and pairs are all replaced, so their tag use counts are dropped with the old list
+        tags.setTags(new HashSet<>(newData.getTagList()));
+        List<Person> syncedPersonList = assignPersonIds(newData.getPersonList()).stream()
+                .map(this::acquireTags)
                 .collect(Collectors.toList());
 
         try {
-            setPersons(syncedPersonList);
+            persons.setPersons(syncedPersonList);
         } catch (DuplicatePersonException e) {
             throw new AssertionError("AddressBooks should not have duplicate persons");
         }
+        rebuildIndexes();
 
-        List<Pair> syncedPairList = newData.getPairList().stream()
-                .map(this::syncWithMasterTagList)
+        List<Pair> syncedPairList = linkByName(assignPairIds(newData.getPairList())).stream()
+                .map(this::acquireTags)
                 .collect(Collectors.toList());
 
         try {
-            setPairs(syncedPairList);
+            pairs.setPairs(syncedPairList);
         } catch (DuplicatePairException e) {
             throw new AssertionError("AddressBooks should not have duplicate pairs");
         }
+        rebuildJoinIndex();
+        lastChange = LoggedChange.start();
+    }
+
+    /**
+     * Returns an immutable snapshot of this {@code AddressBook}.
+     * The person and pair lists are shared with this address book rather than copied.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(persons.snapshot(), pairs.snapshot(),
+                Collections.unmodifiableList(new ArrayList<>(tags.asObservableList())), lastChange);
+    }
+
+    /**
+     * Restores this {@code AddressBook} to {@code snapshot}.
+     * If the snapshot was taken from this {@code AddressBook} since its log was started, the changes logged since
+     * are undone in reverse order, each updating only its own index entries and tag use counts and then passed to
+     * {@code listener}, so that restoring the snapshot taken before a command costs about as much as the command.
+     * The master tag list is then restored from the snapshot's. Otherwise, the lists and indexes are rebuilt from
+     * the snapshot and {@code listener} is told nothing.
+     * Either way, the duplicate checks of {@link #resetData} are skipped, as a snapshot is taken from an
+     * {@code AddressBook} that is already consistent.
+     *
+     * @return true if the changes since the snapshot were undone one at a time.
+     */
+    public boolean restore(AddressBookSnapshot snapshot, ChangeListener listener) {
+        requireAllNonNull(snapshot, listener);
+        if (!lastChange.isLoggedAfter(snapshot.getLastChange())) {
+            persons.restore(snapshot.getPersons());
+            pairs.restore(snapshot.getPairs());
+            setTags(new HashSet<>(snapshot.getTagList()));
+            rebuildIndexes();
+            lastChange = LoggedChange.start();
+            return false;
+        }
+
+        while (lastChange != snapshot.getLastChange()) {
+            lastChange.undo.apply(this, listener);
+            lastChange = lastChange.previous;
+        }
+        tags.restore(snapshot.getTagList());
+        return true;
+    }
+
+    /**
+     * Logs a change just made to the person or pair list, which {@code undo} undoes.
+     */
+    private void log(Undo undo) {
+        int capacity = Math.max(MIN_LOG_CAPACITY, persons.asObservableList().size() + pairs.asObservableList().size());
+        if (lastChange.depth >= capacity) {
+            lastChange = LoggedChange.start();
+        }
+        lastChange = new LoggedChange(lastChange, undo);
+    }
+
+    /**
+     * Undoes the insertion of {@code person} at {@code position}.
+     */
+    private void undoPersonInsertion(Person person, int position, ChangeListener listener) {
+        try {
+            persons.remove(person);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError(UNDO_INVARIANT, pnfe);
+        }
+        tags.release(person.getTags());
+        attributeIndex.remove(person, position);
+        tutorSuggester.remove(position);
+        nameIndex.remove(person);
+        joinIndex.removePerson(person.getId());
+        listener.personRemoved(person, position);
+    }
+
+    /**
+     * Undoes the removal of {@code person} from {@code position}.
+     */
+    private void undoPersonRemoval(Person person, int position, ChangeListener listener) {
+        try {
+            persons.add(position, person);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError(UNDO_INVARIANT, dpe);
+        }
+        tags.acquire(person.getTags());
+        attributeIndex.insert(person, position);
+        tutorSuggester.add(person, position);
+        nameIndex.add(person);
+        joinIndex.putPerson(person);
+        listener.personAdded(person, position);
+    }
+
+    /**
+     * Undoes the replacement of {@code target} at {@code position} by {@code editedPerson}.
+     */
+    private void undoPersonUpdate(Person target, Person editedPerson, int position, ChangeListener listener) {
+        try {
+            persons.setPerson(editedPerson, target);
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new AssertionError(UNDO_INVARIANT, e);
+        }
+        tags.acquire(target.getTags());
+        tags.release(editedPerson.getTags());
+        attributeIndex.set(editedPerson, target, position);
+        tutorSuggester.set(target, position);
+        nameIndex.set(editedPerson, target);
+        joinIndex.putPerson(target);
+        listener.personUpdated(editedPerson, target, position);
+    }
+
+    /**
+     * Undoes the insertion of {@code pair} at {@code position}.
+     */
+    private void undoPairInsertion(Pair pair, int position, ChangeListener listener) {
+        try {
+            pairs.remove(pair);
+        } catch (PairNotFoundException pnfe) {
+            throw new AssertionError(UNDO_INVARIANT, pnfe);
+        }
+        tags.release(pair.getTags());
+        joinIndex.removePair(pair.getId());
+        listener.pairRemoved(pair, position);
+    }
+
+    /**
+     * Undoes the removal of {@code pair} from {@code position}.
+     */
+    private void undoPairRemoval(Pair pair, int position, ChangeListener listener) {
+        try {
+            pairs.add(position, pair);
+        } catch (DuplicatePairException dpe) {
+            throw new AssertionError(UNDO_INVARIANT, dpe);
+        }
+        tags.acquire(pair.getTags());
+        joinIndex.putPair(pair);
+        listener.pairAdded(pair, position);
+    }
+
+    /**
+     * Undoes the replacement of {@code target} by {@code editedPair}.
+     */
+    private void undoPairUpdate(Pair target, Pair editedPair, ChangeListener listener) {
+        try {
+            pairs.setPair(editedPair, target);
+        } catch (DuplicatePairException | PairNotFoundException e) {
+            throw new AssertionError(UNDO_INVARIANT, e);
+        }
+        tags.acquire(target.getTags());
+        tags.release(editedPair.getTags());
+        joinIndex.putPair(target);
+        listener.pairUpdated(editedPair, target);
     }
 
     //// person-level operations
 
     /**
      * Adds a person to the address book.
-     * Also checks the new person's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the person to point to those in {@link #tags}.
+     * Also adds the new person's tags to {@link #tags}, and updates the Tag objects in the person to point to
+     * those in {@link #tags}.
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(Person p) throws DuplicatePersonException {
-        Person person = syncWithMasterTagList(p);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(person);
+        Person person = acquireTags(assignId(p, id -> joinIndex.getPerson(id).isPresent()));
+        try {
+            persons.add(person);
+        } catch (DuplicatePersonException dpe) {
+            tags.release(person.getTags());
+            throw dpe;
+        }
+        int position = persons.indexOf(person);
+        attributeIndex.add(person, position);
+        tutorSuggester.add(person, position);
+        nameIndex.add(person);
+        joinIndex.putPerson(person);
+        log((addressBook, listener) -> addressBook.undoPersonInsertion(person, position, listener));
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
-     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedPerson}.
+     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedPerson}, and lose the tags
+     * that are no longer used.
+     *
+     * {@code editedPerson} keeps the id of {@code target}, and the pairs of {@code target} take its new name.
      *
      * @throws DuplicatePersonException if updating the person's details causes the person to be equivalent to
      *      another existing person in the list.
+     * @throws DuplicatePairException if the renamed pairs of the person would be equivalent to other existing
+     *      pairs, or to each other.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
      *
-     * @see #syncWithMasterTagList(Person)
+     * @see #acquireTags(Person)
      */
     public void updatePerson(Person target, Person editedPerson)
-            throws DuplicatePersonException, PersonNotFoundException {
+            throws DuplicatePersonException, DuplicatePairException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        Person syncedEditedPerson = syncWithMasterTagList(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.setPerson(target, syncedEditedPerson);
-        removeUnusedTags();
+        Person storedTarget = getStoredPerson(target);
+        List<Pair> targetPairs = storedTarget.getName().equals(editedPerson.getName())
+                ? Collections.emptyList()
+                : joinIndex.getPairsOf(storedTarget.getId());
+        List<Pair> renamedPairs = renamePairs(targetPairs, editedPerson.withId(storedTarget.getId()));
+
+        Person syncedEditedPerson = acquireTags(editedPerson.withId(storedTarget.getId()));
+        try {
+            persons.setPerson(target, syncedEditedPerson);
+        } catch (DuplicatePersonException dpe) {
+            tags.release(syncedEditedPerson.getTags());
+            throw dpe;
+        }
+        tags.release(storedTarget.getTags());
+        int position = persons.indexOf(syncedEditedPerson);
+        attributeIndex.set(target, syncedEditedPerson, position);
+        tutorSuggester.set(syncedEditedPerson, position);
+        nameIndex.set(target, syncedEditedPerson);
+        joinIndex.putPerson(syncedEditedPerson);
+        log((addressBook, listener) ->
+                addressBook.undoPersonUpdate(storedTarget, syncedEditedPerson, position, listener));
+
+        for (int i = 0; i < targetPairs.size(); i++) {
+            Pair targetPair = targetPairs.get(i);
+            Pair renamedPair = renamedPairs.get(i);
+            try {
+                pairs.setPair(targetPair, renamedPair);
+            } catch (DuplicatePairException | PairNotFoundException e) {
+                throw new AssertionError("Renamed pairs are checked against the pair list", e);
+            }
+            joinIndex.putPair(renamedPair);
+            log((addressBook, listener) -> addressBook.undoPairUpdate(targetPair, renamedPair, listener));
+        }
     }
 
     /**
-     *  Updates the master tag list to include tags in {@code person} that are not in the list.
-     *  @return a copy of this {@code person} such that every tag in this person points to a Tag object in the master
-     *  list.
+     * Returns {@code targetPairs}, the pairs of {@code renamedPerson}, with its new name.
+     *
+     * @throws DuplicatePairException if a renamed pair would be equivalent to another existing pair.
      */
-    private Person syncWithMasterTagList(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
+    private List<Pair> renamePairs(List<Pair> targetPairs, Person renamedPerson) throws DuplicatePairException {
+        List<Pair> renamedPairs = new ArrayList<>(targetPairs.size());
+        Set<Pair> unchangedPairs = new HashSet<>(targetPairs);
+        Set<Pair> seenPairs = new HashSet<>();
+        for (Pair pair : targetPairs) {
+            Pair renamedPair = pair.withNameOf(renamedPerson);
+            if ((pairs.contains(renamedPair) && !unchangedPairs.contains(renamedPair)) || !seenPairs.add(renamedPair)) {
+                throw new DuplicatePairException();
+            }
+            renamedPairs.add(renamedPair);
+        }
+        return renamedPairs;
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+    /**
+     * Returns the person in the list that is equivalent to {@code key}.
+     * As persons are compared without their tags, this person's tags may differ from those of {@code key}.
+     *
+     * @throws PersonNotFoundException if no such person could be found in the list.
+     */
+    private Person getStoredPerson(Person key) throws PersonNotFoundException {
+        int position = persons.indexOf(key);
+        if (position == -1) {
+            throw new PersonNotFoundException();
+        }
+        return persons.asObservableList().get(position);
+    }
 
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        return new Person(
-                person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
-                person.getPrice(), person.getSubject(), person.getLevel(), person.getStatus(), person.getRole(),
-                correctTagReferences, person.getRemark());
+    /**
+     * Records the use of the tags in {@code person} in the master tag list, adding those that are not in the list.
+     * @return a copy of this {@code person} such that every tag in this person points to a Tag object in the master
+     * list.
+     */
+    private Person acquireTags(Person person) {
+        return withTags(person, tags.acquire(person.getTags()));
     }
 
     /**
-     *  Updates the master tag list to include tags in {@code pair} that are not in the list.
-     *  @return a copy of this {@code pair} such that every tag in this pair points to a Tag object in the master
-     *  list.
+     * Records the use of the tags in {@code pair} in the master tag list, adding those that are not in the list.
+     * @return a copy of this {@code pair} such that every tag in this pair points to a Tag object in the master
+     * list.
      */
-    private Pair syncWithMasterTagList(Pair pair) {
-        final UniqueTagList pairTags = new UniqueTagList(pair.getTags());
-        tags.mergeFrom(pairTags);
+    private Pair acquireTags(Pair pair) {
+        return withTags(pair, tags.acquire(pair.getTags()));
+    }
 
-        // Create map with values = tag object references in the master list
-        // used for checking pair tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
+    /**
+     * Records the use of the tags in the current persons and pairs in the master tag list, whose counts
+     * have been reset.
+     */
+    private void recountTags() {
+        persons.forEach(person -> tags.acquire(person.getTags()));
+        pairs.forEach(pair -> tags.acquire(pair.getTags()));
+    }
 
-        // Rebuild the list of pair tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        pairTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        return new Pair(
-                pair.getStudentName(), pair.getTutorName(), pair.getSubject(), pair.getLevel(),
-                pair.getPrice(), correctTagReferences);
+    /**
+     * Returns {@code person}, or a copy of it with a new id if it has no id or {@code isTaken} its id.
+     */
+    private Person assignId(Person person, Predicate<Long> isTaken) {
+        if (person.getId() == Person.UNASSIGNED_ID || isTaken.test(person.getId())) {
+            return person.withId(nextPersonId++);
+        }
+        nextPersonId = Math.max(nextPersonId, person.getId() + 1);
+        return person;
     }
 
+    /**
+     * Returns {@code pair}, or a copy of it with a new id if it has no id or {@code isTaken} its id.
+     */
+    private Pair assignId(Pair pair, Predicate<Long> isTaken) {
+        if (pair.getId() == Pair.UNASSIGNED_ID || isTaken.test(pair.getId())) {
+            return pair.withId(nextPairId++);
+        }
+        nextPairId = Math.max(nextPairId, pair.getId() + 1);
+        return pair;
+    }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
+     * Returns {@code persons}, with new ids given to the persons without an id or with the id of an earlier person.
+     */
+    private List<Person> assignPersonIds(List<Person> persons) {
+        persons.forEach(person -> nextPersonId = Math.max(nextPersonId, person.getId() + 1));
+        Set<Long> usedIds = new HashSet<>();
+        List<Person> assigned = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            Person assignedPerson = assignId(person, usedIds::contains);
+            usedIds.add(assignedPerson.getId());
+            assigned.add(assignedPerson);
+        }
+        return assigned;
+    }
+
+    /**
+     * Returns {@code pairs}, with new ids given to the pairs without an id or with the id of an earlier pair.
+     */
+    private List<Pair> assignPairIds(List<Pair> pairs) {
+        pairs.forEach(pair -> nextPairId = Math.max(nextPairId, pair.getId() + 1));
+        Set<Long> usedIds = new HashSet<>();
+        List<Pair> assigned = new ArrayList<>(pairs.size());
+        for (Pair pair : pairs) {
+            Pair assignedPair = assignId(pair, usedIds::contains);
+            usedIds.add(assignedPair.getId());
+            assigned.add(assignedPair);
+        }
+        return assigned;
+    }
+
+    /**
+     * Returns {@code pairs}, with the pairs that do not refer to a student and tutor in this address book, such as
+     * those read from data files written before pairs had ids, linked to the persons they name.
+     * Pairs naming persons that cannot be found are left as they are.
+     */
+    private List<Pair> linkByName(List<Pair> pairs) {
+        Map<String, Person> personsByName = null;
+        List<Pair> linked = new ArrayList<>(pairs.size());
+        for (Pair pair : pairs) {
+            if (isLinked(pair)) {
+                linked.add(pair);
+                continue;
+            }
+            if (personsByName == null) {
+                personsByName = new HashMap<>();
+                for (Person person : persons) {
+                    personsByName.putIfAbsent(person.getName().fullName, person);
+                }
+            }
+            Person student = personsByName.get(pair.getStudentName());
+            Person tutor = personsByName.get(pair.getTutorName());
+            linked.add(student == null || tutor == null ? pair : pair.withPersons(student, tutor));
+        }
+        return linked;
+    }
+
+    /**
+     * Returns true if the student and tutor of {@code pair} are in this address book.
+     */
+    private boolean isLinked(Pair pair) {
+        return joinIndex.getPerson(pair.getStudentId()).isPresent()
+                && joinIndex.getPerson(pair.getTutorId()).isPresent();
+    }
+
+    /**
+     * Removes {@code key} from this {@code AddressBook}, along with the pairs it is in.
      * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
     public boolean removePerson(Person key) throws PersonNotFoundException {
+        int position = persons.indexOf(key);
+        Person storedKey = getStoredPerson(key);
         if (persons.remove(key)) {
+            tags.release(storedKey.getTags());
+            attributeIndex.remove(key, position);
+            tutorSuggester.remove(position);
+            nameIndex.remove(key);
+            log((addressBook, listener) -> addressBook.undoPersonRemoval(storedKey, position, listener));
+            for (Pair pair : joinIndex.getPairsOf(storedKey.getId())) {
+                int pairPosition = pairs.indexOf(pair);
+                try {
+                    pairs.remove(pair);
+                } catch (PairNotFoundException pnfe) {
+                    throw new AssertionError("The join index holds only pairs in the list", pnfe);
+                }
+                tags.release(pair.getTags());
+                joinIndex.removePair(pair.getId());
+                log((addressBook, listener) -> addressBook.undoPairRemoval(pair, pairPosition, listener));
+            }
+            joinIndex.removePerson(storedKey.getId());
             return true;
         } else {
             throw new PersonNotFoundException();
         }
     }
 
+    /**
+     * Returns the pairs that {@code person} is in, in the order they were added.
+     * @throws PersonNotFoundException if the {@code person} is not in this {@code AddressBook}.
+     */
+    public List<Pair> getPairsOf(Person person) throws PersonNotFoundException {
+        return joinIndex.getPairsOf(getStoredPerson(person).getId());
+    }
+
+
+    /**
+     * Rebuilds the attribute, name and join indexes, and the tutor features, from the current person list.
+     */
+    private void rebuildIndexes() {
+        attributeIndex.clear();
+        tutorSuggester.clear();
+        nameIndex.clear();
+        int position = 0;
+        for (Person person : persons) {
+            attributeIndex.add(person, position);
+            tutorSuggester.add(person, position++);
+            nameIndex.add(person);
+        }
+        rebuildJoinIndex();
+    }
+
+    /**
+     * Rebuilds the join index from the current person and pair lists, and makes sure new ids follow theirs.
+     */
+    private void rebuildJoinIndex() {
+        joinIndex.clear();
+        for (Person person : persons) {
+            joinIndex.putPerson(person);
+            nextPersonId = Math.max(nextPersonId, person.getId() + 1);
+        }
+        for (Pair pair : pairs) {
+            joinIndex.putPair(pair);
+            nextPairId = Math.max(nextPairId, pair.getId() + 1);
+        }
+    }
+
+    /**
+     * Returns the position in {@link #getPersonList()} of the person equivalent to {@code person}, or -1 if there is
+     * none. Takes constant time.
+     */
+    public int indexOfPerson(Person person) {
+        return persons.indexOf(person);
+    }
+
+    /**
+     * Returns the plan resolving {@code query} against the persons in this address book and their indexes.
+     * The plan gives positions in {@link #getPersonList()}, and must be made again once the person list changes.
+     *
+     * @see QueryPlanner
+     */
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return new QueryPlanner(persons.asObservableList(), attributeIndex, nameIndex, tags, persons::indexOf)
+                .plan(query);
+    }
+
+    /**
+     * Returns the persons whose name contains any of the keywords in {@code predicate},
+     * resolved through the name index. The returned set compares persons by identity.
+     */
+    public Set<Person> getPersonsWithNameMatching(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return nameIndex.resolve(predicate);
+    }
+
+    /**
+     * Returns at most {@code k} unmatched tutors for {@code student}, best first.
+     *
+     * @see TutorSuggester
+     */
+    public List<Person> suggestTutors(Person student, int k) {
+        requireNonNull(student);
+        return tutorSuggester.suggest(student, k);
+    }
 
     //// pair-level operations
 
     /**
      * Adds a pair to the address book.
-     * Also checks the new pair's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the pair to point to those in {@link #tags}.
+     * Also adds the new pair's tags to {@link #tags}, and updates the Tag objects in the pair to point to
+     * those in {@link #tags}.
      *
      * @throws seedu.address.model.pair.exceptions.DuplicatePairException if an equivalent pair already exists.
      */
-
     public void addPair(Pair p) throws DuplicatePairException {
-        //  Pair pair = syncWithMasterTagList(p);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any pair
-        // in the pair list.
-        pairs.add(p);
+        Pair linkedPair = linkByName(Collections.singletonList(p)).get(0);
+        Pair pair = acquireTags(assignId(linkedPair, id -> joinIndex.getPair(id).isPresent()));
+        try {
+            pairs.add(pair);
+        } catch (DuplicatePairException dpe) {
+            tags.release(pair.getTags());
+            throw dpe;
+        }
+        joinIndex.putPair(pair);
+        int position = pairs.indexOf(pair);
+        log((addressBook, listener) -> addressBook.undoPairInsertion(pair, position, listener));
     }
 
     /**
      * Replaces the given pair {@code target} in the list with {@code editedPair}.
-     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedPair}.
+     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedPair}, and lose the tags
+     * that are no longer used.
      *
      * @throws seedu.address.model.pair.exceptions.DuplicatePairException if updating the pair's details
      * causes the pair to be equivalent to another existing pair in the list.
      * @throws seedu.address.model.pair.exceptions.PairNotFoundException if {@code target} could not be found
      * in the list.
      *
-     * @see #syncWithMasterTagList(Pair)
+     * @see #acquireTags(Pair)
      */
     public void updatePair(Pair target, Pair editedPair)
             throws DuplicatePairException, PairNotFoundException {
         requireNonNull(editedPair);
 
-        Pair syncedEditedPair = syncWithMasterTagList(editedPair);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any pair
-        // in the pair list.
-        pairs.setPair(target, syncedEditedPair);
-        removeUnusedTags();
+        int position = pairs.indexOf(target);
+        if (position == -1) {
+            throw new PairNotFoundException();
+        }
+        Pair storedTarget = pairs.asObservableList().get(position);
+        Pair linkedEditedPair = linkByName(Collections.singletonList(editedPair.withId(storedTarget.getId()))).get(0);
+        Pair syncedEditedPair = acquireTags(linkedEditedPair);
+        try {
+            pairs.setPair(target, syncedEditedPair);
+        } catch (DuplicatePairException dpe) {
+            tags.release(syncedEditedPair.getTags());
+            throw dpe;
+        }
+        tags.release(storedTarget.getTags());
+        joinIndex.putPair(syncedEditedPair);
+        log((addressBook, listener) -> addressBook.undoPairUpdate(storedTarget, syncedEditedPair, listener));
+    }
+
+    /**
+     * Returns the student of {@code pair}, if the student is in this {@code AddressBook}.
+     * @throws PairNotFoundException if the {@code pair} is not in this {@code AddressBook}.
+     */
+    public Optional<Person> getStudentOf(Pair pair) throws PairNotFoundException {
+        return joinIndex.getStudentOf(getStoredPair(pair));
+    }
+
+    /**
+     * Returns the tutor of {@code pair}, if the tutor is in this {@code AddressBook}.
+     * @throws PairNotFoundException if the {@code pair} is not in this {@code AddressBook}.
+     */
+    public Optional<Person> getTutorOf(Pair pair) throws PairNotFoundException {
+        return joinIndex.getTutorOf(getStoredPair(pair));
+    }
+
+    /**
+     * Returns the pair in the list that is equivalent to {@code key}.
+     *
+     * @throws PairNotFoundException if no such pair could be found in the list.
+     */
+    private Pair getStoredPair(Pair key) throws PairNotFoundException {
+        int position = pairs.indexOf(key);
+        if (position == -1) {
+            throw new PairNotFoundException();
+        }
+        return pairs.asObservableList().get(position);
     }
 
 
 
     /**
      * Removes {@code key} from this {@code AddressBook}.
-     * @throws seedu.address.model.pair.exceptions.PairNotFoundException if the {@code key} is not in this
-     * {@code AddressBook}.gr
+     * @throws PairNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
-    /*
     public boolean removePair(Pair key) throws PairNotFoundException {
-        if (pairs.remove(key)) {
-            return true;
-        } else {
-            throw new PairNotFoundException();
+        Pair storedKey = getStoredPair(key);
+        int position = pairs.indexOf(key);
+        pairs.remove(key);
+        tags.release(storedKey.getTags());
+        joinIndex.removePair(storedKey.getId());
+        log((addressBook, listener) -> addressBook.undoPairRemoval(storedKey, position, listener));
+        return true;
+    }
+
+    //// matching operations
+
+    /**
+     * Returns the pairs proposed between the students and tutors that are not matched yet.
+     *
+     * @see PairMatcher
+     */
+    public List<PairMatcher.Match> proposeMatches() {
+        return new PairMatcher(persons.asObservableList(), attributeIndex).match();
+    }
+
+    /**
+     * Adds the pairs of {@code matches}, and sets the status of their students and tutors to matched.
+     * Only the matched persons are replaced, and the pairs appended, each updating its own index entries, so the
+     * cost follows the number of matches rather than the size of the lists. Everything is checked before anything
+     * changes.
+     *
+     * @throws DuplicatePairException if a pair of {@code matches} already exists, or is proposed twice.
+     * @throws DuplicatePersonException if a matched person would become equivalent to another person in the list,
+     *     in which case the pairs are not added either.
+     */
+    public void applyMatches(List<PairMatcher.Match> matches)
+            throws DuplicatePairException, DuplicatePersonException {
+        requireNonNull(matches);
+        List<Pair> newPairs = new ArrayList<>(matches.size());
+        Set<Pair> distinctPairs = new HashSet<>();
+        List<Person> targets = new ArrayList<>(matches.size() * 2);
+        for (PairMatcher.Match match : matches) {
+            Person student = getStoredMatchedPerson(match.getStudent());
+            Person tutor = getStoredMatchedPerson(match.getTutor());
+            Pair pair = new PairMatcher.Match(student, tutor).toPair();
+            if (pairs.contains(pair) || !distinctPairs.add(pair)) {
+                throw new DuplicatePairException();
+            }
+            newPairs.add(pair);
+            targets.add(student);
+            targets.add(tutor);
+        }
+
+        List<Person> matchedPersons = targets.stream()
+                .map(person -> acquireTags(asMatched(person)))
+                .collect(Collectors.toList());
+        try {
+            persons.setEach(targets, matchedPersons);
+        } catch (DuplicatePersonException dpe) {
+            matchedPersons.forEach(person -> tags.release(person.getTags()));
+            throw dpe;
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The targets are taken from the person list", pnfe);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            Person target = targets.get(i);
+            Person matchedPerson = matchedPersons.get(i);
+            int position = persons.indexOf(matchedPerson);
+            tags.release(target.getTags());
+            attributeIndex.set(target, matchedPerson, position);
+            tutorSuggester.set(matchedPerson, position);
+            nameIndex.set(target, matchedPerson);
+            joinIndex.putPerson(matchedPerson);
+            log((addressBook, listener) -> addressBook.undoPersonUpdate(target, matchedPerson, position, listener));
+        }
+
+        for (Pair newPair : newPairs) {
+            Pair pair = acquireTags(assignId(newPair, id -> joinIndex.getPair(id).isPresent()));
+            try {
+                pairs.add(pair);
+            } catch (DuplicatePairException dpe) {
+                throw new AssertionError("New pairs are checked against the pair list", dpe);
+            }
+            joinIndex.putPair(pair);
+            int position = pairs.indexOf(pair);
+            log((addressBook, listener) -> addressBook.undoPairInsertion(pair, position, listener));
+        }
+    }
+
+    /**
+     * Returns the person in the list that is equivalent to {@code person} of a proposed match.
+     */
+    private Person getStoredMatchedPerson(Person person) {
+        try {
+            return getStoredPerson(person);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("Matches are proposed from the person list", pnfe);
         }
     }
-    */
+
+    /**
+     * Returns a copy of {@code person} with a matched status, and the status tag to go with it.
+     */
+    private static Person asMatched(Person person) {
+        Status matched = Status.of("matched");
+        Set<Tag> updatedTags = new HashSet<>(person.getTags());
+        if (!person.getStatus().value.isEmpty()) {
+            updatedTags.remove(new Tag(person.getStatus().value, Tag.AllTagTypes.STATUS));
+        }
+        updatedTags.add(new Tag(matched.value, Tag.AllTagTypes.STATUS));
+        return new Person(person.getId(),
+                person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getPrice(), person.getSubject(), person.getLevel(), matched, person.getRole(),
+                updatedTags, person.getRemark());
+    }
 
     //// tag-level operations
 
@@ -260,6 +873,111 @@ public class AddressBook implements ReadOnlyAddressBook {
         tags.add(t);
     }
 
+    /**
+     * Returns true if {@code tag} is in the master tag list.
+     */
+    public boolean hasTag(Tag tag) {
+        requireNonNull(tag);
+        return tags.getTags().contains(tag);
+    }
+
+    /**
+     * Removes {@code tag} from every person and pair in this {@code AddressBook}, and from the master tag list.
+     *
+     * @return the persons and pairs the tag was removed from.
+     */
+    public TagReplacement removeTag(Tag tag) {
+        return replaceTag(tag, null);
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement} in every person and pair in this {@code AddressBook},
+     * and in the master tag list. If {@code replacement} is already in the master tag list, {@code target} is
+     * merged into it.
+     *
+     * @return the persons and pairs the tag was renamed in.
+     */
+    public TagReplacement renameTag(Tag target, Tag replacement) {
+        requireNonNull(replacement);
+        return replaceTag(target, replacement);
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement}, or removes it if {@code replacement} is null, in a single
+     * pass over the persons and pairs. The master tag list is updated once, up front, rather than per person.
+     * Only the index entries and tutor features of the persons and pairs rewritten are updated; tags are not in the
+     * attribute index, and no position changes.
+     */
+    private TagReplacement replaceTag(Tag target, Tag replacement) {
+        requireNonNull(target);
+        if (!hasTag(target) || target.equals(replacement)) {
+            return new TagReplacement(false);
+        }
+
+        TagReplacement tagReplacement = new TagReplacement(true);
+        Tag internedReplacement = tags.replace(target, replacement);
+        persons.replaceEquivalent(person -> {
+            if (!person.hasTag(target)) {
+                return person;
+            }
+            Person editedPerson = withTags(person, replaceTag(person.getTags(), target, internedReplacement));
+            int position = persons.indexOf(person);
+            tutorSuggester.set(editedPerson, position);
+            nameIndex.set(person, editedPerson);
+            joinIndex.putPerson(editedPerson);
+            log((addressBook, listener) -> addressBook.undoPersonUpdate(person, editedPerson, position, listener));
+            tagReplacement.oldPersons.add(person);
+            tagReplacement.newPersons.add(editedPerson);
+            return editedPerson;
+        });
+        pairs.replaceEquivalent(pair -> {
+            if (!pair.hasTag(target)) {
+                return pair;
+            }
+            Pair editedPair = withTags(pair, replaceTag(pair.getTags(), target, internedReplacement));
+            joinIndex.putPair(editedPair);
+            log((addressBook, listener) -> addressBook.undoPairUpdate(pair, editedPair, listener));
+            tagReplacement.oldPairs.add(pair);
+            tagReplacement.newPairs.add(editedPair);
+            return editedPair;
+        });
+        return tagReplacement;
+    }
+
+    /**
+     * Returns a copy of {@code tags} with {@code target} replaced by {@code replacement}, or removed if
+     * {@code replacement} is null.
+     * If {@code tags} already holds {@code replacement}, the use of {@code target} that the master tag list
+     * moved to {@code replacement} is released, as the two uses become one.
+     */
+    private Set<Tag> replaceTag(Set<Tag> tags, Tag target, Tag replacement) {
+        Set<Tag> replaced = new HashSet<>(tags);
+        replaced.remove(target);
+        if (replacement != null && !replaced.add(replacement)) {
+            this.tags.release(Collections.singleton(replacement));
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns a copy of {@code person} with {@code tags} in place of its tags.
+     */
+    private static Person withTags(Person person, Set<Tag> tags) {
+        return new Person(person.getId(),
+                person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getPrice(), person.getSubject(), person.getLevel(), person.getStatus(), person.getRole(),
+                tags, person.getRemark());
+    }
+
+    /**
+     * Returns a copy of {@code pair} with {@code tags} in place of its tags.
+     */
+    private static Pair withTags(Pair pair, Set<Tag> tags) {
+        return new Pair(pair.getId(), pair.getStudentId(), pair.getTutorId(),
+                pair.getStudentName(), pair.getTutorName(), pair.getSubject(), pair.getLevel(),
+                pair.getPrice(), tags);
+    }
+
     //// util methods
 
     @Override
@@ -288,63 +1006,124 @@ public class AddressBook implements ReadOnlyAddressBook {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
                 && this.persons.equals(((AddressBook) other).persons)
-                && this.tags.equalsOrderInsensitive(((AddressBook) other).tags));
+                && this.tags.getTags().equalsOrderInsensitive(((AddressBook) other).tags.getTags()));
     }
 
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(persons, tags);
+        return Objects.hash(persons, tags.getTags());
     }
 
     /**
-     * Removes {@code tag} from this {@code AddressBook}.
-     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     * Receives the changes made to the person and pair lists as {@link #restore} undoes them one at a time.
+     * Each change is passed after it is made, with the position it was made at.
      */
+    public interface ChangeListener {
+        default void personAdded(Person person, int position) {}
 
-    public void removeTag(Tag tag) throws PersonNotFoundException {
-        for (Person person : persons) {
-            removeTagFromPerson(tag, person);
-        }
+        default void personRemoved(Person person, int position) {}
+
+        default void personUpdated(Person target, Person editedPerson, int position) {}
+
+        default void pairAdded(Pair pair, int position) {}
+
+        default void pairRemoved(Pair pair, int position) {}
+
+        default void pairUpdated(Pair target, Pair editedPair) {}
     }
 
     /**
-     *
-     * Removes {@code tag} from {@code person} in this {@code AddressBook}.
-     * @throws PersonNotFoundException if the {@code person} is not in this {@code AddressBook}.
-     * @@author yamgent
-     * Reused from https://github.com/se-edu/
-     * addressbook-level4/pull/790/commits/48ba8e95de5d7eae883504d40e6795c857dae3c2
+     * Undoes a logged change to an {@code AddressBook} left as the change left it, and passes what it did to a
+     * {@code ChangeListener}. Captures only the data of the change, so that the log does not hold on to the
+     * {@code AddressBook}.
      */
-    private void removeTagFromPerson(Tag tag, Person person) throws PersonNotFoundException {
-        Set<Tag> updatedTags = new HashSet<>(person.getTags());
-        if (!updatedTags.remove(tag)) {
-            return;
+    @FunctionalInterface
+    private interface Undo {
+        void apply(AddressBook addressBook, ChangeListener listener);
+    }
+
+    /**
+     * A change in the log of an {@code AddressBook}, linked to the change logged before it.
+     * The start of a log is a change that undoes nothing. A snapshot holds on to the last change logged before it
+     * was taken, so that {@link #restore} can tell whether the changes since are all in the log.
+     */
+    static final class LoggedChange {
+        private final LoggedChange previous;
+        /** The number of changes logged before this one since the start of the log. */
+        private final int depth;
+        private final Undo undo;
+
+        private LoggedChange(LoggedChange previous, Undo undo) {
+            this.previous = previous;
+            this.depth = previous == null ? 0 : previous.depth + 1;
+            this.undo = undo;
         }
-        Person updatedPerson = new Person (person.getName(), person.getPhone(),
-                person.getEmail(), person.getAddress(), person.getPrice(),
-               person.getSubject(), person.getLevel(), person.getStatus(), person.getRole(),
-                updatedTags, person.getRemark());
-        try {
-            updatePerson(person, updatedPerson);
-        } catch (DuplicatePersonException dupe) {
-            throw new AssertionError("Modifying a person's tags only should not result in a duplicate. "
-                     + "See Person#equals(Object).");
+
+        /**
+         * Returns the start of a new log.
+         */
+        static LoggedChange start() {
+            return new LoggedChange(null, null);
+        }
+
+        /**
+         * Returns true if {@code change} is this change, or was logged before it in the same log.
+         */
+        boolean isLoggedAfter(LoggedChange change) {
+            if (change == null || change.depth > depth) {
+                return false;
+            }
+            LoggedChange ancestor = this;
+            while (ancestor.depth > change.depth) {
+                ancestor = ancestor.previous;
+            }
+            return ancestor == change;
         }
     }
 
     /**
-     *
-     * Removes unsed {@code tag} from this {@code AddressBook}.
-     * @@author yamgent
-     * Reused from https://github.com/se-edu/
-     * addressbook-level4/pull/790/commits/48ba8e95de5d7eae883504d40e6795c857dae3c2
-     */
-    private void removeUnusedTags() {
-        Set<Tag> tagsInPersons = persons.asObservableList().stream()
-                           .map(Person::getTags)
-                .flatMap(Set::stream)
-                .collect(Collectors.toSet());
-        tags.setTags(tagsInPersons);
+     * The persons and pairs whose tags were rewritten by a removal or rename of a tag, as they were before and
+     * after it, in list order.
+     */
+    public static class TagReplacement {
+        private final boolean isTagReplaced;
+        private final List<Person> oldPersons = new ArrayList<>();
+        private final List<Person> newPersons = new ArrayList<>();
+        private final List<Pair> oldPairs = new ArrayList<>();
+        private final List<Pair> newPairs = new ArrayList<>();
+
+        private TagReplacement(boolean isTagReplaced) {
+            this.isTagReplaced = isTagReplaced;
+        }
+
+        /**
+         * Returns true if the tag was in the master tag list and was replaced, even if no person or pair had it.
+         */
+        public boolean isTagReplaced() {
+            return isTagReplaced;
+        }
+
+        public List<Person> getOldPersons() {
+            return Collections.unmodifiableList(oldPersons);
+        }
+
+        /**
+         * Returns the rewritten persons, each at the same index as the person it replaced in {@link #getOldPersons()}.
+         */
+        public List<Person> getNewPersons() {
+            return Collections.unmodifiableList(newPersons);
+        }
+
+        public List<Pair> getOldPairs() {
+            return Collections.unmodifiableList(oldPairs);
+        }
+
+        /**
+         * Returns the rewritten pairs, each at the same index as the pair it replaced in {@link #getOldPairs()}.
+         */
+        public List<Pair> getNewPairs() {
+            return Collections.unmodifiableList(newPairs);
+        }
     }
 }
@@ -0,0 +1,65 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable view of an {@code AddressBook} at one point in time.
+ * The person and pair lists are shared with the address book it was taken from rather than copied,
+ * so a snapshot costs constant time and only the parts changed afterwards take up additional memory.
+ * It also holds on to the last change the address book had logged, so that the address book can be restored to
+ * it by undoing the changes logged since.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Pair> pairs;
+    private final List<Tag> tags;
+    private final AddressBook.LoggedChange lastChange;
+
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Pair> pairs, List<Tag> tags,
+            AddressBook.LoggedChange lastChange) {
+        this.persons = persons;
+        this.pairs = pairs;
+        this.tags = tags;
+        this.lastChange = lastChange;
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentList<Pair> getPairs() {
+        return pairs;
+    }
+
+    AddressBook.LoggedChange getLastChange() {
+        return lastChange;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Pair> getPairList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(pairs));
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons, " + tags.size() + " tags";
+    }
+}
@@ -1,29 +1,41 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.tag.Tag;
 
 /**
  * The API of the Model component.
  */
 public interface Model {
-    /** {@code Predicate} that always evaluate to true */
+    /**
+     * {@code Predicate} that always evaluate to true.
+     * Filtering by it shows the person list itself, without testing any person.
+     */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
     /** {@code Predicate} that always evaluate to true */
     Predicate<Pair> PREDICATE_SHOW_ALL_PAIRS = unused -> true;
 
-    /** {@code Predicate} that filter all person with student tag */
-    Predicate<Person> PREDICATE_SHOW_ALL_STUDENTS = person -> person.getTags().contains(new Tag("student"));
+    /** Name of the view of all students */
+    String VIEW_STUDENTS = "students";
 
-    /** {@code Predicate} that filter all person with student tag */
-    Predicate<Person> PREDICATE_SHOW_ALL_TUTORS = person -> person.getTags().contains(new Tag("tutor"));
+    /** Name of the view of all tutors */
+    String VIEW_TUTORS = "tutors";
+
+    /** Name of the view of all persons not matched yet */
+    String VIEW_UNMATCHED = "unmatched";
 
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyAddressBook newData);
@@ -31,6 +43,34 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable snapshot of the AddressBook, taken in constant time.
+     * Passing it to {@link #resetData(ReadOnlyAddressBook)} restores the AddressBook to its current state.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Starts a transaction: the changes made from now on are not announced until {@link #commitTransaction()},
+     * and can all be undone by {@link #rollbackTransaction()}.
+     *
+     * @throws IllegalStateException if a transaction is already open.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the open transaction, announcing all the changes made in it together.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the open transaction, restoring the AddressBook to its state when the transaction began.
+     *
+     * @throws IllegalStateException if no transaction is open.
+     */
+    void rollbackTransaction();
+
     /** Deletes the given person. */
     void deletePerson(Person target) throws PersonNotFoundException;
 
@@ -42,10 +82,12 @@ public interface Model {
      *
      * @throws DuplicatePersonException if updating the person's details causes the person to be equivalent to
      *      another existing person in the list.
+     * @throws DuplicatePairException if renaming the person causes one of its pairs to be equivalent to another
+     *      existing pair.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
      */
     void updatePerson(Person target, Person editedPerson)
-            throws DuplicatePersonException, PersonNotFoundException;
+            throws DuplicatePersonException, DuplicatePairException, PersonNotFoundException;
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
@@ -56,6 +98,54 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code query}.
+     * Matches are resolved through the plan made by {@link #planQuery(Query)}, and are kept up to date as
+     * persons are updated.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    void updateFilteredPersonListByQuery(Query query);
+
+    /**
+     * Returns the plan resolving {@code query} against the current persons and their indexes.
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planQuery(Query query);
+
+    /**
+     * Updates the filter of the filtered person list to show the persons matched by {@code predicate}.
+     * Matches are resolved through the name index instead of testing every person, and are kept
+     * up to date as persons are updated.
+     * @throws NullPointerException if {@code predicate} is null.
+     */
+    void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate);
+
+    /** Returns true if there is a view named {@code name}, ignoring case. */
+    boolean hasView(String name);
+
+    /** Returns the names of the views, in the order they were added. */
+    List<String> getViewNames();
+
+    /**
+     * Adds a view named {@code name} of the persons matched by {@code query}. The view is kept up to date as
+     * persons are added, updated and deleted. Filtering by {@code query} shows the view.
+     * @throws IllegalArgumentException if there is already a view named {@code name}.
+     */
+    void addView(String name, Query query);
+
+    /**
+     * Updates the filtered person list to show the persons of the view named {@code name}, without filtering
+     * the person list again.
+     * @throws IllegalArgumentException if there is no view named {@code name}.
+     */
+    void updateFilteredPersonListToView(String name);
+
+    /**
+     * Updates the filtered person list to show at most {@code k} unmatched tutors suggested for {@code student},
+     * best first. The suggestions are recomputed as persons are updated.
+     * @throws NullPointerException if {@code student} is null.
+     */
+    void updateFilteredPersonListToSuggestedTutors(Person student, int k);
 
     /** Returns an unmodifiable view of the filtered pair list */
     ObservableList<Pair> getFilteredPairList();
@@ -66,10 +156,29 @@ public interface Model {
      */
     void updateFilteredPairList(Predicate<seedu.address.model.pair.Pair> predicate);
 
+    /** Returns true if {@code tag} is in the addressbook's master tag list. */
+    boolean hasTag(Tag tag);
+
     /**
-     * Delete a tag from the addressbook
+     * Deletes a tag from every person and pair in the addressbook
      * @param tag
-     * @throws PersonNotFoundException
      */
-    void deleteTag (Tag tag)throws PersonNotFoundException;
+    void deleteTag(Tag tag);
+
+    /**
+     * Replaces the tag {@code target} with {@code replacement} in every person and pair in the addressbook.
+     * If {@code replacement} is already in the addressbook, {@code target} is merged into it.
+     */
+    void renameTag(Tag target, Tag replacement);
+
+    /** Returns the pairs proposed between the students and tutors in the addressbook that are not matched yet. */
+    List<PairMatcher.Match> proposeMatches();
+
+    /**
+     * Adds the pairs of {@code matches}, and marks their students and tutors as matched.
+     *
+     * @throws DuplicatePairException if a pair of {@code matches} already exists.
+     * @throws DuplicatePersonException if a matched person would become equivalent to another person.
+     */
+    void addMatches(List<PairMatcher.Match> matches) throws DuplicatePairException, DuplicatePersonException;
 }
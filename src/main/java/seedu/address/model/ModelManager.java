@@ -3,7 +3,16 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -11,11 +20,29 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.AddressBookChangeBatchEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookDeltaEvent;
+import seedu.address.commons.events.model.AddressBookResetEvent;
+import seedu.address.commons.events.model.PairAddedEvent;
+import seedu.address.commons.events.model.PairRemovedEvent;
+import seedu.address.commons.events.model.PairUpdatedEvent;
+import seedu.address.commons.events.model.PersonAddedEvent;
+import seedu.address.commons.events.model.PersonRemovedEvent;
+import seedu.address.commons.events.model.PersonUpdatedEvent;
+import seedu.address.commons.events.model.TagRemovedEvent;
+import seedu.address.commons.util.SwitchableList;
 import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.MaterializedView;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -27,7 +54,23 @@ public class ModelManager extends ComponentManager implements Model {
 
     private final AddressBook addressBook;
     private final FilteredList<Person> filteredPersons;
+    /** The persons shown: all persons, the persons of a view, {@code filteredPersons} or {@code indexedMatches}. */
+    private final SwitchableList<Person> displayedPersons;
     private final FilteredList<Pair> filteredPairs;
+    /** The views of the persons, by name. */
+    private final Map<String, MaterializedView> views = new LinkedHashMap<>();
+    /**
+     * Resolves the persons to show through one of the address book's indexes, in the order they are to be shown,
+     * if the list is filtered by one.
+     */
+    private Supplier<List<Person>> indexedFilter;
+    /** The persons last resolved by {@code indexedFilter}. */
+    private ObservableList<Person> indexedMatches;
+    /** The state of the address book when the open transaction began, or null if no transaction is open. */
+    private AddressBookSnapshot transactionStart;
+    /** The changes made in the open transaction, announced when it is committed. */
+    private List<AddressBookDeltaEvent> transactionChanges;
+    private boolean isChangedInTransaction;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -36,21 +79,91 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         this.addressBook = new AddressBook(addressBook);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        displayedPersons = new SwitchableList<>(this.addressBook.getPersonList());
         filteredPairs = new FilteredList<>(this.addressBook.getPairList());
+
+        addView(VIEW_STUDENTS, Query.attribute(Attribute.ROLE, "student"));
+        addView(VIEW_TUTORS, Query.attribute(Attribute.ROLE, "tutor"));
+        addView(VIEW_UNMATCHED, Query.attribute(Attribute.STATUS, "not matched"));
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * Replaces the address book's data with {@code newData}. A snapshot taken earlier, as undo restores, is restored
+     * by undoing the changes made since, which are applied to the views one at a time and announced as they are;
+     * any other data is announced as a reset.
+     */
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
-        addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        requireNonNull(newData);
+        if (newData instanceof AddressBookSnapshot) {
+            List<AddressBookDeltaEvent> changes = new ArrayList<>();
+            if (restore((AddressBookSnapshot) newData, changes)) {
+                indicateAddressBookChanged(changes);
+                return;
+            }
+        } else {
+            addressBook.resetData(newData);
+            refreshViews();
+            refreshIndexedFilter();
+        }
+        indicateAddressBookChanged(Collections.singletonList(new AddressBookResetEvent(addressBook.snapshot())));
+    }
+
+    /**
+     * Restores the address book to {@code snapshot}, applying each change undone to the views and adding it to
+     * {@code changes}, or resolving the views again if the address book was rebuilt instead.
+     *
+     * @return true if the changes since {@code snapshot} were undone one at a time.
+     * @see AddressBook#restore
+     */
+    private boolean restore(AddressBookSnapshot snapshot, List<AddressBookDeltaEvent> changes) {
+        boolean isUndone = addressBook.restore(snapshot, new AddressBook.ChangeListener() {
+            @Override
+            public void personAdded(Person person, int position) {
+                views.values().forEach(view -> view.personAdded(person, position));
+                changes.add(new PersonAddedEvent(person));
+            }
+
+            @Override
+            public void personRemoved(Person person, int position) {
+                views.values().forEach(view -> view.personRemoved(person, position));
+                changes.add(new PersonRemovedEvent(person));
+            }
+
+            @Override
+            public void personUpdated(Person target, Person editedPerson, int position) {
+                views.values().forEach(view -> view.personUpdated(target, editedPerson, position));
+                changes.add(new PersonUpdatedEvent(target, editedPerson));
+            }
+
+            @Override
+            public void pairAdded(Pair pair, int position) {
+                changes.add(new PairAddedEvent(pair));
+            }
+
+            @Override
+            public void pairRemoved(Pair pair, int position) {
+                changes.add(new PairRemovedEvent(pair));
+            }
+
+            @Override
+            public void pairUpdated(Pair target, Pair editedPair) {
+                changes.add(new PairUpdatedEvent(target, editedPair));
+            }
+        });
+        if (!isUndone) {
+            refreshViews();
+        }
+        refreshIndexedFilter();
+        return isUndone;
     }
 
     @Override
@@ -58,31 +171,129 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
-    private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return addressBook.snapshot();
+    }
+
+    @Override
+    public synchronized void beginTransaction() {
+        if (transactionStart != null) {
+            throw new IllegalStateException("A transaction is already open");
+        }
+        transactionStart = addressBook.snapshot();
+        transactionChanges = new ArrayList<>();
+        isChangedInTransaction = false;
+    }
+
+    @Override
+    public synchronized void commitTransaction() {
+        requireOpenTransaction();
+        List<AddressBookDeltaEvent> changes = transactionChanges;
+        boolean isChanged = isChangedInTransaction;
+        endTransaction();
+        if (isChanged) {
+            indicateAddressBookChanged(changes);
+        }
+    }
+
+    @Override
+    public synchronized void rollbackTransaction() {
+        requireOpenTransaction();
+        AddressBookSnapshot start = transactionStart;
+        boolean isChanged = isChangedInTransaction;
+        endTransaction();
+        if (isChanged) {
+            // nothing was announced, so restoring the data is not announced either
+            restore(start, new ArrayList<>());
+        }
+    }
+
+    /**
+     * Throws an {@code IllegalStateException} if no transaction is open.
+     */
+    private void requireOpenTransaction() {
+        if (transactionStart == null) {
+            throw new IllegalStateException("No transaction is open");
+        }
+    }
+
+    /**
+     * Closes the open transaction, forgetting its changes.
+     */
+    private void endTransaction() {
+        transactionStart = null;
+        transactionChanges = null;
+        isChangedInTransaction = false;
+    }
+
+    /**
+     * Raises events to indicate the model has changed: {@code changes}, one by one if there is only one or
+     * together in a batch otherwise, followed by the change of the whole address book.
+     * If a transaction is open, the changes are kept to be raised when it is committed instead.
+     */
+    private void indicateAddressBookChanged(List<AddressBookDeltaEvent> changes) {
+        if (transactionStart != null) {
+            transactionChanges.addAll(changes);
+            isChangedInTransaction = true;
+            return;
+        }
+        if (changes.size() == 1) {
+            raise(changes.get(0));
+        } else if (!changes.isEmpty()) {
+            raise(new AddressBookChangeBatchEvent(changes));
+        }
+        raise(new AddressBookChangedEvent(addressBook.snapshot()));
     }
 
     @Override
     public synchronized void deletePerson(Person target) throws PersonNotFoundException {
+        int position = addressBook.indexOfPerson(target);
+        List<Pair> removedPairs = addressBook.getPairsOf(target);
         addressBook.removePerson(target);
-        indicateAddressBookChanged();
+        views.values().forEach(view -> view.personRemoved(target, position));
+        if (indexedFilter != null) {
+            indexedMatches.remove(target);
+        }
+
+        List<AddressBookDeltaEvent> changes = new ArrayList<>();
+        changes.add(new PersonRemovedEvent(target));
+        removedPairs.forEach(pair -> changes.add(new PairRemovedEvent(pair)));
+        indicateAddressBookChanged(changes);
     }
 
     @Override
     public synchronized void addPerson(Person person) throws DuplicatePersonException {
         addressBook.addPerson(person);
+        ObservableList<Person> persons = addressBook.getPersonList();
+        Person addedPerson = persons.get(persons.size() - 1);
+        views.values().forEach(view -> view.personAdded(addedPerson));
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(Collections.singletonList(new PersonAddedEvent(addedPerson)));
     }
 
 
     @Override
     public void updatePerson(Person target, Person editedPerson)
-            throws DuplicatePersonException, PersonNotFoundException {
+            throws DuplicatePersonException, DuplicatePairException, PersonNotFoundException {
         requireAllNonNull(target, editedPerson);
+        int position = addressBook.indexOfPerson(target);
+        List<Pair> oldPairs = addressBook.getPairsOf(target);
+        Person oldPerson = addressBook.getPersonList().get(position);
         addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        Person storedPerson = addressBook.getPersonList().get(position);
+        views.values().forEach(view -> view.personUpdated(target, storedPerson, position));
+        refreshIndexedFilter();
+
+        List<AddressBookDeltaEvent> changes = new ArrayList<>();
+        changes.add(new PersonUpdatedEvent(oldPerson, storedPerson));
+        List<Pair> newPairs = addressBook.getPairsOf(storedPerson);
+        for (int i = 0; i < oldPairs.size(); i++) {
+            if (oldPairs.get(i) != newPairs.get(i)) {
+                changes.add(new PairUpdatedEvent(oldPairs.get(i), newPairs.get(i)));
+            }
+        }
+        indicateAddressBookChanged(changes);
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -93,13 +304,134 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return FXCollections.unmodifiableObservableList(displayedPersons);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        indexedFilter = null;
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            displayedPersons.setSource(addressBook.getPersonList());
+            return;
+        }
         filteredPersons.setPredicate(predicate);
+        displayedPersons.setSource(filteredPersons);
+    }
+
+    @Override
+    public void updateFilteredPersonListByQuery(Query query) {
+        requireNonNull(query);
+        for (MaterializedView view : views.values()) {
+            if (view.getQuery().equals(query)) {
+                updateFilteredPersonListToView(view.getName());
+                return;
+            }
+        }
+        indexedFilter = () -> getPersonsMatching(query);
+        refreshIndexedFilter();
+    }
+
+    /**
+     * Returns the persons matched by {@code query}, in person list order, resolved through its plan.
+     */
+    private List<Person> getPersonsMatching(Query query) {
+        return getPersonsAt(addressBook.planQuery(query).execute());
+    }
+
+    /**
+     * Returns {@code persons} in person list order.
+     */
+    private List<Person> inListOrder(Collection<Person> persons) {
+        BitSet positions = new BitSet();
+        persons.forEach(person -> positions.set(addressBook.indexOfPerson(person)));
+        return getPersonsAt(positions);
+    }
+
+    /**
+     * Returns the persons at {@code positions} in the person list, in order.
+     */
+    private List<Person> getPersonsAt(BitSet positions) {
+        ObservableList<Person> persons = addressBook.getPersonList();
+        List<Person> matches = new ArrayList<>(positions.cardinality());
+        positions.stream().forEach(position -> matches.add(persons.get(position)));
+        return matches;
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return addressBook.planQuery(query);
+    }
+
+    @Override
+    public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        indexedFilter = () -> inListOrder(addressBook.getPersonsWithNameMatching(predicate));
+        refreshIndexedFilter();
+    }
+
+    @Override
+    public void updateFilteredPersonListToSuggestedTutors(Person student, int k) {
+        requireNonNull(student);
+        indexedFilter = () -> addressBook.suggestTutors(student, k);
+        refreshIndexedFilter();
+    }
+
+    /**
+     * Re-resolves {@code indexedFilter}, if the person list is filtered through an index, and shows the persons
+     * it resolves as they are, without testing the other persons. The persons shown are not updated by changes
+     * to the person list, so this has to be redone whenever a person object is replaced.
+     */
+    private void refreshIndexedFilter() {
+        if (indexedFilter == null) {
+            return;
+        }
+        indexedMatches = FXCollections.observableArrayList(indexedFilter.get());
+        displayedPersons.setSource(indexedMatches);
+    }
+
+    //=========== Views ======================================================================================
+
+    @Override
+    public boolean hasView(String name) {
+        requireNonNull(name);
+        return views.containsKey(name.toLowerCase());
+    }
+
+    @Override
+    public List<String> getViewNames() {
+        return new ArrayList<>(views.keySet());
+    }
+
+    @Override
+    public void addView(String name, Query query) {
+        requireAllNonNull(name, query);
+        if (hasView(name)) {
+            throw new IllegalArgumentException("A view named " + name + " already exists");
+        }
+        MaterializedView view = new MaterializedView(name.toLowerCase(), query, addressBook::indexOfPerson);
+        view.reset(getPersonsMatching(query));
+        views.put(view.getName(), view);
+    }
+
+    @Override
+    public void updateFilteredPersonListToView(String name) {
+        requireNonNull(name);
+        MaterializedView view = views.get(name.toLowerCase());
+        if (view == null) {
+            throw new IllegalArgumentException("There is no view named " + name);
+        }
+        indexedFilter = null;
+        displayedPersons.setSource(view.getPersons());
+    }
+
+    /**
+     * Resolves the persons of every view again. Used after changes that are not applied to views one person at
+     * a time.
+     */
+    private void refreshViews() {
+        views.values().forEach(view -> view.reset(getPersonsMatching(view.getQuery())));
     }
 
     //=========== Filtered Pair List Accessors =============================================================
@@ -139,14 +471,86 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return addressBook.equals(other.addressBook)
-                && filteredPersons.equals(other.filteredPersons);
+                && displayedPersons.equals(other.displayedPersons);
+    }
+
+    @Override
+    public boolean hasTag(Tag tag) {
+        return addressBook.hasTag(tag);
+    }
+
+    @Override
+    public void deleteTag(Tag tag) {
+        requireNonNull(tag);
+        AddressBook.TagReplacement removal = addressBook.removeTag(tag);
+        refreshViews();
+        refreshIndexedFilter();
+        indicateAddressBookChanged(getChangesOf(tag, removal));
     }
 
     @Override
-    public void deleteTag (Tag tag)throws PersonNotFoundException {
-        addressBook.removeTag(tag);
-        indicateAddressBookChanged();
+    public void renameTag(Tag target, Tag replacement) {
+        requireAllNonNull(target, replacement);
+        AddressBook.TagReplacement rename = addressBook.renameTag(target, replacement);
+        refreshViews();
+        refreshIndexedFilter();
+        indicateAddressBookChanged(getChangesOf(target, rename));
     }
 
+    /**
+     * Returns the changes made to the persons and pairs rewritten by {@code tagReplacement}, and the removal of
+     * {@code tag} from the master tag list if it was replaced there.
+     */
+    private static List<AddressBookDeltaEvent> getChangesOf(Tag tag, AddressBook.TagReplacement tagReplacement) {
+        List<AddressBookDeltaEvent> changes = new ArrayList<>();
+        List<Person> newPersons = tagReplacement.getNewPersons();
+        List<Person> oldPersons = tagReplacement.getOldPersons();
+        for (int i = 0; i < oldPersons.size(); i++) {
+            changes.add(new PersonUpdatedEvent(oldPersons.get(i), newPersons.get(i)));
+        }
+        List<Pair> newPairs = tagReplacement.getNewPairs();
+        List<Pair> oldPairs = tagReplacement.getOldPairs();
+        for (int i = 0; i < oldPairs.size(); i++) {
+            changes.add(new PairUpdatedEvent(oldPairs.get(i), newPairs.get(i)));
+        }
+        if (tagReplacement.isTagReplaced()) {
+            changes.add(new TagRemovedEvent(tag));
+        }
+        return changes;
+    }
+
+    @Override
+    public List<PairMatcher.Match> proposeMatches() {
+        return addressBook.proposeMatches();
+    }
+
+    @Override
+    public synchronized void addMatches(List<PairMatcher.Match> matches)
+            throws DuplicatePairException, DuplicatePersonException {
+        requireNonNull(matches);
+        List<Integer> matchedPositions = new ArrayList<>();
+        List<Person> matchedPersons = new ArrayList<>();
+        for (PairMatcher.Match match : matches) {
+            for (Person person : Arrays.asList(match.getStudent(), match.getTutor())) {
+                matchedPositions.add(addressBook.indexOfPerson(person));
+                matchedPersons.add(person);
+            }
+        }
+        int oldPairCount = addressBook.getPairList().size();
+        addressBook.applyMatches(matches);
+
+        List<AddressBookDeltaEvent> changes = new ArrayList<>();
+        for (int i = 0; i < matchedPersons.size(); i++) {
+            int position = matchedPositions.get(i);
+            Person target = matchedPersons.get(i);
+            Person matchedPerson = addressBook.getPersonList().get(position);
+            views.values().forEach(view -> view.personUpdated(target, matchedPerson, position));
+            changes.add(new PersonUpdatedEvent(target, matchedPerson));
+        }
+        refreshIndexedFilter();
+        List<Pair> pairs = addressBook.getPairList();
+        pairs.subList(oldPairCount, pairs.size()).forEach(pair -> changes.add(new PairAddedEvent(pair)));
+        indicateAddressBookChanged(changes);
+    }
 
 }
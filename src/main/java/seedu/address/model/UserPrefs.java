@@ -9,9 +9,21 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * The formats the address book data can be stored in.
+     */
+    public enum AddressBookFormat { XML, BINARY }
+
     private GuiSettings guiSettings;
     private String addressBookFilePath = "data/addressbook.xml";
     private String addressBookName = "MyAddressBook";
+    /** Binary data is kept next to the xml data file, in a file with the same name and a .bin extension. */
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
+    /**
+     * Whether changes are appended to a journal next to the data file rather than rewriting the whole file.
+     * Only applies to the xml format.
+     */
+    private boolean addressBookJournaled = false;
 
     public UserPrefs() {
         this.setGuiSettings(500, 500, 0, 0);
@@ -45,6 +57,22 @@ public class UserPrefs {
         this.addressBookName = addressBookName;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isAddressBookJournaled() {
+        return addressBookJournaled;
+    }
+
+    public void setAddressBookJournaled(boolean addressBookJournaled) {
+        this.addressBookJournaled = addressBookJournaled;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -58,12 +86,15 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(addressBookName, o.addressBookName);
+                && Objects.equals(addressBookName, o.addressBookName)
+                && addressBookFormat == o.addressBookFormat
+                && addressBookJournaled == o.addressBookJournaled;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, addressBookName);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookName, addressBookFormat,
+                addressBookJournaled);
     }
 
     @Override
@@ -72,6 +103,8 @@ public class UserPrefs {
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
         sb.append("\nAddressBook name : " + addressBookName);
+        sb.append("\nFormat : " + addressBookFormat);
+        sb.append("\nJournaled : " + addressBookJournaled);
         return sb.toString();
     }
 
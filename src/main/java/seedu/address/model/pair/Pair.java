@@ -2,38 +2,93 @@ package seedu.address.model.pair;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a pair (one student and one tutor) in STUtor.
+ *
+ * A pair added to an address book is given an id that stays the same through edits. The pair refers to its
+ * student and tutor by their ids, and keeps their names for display. Like tags, ids are not part of a pair's
+ * identity in {@link #equals(Object)}.
  */
 public class Pair  {
 
+    /** The id of a pair that has not been added to an address book yet. */
+    public static final long UNASSIGNED_ID = 0;
+
     public final String studentName;
     public final String tutorName;
     public final String subject;
     public final String level;
     public final String price;
 
-    private final UniqueTagList tags;
+    private final long id;
+    private final long studentId;
+    private final long tutorId;
+    private final TagSet tags;
 
 
     public Pair(String studentName, String tutorName, String subject, String level, String price, Set<Tag> tags) {
+        this(UNASSIGNED_ID, Person.UNASSIGNED_ID, Person.UNASSIGNED_ID, studentName, tutorName, subject, level,
+                price, tags);
+    }
+
+    public Pair(long id, long studentId, long tutorId, String studentName, String tutorName, String subject,
+                String level, String price, Set<Tag> tags) {
         requireAllNonNull(studentName, tutorName, subject, level, price, tags);
+        this.id = id;
+        this.studentId = studentId;
+        this.tutorId = tutorId;
         this.studentName = studentName;
         this.tutorName = tutorName;
         this.subject = subject;
         this.level = level;
         this.price = price;
 
-        // protect internal tags from changes in the arg list
-        this.tags = new UniqueTagList(tags);
+        // protect internal tags from changes in the arg list, without copying tag sets already immutable
+        this.tags = TagSet.of(tags);
+
+    }
+
+    public long getId() {
+        return id;
+    }
 
+    public long getStudentId() {
+        return studentId;
+    }
+
+    public long getTutorId() {
+        return tutorId;
+    }
+
+    /**
+     * Returns a copy of this pair with {@code id}.
+     */
+    public Pair withId(long id) {
+        return new Pair(id, studentId, tutorId, studentName, tutorName, subject, level, price, getTags());
+    }
+
+    /**
+     * Returns a copy of this pair between {@code student} and {@code tutor}, referring to them by their ids.
+     */
+    public Pair withPersons(Person student, Person tutor) {
+        return new Pair(id, student.getId(), tutor.getId(), studentName, tutorName, subject, level, price,
+                getTags());
+    }
+
+    /**
+     * Returns a copy of this pair with the current name of {@code person}, who is its student or tutor.
+     */
+    public Pair withNameOf(Person person) {
+        String name = person.getName().fullName;
+        return new Pair(id, studentId, tutorId, person.getId() == studentId ? name : studentName,
+                person.getId() == tutorId ? name : tutorName, subject, level, price, getTags());
     }
 
     public String getStudentName() {
@@ -62,10 +117,17 @@ public class Pair  {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is this pair's own, not a copy.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.toSet());
+        return tags;
+    }
+
+    /**
+     * Returns true if this pair has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
     }
 
     /**
@@ -74,7 +136,8 @@ public class Pair  {
      */
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(studentName, tutorName, subject, level, price, tags);
+        // only hashes the fields compared in equals(Object), so that equal pairs share a hash bucket
+        return Objects.hash(studentName, tutorName, subject, level, price);
     }
 
     /**
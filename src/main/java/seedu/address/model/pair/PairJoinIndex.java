@@ -0,0 +1,135 @@
+package seedu.address.model.pair;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Indexes persons and pairs by their ids, and joins them both ways: from a person to the pairs it is in, and from
+ * a pair to its student and tutor. Each direction is a hash lookup, so neither needs a scan over the person or
+ * pair list.
+ *
+ * The owner of the person and pair lists is responsible for keeping this index in sync with them.
+ */
+public class PairJoinIndex {
+
+    private final Map<Long, Person> personsById = new HashMap<>();
+    private final Map<Long, Pair> pairsById = new HashMap<>();
+    /** Maps the id of every person in a pair to the ids of its pairs, in the order they were added. */
+    private final Map<Long, Set<Long>> pairIdsByPersonId = new HashMap<>();
+
+    /**
+     * Records {@code person} under its id, replacing the person previously recorded under it.
+     */
+    public void putPerson(Person person) {
+        requireNonNull(person);
+        personsById.put(person.getId(), person);
+    }
+
+    /**
+     * Removes the person with {@code personId}. Its pairs are kept until removed through {@link #removePair}.
+     */
+    public void removePerson(long personId) {
+        personsById.remove(personId);
+    }
+
+    /**
+     * Records {@code pair} under its id, replacing the pair previously recorded under it.
+     */
+    public void putPair(Pair pair) {
+        requireNonNull(pair);
+        Pair replaced = pairsById.put(pair.getId(), pair);
+        if (replaced != null) {
+            unlink(replaced);
+        }
+        for (long personId : personIdsOf(pair)) {
+            if (personId != Person.UNASSIGNED_ID) {
+                pairIdsByPersonId.computeIfAbsent(personId, unused -> new LinkedHashSet<>()).add(pair.getId());
+            }
+        }
+    }
+
+    /**
+     * Removes the pair with {@code pairId}.
+     */
+    public void removePair(long pairId) {
+        Pair removed = pairsById.remove(pairId);
+        if (removed != null) {
+            unlink(removed);
+        }
+    }
+
+    /**
+     * Removes {@code pair} from the pairs of its student and tutor.
+     */
+    private void unlink(Pair pair) {
+        for (long personId : personIdsOf(pair)) {
+            Set<Long> pairIds = pairIdsByPersonId.get(personId);
+            if (pairIds != null) {
+                pairIds.remove(pair.getId());
+                if (pairIds.isEmpty()) {
+                    pairIdsByPersonId.remove(personId);
+                }
+            }
+        }
+    }
+
+    private static long[] personIdsOf(Pair pair) {
+        return new long[] { pair.getStudentId(), pair.getTutorId() };
+    }
+
+    /**
+     * Removes every person and pair from this index.
+     */
+    public void clear() {
+        personsById.clear();
+        pairsById.clear();
+        pairIdsByPersonId.clear();
+    }
+
+    public Optional<Person> getPerson(long personId) {
+        return Optional.ofNullable(personsById.get(personId));
+    }
+
+    public Optional<Pair> getPair(long pairId) {
+        return Optional.ofNullable(pairsById.get(pairId));
+    }
+
+    /**
+     * Returns the pairs that the person with {@code personId} is in, in the order they were added.
+     */
+    public List<Pair> getPairsOf(long personId) {
+        Set<Long> pairIds = pairIdsByPersonId.get(personId);
+        if (pairIds == null) {
+            return Collections.emptyList();
+        }
+        List<Pair> pairs = new ArrayList<>(pairIds.size());
+        pairIds.forEach(pairId -> pairs.add(pairsById.get(pairId)));
+        return pairs;
+    }
+
+    /**
+     * Returns the student of {@code pair}, if it is in this index.
+     */
+    public Optional<Person> getStudentOf(Pair pair) {
+        requireNonNull(pair);
+        return getPerson(pair.getStudentId());
+    }
+
+    /**
+     * Returns the tutor of {@code pair}, if it is in this index.
+     */
+    public Optional<Person> getTutorOf(Pair pair) {
+        requireNonNull(pair);
+        return getPerson(pair.getTutorId());
+    }
+}
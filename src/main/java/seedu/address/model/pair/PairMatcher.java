@@ -0,0 +1,201 @@
+package seedu.address.model.pair;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Proposes pairs between the students and tutors who are not matched yet.
+ *
+ * A student and a tutor are compatible if they have the same subject and level, and the tutor's rate is within
+ * the student's budget; a missing budget or rate places no limit. Compatible persons are found through the
+ * {@link AttributeIndex}, one subject and level at a time, rather than by comparing every student with every
+ * tutor.
+ *
+ * Within a subject and level, students are served from the smallest budget up, each taking the highest-rate
+ * free tutor within budget. As every tutor affordable to one student is affordable to all students with larger
+ * budgets, this pairs as many students as possible.
+ */
+public class PairMatcher {
+
+    private static final String STUDENT = "student";
+    private static final String TUTOR = "tutor";
+    private static final String MATCHED = "matched";
+
+    private final List<Person> persons;
+    private final AttributeIndex attributeIndex;
+
+    /**
+     * @param persons the person list indexed by {@code attributeIndex}.
+     */
+    public PairMatcher(List<Person> persons, AttributeIndex attributeIndex) {
+        requireNonNull(persons);
+        requireNonNull(attributeIndex);
+        this.persons = persons;
+        this.attributeIndex = attributeIndex;
+    }
+
+    /**
+     * Returns the proposed matches, in order of subject, then level, then student budget.
+     * Every unmatched person is in at most one match.
+     */
+    public List<Match> match() {
+        BitSet students = unmatched(STUDENT);
+        BitSet tutors = unmatched(TUTOR);
+        List<Match> matches = new ArrayList<>();
+        if (students.isEmpty() || tutors.isEmpty()) {
+            return matches;
+        }
+
+        for (String subject : attributeIndex.values(Attribute.SUBJECT)) {
+            if (subject.isEmpty()) {
+                continue;
+            }
+            BitSet subjectStudents = intersect(students, attributeIndex.lookup(Attribute.SUBJECT, subject));
+            BitSet subjectTutors = intersect(tutors, attributeIndex.lookup(Attribute.SUBJECT, subject));
+            if (subjectStudents.isEmpty() || subjectTutors.isEmpty()) {
+                continue;
+            }
+            for (String level : attributeIndex.values(Attribute.LEVEL)) {
+                if (level.isEmpty()) {
+                    continue;
+                }
+                BitSet levelPositions = attributeIndex.lookup(Attribute.LEVEL, level);
+                BitSet bucketStudents = intersect(subjectStudents, levelPositions);
+                BitSet bucketTutors = intersect(subjectTutors, levelPositions);
+                if (!bucketStudents.isEmpty() && !bucketTutors.isEmpty()) {
+                    matchWithinBudget(bucketStudents, bucketTutors, matches);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the positions of the persons with {@code role} whose status is not matched.
+     */
+    private BitSet unmatched(String role) {
+        BitSet positions = attributeIndex.lookup(Attribute.ROLE, role);
+        positions.andNot(attributeIndex.lookup(Attribute.STATUS, MATCHED));
+        return positions;
+    }
+
+    private static BitSet intersect(BitSet first, BitSet second) {
+        BitSet result = (BitSet) first.clone();
+        result.and(second);
+        return result;
+    }
+
+    /**
+     * Matches the students at {@code studentPositions} with the tutors at {@code tutorPositions}, all of whom
+     * have the same subject and level, adding the matches to {@code matches}.
+     */
+    private void matchWithinBudget(BitSet studentPositions, BitSet tutorPositions, List<Match> matches) {
+        TreeMap<Integer, ArrayDeque<Person>> tutorsByRate = new TreeMap<>();
+        for (int i = tutorPositions.nextSetBit(0); i >= 0; i = tutorPositions.nextSetBit(i + 1)) {
+            Person tutor = persons.get(i);
+            tutorsByRate.computeIfAbsent(amountOf(tutor.getPrice(), 0), unused -> new ArrayDeque<>()).add(tutor);
+        }
+
+        List<Person> students = new ArrayList<>(studentPositions.cardinality());
+        for (int i = studentPositions.nextSetBit(0); i >= 0; i = studentPositions.nextSetBit(i + 1)) {
+            students.add(persons.get(i));
+        }
+        students.sort(Comparator.comparingInt(student -> amountOf(student.getPrice(), Integer.MAX_VALUE)));
+
+        for (Person student : students) {
+            Map.Entry<Integer, ArrayDeque<Person>> affordable =
+                    tutorsByRate.floorEntry(amountOf(student.getPrice(), Integer.MAX_VALUE));
+            if (affordable == null) {
+                continue;
+            }
+            Person tutor = affordable.getValue().poll();
+            if (affordable.getValue().isEmpty()) {
+                tutorsByRate.remove(affordable.getKey());
+            }
+            matches.add(new Match(student, tutor));
+            if (tutorsByRate.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Returns the amount in {@code price}, or {@code missingAmount} if the price is not given.
+     */
+    private static int amountOf(Price price, int missingAmount) {
+        return price.hasAmount() ? price.getAmount() : missingAmount;
+    }
+
+    /**
+     * A student and a tutor proposed to be paired.
+     */
+    public static class Match {
+        private final Person student;
+        private final Person tutor;
+
+        public Match(Person student, Person tutor) {
+            requireNonNull(student);
+            requireNonNull(tutor);
+            this.student = student;
+            this.tutor = tutor;
+        }
+
+        public Person getStudent() {
+            return student;
+        }
+
+        public Person getTutor() {
+            return tutor;
+        }
+
+        /**
+         * Returns the pair of the student and tutor, at the tutor's rate.
+         */
+        public Pair toPair() {
+            String subject = tutor.getSubject().value;
+            String level = tutor.getLevel().value;
+            String price = tutor.getPrice().value;
+            Set<Tag> tags = new HashSet<>();
+            tags.add(new Tag(subject, Tag.AllTagTypes.SUBJECT));
+            tags.add(new Tag(level, Tag.AllTagTypes.LEVEL));
+            if (!price.isEmpty()) {
+                tags.add(new Tag(price, Tag.AllTagTypes.PRICE));
+            }
+            return new Pair(Pair.UNASSIGNED_ID, student.getId(), tutor.getId(), student.getName().fullName,
+                    tutor.getName().fullName, subject, level, price, tags);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Match // instanceof handles nulls
+                    && student.equals(((Match) other).student)
+                    && tutor.equals(((Match) other).tutor));
+        }
+
+        @Override
+        public int hashCode() {
+            return student.hashCode() * 31 + tutor.hashCode();
+        }
+
+        @Override
+        public String toString() {
+            return student.getName() + " /w " + tutor.getName();
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package seedu.address.model.pair;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Price;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Ranks the unmatched tutors for a student.
+ *
+ * Only tutors with the student's subject are ranked, if the student has one. A tutor scores
+ * {@value #SCORE_SAME_LEVEL} for having the student's level and {@value #SCORE_SHARED_TAG} for every tag shared
+ * with the student, less the difference between the tutor's rate and the student's budget.
+ *
+ * The features scored are extracted from each person when it is added or updated, and kept by position like the
+ * bitmaps of the {@link AttributeIndex} the candidates are found in, so that a query only compares numbers and no
+ * change to the person list extracts them all again. Queries keep the best tutors in a heap bounded by the number
+ * requested, so a query costs O(candidates * log k) instead of a sort of all candidates.
+ *
+ * The owner of the person list is responsible for keeping positions in sync with the list.
+ */
+public class TutorSuggester {
+
+    public static final int SCORE_SAME_LEVEL = 1000;
+    public static final int SCORE_SHARED_TAG = 100;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final List<Person> persons;
+    private final AttributeIndex attributeIndex;
+
+    /** The features of the person at each position, for the first {@link #size} positions. */
+    private int[] levelIds = new int[INITIAL_CAPACITY];
+    private int[] rates = new int[INITIAL_CAPACITY];
+    private int[][] tagIds = new int[INITIAL_CAPACITY][];
+    private int size;
+    private final Map<String, Integer> levelIdsByValue = new HashMap<>();
+    private final Map<Tag, Integer> tagIdsByTag = new HashMap<>();
+
+    /**
+     * @param persons the person list indexed by {@code attributeIndex}, whose persons are then added to this
+     *                suggester as they are to the index.
+     */
+    public TutorSuggester(List<Person> persons, AttributeIndex attributeIndex) {
+        requireNonNull(persons);
+        requireNonNull(attributeIndex);
+        this.persons = persons;
+        this.attributeIndex = attributeIndex;
+    }
+
+    /**
+     * Records that {@code person} has been inserted at {@code position}, shifting every person from that position
+     * one position up.
+     */
+    public void add(Person person, int position) {
+        requireNonNull(person);
+        assert position >= 0 && position <= size;
+        if (size == levelIds.length) {
+            levelIds = Arrays.copyOf(levelIds, size * 2);
+            rates = Arrays.copyOf(rates, size * 2);
+            tagIds = Arrays.copyOf(tagIds, size * 2);
+        }
+        System.arraycopy(levelIds, position, levelIds, position + 1, size - position);
+        System.arraycopy(rates, position, rates, position + 1, size - position);
+        System.arraycopy(tagIds, position, tagIds, position + 1, size - position);
+        size++;
+        set(person, position);
+    }
+
+    /**
+     * Records that the person at {@code position} has been replaced by {@code editedPerson}.
+     */
+    public void set(Person editedPerson, int position) {
+        requireNonNull(editedPerson);
+        assert position >= 0 && position < size;
+        levelIds[position] = levelIdsByValue.computeIfAbsent(editedPerson.getLevel().value.toLowerCase(),
+            unused -> levelIdsByValue.size());
+        rates[position] = editedPerson.getPrice().getAmount();
+        tagIds[position] = toTagIds(editedPerson, true);
+    }
+
+    /**
+     * Records that the person at {@code position} has been removed, shifting every person after it one position
+     * down.
+     */
+    public void remove(int position) {
+        assert position >= 0 && position < size;
+        System.arraycopy(levelIds, position + 1, levelIds, position, size - position - 1);
+        System.arraycopy(rates, position + 1, rates, position, size - position - 1);
+        System.arraycopy(tagIds, position + 1, tagIds, position, size - position - 1);
+        tagIds[--size] = null;
+    }
+
+    /**
+     * Removes every person from this suggester.
+     */
+    public void clear() {
+        Arrays.fill(tagIds, 0, size, null);
+        size = 0;
+        levelIdsByValue.clear();
+        tagIdsByTag.clear();
+    }
+
+    /**
+     * Returns at most {@code k} unmatched tutors for {@code student}, best first.
+     * Tutors with equal scores are ranked in list order.
+     */
+    public List<Person> suggest(Person student, int k) {
+        requireNonNull(student);
+        if (k <= 0) {
+            return Collections.emptyList();
+        }
+
+        BitSet candidates = attributeIndex.lookup(Attribute.ROLE, "tutor");
+        candidates.andNot(attributeIndex.lookup(Attribute.STATUS, "matched"));
+        if (!student.getSubject().value.isEmpty()) {
+            candidates.and(attributeIndex.lookup(Attribute.SUBJECT, student.getSubject().value));
+        }
+        int levelId = levelIdsByValue.getOrDefault(student.getLevel().value.toLowerCase(), -1);
+        int budget = student.getPrice().getAmount();
+        int[] studentTagIds = toTagIds(student, false);
+
+        // the worst of the best tutors so far is at the head, to be replaced by any better candidate
+        PriorityQueue<Suggestion> best = new PriorityQueue<>(Math.min(k, candidates.cardinality()) + 1);
+        for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+            int score = score(i, levelId, budget, studentTagIds);
+            if (best.size() < k) {
+                best.add(new Suggestion(i, score));
+            } else if (best.peek().isWorseThan(score, i)) {
+                best.poll();
+                best.add(new Suggestion(i, score));
+            }
+        }
+
+        Person[] ranked = new Person[best.size()];
+        for (int rank = ranked.length - 1; rank >= 0; rank--) {
+            ranked[rank] = persons.get(best.poll().position);
+        }
+        List<Person> suggestions = new ArrayList<>(ranked.length);
+        Collections.addAll(suggestions, ranked);
+        return suggestions;
+    }
+
+    /**
+     * Returns the score of the tutor at {@code position} for a student with the given features.
+     */
+    private int score(int position, int levelId, int budget, int[] studentTagIds) {
+        int score = levelIds[position] == levelId ? SCORE_SAME_LEVEL : 0;
+        for (int tagId : studentTagIds) {
+            for (int tutorTagId : tagIds[position]) {
+                if (tagId == tutorTagId) {
+                    score += SCORE_SHARED_TAG;
+                }
+            }
+        }
+        if (budget != Price.NO_AMOUNT && rates[position] != Price.NO_AMOUNT) {
+            score -= Math.abs(budget - rates[position]);
+        }
+        return score;
+    }
+
+    /**
+     * Returns the ids of {@code person}'s own tags, leaving out the tags that mirror its attributes.
+     * Tags not seen before are given ids only if {@code isStored}; a student queried for cannot share them.
+     */
+    private int[] toTagIds(Person person, boolean isStored) {
+        List<Integer> ids = new ArrayList<>();
+        for (Tag tag : person.getTags()) {
+            if (tag.tagType != Tag.AllTagTypes.DEFAULT) {
+                continue;
+            }
+            Integer id = isStored ? tagIdsByTag.computeIfAbsent(tag, unused -> tagIdsByTag.size())
+                    : tagIdsByTag.get(tag);
+            if (id != null) {
+                ids.add(id);
+            }
+        }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * A tutor's position in the person list, and its score. Ordered from worst to best.
+     */
+    private static class Suggestion implements Comparable<Suggestion> {
+        private final int position;
+        private final int score;
+
+        Suggestion(int position, int score) {
+            this.position = position;
+            this.score = score;
+        }
+
+        /**
+         * Returns true if this suggestion ranks below a tutor at {@code otherPosition} with {@code otherScore}.
+         */
+        boolean isWorseThan(int otherScore, int otherPosition) {
+            return score < otherScore || (score == otherScore && position > otherPosition);
+        }
+
+        @Override
+        public int compareTo(Suggestion other) {
+            if (score != other.score) {
+                return Integer.compare(score, other.score);
+            }
+            return Integer.compare(other.position, position);
+        }
+    }
+}
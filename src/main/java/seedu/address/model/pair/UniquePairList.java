@@ -3,12 +3,17 @@ package seedu.address.model.pair;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.pair.exceptions.DuplicatePairException;
 import seedu.address.model.pair.exceptions.PairNotFoundException;
 
@@ -16,6 +21,8 @@ import seedu.address.model.pair.exceptions.PairNotFoundException;
  * A list of pairs that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Each pair's position in the backing list is kept in a hash index, so duplicate checks and
+ * replacements do not need to scan the list.
  *
  * @see Pair#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -23,13 +30,26 @@ import seedu.address.model.pair.exceptions.PairNotFoundException;
 public class UniquePairList implements Iterable<Pair> {
 
     private final ObservableList<Pair> internalList = FXCollections.observableArrayList();
+    /** Maps every pair in {@code internalList} to its position in {@code internalList}. */
+    private final Map<Pair, Integer> positions = new HashMap<>();
+    /** Holds the same pairs as {@code internalList}, so that snapshots can be taken without copying. */
+    private PersistentList<Pair> persistentList = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent pair as the given argument.
      */
     public boolean contains(Pair toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the equivalent pair in the list, or -1 if there is none.
+     */
+    public int indexOf(Pair toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(toFind);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -42,9 +62,28 @@ public class UniquePairList implements Iterable<Pair> {
         if (contains(toAdd)) {
             throw new DuplicatePairException();
         }
+        positions.put(toAdd, internalList.size());
+        persistentList = persistentList.plus(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a pair into the list at {@code index}, shifting the pairs from that index onwards.
+     *
+     * @throws DuplicatePairException if the pair to add is a duplicate of an existing pair in the list.
+     */
+    public void add(int index, Pair toAdd) throws DuplicatePairException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePairException();
+        }
+        persistentList = persistentList.plus(index, toAdd);
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+    }
+
     /**
      * Replaces the pair {@code target} in the list with {@code editedPair}.
      *
@@ -55,15 +94,18 @@ public class UniquePairList implements Iterable<Pair> {
             throws DuplicatePairException, PairNotFoundException {
         requireNonNull(editedPair);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new PairNotFoundException();
         }
 
-        if (!target.equals(editedPair) && internalList.contains(editedPair)) {
+        if (!target.equals(editedPair) && contains(editedPair)) {
             throw new DuplicatePairException();
         }
 
+        positions.remove(target);
+        positions.put(editedPair, index);
+        persistentList = persistentList.with(index, editedPair);
         internalList.set(index, editedPair);
     }
 
@@ -72,21 +114,28 @@ public class UniquePairList implements Iterable<Pair> {
      *
      * @throws PairNotFoundException if no such pair could be found in the list.
      */
-    /*
     public boolean remove(Pair toRemove) throws PairNotFoundException {
         requireNonNull(toRemove);
-        final boolean pairFoundAndDeleted = internalList.remove(toRemove);
-        if (!pairFoundAndDeleted) {
+        final Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new PairNotFoundException();
         }
-        return pairFoundAndDeleted;
+        persistentList = persistentList.minus(index);
+        internalList.remove(index.intValue());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        return true;
     }
-    */
 
     public void setPairs(UniquePairList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
+        this.persistentList = replacement.persistentList;
     }
 
+
     public void setPairs(List<Pair> pairs) throws DuplicatePairException {
         requireAllNonNull(pairs);
         final UniquePairList replacement = new UniquePairList();
@@ -96,6 +145,56 @@ public class UniquePairList implements Iterable<Pair> {
         setPairs(replacement);
     }
 
+    /**
+     * Replaces every pair in the list with the result of applying {@code edit} to it, as a single change to
+     * the list. {@code edit} must return either the pair it is given or an equivalent pair.
+     *
+     * @return the number of pairs replaced.
+     */
+    public int replaceEquivalent(UnaryOperator<Pair> edit) {
+        requireNonNull(edit);
+        List<Pair> edited = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Pair pair = internalList.get(i);
+            Pair editedPair = edit.apply(pair);
+            assert pair.equals(editedPair) : "Replacements must be equivalent to the pairs they replace";
+            if (editedPair != pair) {
+                positions.remove(pair);
+                positions.put(editedPair, i);
+                persistentList = persistentList.with(i, editedPair);
+                replaced++;
+            }
+            edited.add(editedPair);
+        }
+        if (replaced > 0) {
+            internalList.setAll(edited);
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns an immutable snapshot of this list in constant time.
+     * The snapshot shares structure with this list and is not affected by later changes to it.
+     */
+    public PersistentList<Pair> snapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from a
+     * {@code UniquePairList} and therefore holds no duplicates.
+     */
+    public void restore(PersistentList<Pair> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setAll(snapshot);
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        persistentList = snapshot;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
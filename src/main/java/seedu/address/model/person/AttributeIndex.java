@@ -0,0 +1,238 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Indexes persons by the values of their {@code Subject}, {@code Level}, {@code Status}, {@code Role} and
+ * {@code Price}. For every attribute value, a bitmap records the positions (in the person list) of the persons
+ * holding it, so that keyword filters resolve to bitmap unions and intersections instead of a scan over all persons.
+ *
+ * The price bitmaps are kept sorted by price, so that a price range resolves to the union of the bitmaps of only
+ * the prices in the range, and composes with the other attributes like any keyword. The prices in the range are
+ * found in O(log d) for d distinct prices, but each of them costs a pass over its bitmap, so a range holding many
+ * distinct prices costs in proportion to their number times the length of the list.
+ *
+ * The owner of the person list is responsible for keeping positions in sync with the list.
+ */
+public class AttributeIndex {
+
+    /**
+     * The attributes covered by this index.
+     */
+    public enum Attribute { SUBJECT, LEVEL, STATUS, ROLE }
+
+    private final Map<Attribute, Map<String, BitSet>> bitmaps = new EnumMap<>(Attribute.class);
+    private final NavigableMap<Integer, BitSet> priceBitmaps = new TreeMap<>();
+
+    public AttributeIndex() {
+        for (Attribute attribute : Attribute.values()) {
+            bitmaps.put(attribute, new HashMap<>());
+        }
+    }
+
+    /**
+     * Records that {@code person} is at {@code position}.
+     * The position must be the end of the list, or a position previously vacated by {@link #set}.
+     */
+    public void add(Person person, int position) {
+        requireNonNull(person);
+        for (Attribute attribute : Attribute.values()) {
+            String key = keyOf(person, attribute);
+            if (key != null) {
+                bitmaps.get(attribute).computeIfAbsent(key, unused -> new BitSet()).set(position);
+            }
+        }
+        if (person.getPrice().hasAmount()) {
+            priceBitmaps.computeIfAbsent(person.getPrice().getAmount(), unused -> new BitSet()).set(position);
+        }
+    }
+
+    /**
+     * Records that the person at {@code position} has been replaced by {@code editedPerson}.
+     */
+    public void set(Person target, Person editedPerson, int position) {
+        requireNonNull(editedPerson);
+        clearPosition(target, position);
+        add(editedPerson, position);
+    }
+
+    /**
+     * Records that {@code person} has been inserted at {@code position},
+     * shifting every person from that position onwards one position up.
+     */
+    public void insert(Person person, int position) {
+        requireNonNull(person);
+        for (Map<String, BitSet> valueBitmaps : bitmaps.values()) {
+            valueBitmaps.replaceAll((value, bits) -> shiftUp(bits, position));
+        }
+        priceBitmaps.replaceAll((price, bits) -> shiftUp(bits, position));
+        add(person, position);
+    }
+
+    /**
+     * Records that {@code person} has been removed from {@code position},
+     * shifting every person after it one position down.
+     */
+    public void remove(Person person, int position) {
+        requireNonNull(person);
+        clearPosition(person, position);
+        for (Map<String, BitSet> valueBitmaps : bitmaps.values()) {
+            valueBitmaps.replaceAll((value, bits) -> shiftDown(bits, position));
+        }
+        priceBitmaps.replaceAll((price, bits) -> shiftDown(bits, position));
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    public void clear() {
+        bitmaps.values().forEach(Map::clear);
+        priceBitmaps.clear();
+    }
+
+    /**
+     * Returns the positions of the persons holding {@code value} for {@code attribute}.
+     * The returned bitmap is a copy and may be modified by the caller.
+     */
+    public BitSet lookup(Attribute attribute, String value) {
+        BitSet bits = bitmaps.get(attribute).get(value.toLowerCase());
+        return bits == null ? new BitSet() : (BitSet) bits.clone();
+    }
+
+    /**
+     * Returns the positions of the persons holding {@code keyword} for any of the indexed attributes.
+     */
+    public BitSet lookup(String keyword) {
+        BitSet result = new BitSet();
+        for (Attribute attribute : Attribute.values()) {
+            BitSet bits = bitmaps.get(attribute).get(keyword.toLowerCase());
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the positions of the persons whose price is within {@code range}, the union of the bitmaps of every
+     * distinct price in the range.
+     */
+    public BitSet lookup(PriceRange range) {
+        BitSet result = new BitSet();
+        priceBitmaps.subMap(range.min, true, range.max, true).values().forEach(result::or);
+        return result;
+    }
+
+    /**
+     * Returns the lower-cased values of {@code attribute} held by at least one person, in sorted order.
+     */
+    public SortedSet<String> values(Attribute attribute) {
+        SortedSet<String> values = new TreeSet<>();
+        bitmaps.get(attribute).forEach((value, bits) -> {
+            if (!bits.isEmpty()) {
+                values.add(value);
+            }
+        });
+        return values;
+    }
+
+    /**
+     * Clears {@code position} from the bitmaps of {@code person}'s attribute values.
+     */
+    private void clearPosition(Person person, int position) {
+        for (Attribute attribute : Attribute.values()) {
+            String key = keyOf(person, attribute);
+            BitSet bits = key == null ? null : bitmaps.get(attribute).get(key);
+            if (bits != null) {
+                bits.clear(position);
+            }
+        }
+        BitSet priceBits = priceBitmaps.get(person.getPrice().getAmount());
+        if (priceBits != null) {
+            priceBits.clear(position);
+            if (priceBits.isEmpty()) {
+                priceBitmaps.remove(person.getPrice().getAmount());
+            }
+        }
+    }
+
+    /**
+     * Returns {@code bits} with every bit above {@code position} moved one position down, dropping the bit at
+     * {@code position}. Whole 64-bit words are shifted at a time, so the cost is that of copying the bitmap once.
+     */
+    private static BitSet shiftDown(BitSet bits, int position) {
+        if (bits.length() <= position + 1) {
+            bits.clear(position);
+            return bits;
+        }
+        long[] words = bits.toLongArray();
+        int first = position / Long.SIZE;
+        long belowPosition = (1L << position) - 1;
+        for (int i = first; i < words.length; i++) {
+            long next = i + 1 < words.length ? words[i + 1] : 0;
+            long shifted = words[i] >>> 1 | next << (Long.SIZE - 1);
+            words[i] = i == first ? words[i] & belowPosition | shifted & ~belowPosition : shifted;
+        }
+        return BitSet.valueOf(words);
+    }
+
+    /**
+     * Returns {@code bits} with every bit from {@code position} onwards moved one position up, leaving the bit at
+     * {@code position} clear. Works a word at a time, as {@link #shiftDown} does.
+     */
+    private static BitSet shiftUp(BitSet bits, int position) {
+        if (bits.length() <= position) {
+            return bits;
+        }
+        long[] words = bits.toLongArray();
+        long[] shiftedWords = Arrays.copyOf(words, words.length + 1);
+        int first = position / Long.SIZE;
+        long belowPosition = (1L << position) - 1;
+        for (int i = words.length; i > first; i--) {
+            long current = i < words.length ? words[i] : 0;
+            shiftedWords[i] = current << 1 | words[i - 1] >>> (Long.SIZE - 1);
+        }
+        shiftedWords[first] = words[first] & belowPosition | (words[first] << 1) & (~belowPosition << 1);
+        return BitSet.valueOf(shiftedWords);
+    }
+
+    /**
+     * Returns the lower-cased value of {@code attribute} in {@code person}, or null if the person has none.
+     */
+    private static String keyOf(Person person, Attribute attribute) {
+        String value = valueOf(person, attribute);
+        return value == null ? null : value.toLowerCase();
+    }
+
+    /**
+     * Returns the value of {@code attribute} in {@code person}, or null if the person has none.
+     */
+    public static String valueOf(Person person, Attribute attribute) {
+        Object value;
+        switch (attribute) {
+        case SUBJECT:
+            value = person.getSubject();
+            break;
+        case LEVEL:
+            value = person.getLevel();
+            break;
+        case STATUS:
+            value = person.getStatus();
+            break;
+        default:
+            value = person.getRole();
+            break;
+        }
+        return value == null ? null : value.toString();
+    }
+}
@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Represents a Person's level in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidLevel(String)}
+ *
+ * There is one instance per level, shared by all persons: {@link #of(String)} returns it for every way of writing
+ * the level, so two instances are equal only if they are the same object.
  */
 public class Level {
 
@@ -23,40 +28,48 @@ public class Level {
             + "2. This is followed by a whitespace and then a number to represent the grade. "
             + "The grade must be consistent with the specific education system indicated earlier.\n";
 
+    /** The instance of each level, by each way of writing it in lower case, and by its value. */
+    private static final Map<String, Level> INSTANCES = createInstances();
+
     public final String value;
 
+    private Level(String fullLevel) {
+        this.value = new ProperCaseConverter().convertToProperCase(fullLevel);
+    }
+
     /**
-     * Constructs an {@code Level}.
+     * Returns the {@code Level} written as {@code level}, in any case or as a shortcut.
      *
      * @param level A valid level description.
      */
-    public Level(String level) {
+    public static Level of(String level) {
         requireNonNull(level);
-        level = validateLevel(level);
-        this.value = formatLevel(level);
-    }
-
-    private String formatLevel(String level) {
-        ProperCaseConverter pc = new ProperCaseConverter();
-        return pc.convertToProperCase(level);
+        Level instance = INSTANCES.get(level);
+        if (instance == null) {
+            instance = INSTANCES.get(level.toLowerCase());
+        }
+        checkArgument(instance != null, MESSAGE_LEVEL_CONSTRAINTS);
+        return instance;
     }
 
     /**
-     * check validity of the level string supplied
-     * @param level
-     * @return string representing a valid level
+     * Creates the instance of each level, and maps each way of writing it to the instance.
      */
-    private String validateLevel(String level) {
-        level.toLowerCase();
-        checkArgument(isValidLevel(level), MESSAGE_LEVEL_CONSTRAINTS);
-        level = convertToFullLevel(level);
-        return level;
+    private static Map<String, Level> createInstances() {
+        Map<String, Level> instances = new HashMap<>();
+        Map<String, Level> byFullName = new HashMap<>();
+        for (String written : LEVEL_VALUES) {
+            Level instance = byFullName.computeIfAbsent(toFullLevel(written), Level::new);
+            instances.put(written, instance);
+            instances.put(instance.value, instance);
+        }
+        return instances;
     }
 
     /**
      * Convert a shortcut to full level name
      */
-    public String convertToFullLevel(String original) {
+    private static String toFullLevel(String original) {
         String cur = original.toLowerCase();
         if (cur.equals("ls")) {
             cur = "lower sec";
@@ -74,8 +87,7 @@ public class Level {
      * Returns if a given string is a valid level description.
      */
     public static boolean isValidLevel(String test) {
-        test = test.toLowerCase();
-        return SET_ALL_LEVEL.contains(test);
+        return INSTANCES.containsKey(test) || INSTANCES.containsKey(test.toLowerCase());
     }
 
     @Override
@@ -85,9 +97,7 @@ public class Level {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Level // instanceof handles nulls
-                && this.value.equals(((Level) other).value)); // state check
+        return other == this; // instances are canonical
     }
 
     @Override
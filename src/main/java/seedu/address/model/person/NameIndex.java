@@ -0,0 +1,76 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An inverted index from the lower-cased words of persons' names to the persons whose name contains them,
+ * so that name keywords resolve to persons with one lookup per keyword instead of a scan over all persons.
+ */
+public class NameIndex {
+
+    private final Map<String, Set<Person>> personsByToken = new HashMap<>();
+
+    /**
+     * Adds {@code person} under every word of its name.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person.getName())) {
+            personsByToken.computeIfAbsent(token, unused -> new HashSet<>()).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under every word of its name.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person.getName())) {
+            Set<Person> persons = personsByToken.get(token);
+            if (persons != null) {
+                persons.remove(person);
+                if (persons.isEmpty()) {
+                    personsByToken.remove(token);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in this index.
+     */
+    public void set(Person target, Person editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Removes every person from this index.
+     */
+    public void clear() {
+        personsByToken.clear();
+    }
+
+    /**
+     * Returns the persons whose name contains any of the keywords in {@code predicate} as a full word,
+     * ignoring case. The returned set compares persons by identity and may be modified by the caller.
+     */
+    public Set<Person> resolve(NameContainsKeywordsPredicate predicate) {
+        Set<Person> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : predicate.getKeywords()) {
+            matches.addAll(personsByToken.getOrDefault(keyword.toLowerCase(), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    private static String[] tokensOf(Name name) {
+        return name.fullName.toLowerCase().split("\\s+");
+    }
+}
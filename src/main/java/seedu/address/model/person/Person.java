@@ -2,19 +2,25 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
-import seedu.address.model.tag.UniqueTagList;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
+ *
+ * A person added to an address book is given an id that stays the same through edits, and by which pairs refer
+ * to the person. Like tags, the id is not part of a person's identity in {@link #equals(Object)}.
  */
 public class Person {
 
+    /** The id of a person that has not been added to an address book yet. */
+    public static final long UNASSIGNED_ID = 0;
+
+    private final long id;
     private final Name name;
     private final Phone phone;
     private final Email email;
@@ -26,14 +32,23 @@ public class Person {
     private Status status;
     private final Remark remark;
 
-    private final UniqueTagList tags;
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Price price, Subject subject,
                   Level level, Status status, Role role, Set<Tag> tags, Remark remark) {
+        this(UNASSIGNED_ID, name, phone, email, address, price, subject, level, status, role, tags, remark);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address, Price price, Subject subject,
+                  Level level, Status status, Role role, Set<Tag> tags, Remark remark) {
         requireAllNonNull(name, phone, email, address, price, subject, level, status, tags);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -45,8 +60,19 @@ public class Person {
         this.status = status;
         this.remark = remark;
 
-        // protect internal tags from changes in the arg list
-        this.tags = new UniqueTagList(tags);
+        // protect internal tags from changes in the arg list, without copying tag sets already immutable
+        this.tags = TagSet.of(tags);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Returns a copy of this person with {@code id}.
+     */
+    public Person withId(long id) {
+        return new Person(id, name, phone, email, address, price, subject, level, status, role, getTags(), remark);
     }
 
     public Name getName() {
@@ -91,10 +117,17 @@ public class Person {
 
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
-     * if modification is attempted.
+     * if modification is attempted. The set is this person's own, not a copy.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.toSet());
+        return tags;
+    }
+
+    /**
+     * Returns true if this person has {@code tag}.
+     */
+    public boolean hasTag(Tag tag) {
+        return tags.contains(tag);
     }
 
     @Override
@@ -123,7 +156,8 @@ public class Person {
     @Override
     public int hashCode() {
         // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, price, subject, level, status, role, tags, remark);
+        // only hashes the fields compared in equals(Object), so that equal persons share a hash bucket
+        return Objects.hash(name, phone, email, address, price, subject, level, status, role);
     }
 
     @Override
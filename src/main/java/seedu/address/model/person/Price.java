@@ -5,27 +5,49 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 /**
  * Represents a Person's price in the address book.
+ * The amount is parsed once, when the price is created, so that comparing prices does not re-parse them.
+ * The value is kept without leading zeros, so that prices of the same amount are equal and tag the same price.
  * Guarantees: immutable; is valid as declared in {@link #isValidPrice(String)}
  */
 public class Price {
     public static final String MESSAGE_PRICE_CONSTRAINTS = "Price should be a positive integer\n";
 
-    public final String value;
+    /** The amount of a price that was not given. */
+    public static final int NO_AMOUNT = -1;
+
+    private static final String PRICE_VALIDATION_REGEX = "\\d{1,9}";
 
+    public final String value;
+    private final int amount;
 
     public Price(String price) {
         requireNonNull(price);
         if (!price.equals("")) {
             checkArgument(isValidPrice(price), MESSAGE_PRICE_CONSTRAINTS);
         }
-        this.value = price;
+        this.amount = price.isEmpty() ? NO_AMOUNT : Integer.parseInt(price);
+        this.value = price.isEmpty() ? price : Integer.toString(amount);
     }
 
     /**
-     * Returns if a given string is a valid status description.
+     * Returns if a given string is a valid price: empty, or a positive integer.
      */
     public static boolean isValidPrice(String test) {
-        return test.equals("") || (Integer.parseInt(test) > 0);
+        return test.equals("") || (test.matches(PRICE_VALIDATION_REGEX) && Integer.parseInt(test) > 0);
+    }
+
+    /**
+     * Returns true if a price was given.
+     */
+    public boolean hasAmount() {
+        return amount != NO_AMOUNT;
+    }
+
+    /**
+     * Returns the price as a number, or {@link #NO_AMOUNT} if no price was given.
+     */
+    public int getAmount() {
+        return amount;
     }
 
     @Override
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Represents an inclusive range of prices to filter persons by.
+ * Guarantees: immutable; is valid as declared in {@link #isValidPriceRange(String)}
+ */
+public class PriceRange {
+
+    public static final String MESSAGE_PRICE_RANGE_CONSTRAINTS = "Price ranges should be given as MIN-MAX, MIN- "
+            + "(at least MIN), -MAX (at most MAX) or PRICE, where MIN, MAX and PRICE are positive integers "
+            + "and MIN is not more than MAX";
+
+    private static final Pattern PRICE_RANGE_FORMAT = Pattern.compile("(?<min>\\d{1,9})?(?<dash>-)?(?<max>\\d{1,9})?");
+
+    public final int min;
+    public final int max;
+
+    /**
+     * Constructs a {@code PriceRange}.
+     *
+     * @param range A valid price range.
+     */
+    public PriceRange(String range) {
+        requireNonNull(range);
+        checkArgument(isValidPriceRange(range), MESSAGE_PRICE_RANGE_CONSTRAINTS);
+        Matcher matcher = PRICE_RANGE_FORMAT.matcher(range);
+        matcher.matches();
+        String min = matcher.group("min");
+        String max = matcher.group("max");
+        if (matcher.group("dash") == null) {
+            this.min = Integer.parseInt(min);
+            this.max = this.min;
+        } else {
+            this.min = min == null ? 1 : Integer.parseInt(min);
+            this.max = max == null ? Integer.MAX_VALUE : Integer.parseInt(max);
+        }
+    }
+
+    /**
+     * Returns true if a given string is a valid price range.
+     */
+    public static boolean isValidPriceRange(String test) {
+        Matcher matcher = PRICE_RANGE_FORMAT.matcher(test);
+        if (!matcher.matches() || (matcher.group("min") == null && matcher.group("max") == null)
+                || (matcher.group("dash") == null && matcher.group("max") != null)) {
+            return false;
+        }
+        int min = matcher.group("min") == null ? 1 : Integer.parseInt(matcher.group("min"));
+        int max = matcher.group("max") == null ? Integer.MAX_VALUE : Integer.parseInt(matcher.group("max"));
+        return min > 0 && min <= max;
+    }
+
+    /**
+     * Returns true if {@code price} was given and is within this range.
+     */
+    public boolean contains(Price price) {
+        return price.hasAmount() && price.getAmount() >= min && price.getAmount() <= max;
+    }
+
+    @Override
+    public String toString() {
+        return min + "-" + max;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PriceRange // instanceof handles nulls
+                && min == ((PriceRange) other).min
+                && max == ((PriceRange) other).max); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * min + max;
+    }
+}
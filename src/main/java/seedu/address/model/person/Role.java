@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Represents a Person's role in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidRole(String)}
+ *
+ * There is one instance per role, shared by all persons: {@link #of(String)} returns it for every way of writing
+ * the role, so two instances are equal only if they are the same object.
  */
 public class Role {
 
@@ -19,40 +24,48 @@ public class Role {
             + SET_ALL_ROLES.toString()
             + "\n";
 
+    /** The instance of each role, by each way of writing it in lower case, and by its value. */
+    private static final Map<String, Role> INSTANCES = createInstances();
+
     public final String value;
 
+    private Role(String fullRole) {
+        this.value = new ProperCaseConverter().convertToProperCase(fullRole);
+    }
+
     /**
-     * Constructs an {@code Role}.
+     * Returns the {@code Role} written as {@code role}, in any case or as a shortcut.
      *
      * @param role A valid role description.
      */
-    public Role(String role) {
+    public static Role of(String role) {
         requireNonNull(role);
-        role = validateRole(role);
-        this.value = formatRole(role);
-    }
-
-    private String formatRole(String role) {
-        ProperCaseConverter pc = new ProperCaseConverter();
-        return pc.convertToProperCase(role);
+        Role instance = INSTANCES.get(role);
+        if (instance == null) {
+            instance = INSTANCES.get(role.toLowerCase());
+        }
+        checkArgument(instance != null, MESSAGE_ROLE_CONSTRAINTS);
+        return instance;
     }
 
     /**
-     * check validity of the status string supplied
-     * @param role
-     * @return string representing a valid role
+     * Creates the instance of each role, and maps each way of writing it to the instance.
      */
-    private String validateRole(String role) {
-        role.toLowerCase();
-        checkArgument(isValidRole(role), MESSAGE_ROLE_CONSTRAINTS);
-        role = convertToFullRole(role);
-        return role;
+    private static Map<String, Role> createInstances() {
+        Map<String, Role> instances = new HashMap<>();
+        Map<String, Role> byFullName = new HashMap<>();
+        for (String written : ROLES_VALUES) {
+            Role instance = byFullName.computeIfAbsent(toFullRole(written), Role::new);
+            instances.put(written, instance);
+            instances.put(instance.value, instance);
+        }
+        return instances;
     }
 
     /**
      * Convert a shortcut to full role name
      */
-    public String convertToFullRole(String original) {
+    private static String toFullRole(String original) {
         String cur = original.toLowerCase();
         if (cur.equals("s")) {
             cur = "student";
@@ -67,8 +80,7 @@ public class Role {
      * Returns if a given string is a valid role description.
      */
     public static boolean isValidRole(String test) {
-        test = test.toLowerCase();
-        return SET_ALL_ROLES.contains(test);
+        return INSTANCES.containsKey(test) || INSTANCES.containsKey(test.toLowerCase());
     }
 
     @Override
@@ -78,9 +90,7 @@ public class Role {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Role // instanceof handles nulls
-                && this.value.equals(((Role) other).value)); // state check
+        return other == this; // instances are canonical
     }
 
     @Override
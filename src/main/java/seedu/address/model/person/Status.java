@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Represents a Person's status in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidStatus(String)}
+ *
+ * There is one instance per status, shared by all persons: {@link #of(String)} returns it for every way of writing
+ * the status, so two instances are equal only if they are the same object.
  */
 public class Status {
 
@@ -19,41 +24,49 @@ public class Status {
             + SET_ALL_STATUS.toString()
             + "\n";
 
+    /** The instance of each status, by each way of writing it in lower case, and by its value. */
+    private static final Map<String, Status> INSTANCES = createInstances();
+
     public final String value;
 
+    private Status(String fullStatus) {
+        this.value = new ProperCaseConverter().convertToProperCase(fullStatus);
+    }
+
     /**
-     * Constructs an {@code Status}.
+     * Returns the {@code Status} written as {@code status}, in any case or as a shortcut.
      *
-     * @param status A valid statust description.
+     * @param status A valid status description.
      */
-    public Status(String status) {
+    public static Status of(String status) {
         requireNonNull(status);
-        status = validateStatus(status);
-        this.value = formatStatus(status);
-    }
-
-    private String formatStatus(String status) {
-        ProperCaseConverter pc = new ProperCaseConverter();
-        return pc.convertToProperCase(status);
+        Status instance = INSTANCES.get(status);
+        if (instance == null) {
+            instance = INSTANCES.get(status.toLowerCase());
+        }
+        checkArgument(instance != null, MESSAGE_STATUS_CONSTRAINTS);
+        return instance;
     }
 
     /**
-     * check validity of the status string supplied
-     * @param status
-     * @return string representing a valid status
+     * Creates the instance of each status, and maps each way of writing it to the instance.
      */
-    private String validateStatus(String status) {
-        status.toLowerCase();
-        checkArgument(isValidStatus(status), MESSAGE_STATUS_CONSTRAINTS);
-        status = convertToFullStatus(status);
-        return status;
+    private static Map<String, Status> createInstances() {
+        Map<String, Status> instances = new HashMap<>();
+        Map<String, Status> byFullName = new HashMap<>();
+        for (String written : STATUS_VALUES) {
+            Status instance = byFullName.computeIfAbsent(toFullStatus(written), Status::new);
+            instances.put(written, instance);
+            instances.put(instance.value, instance);
+        }
+        return instances;
     }
 
 
     /**
      * Convert a shortcut to full status name
      */
-    public String convertToFullStatus(String original) {
+    private static String toFullStatus(String original) {
         String cur = original.toLowerCase();
         if (cur.equals("nm")) {
             cur = "not matched";
@@ -68,8 +81,7 @@ public class Status {
      * Returns if a given string is a valid status description.
      */
     public static boolean isValidStatus(String test) {
-        test = test.toLowerCase();
-        return SET_ALL_STATUS.contains(test);
+        return INSTANCES.containsKey(test) || INSTANCES.containsKey(test.toLowerCase());
     }
 
     @Override
@@ -79,9 +91,7 @@ public class Status {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Status // instanceof handles nulls
-                && this.value.equals(((Status) other).value)); // state check
+        return other == this; // instances are canonical
     }
 
     @Override
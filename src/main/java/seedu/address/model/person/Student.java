@@ -28,6 +28,6 @@ public class Student extends Person {
      */
     public Student(Name name, Phone phone, Email email, Address address,
                    Price price, Subject subject, Level level, Status status, Set<Tag> tags, Remark remark) {
-        super(name, phone, email, address, price, subject, level, status, new Role("student"), tags, remark);
+        super(name, phone, email, address, price, subject, level, status, Role.of("student"), tags, remark);
     }
 }
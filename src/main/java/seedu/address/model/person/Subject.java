@@ -4,11 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 /**
  * Represents a Person's subject in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidSubject(String)}
+ *
+ * There is one instance per subject, shared by all persons: {@link #of(String)} returns it for every way of writing
+ * the subject, so two instances are equal only if they are the same object.
  */
 public class Subject {
 
@@ -20,41 +25,48 @@ public class Subject {
             + SET_ALL_SUBJECT.toString()
             + "\n";
 
+    /** The instance of each subject, by each way of writing it in lower case, and by its value. */
+    private static final Map<String, Subject> INSTANCES = createInstances();
+
     public final String value;
 
+    private Subject(String fullSubject) {
+        this.value = new ProperCaseConverter().convertToProperCase(fullSubject);
+    }
+
     /**
-     * Constructs an {@code Subject}.
+     * Returns the {@code Subject} written as {@code subject}, in any case or as a shortcut.
      *
      * @param subject A valid subject description.
      */
-    public Subject(String subject) {
+    public static Subject of(String subject) {
         requireNonNull(subject);
-        subject = validateSubject(subject);
-        this.value = formatsubject(subject);
-    }
-
-    private String formatsubject(String subject) {
-        ProperCaseConverter pc = new ProperCaseConverter();
-        return pc.convertToProperCase(subject);
+        Subject instance = INSTANCES.get(subject);
+        if (instance == null) {
+            instance = INSTANCES.get(subject.toLowerCase());
+        }
+        checkArgument(instance != null, MESSAGE_SUBJECT_CONSTRAINTS);
+        return instance;
     }
 
     /**
-     * check validity of the subject string supplied
-     * @param subject
-     * @return string representing a valid subject
+     * Creates the instance of each subject, and maps each way of writing it to the instance.
      */
-    private String validateSubject(String subject) {
-
-        subject.toLowerCase();
-        checkArgument(isValidSubject(subject), MESSAGE_SUBJECT_CONSTRAINTS);
-        subject = convertToFullSubject(subject);
-        return subject;
+    private static Map<String, Subject> createInstances() {
+        Map<String, Subject> instances = new HashMap<>();
+        Map<String, Subject> byFullName = new HashMap<>();
+        for (String written : SUBJECT_VALUES) {
+            Subject instance = byFullName.computeIfAbsent(toFullSubject(written), Subject::new);
+            instances.put(written, instance);
+            instances.put(instance.value, instance);
+        }
+        return instances;
     }
 
     /**
      * Convert a shortcut to full subject name
      */
-    public String convertToFullSubject(String original) {
+    private static String toFullSubject(String original) {
         String cur = original.toLowerCase();
         if (cur.equals("eng")) {
             cur = "english";
@@ -73,8 +85,7 @@ public class Subject {
      * Returns if a given string is a valid subject description.
      */
     public static boolean isValidSubject(String test) {
-        test = test.toLowerCase();
-        return SET_ALL_SUBJECT.contains(test);
+        return INSTANCES.containsKey(test) || INSTANCES.containsKey(test.toLowerCase());
     }
 
     @Override
@@ -84,9 +95,7 @@ public class Subject {
 
     @Override
     public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof Subject // instanceof handles nulls
-                && this.value.equals(((Subject) other).value)); // state check
+        return other == this; // instances are canonical
     }
 
     @Override
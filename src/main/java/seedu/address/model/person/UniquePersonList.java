@@ -3,12 +3,20 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -16,6 +24,8 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Each person's position in the backing list is kept in a hash index, so duplicate checks and
+ * replacements do not need to scan the list.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
@@ -23,13 +33,26 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    /** Maps every person in {@code internalList} to its position in {@code internalList}. */
+    private final Map<Person, Integer> positions = new HashMap<>();
+    /** Holds the same persons as {@code internalList}, so that snapshots can be taken without copying. */
+    private PersistentList<Person> persistentList = PersistentList.empty();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return positions.containsKey(toCheck);
+    }
+
+    /**
+     * Returns the position of the equivalent person in the list, or -1 if there is none.
+     */
+    public int indexOf(Person toFind) {
+        requireNonNull(toFind);
+        Integer index = positions.get(toFind);
+        return index == null ? -1 : index;
     }
 
     /**
@@ -42,9 +65,26 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
+        persistentList = persistentList.plus(toAdd);
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons from that index onwards.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     */
+    public void add(int index, Person toAdd) throws DuplicatePersonException {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        persistentList = persistentList.plus(index, toAdd);
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      *
@@ -55,17 +95,60 @@ public class UniquePersonList implements Iterable<Person> {
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Integer index = positions.get(target);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        if (!target.equals(editedPerson) && contains(editedPerson)) {
             throw new DuplicatePersonException();
         }
+        positions.remove(target);
+        positions.put(editedPerson, index);
+        persistentList = persistentList.with(index, editedPerson);
         internalList.set(index, editedPerson);
     }
 
+    /**
+     * Replaces each person of {@code targets} in the list with the person at the same index in
+     * {@code editedPersons}. Every replacement is checked before any person is replaced, so that either all of
+     * them are replaced or none is.
+     *
+     * @throws DuplicatePersonException if a replacement is equivalent to another replacement, or to a person in
+     *     the list that is not replaced.
+     * @throws PersonNotFoundException if a person of {@code targets} could not be found in the list.
+     */
+    public void setEach(List<Person> targets, List<Person> editedPersons)
+            throws DuplicatePersonException, PersonNotFoundException {
+        requireAllNonNull(targets, editedPersons);
+        assert targets.size() == editedPersons.size();
+
+        BitSet replacedIndexes = new BitSet();
+        int[] indexes = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            Integer index = positions.get(targets.get(i));
+            if (index == null) {
+                throw new PersonNotFoundException();
+            }
+            indexes[i] = index;
+            replacedIndexes.set(index);
+        }
+        Set<Person> replacements = new HashSet<>();
+        for (Person editedPerson : editedPersons) {
+            Integer clashingIndex = positions.get(editedPerson);
+            if ((clashingIndex != null && !replacedIndexes.get(clashingIndex)) || !replacements.add(editedPerson)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        targets.forEach(positions::remove);
+        for (int i = 0; i < indexes.length; i++) {
+            positions.put(editedPersons.get(i), indexes[i]);
+            persistentList = persistentList.with(indexes[i], editedPersons.get(i));
+            internalList.set(indexes[i], editedPersons.get(i));
+        }
+    }
+
     /**
      * Removes the equivalent person from the list.
      *
@@ -73,17 +156,33 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean remove(Person toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        final Integer index = positions.remove(toRemove);
+        if (index == null) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        persistentList = persistentList.minus(index);
+        internalList.remove(index.intValue());
+        reindexFrom(index);
+        return true;
+    }
+
+    /**
+     * Refreshes the positions of all persons from {@code start} onwards after the list has shifted.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         this.internalList.setAll(replacement.internalList);
+        this.positions.clear();
+        this.positions.putAll(replacement.positions);
+        this.persistentList = replacement.persistentList;
     }
 
+
     public void setPersons(List<Person> persons) throws DuplicatePersonException {
         requireAllNonNull(persons);
         final UniquePersonList replacement = new UniquePersonList();
@@ -93,6 +192,54 @@ public class UniquePersonList implements Iterable<Person> {
         setPersons(replacement);
     }
 
+    /**
+     * Replaces every person in the list with the result of applying {@code edit} to it, as a single change to
+     * the list. {@code edit} must return either the person it is given or an equivalent person.
+     *
+     * @return the number of persons replaced.
+     */
+    public int replaceEquivalent(UnaryOperator<Person> edit) {
+        requireNonNull(edit);
+        List<Person> edited = new ArrayList<>(internalList.size());
+        int replaced = 0;
+        for (int i = 0; i < internalList.size(); i++) {
+            Person person = internalList.get(i);
+            Person editedPerson = edit.apply(person);
+            assert person.equals(editedPerson) : "Replacements must be equivalent to the persons they replace";
+            if (editedPerson != person) {
+                positions.remove(person);
+                positions.put(editedPerson, i);
+                persistentList = persistentList.with(i, editedPerson);
+                replaced++;
+            }
+            edited.add(editedPerson);
+        }
+        if (replaced > 0) {
+            internalList.setAll(edited);
+        }
+        return replaced;
+    }
+
+    /**
+     * Returns an immutable snapshot of this list in constant time.
+     * The snapshot shares structure with this list and is not affected by later changes to it.
+     */
+    public PersistentList<Person> snapshot() {
+        return persistentList;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code snapshot}, which must have been taken from a
+     * {@code UniquePersonList} and therefore holds no duplicates.
+     */
+    public void restore(PersistentList<Person> snapshot) {
+        requireNonNull(snapshot);
+        internalList.setAll(snapshot);
+        positions.clear();
+        reindexFrom(0);
+        persistentList = snapshot;
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -0,0 +1,135 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.function.ToIntFunction;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * The persons matched by a named {@link Query}, in person list order, kept up to date as persons are added,
+ * updated and removed instead of being filtered again.
+ *
+ * Each change to the person list is applied to the view after it is made, with the position in the person list
+ * it was made at. Only the person changed is tested against the query, and its place among the matched persons is
+ * found by a binary search over their positions, so applying a change takes O(log m) time for m matched persons,
+ * besides the time taken to shift the matched persons after it.
+ */
+public class MaterializedView {
+
+    private final String name;
+    private final Query query;
+    private final ToIntFunction<Person> positionOf;
+    private final ObservableList<Person> members = FXCollections.observableArrayList();
+    private final ObservableList<Person> unmodifiableMembers = FXCollections.unmodifiableObservableList(members);
+
+    /**
+     * @param positionOf returns the position of a person in the person list, or -1 if it is not in the list.
+     */
+    public MaterializedView(String name, Query query, ToIntFunction<Person> positionOf) {
+        this.name = requireNonNull(name);
+        this.query = requireNonNull(query);
+        this.positionOf = requireNonNull(positionOf);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Query getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns an unmodifiable view of the matched persons, in person list order.
+     */
+    public ObservableList<Person> getPersons() {
+        return unmodifiableMembers;
+    }
+
+    /**
+     * Replaces the matched persons with {@code matches}, which must be the persons matched by the query in person
+     * list order.
+     */
+    public void reset(Collection<Person> matches) {
+        members.setAll(matches);
+    }
+
+    /**
+     * Applies the addition of {@code person} to the end of the person list.
+     */
+    public void personAdded(Person person) {
+        if (query.test(person)) {
+            members.add(person);
+        }
+    }
+
+    /**
+     * Applies the insertion of {@code person} at {@code position} in the person list.
+     */
+    public void personAdded(Person person, int position) {
+        if (query.test(person)) {
+            members.add(firstMemberFrom(position), person);
+        }
+    }
+
+    /**
+     * Applies the removal of {@code target} from {@code position} in the person list.
+     */
+    public void personRemoved(Person target, int position) {
+        int index = indexOfMember(target, position);
+        if (index >= 0) {
+            members.remove(index);
+        }
+    }
+
+    /**
+     * Applies the replacement of {@code target} with {@code editedPerson} at {@code position} in the person list.
+     */
+    public void personUpdated(Person target, Person editedPerson, int position) {
+        boolean matches = query.test(editedPerson);
+        int index = indexOfMember(target, position);
+        if (index >= 0 && matches) {
+            members.set(index, editedPerson);
+        } else if (index >= 0) {
+            members.remove(index);
+        } else if (matches) {
+            members.add(firstMemberFrom(position), editedPerson);
+        }
+    }
+
+    /**
+     * Returns the index of {@code target} among the matched persons, or -1 if it is not matched. {@code target}
+     * was at {@code position} in the person list, and may no longer be in it.
+     */
+    private int indexOfMember(Person target, int position) {
+        int index = firstMemberFrom(position);
+        if (index < members.size() && members.get(index).equals(target)) {
+            return index;
+        } else if (index > 0 && members.get(index - 1).equals(target)) {
+            return index - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the first matched person at or after {@code position} in the person list.
+     * A matched person that is no longer in the person list counts as being before {@code position}.
+     */
+    private int firstMemberFrom(int position) {
+        int low = 0;
+        int high = members.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (positionOf.applyAsInt(members.get(mid)) < position) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PriceRange;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A filter over persons: a term, or other queries combined with AND, OR and NOT.
+ *
+ * A query can test persons one at a time, but is meant to be resolved through the model's indexes by a
+ * {@link QueryPlanner}. Queries compare equal if they have the same structure and terms.
+ */
+public abstract class Query implements Predicate<Person> {
+
+    public static Query keyword(String keyword) {
+        return new Keyword(keyword);
+    }
+
+    public static Query attribute(Attribute attribute, String value) {
+        return new AttributeIs(attribute, value);
+    }
+
+    public static Query tag(String tagName) {
+        return new HasTag(tagName);
+    }
+
+    public static Query price(PriceRange range) {
+        return new PriceIn(range);
+    }
+
+    public static Query name(List<String> keywords) {
+        return new NameHas(keywords);
+    }
+
+    /**
+     * Returns a query matching the persons matched by all of {@code operands}.
+     */
+    public static Query and(List<Query> operands) {
+        return operands.size() == 1 ? operands.get(0) : new And(operands);
+    }
+
+    /**
+     * Returns a query matching the persons matched by any of {@code operands}.
+     */
+    public static Query or(List<Query> operands) {
+        return operands.size() == 1 ? operands.get(0) : new Or(operands);
+    }
+
+    public static Query not(Query operand) {
+        return new Not(operand);
+    }
+
+    /**
+     * Matches persons whose subject, level, status or role is the keyword, ignoring case.
+     */
+    public static class Keyword extends Query {
+        public final String keyword;
+        private final KeywordPredicate predicate;
+
+        Keyword(String keyword) {
+            this.keyword = requireNonNull(keyword);
+            this.predicate = new KeywordPredicate(keyword);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return "any attribute = " + keyword;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Keyword && keyword.equals(((Keyword) other).keyword));
+        }
+
+        @Override
+        public int hashCode() {
+            return keyword.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons whose value of an attribute is the given value, ignoring case.
+     */
+    public static class AttributeIs extends Query {
+        public final Attribute attribute;
+        public final String value;
+
+        AttributeIs(Attribute attribute, String value) {
+            this.attribute = requireNonNull(attribute);
+            this.value = requireNonNull(value);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return value.equalsIgnoreCase(AttributeIndex.valueOf(person, attribute));
+        }
+
+        @Override
+        public String toString() {
+            return attribute.name().toLowerCase() + " = " + value;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof AttributeIs
+                    && attribute == ((AttributeIs) other).attribute
+                    && value.equals(((AttributeIs) other).value));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(attribute, value);
+        }
+    }
+
+    /**
+     * Matches persons with a tag of the given name.
+     */
+    public static class HasTag extends Query {
+        public final Tag tag;
+
+        HasTag(String tagName) {
+            this.tag = new Tag(tagName);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return person.getTags().contains(tag);
+        }
+
+        @Override
+        public String toString() {
+            return "tag = " + tag.tagName;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof HasTag && tag.equals(((HasTag) other).tag));
+        }
+
+        @Override
+        public int hashCode() {
+            return tag.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons whose price is within a range.
+     */
+    public static class PriceIn extends Query {
+        public final PriceRange range;
+
+        PriceIn(PriceRange range) {
+            this.range = requireNonNull(range);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return range.contains(person.getPrice());
+        }
+
+        @Override
+        public String toString() {
+            return "price " + range;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof PriceIn && range.equals(((PriceIn) other).range));
+        }
+
+        @Override
+        public int hashCode() {
+            return range.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons whose name contains any of the keywords as a full word, ignoring case.
+     */
+    public static class NameHas extends Query {
+        public final NameContainsKeywordsPredicate predicate;
+
+        NameHas(List<String> keywords) {
+            this.predicate = new NameContainsKeywordsPredicate(Collections.unmodifiableList(keywords));
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return "name has " + String.join(" ", predicate.getKeywords());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof NameHas && predicate.equals(((NameHas) other).predicate));
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.getKeywords().hashCode();
+        }
+    }
+
+    /**
+     * Matches persons matched by all of its operands.
+     */
+    public static class And extends Query {
+        public final List<Query> operands;
+
+        And(List<Query> operands) {
+            this.operands = Collections.unmodifiableList(operands);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().allMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Query::toString).collect(Collectors.joining(" and ", "(", ")"));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof And && operands.equals(((And) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons matched by any of its operands.
+     */
+    public static class Or extends Query {
+        public final List<Query> operands;
+
+        Or(List<Query> operands) {
+            this.operands = Collections.unmodifiableList(operands);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return operands.stream().anyMatch(operand -> operand.test(person));
+        }
+
+        @Override
+        public String toString() {
+            return operands.stream().map(Query::toString).collect(Collectors.joining(" or ", "(", ")"));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Or && operands.equals(((Or) other).operands));
+        }
+
+        @Override
+        public int hashCode() {
+            return operands.hashCode();
+        }
+    }
+
+    /**
+     * Matches persons not matched by its operand.
+     */
+    public static class Not extends Query {
+        public final Query operand;
+
+        Not(Query operand) {
+            this.operand = requireNonNull(operand);
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !operand.test(person);
+        }
+
+        @Override
+        public String toString() {
+            return "not " + operand;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof Not && operand.equals(((Not) other).operand));
+        }
+
+        @Override
+        public int hashCode() {
+            return ~operand.hashCode();
+        }
+    }
+}
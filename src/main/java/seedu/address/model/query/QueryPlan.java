@@ -0,0 +1,272 @@
+package seedu.address.model.query;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A {@link Query} planned by a {@link QueryPlanner}: a tree of steps that resolve the query's terms through
+ * indexes where possible and through scans otherwise, in the order chosen by the planner.
+ *
+ * Every step narrows down a set of candidate positions in the person list, so that later steps only look at the
+ * persons that earlier steps have not ruled out.
+ */
+public class QueryPlan {
+
+    private static final String INDENT = "  ";
+
+    private final Step root;
+    private final int personCount;
+
+    QueryPlan(Step root, int personCount) {
+        this.root = root;
+        this.personCount = personCount;
+    }
+
+    /**
+     * Returns the positions in the person list of the persons matched by the query.
+     */
+    public BitSet execute() {
+        BitSet all = new BitSet(personCount);
+        all.set(0, personCount);
+        return root.evaluate(all);
+    }
+
+    /**
+     * Returns the steps of this plan, one per line, indented under the step they belong to.
+     */
+    public String explain() {
+        StringBuilder builder = new StringBuilder();
+        root.describe(builder, 0);
+        return builder.toString().trim();
+    }
+
+    @Override
+    public String toString() {
+        return explain();
+    }
+
+    /**
+     * A step of a plan.
+     */
+    abstract static class Step {
+        /** The estimated number of persons matched by this step. */
+        final int estimate;
+
+        Step(int estimate) {
+            this.estimate = estimate;
+        }
+
+        /**
+         * Returns true if this step and all the steps under it resolve through indexes, without a scan.
+         */
+        abstract boolean isIndexed();
+
+        /**
+         * Returns the positions in {@code candidates} matched by this step. {@code candidates} is not modified.
+         */
+        abstract BitSet evaluate(BitSet candidates);
+
+        abstract String label();
+
+        List<Step> children() {
+            return Collections.emptyList();
+        }
+
+        /**
+         * Appends the label of this step to {@code builder} at {@code depth}, followed by the steps under it.
+         */
+        private void describe(StringBuilder builder, int depth) {
+            for (int i = 0; i < depth; i++) {
+                builder.append(INDENT);
+            }
+            builder.append(label()).append('\n');
+            children().forEach(child -> child.describe(builder, depth + 1));
+        }
+    }
+
+    /**
+     * Looks up the positions matched by a term in an index. The index is probed when the plan is made, so the
+     * estimate is exact.
+     */
+    static class IndexLookup extends Step {
+        private final String description;
+        private final BitSet matches;
+
+        IndexLookup(String description, BitSet matches) {
+            super(matches.cardinality());
+            this.description = description;
+            this.matches = matches;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return true;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = (BitSet) matches.clone();
+            result.and(candidates);
+            return result;
+        }
+
+        @Override
+        String label() {
+            return "INDEX " + description + " (" + estimate + ")";
+        }
+    }
+
+    /**
+     * Tests a term against every candidate person.
+     */
+    static class Scan extends Step {
+        private final Predicate<Person> predicate;
+        private final List<Person> persons;
+
+        Scan(Predicate<Person> predicate, List<Person> persons, int estimate) {
+            super(estimate);
+            this.predicate = predicate;
+            this.persons = persons;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return false;
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = new BitSet();
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                if (predicate.test(persons.get(i))) {
+                    result.set(i);
+                }
+            }
+            return result;
+        }
+
+        @Override
+        String label() {
+            return "SCAN " + predicate + " (est. " + estimate + ")";
+        }
+    }
+
+    /**
+     * Narrows the candidates through each of its steps in turn, stopping once none are left.
+     */
+    static class Intersection extends Step {
+        private final List<Step> steps;
+
+        Intersection(List<Step> steps, int estimate) {
+            super(estimate);
+            this.steps = steps;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return steps.stream().allMatch(Step::isIndexed);
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = candidates;
+            for (Step step : steps) {
+                if (result.isEmpty()) {
+                    break;
+                }
+                result = step.evaluate(result);
+            }
+            return result == candidates ? (BitSet) candidates.clone() : result;
+        }
+
+        @Override
+        String label() {
+            return "AND (est. " + estimate + ")";
+        }
+
+        @Override
+        List<Step> children() {
+            return steps;
+        }
+    }
+
+    /**
+     * Unites the matches of each of its steps, passing each step only the candidates not matched yet.
+     */
+    static class Union extends Step {
+        private final List<Step> steps;
+
+        Union(List<Step> steps, int estimate) {
+            super(estimate);
+            this.steps = steps;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return steps.stream().allMatch(Step::isIndexed);
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = new BitSet();
+            BitSet remaining = (BitSet) candidates.clone();
+            for (Step step : steps) {
+                if (remaining.isEmpty()) {
+                    break;
+                }
+                BitSet matches = step.evaluate(remaining);
+                result.or(matches);
+                remaining.andNot(matches);
+            }
+            return result;
+        }
+
+        @Override
+        String label() {
+            return "OR (est. " + estimate + ")";
+        }
+
+        @Override
+        List<Step> children() {
+            return steps;
+        }
+    }
+
+    /**
+     * Keeps the candidates not matched by its step.
+     */
+    static class Complement extends Step {
+        private final Step step;
+
+        Complement(Step step, int estimate) {
+            super(estimate);
+            this.step = step;
+        }
+
+        @Override
+        boolean isIndexed() {
+            return step.isIndexed();
+        }
+
+        @Override
+        BitSet evaluate(BitSet candidates) {
+            BitSet result = (BitSet) candidates.clone();
+            result.andNot(step.evaluate(candidates));
+            return result;
+        }
+
+        @Override
+        String label() {
+            return "NOT (est. " + estimate + ")";
+        }
+
+        @Override
+        List<Step> children() {
+            return Collections.singletonList(step);
+        }
+    }
+}
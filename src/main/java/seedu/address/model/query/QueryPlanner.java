@@ -0,0 +1,123 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.NameIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.QueryPlan.Complement;
+import seedu.address.model.query.QueryPlan.IndexLookup;
+import seedu.address.model.query.QueryPlan.Intersection;
+import seedu.address.model.query.QueryPlan.Scan;
+import seedu.address.model.query.QueryPlan.Step;
+import seedu.address.model.query.QueryPlan.Union;
+import seedu.address.model.tag.TagRegistry;
+
+/**
+ * Plans how a {@link Query} is resolved against the person list and its indexes.
+ *
+ * Subject, level, status, role, price and name terms are looked up in the attribute and name indexes, whose
+ * sizes are known exactly once looked up. Tags have no index of persons, so tag terms are scanned; the number of
+ * uses in the tag registry bounds their size, and a tag no one uses is resolved to no persons without a scan.
+ *
+ * The operands of an AND are ordered so that index lookups come before scans, each from the fewest estimated
+ * matches to the most, as every step only has to consider the persons left by the steps before it. The operands of
+ * an OR are ordered with index lookups first, each from the most estimated matches to the fewest, so that scans
+ * only test the persons that no lookup has matched.
+ */
+public class QueryPlanner {
+
+    private static final Comparator<Step> FEWEST_MATCHES_FIRST = Comparator.comparingInt(step -> step.estimate);
+
+    private final List<Person> persons;
+    private final AttributeIndex attributeIndex;
+    private final NameIndex nameIndex;
+    private final TagRegistry tags;
+    private final ToIntFunction<Person> positionOf;
+
+    /**
+     * @param persons the person list indexed by {@code attributeIndex} and {@code nameIndex}.
+     * @param positionOf returns the position of a person in {@code persons}.
+     */
+    public QueryPlanner(List<Person> persons, AttributeIndex attributeIndex, NameIndex nameIndex, TagRegistry tags,
+                        ToIntFunction<Person> positionOf) {
+        this.persons = requireNonNull(persons);
+        this.attributeIndex = requireNonNull(attributeIndex);
+        this.nameIndex = requireNonNull(nameIndex);
+        this.tags = requireNonNull(tags);
+        this.positionOf = requireNonNull(positionOf);
+    }
+
+    /**
+     * Returns the plan for {@code query}.
+     */
+    public QueryPlan plan(Query query) {
+        requireNonNull(query);
+        return new QueryPlan(toStep(query), persons.size());
+    }
+
+    /**
+     * Returns the step resolving {@code query}, with the steps for its operands planned under it.
+     */
+    private Step toStep(Query query) {
+        if (query instanceof Query.Keyword) {
+            return new IndexLookup(query.toString(), attributeIndex.lookup(((Query.Keyword) query).keyword));
+        } else if (query instanceof Query.AttributeIs) {
+            Query.AttributeIs term = (Query.AttributeIs) query;
+            return new IndexLookup(query.toString(), attributeIndex.lookup(term.attribute, term.value));
+        } else if (query instanceof Query.PriceIn) {
+            return new IndexLookup(query.toString(), attributeIndex.lookup(((Query.PriceIn) query).range));
+        } else if (query instanceof Query.NameHas) {
+            BitSet matches = new BitSet();
+            nameIndex.resolve(((Query.NameHas) query).predicate).forEach(person ->
+                    matches.set(positionOf.applyAsInt(person)));
+            return new IndexLookup(query.toString(), matches);
+        } else if (query instanceof Query.HasTag) {
+            int uses = tags.getUseCount(((Query.HasTag) query).tag);
+            return uses == 0
+                    ? new IndexLookup(query + " (unused tag)", new BitSet())
+                    : new Scan(query, persons, Math.min(uses, persons.size()));
+        } else if (query instanceof Query.And) {
+            return toIntersection(((Query.And) query).operands);
+        } else if (query instanceof Query.Or) {
+            return toUnion(((Query.Or) query).operands);
+        } else if (query instanceof Query.Not) {
+            Step step = toStep(((Query.Not) query).operand);
+            return new Complement(step, persons.size() - step.estimate);
+        }
+        throw new AssertionError("Unknown query " + query);
+    }
+
+    /**
+     * Returns the step for the AND of {@code operands}, with index lookups first, fewest matches first.
+     */
+    private Step toIntersection(List<Query> operands) {
+        List<Step> steps = toSteps(operands);
+        steps.sort(Comparator.comparing((Step step) -> !step.isIndexed()).thenComparing(FEWEST_MATCHES_FIRST));
+        int estimate = steps.stream().mapToInt(step -> step.estimate).min().orElse(persons.size());
+        return new Intersection(steps, estimate);
+    }
+
+    /**
+     * Returns the step for the OR of {@code operands}, with index lookups first, most matches first.
+     */
+    private Step toUnion(List<Query> operands) {
+        List<Step> steps = toSteps(operands);
+        steps.sort(Comparator.comparing((Step step) -> !step.isIndexed())
+                .thenComparing(FEWEST_MATCHES_FIRST.reversed()));
+        long total = steps.stream().mapToLong(step -> step.estimate).sum();
+        return new Union(steps, (int) Math.min(total, persons.size()));
+    }
+
+    private List<Step> toSteps(List<Query> operands) {
+        List<Step> steps = new ArrayList<>(operands.size());
+        operands.forEach(operand -> steps.add(toStep(operand)));
+        return steps;
+    }
+}
@@ -0,0 +1,190 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+
+/**
+ * The master tag list of an address book, with a count of the persons and pairs using each tag.
+ *
+ * Every tag in the list is interned: {@link #acquire(Set)} returns the list's own instance of each tag, so that
+ * all persons and pairs share one {@code Tag} object per tag. The persons and pairs with a single tag also share
+ * one {@link TagSet} per tag. A tag is removed from the list as soon as the last
+ * person or pair using it is released, so keeping the list in step with the persons and pairs costs time in
+ * the number of their tags only. Tags added through {@link #add(Tag)} or {@link #setTags(Set)} stay in the list
+ * until a person or pair using them is released.
+ */
+public class TagRegistry {
+
+    private final UniqueTagList tags = new UniqueTagList();
+    /** Maps every tag in {@code tags} to its entry. */
+    private final Map<Tag, Entry> entries = new HashMap<>();
+
+    /**
+     * Replaces the tags in the master list with {@code tags}, none of which is in use.
+     */
+    public void setTags(Set<Tag> tags) {
+        requireAllNonNull(tags);
+        this.tags.setTags(tags);
+        entries.clear();
+        for (Tag tag : this.tags) {
+            entries.put(tag, new Entry(tag));
+        }
+    }
+
+    /**
+     * Adds {@code toAdd}, which is not in use yet, to the master list.
+     *
+     * @throws UniqueTagList.DuplicateTagException if the tag is already in the master list.
+     */
+    public void add(Tag toAdd) throws UniqueTagList.DuplicateTagException {
+        requireNonNull(toAdd);
+        tags.add(toAdd);
+        entries.put(toAdd, new Entry(toAdd));
+    }
+
+    /**
+     * Records one more use of each of {@code used}, adding the tags that are not in the master list yet.
+     *
+     * @return the master list's instances of {@code used}.
+     */
+    public TagSet acquire(Set<Tag> used) {
+        requireAllNonNull(used);
+        List<Tag> interned = new ArrayList<>(used.size());
+        Entry lastEntry = null;
+        for (Tag tag : used) {
+            Entry entry = entries.get(tag);
+            if (entry == null) {
+                entry = new Entry(tag);
+                entries.put(tag, entry);
+                try {
+                    tags.add(tag);
+                } catch (UniqueTagList.DuplicateTagException dte) {
+                    throw new AssertionError("The master list holds exactly the tags with entries", dte);
+                }
+            }
+            entry.count++;
+            interned.add(entry.tag);
+            lastEntry = entry;
+        }
+        return interned.size() == 1 ? lastEntry.alone : TagSet.of(interned);
+    }
+
+    /**
+     * Records one less use of each of {@code used}, removing the tags that are no longer used from the master list.
+     */
+    public void release(Set<Tag> used) {
+        requireAllNonNull(used);
+        for (Tag tag : used) {
+            Entry entry = entries.get(tag);
+            assert entry != null && entry.count > 0 : "Releasing a tag that was not acquired";
+            if (--entry.count == 0) {
+                entries.remove(tag);
+                tags.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Moves all uses of {@code target} to {@code replacement}, and removes {@code target} from the master list.
+     * If {@code replacement} is not in the master list yet, it takes the place of {@code target} in the list, with
+     * the type of {@code target}. If {@code replacement} is null, the uses of {@code target} are dropped.
+     * The persons and pairs using {@code target} must then be given the returned tag instead.
+     *
+     * @return the master list's instance of {@code replacement}, or null if {@code replacement} is null or
+     *     {@code target} is not in the master list.
+     */
+    public Tag replace(Tag target, Tag replacement) {
+        requireNonNull(target);
+        if (target.equals(replacement)) {
+            Entry entry = entries.get(target);
+            return entry == null ? null : entry.tag;
+        }
+        Entry targetEntry = entries.remove(target);
+        if (targetEntry == null) {
+            return null;
+        }
+        if (replacement == null) {
+            tags.remove(target);
+            return null;
+        }
+
+        Entry replacementEntry = entries.get(replacement);
+        if (replacementEntry == null) {
+            replacementEntry = new Entry(new Tag(replacement.tagName, targetEntry.tag.tagType));
+            entries.put(replacementEntry.tag, replacementEntry);
+            tags.set(target, replacementEntry.tag);
+        } else {
+            tags.remove(target);
+        }
+        replacementEntry.count += targetEntry.count;
+        return replacementEntry.tag;
+    }
+
+    /**
+     * Makes the master list hold {@code tags}, in their order and as the instances given, keeping the use counts
+     * of the tags already in it. Every tag in use must be in {@code tags}. Used once the persons and pairs of an
+     * earlier state have been restored, to restore its master list too.
+     */
+    public void restore(List<Tag> tags) {
+        requireAllNonNull(tags);
+        Map<Tag, Entry> restoredEntries = new HashMap<>();
+        for (Tag tag : tags) {
+            Entry entry = entries.get(tag);
+            if (entry == null || entry.tag != tag) {
+                Entry restoredEntry = new Entry(tag);
+                restoredEntry.count = entry == null ? 0 : entry.count;
+                entry = restoredEntry;
+            }
+            restoredEntries.put(tag, entry);
+        }
+        assert entries.values().stream().allMatch(entry -> entry.count == 0 || restoredEntries.containsKey(entry.tag))
+                : "Every tag in use must be restored";
+        entries.clear();
+        entries.putAll(restoredEntries);
+        this.tags.setTags(new LinkedHashSet<>(tags));
+    }
+
+    /**
+     * Returns the number of persons and pairs using {@code tag}.
+     */
+    public int getUseCount(Tag tag) {
+        requireNonNull(tag);
+        Entry entry = entries.get(tag);
+        return entry == null ? 0 : entry.count;
+    }
+
+    public UniqueTagList getTags() {
+        return tags;
+    }
+
+    /**
+     * Returns the master list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Tag> asObservableList() {
+        return tags.asObservableList();
+    }
+
+    /**
+     * The master list's instance of a tag, and the number of persons and pairs using it.
+     */
+    private static class Entry {
+        private final Tag tag;
+        /** The tag set holding only {@code tag}. */
+        private final TagSet alone;
+        private int count;
+
+        Entry(Tag tag) {
+            this.tag = tag;
+            this.alone = TagSet.of(tag);
+        }
+    }
+}
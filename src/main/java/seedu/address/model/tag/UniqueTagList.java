@@ -16,12 +16,15 @@ import seedu.address.commons.util.CollectionUtil;
  * A list of tags that enforces no nulls and uniqueness between its elements.
  *
  * Supports minimal set of list operations for the app's features.
+ * Membership is tracked in a hash set alongside the backing list, so duplicate checks are constant time.
  *
  * @see Tag#equals(Object)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
     private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    /** Holds the same tags as {@code internalList}. */
+    private final Set<Tag> index = new HashSet<>();
 
     /**
      * Constructs empty TagList.
@@ -35,6 +38,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.addAll(tags);
+        index.addAll(tags);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -45,7 +49,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public Set<Tag> toSet() {
         assert CollectionUtil.elementsAreUnique(internalList);
-        return new HashSet<>(internalList);
+        return new HashSet<>(index);
     }
 
     /**
@@ -54,6 +58,8 @@ public class UniqueTagList implements Iterable<Tag> {
     public void setTags(Set<Tag> tags) {
         requireAllNonNull(tags);
         internalList.setAll(tags);
+        index.clear();
+        index.addAll(tags);
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
@@ -61,10 +67,11 @@ public class UniqueTagList implements Iterable<Tag> {
      * Ensures every tag in the argument list exists in this object.
      */
     public void mergeFrom(UniqueTagList from) {
-        final Set<Tag> alreadyInside = this.toSet();
-        from.internalList.stream()
-                .filter(tag -> !alreadyInside.contains(tag))
-                .forEach(internalList::add);
+        for (Tag tag : from.internalList) {
+            if (index.add(tag)) {
+                internalList.add(tag);
+            }
+        }
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
@@ -74,7 +81,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return index.contains(toCheck);
     }
 
     /**
@@ -87,11 +94,36 @@ public class UniqueTagList implements Iterable<Tag> {
         if (contains(toAdd)) {
             throw new DuplicateTagException();
         }
+        index.add(toAdd);
         internalList.add(toAdd);
 
         assert CollectionUtil.elementsAreUnique(internalList);
     }
 
+    /**
+     * Removes the equivalent tag from the list, if there is one.
+     */
+    public void remove(Tag toRemove) {
+        requireNonNull(toRemove);
+        if (index.remove(toRemove)) {
+            internalList.remove(toRemove);
+        }
+    }
+
+    /**
+     * Replaces the tag {@code target} in the list with {@code replacement}, which must not be in the list yet.
+     */
+    public void set(Tag target, Tag replacement) {
+        requireAllNonNull(target, replacement);
+        assert !contains(replacement);
+        int position = internalList.indexOf(target);
+        if (position != -1) {
+            index.remove(target);
+            index.add(replacement);
+            internalList.set(position, replacement);
+        }
+    }
+
     @Override
     public Iterator<Tag> iterator() {
         assert CollectionUtil.elementsAreUnique(internalList);
@@ -121,7 +153,7 @@ public class UniqueTagList implements Iterable<Tag> {
     public boolean equalsOrderInsensitive(UniqueTagList other) {
         assert CollectionUtil.elementsAreUnique(internalList);
         assert CollectionUtil.elementsAreUnique(other.internalList);
-        return this == other || new HashSet<>(this.internalList).equals(new HashSet<>(other.internalList));
+        return this == other || this.index.equals(other.index);
     }
 
     @Override
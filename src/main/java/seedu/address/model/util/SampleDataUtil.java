@@ -28,55 +28,55 @@ public class SampleDataUtil {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"),
                 new Price("100"),
-                new Subject("math"),
-                new Level("Upper Sec"),
-                new Status("Not Matched"),
-                new Role("Student"),
+                Subject.of("math"),
+                Level.of("Upper Sec"),
+                Status.of("Not Matched"),
+                Role.of("Student"),
                 getTagSet("friends"),
                 new Remark(" - ")),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
                 new Price("50"),
-                new Subject("English"),
-                new Level("Upper Sec"),
-                new Status("Not Matched"),
-                new Role("Student"),
+                Subject.of("English"),
+                Level.of("Upper Sec"),
+                Status.of("Not Matched"),
+                Role.of("Student"),
                 getTagSet("colleagues", "friends"),
                 new Remark("Very active, requires more attention.")),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
                 new Price("150"),
-                new Subject("chinese"),
-                new Level("Upper Sec"),
-                new Status("Not Matched"),
-                new Role("Student"),
+                Subject.of("chinese"),
+                Level.of("Upper Sec"),
+                Status.of("Not Matched"),
+                Role.of("Student"),
                 getTagSet("neighbours"),
                 new Remark("Hardworking but very weak in Chinese.")),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
                 new Price("70"),
-                new Subject("chinese"),
-                new Level("Upper Sec"),
-                new Status("Not Matched"),
-                new Role("Tutor"),
+                Subject.of("chinese"),
+                Level.of("Upper Sec"),
+                Status.of("Not Matched"),
+                Role.of("Tutor"),
                 getTagSet("family"),
                 new Remark("Friendly and approachable.")),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"),
                 new Price("20"),
-                new Subject("English"),
-                new Level("Lower Sec"),
-                new Status("Not Matched"),
-                new Role("Tutor"),
+                Subject.of("English"),
+                Level.of("Lower Sec"),
+                Status.of("Not Matched"),
+                Role.of("Tutor"),
                 getTagSet("classmates"),
                 new Remark("Bad tutor, very impatient.")),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"),
                 new Price("40"),
-                new Subject("English"),
-                new Level("Upper Sec"),
-                new Status("Not Matched"),
-                new Role("Tutor"),
+                Subject.of("English"),
+                Level.of("Upper Sec"),
+                Status.of("Not Matched"),
+                Role.of("Tutor"),
                 getTagSet("colleagues"),
                 new Remark("Generally friendly, but not detailed in teaching."))
         };
@@ -0,0 +1,46 @@
+package seedu.address.server;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Counts of the persons in an address book, as returned by the {@link ApiServer}, converted to JSON through its
+ * fields.
+ */
+class AddressBookStats {
+
+    private final int persons;
+    private final int pairs;
+    private final int tags;
+    private final Map<String, Integer> byRole;
+    private final Map<String, Integer> byStatus;
+    private final Map<String, Integer> bySubject;
+    private final Map<String, Integer> byLevel;
+
+    AddressBookStats(ReadOnlyAddressBook addressBook) {
+        persons = addressBook.getPersonList().size();
+        pairs = addressBook.getPairList().size();
+        tags = addressBook.getTagList().size();
+        byRole = new TreeMap<>();
+        byStatus = new TreeMap<>();
+        bySubject = new TreeMap<>();
+        byLevel = new TreeMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            count(byRole, person, p -> p.getRole().value);
+            count(byStatus, person, p -> p.getStatus().value);
+            count(bySubject, person, p -> p.getSubject().value);
+            count(byLevel, person, p -> p.getLevel().value);
+        }
+    }
+
+    /**
+     * Counts {@code person} towards the value {@code attribute} gives for it in {@code counts}.
+     */
+    private static void count(Map<String, Integer> counts, Person person, Function<Person, String> attribute) {
+        counts.merge(attribute.apply(person), 1, Integer::sum);
+    }
+}
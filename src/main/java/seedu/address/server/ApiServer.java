@@ -0,0 +1,389 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FilterCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.QueryParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves the address book to clients on the same machine as a JSON API over HTTP, without the GUI.
+ *
+ * <ul>
+ *     <li>{@code GET /persons} lists all persons; with {@code ?find=KEYWORDS} or {@code ?filter=QUERY}, only the
+ *     persons the {@code find} or {@code filter} command would list.</li>
+ *     <li>{@code GET /stats} counts the persons by role, status, subject and level.</li>
+ *     <li>{@code POST /commands} with {@code {"command": "COMMAND"}} runs a command as if it were typed into the
+ *     command box, and returns its feedback.</li>
+ * </ul>
+ * Failures are returned as {@code {"error": "MESSAGE"}}.
+ *
+ * Only clients on this machine may use the server. Requests are refused unless their {@code Host} is a loopback
+ * name or address, so that a web page cannot reach the server by rebinding its own host name to the loopback
+ * address, and unless their {@code Origin}, if any, is also on this machine. Commands must be sent as
+ * {@code application/json}, which a web page cannot send to another origin without the browser asking first.
+ *
+ * Queries read an immutable snapshot of the address book, so any number of them run at once on a pool of threads.
+ * Commands are run one at a time on a single writer thread, which publishes a new snapshot after each one.
+ */
+public class ApiServer {
+
+    public static final String PERSONS_PATH = "/persons";
+    public static final String STATS_PATH = "/stats";
+    public static final String COMMANDS_PATH = "/commands";
+
+    public static final String FIND_PARAMETER = "find";
+    public static final String FILTER_PARAMETER = "filter";
+
+    public static final String MESSAGE_METHOD_NOT_ALLOWED = "%1$s is not supported by %2$s";
+    public static final String MESSAGE_INVALID_REQUEST = "The request body should be {\"command\": \"COMMAND\"}";
+    public static final String MESSAGE_INTERNAL_ERROR = "The request could not be handled";
+    public static final String MESSAGE_FORBIDDEN = "Only requests from this machine are accepted";
+    public static final String MESSAGE_UNSUPPORTED_MEDIA_TYPE = "Commands must be sent as application/json";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_FORBIDDEN = 403;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int HTTP_UNSUPPORTED_MEDIA_TYPE = 415;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int WRITER_STOP_TIMEOUT_SECONDS = 5;
+    private static final int CONNECTION_BACKLOG = 128;
+    private static final String JSON_MEDIA_TYPE = "application/json";
+    /** Host names and addresses of this machine, as given in a {@code Host} header without the port. */
+    private static final List<String> LOOPBACK_HOSTS = Arrays.asList("localhost", "127.0.0.1", "[::1]");
+
+    static {
+        // the headers and the body of a response are written separately, and without this the body waits for the
+        // client to acknowledge the headers, which it may delay by up to 40 ms
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final Logic logic;
+    private final Model model;
+    private final HttpServer server;
+    private final ExecutorService readers;
+    private final ExecutorService writer;
+    private volatile ReadOnlyAddressBook snapshot;
+
+    /**
+     * Creates a server for {@code logic} and {@code model} on {@code port} of the loopback address, or on any free
+     * port if {@code port} is 0. Nothing else may change {@code model} while the server is running.
+     *
+     * @param readerThreads the number of requests handled at once.
+     * @throws IOException if the port cannot be bound.
+     */
+    public ApiServer(Logic logic, Model model, int port, int readerThreads) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(model);
+        this.logic = logic;
+        this.model = model;
+        this.snapshot = model.getAddressBookSnapshot();
+        this.readers = Executors.newFixedThreadPool(readerThreads, createThreadFactory("api-reader"));
+        this.writer = Executors.newSingleThreadExecutor(createThreadFactory("api-writer"));
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), CONNECTION_BACKLOG);
+        server.setExecutor(readers);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, "GET", this::getPersons));
+        server.createContext(STATS_PATH, exchange -> handle(exchange, "GET", unused -> new AddressBookStats(snapshot)));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, "POST", this::runCommand));
+    }
+
+    /**
+     * Starts accepting requests.
+     */
+    public void start() {
+        server.start();
+        logger.info("Serving the address book at http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                + getPort());
+    }
+
+    /**
+     * Stops accepting requests, and waits for the commands already received to finish, so that all their changes
+     * can be saved. Their responses may not be sent.
+     */
+    public void stop() {
+        server.stop(0);
+        writer.shutdown();
+        readers.shutdown();
+        try {
+            writer.awaitTermination(WRITER_STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Returns the persons in the latest snapshot matched by the {@code find} or {@code filter} query parameter, or
+     * all of them if there is neither.
+     */
+    private List<JsonAdaptedPerson> getPersons(HttpExchange exchange) throws ParseException {
+        Map<String, String> parameters = getQueryParameters(exchange);
+        Predicate<Person> predicate = person -> true;
+        if (parameters.containsKey(FIND_PARAMETER)) {
+            String keywords = parameters.get(FIND_PARAMETER).trim();
+            if (keywords.isEmpty()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+            }
+            predicate = new NameContainsKeywordsPredicate(Arrays.asList(keywords.split("\\s+")));
+        } else if (parameters.containsKey(FILTER_PARAMETER)) {
+            predicate = QueryParser.parseQuery(parameters.get(FILTER_PARAMETER), FilterCommand.MESSAGE_USAGE);
+        }
+        return snapshot.getPersonList().stream()
+                .filter(predicate)
+                .map(JsonAdaptedPerson::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Runs the command in the body of the request on the writer thread, and returns its feedback.
+     */
+    private Map<String, String> runCommand(HttpExchange exchange) throws IOException, CommandException,
+            ParseException {
+        CommandRequest request;
+        try {
+            request = JsonUtil.fromJsonString(readBody(exchange), CommandRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(MESSAGE_INVALID_REQUEST);
+        }
+        if (request == null || request.command == null) {
+            throw new ParseException(MESSAGE_INVALID_REQUEST);
+        }
+        CommandResult result = executeOnWriter(request.command);
+        return Collections.singletonMap("feedback", result.feedbackToUser);
+    }
+
+    /**
+     * Executes {@code commandText} on the writer thread, then publishes a snapshot of the address book as changed
+     * by it for the queries that follow.
+     */
+    private CommandResult executeOnWriter(String commandText) throws CommandException, ParseException {
+        Future<CommandResult> result = writer.submit(() -> {
+            try {
+                return logic.execute(commandText);
+            } finally {
+                snapshot = model.getAddressBookSnapshot();
+            }
+        });
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof CommandException) {
+                throw (CommandException) e.getCause();
+            }
+            if (e.getCause() instanceof ParseException) {
+                throw (ParseException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Responds to {@code exchange} with the result of {@code handler} as JSON, if the request comes from this
+     * machine and uses {@code method}, with a JSON body if it has one, or with the error that prevented it.
+     */
+    private void handle(HttpExchange exchange, String method, RequestHandler handler) throws IOException {
+        try {
+            if (!isFromThisMachine(exchange)) {
+                logger.warning("Refused a request for " + exchange.getRequestURI() + " to host "
+                        + exchange.getRequestHeaders().getFirst("Host") + " from origin "
+                        + exchange.getRequestHeaders().getFirst("Origin"));
+                respond(exchange, HTTP_FORBIDDEN, error(MESSAGE_FORBIDDEN));
+                return;
+            }
+            if (!exchange.getRequestMethod().equals(method)) {
+                respond(exchange, HTTP_BAD_METHOD, error(String.format(MESSAGE_METHOD_NOT_ALLOWED,
+                        exchange.getRequestMethod(), exchange.getHttpContext().getPath())));
+                return;
+            }
+            if (method.equals("POST") && !isJson(exchange)) {
+                respond(exchange, HTTP_UNSUPPORTED_MEDIA_TYPE, error(MESSAGE_UNSUPPORTED_MEDIA_TYPE));
+                return;
+            }
+            respond(exchange, HTTP_OK, handler.handle(exchange));
+        } catch (CommandException | ParseException e) {
+            respond(exchange, HTTP_BAD_REQUEST, error(e.getMessage()));
+        } catch (RuntimeException e) {
+            logger.log(Level.WARNING, "Failed to handle " + exchange.getRequestURI(), e);
+            respond(exchange, HTTP_INTERNAL_ERROR, error(MESSAGE_INTERNAL_ERROR));
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Returns true if the request was sent to a loopback host, and comes from no web page or from a page served by
+     * a loopback host.
+     */
+    private static boolean isFromThisMachine(HttpExchange exchange) {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        if (host == null || !isLoopback(host)) {
+            return false;
+        }
+        String origin = exchange.getRequestHeaders().getFirst("Origin");
+        if (origin == null) {
+            return true;
+        }
+        String scheme = "http://";
+        return origin.toLowerCase().startsWith(scheme) && isLoopback(origin.substring(scheme.length()));
+    }
+
+    /**
+     * Returns true if {@code hostAndPort}, a host optionally followed by a port, names a loopback host.
+     */
+    private static boolean isLoopback(String hostAndPort) {
+        String host = hostAndPort.trim().toLowerCase();
+        int portSeparator = host.lastIndexOf(':');
+        if (portSeparator > host.lastIndexOf(']')) {
+            host = host.substring(0, portSeparator);
+        }
+        return LOOPBACK_HOSTS.contains(host);
+    }
+
+    /**
+     * Returns true if the body of the request is declared as JSON.
+     */
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        return contentType != null
+                && contentType.split(";", 2)[0].trim().equalsIgnoreCase(JSON_MEDIA_TYPE);
+    }
+
+    private static Map<String, String> error(String message) {
+        return Collections.singletonMap("error", message);
+    }
+
+    /**
+     * Sends {@code body} as JSON with {@code status}.
+     */
+    private static void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtil.toSingleLineJsonString(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * Returns the body of the request as text.
+     */
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream requestBody = exchange.getRequestBody()) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = requestBody.read(buffer); read != -1; read = requestBody.read(buffer)) {
+                bytes.write(buffer, 0, read);
+            }
+            return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Returns the decoded parameters of the query string of the request, by name.
+     */
+    private static Map<String, String> getQueryParameters(HttpExchange exchange) {
+        Map<String, String> parameters = new HashMap<>();
+        String query = exchange.getRequestURI().getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        for (String parameter : query.split("&")) {
+            int separator = parameter.indexOf('=');
+            if (separator > 0) {
+                parameters.put(decode(parameter.substring(0, separator)), decode(parameter.substring(separator + 1)));
+            }
+        }
+        return parameters;
+    }
+
+    /**
+     * Returns {@code text} decoded from a query string.
+     */
+    private static String decode(String text) {
+        try {
+            return URLDecoder.decode(text, StandardCharsets.UTF_8.name());
+        } catch (UnsupportedEncodingException e) {
+            throw new AssertionError("UTF-8 is always supported", e);
+        }
+    }
+
+    /**
+     * Returns a factory of daemon threads named after {@code name}, so that they do not keep the app running.
+     */
+    private static ThreadFactory createThreadFactory(String name) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * Produces the body of the response to a request.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Object handle(HttpExchange exchange) throws IOException, CommandException, ParseException;
+    }
+
+    /**
+     * The body of a request to run a command, converted from JSON through its fields.
+     */
+    private static class CommandRequest {
+        private String command;
+    }
+}
@@ -0,0 +1,40 @@
+package seedu.address.server;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A Person as returned by the {@link ApiServer}, converted to JSON through its fields.
+ */
+class JsonAdaptedPerson {
+
+    private final long id;
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String price;
+    private final String subject;
+    private final String level;
+    private final String status;
+    private final String role;
+    private final String remark;
+    private final List<String> tags;
+
+    JsonAdaptedPerson(Person source) {
+        id = source.getId();
+        name = source.getName().fullName;
+        phone = source.getPhone().value;
+        email = source.getEmail().value;
+        address = source.getAddress().value;
+        price = source.getPrice().value;
+        subject = source.getSubject().value;
+        level = source.getLevel().value;
+        status = source.getStatus().value;
+        role = source.getRole().value;
+        remark = source.getRemark().value;
+        tags = source.getTags().stream().map(tag -> tag.tagName).sorted().collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Builds an {@code AddressBook} from the adapted records read from a data file.
+ * Records are handed over in file order, in chunks that are validated and converted to model types on the
+ * common fork-join pool while the file is still being read. {@link #finish()} then merges all tags into the
+ * master tag list at once and inserts the persons and pairs in bulk, in file order.
+ *
+ * Invalid records do not stop the load; all of them are reported together, with their positions, by
+ * {@link #finish()}.
+ */
+public class AddressBookLoader {
+
+    public static final int CHUNK_SIZE = 512;
+
+    public static final String MESSAGE_INVALID_RECORDS = "Found %d invalid records:";
+    public static final String MESSAGE_INVALID_RECORD = "%s #%d: %s";
+    public static final String MESSAGE_DUPLICATE_RECORD = "%s #%d: duplicate of %s #%d";
+
+    private static final String TAG = "tag";
+    private static final String PERSON = "person";
+    private static final String PAIR = "pair";
+
+    private final List<XmlAdaptedTag> tags = new ArrayList<>();
+    private final List<ForkJoinTask<Chunk<Person>>> personChunks = new ArrayList<>();
+    private final List<ForkJoinTask<Chunk<Pair>>> pairChunks = new ArrayList<>();
+    private List<XmlAdaptedPerson> pendingPersons = new ArrayList<>();
+    private List<XmlAdaptedPair> pendingPairs = new ArrayList<>();
+    private int personCount = 0;
+    private int pairCount = 0;
+
+    /**
+     * Converts the given records, in order, into an {@code AddressBook}.
+     *
+     * @throws IllegalValueException listing every record that violates data constraints or is a duplicate.
+     */
+    public static AddressBook load(List<XmlAdaptedTag> tags, List<XmlAdaptedPerson> persons,
+                                   List<XmlAdaptedPair> pairs) throws IllegalValueException {
+        AddressBookLoader loader = new AddressBookLoader();
+        tags.forEach(loader::addTag);
+        persons.forEach(loader::addPerson);
+        pairs.forEach(loader::addPair);
+        return loader.finish();
+    }
+
+    /**
+     * Adds the next tag of the master tag list.
+     */
+    public void addTag(XmlAdaptedTag tag) {
+        tags.add(tag);
+    }
+
+    /**
+     * Adds the next person, starting the conversion of a chunk if it is full.
+     */
+    public void addPerson(XmlAdaptedPerson person) {
+        pendingPersons.add(person);
+        if (pendingPersons.size() == CHUNK_SIZE) {
+            submitPersons();
+        }
+    }
+
+    /**
+     * Adds the next pair, starting the conversion of a chunk if it is full.
+     */
+    public void addPair(XmlAdaptedPair pair) {
+        pendingPairs.add(pair);
+        if (pendingPairs.size() == CHUNK_SIZE) {
+            submitPairs();
+        }
+    }
+
+    /**
+     * Waits for all chunks to be converted, and returns the {@code AddressBook} holding the added records.
+     *
+     * @throws IllegalValueException listing every record that violates data constraints or is a duplicate.
+     */
+    public AddressBook finish() throws IllegalValueException {
+        submitPersons();
+        submitPairs();
+        List<String> errors = new ArrayList<>();
+
+        Set<Tag> masterTags = new LinkedHashSet<>();
+        Map<Tag, Integer> tagPositions = new HashMap<>();
+        for (int i = 0; i < tags.size(); i++) {
+            try {
+                Tag tag = tags.get(i).toModelType();
+                addUnique(tag, i, TAG, tagPositions, errors);
+                masterTags.add(tag);
+            } catch (IllegalValueException ive) {
+                errors.add(String.format(MESSAGE_INVALID_RECORD, TAG, i + 1, ive.getMessage()));
+            }
+        }
+
+        List<Person> persons = collect(personChunks, PERSON, errors);
+        List<Pair> pairs = collect(pairChunks, PAIR, errors);
+        if (!errors.isEmpty()) {
+            errors.add(0, String.format(MESSAGE_INVALID_RECORDS, errors.size()));
+            throw new IllegalValueException(String.join("\n", errors));
+        }
+
+        for (Person person : persons) {
+            masterTags.addAll(person.getTags());
+        }
+        AddressBook addressBook = new AddressBook();
+        addressBook.setTags(masterTags);
+        try {
+            addressBook.setPersons(persons);
+            addressBook.setPairs(pairs);
+        } catch (DuplicatePersonException | DuplicatePairException e) {
+            throw new AssertionError("Duplicates should have been reported above", e);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Starts converting the persons added since the last chunk was submitted.
+     */
+    private void submitPersons() {
+        if (!pendingPersons.isEmpty()) {
+            personChunks.add(submit(pendingPersons, personCount, XmlAdaptedPerson::toModelType));
+            personCount += pendingPersons.size();
+            pendingPersons = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Starts converting the pairs added since the last chunk was submitted.
+     */
+    private void submitPairs() {
+        if (!pendingPairs.isEmpty()) {
+            pairChunks.add(submit(pendingPairs, pairCount, XmlAdaptedPair::toModelType));
+            pairCount += pendingPairs.size();
+            pendingPairs = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Starts converting {@code records}, the first of which is at {@code offset} in the file, on the common pool.
+     */
+    private static <A, M> ForkJoinTask<Chunk<M>> submit(List<A> records, int offset, Converter<A, M> converter) {
+        return ForkJoinPool.commonPool().submit(() -> {
+            Chunk<M> chunk = new Chunk<>(offset, records.size());
+            for (A record : records) {
+                try {
+                    chunk.converted.add(converter.convert(record));
+                } catch (IllegalValueException ive) {
+                    chunk.converted.add(null);
+                    chunk.errors.add(ive.getMessage());
+                }
+            }
+            return chunk;
+        });
+    }
+
+    /**
+     * Joins {@code chunks} in file order and returns the records they converted, adding to {@code errors} the
+     * records that failed to convert or duplicate an earlier record.
+     */
+    private static <M> List<M> collect(List<ForkJoinTask<Chunk<M>>> chunks, String kind, List<String> errors) {
+        List<M> records = new ArrayList<>();
+        Map<M, Integer> positions = new HashMap<>();
+        for (ForkJoinTask<Chunk<M>> task : chunks) {
+            Chunk<M> chunk = task.join();
+            int errorIndex = 0;
+            for (int i = 0; i < chunk.converted.size(); i++) {
+                int position = chunk.offset + i;
+                M record = chunk.converted.get(i);
+                if (record == null) {
+                    errors.add(String.format(MESSAGE_INVALID_RECORD, kind, position + 1,
+                            chunk.errors.get(errorIndex++)));
+                } else if (addUnique(record, position, kind, positions, errors)) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Records that {@code record} is at {@code position}, unless an equal record was seen before,
+     * in which case the duplicate is added to {@code errors}.
+     *
+     * @return true if {@code record} had not been seen before.
+     */
+    private static <M> boolean addUnique(M record, int position, String kind, Map<M, Integer> positions,
+                                         List<String> errors) {
+        Integer firstPosition = positions.putIfAbsent(record, position);
+        if (firstPosition != null) {
+            errors.add(String.format(MESSAGE_DUPLICATE_RECORD, kind, position + 1, kind, firstPosition + 1));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Converts an adapted record into its model type.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A record) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting a run of consecutive records. Records that failed to convert are null in
+     * {@code converted}, and their error messages are in {@code errors}, in the same order.
+     */
+    private static class Chunk<M> {
+        private final int offset;
+        private final List<M> converted;
+        private final List<String> errors = new ArrayList<>();
+
+        Chunk(int offset, int size) {
+            this.offset = offset;
+            this.converted = new ArrayList<>(size);
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address book data files in a compact binary format.
+ *
+ * A file starts with a magic number and a format version, followed by a dictionary of the strings that repeat
+ * across records: tags, prices, subjects, levels, statuses and roles. Records refer to these by their position
+ * in the dictionary, and hold the remaining fields as length-prefixed UTF-8 strings. All counts, lengths and
+ * positions are written as variable-length integers.
+ *
+ * Since version 2, each person record starts with the person's id, and each pair record with the ids of the pair,
+ * its student and its tutor, with 0 for an id not yet given. Files of version 1 are still read, leaving the ids to
+ * be given when the address book is loaded.
+ */
+public class BinaryAddressBookCodec {
+
+    /** The current version of the format. Bump it whenever the layout changes. */
+    public static final int FORMAT_VERSION = 2;
+    /** The oldest version of the format that can still be read. */
+    public static final int OLDEST_READABLE_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "File is not a binary address book file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary address book format version %d";
+    public static final String MESSAGE_INVALID_DICTIONARY_POSITION = "Invalid dictionary position %d";
+
+    private static final int MAGIC = 0x41424B42; // "ABKB"
+
+    /**
+     * Saves {@code addressBook} to {@code file} in the binary format.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        Map<String, Integer> dictionary = buildDictionary(addressBook);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            writeVarInt(out, FORMAT_VERSION);
+
+            writeVarInt(out, dictionary.size());
+            for (String value : dictionary.keySet()) {
+                writeString(out, value);
+            }
+
+            writeVarInt(out, addressBook.getTagList().size());
+            for (Tag tag : addressBook.getTagList()) {
+                writeVarInt(out, dictionary.get(storedValueOf(tag)));
+            }
+
+            writeVarInt(out, addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(out, person, dictionary);
+            }
+
+            writeVarInt(out, addressBook.getPairList().size());
+            for (Pair pair : addressBook.getPairList()) {
+                writePair(out, pair, dictionary);
+            }
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the binary format or of an unsupported version.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static AddressBook loadDataFromFile(File file) throws DataConversionException, IllegalValueException,
+                                                                 FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new DataConversionException(new IOException(MESSAGE_NOT_BINARY_FORMAT));
+            }
+            int version = readVarInt(in);
+            if (version < OLDEST_READABLE_VERSION || version > FORMAT_VERSION) {
+                throw new DataConversionException(new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION,
+                        version)));
+            }
+
+            String[] dictionary = new String[readVarInt(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+
+            AddressBookLoader loader = new AddressBookLoader();
+            int tagCount = readVarInt(in);
+            for (int i = 0; i < tagCount; i++) {
+                loader.addTag(XmlAdaptedTag.fromStoredValue(readEntry(in, dictionary)));
+            }
+            int personCount = readVarInt(in);
+            for (int i = 0; i < personCount; i++) {
+                loader.addPerson(readPerson(in, dictionary, version));
+            }
+            int pairCount = readVarInt(in);
+            for (int i = 0; i < pairCount; i++) {
+                loader.addPair(readPair(in, dictionary, version));
+            }
+            return loader.finish();
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    //// writing
+
+    /**
+     * Returns the dictionary-encoded values in {@code addressBook}, mapped to their positions in the dictionary.
+     */
+    private static Map<String, Integer> buildDictionary(ReadOnlyAddressBook addressBook) {
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Tag tag : addressBook.getTagList()) {
+            intern(dictionary, storedValueOf(tag));
+        }
+        for (Person person : addressBook.getPersonList()) {
+            intern(dictionary, person.getPrice().value);
+            intern(dictionary, person.getSubject().value);
+            intern(dictionary, person.getLevel().value);
+            intern(dictionary, person.getStatus().value);
+            intern(dictionary, person.getRole().value);
+            person.getTags().forEach(tag -> intern(dictionary, storedValueOf(tag)));
+        }
+        for (Pair pair : addressBook.getPairList()) {
+            intern(dictionary, pair.getSubject());
+            intern(dictionary, pair.getLevel());
+            intern(dictionary, pair.getPrice());
+            pair.getTags().forEach(tag -> intern(dictionary, storedValueOf(tag)));
+        }
+        return dictionary;
+    }
+
+    private static void intern(Map<String, Integer> dictionary, String value) {
+        dictionary.putIfAbsent(value, dictionary.size());
+    }
+
+    /**
+     * Writes {@code person}, with its dictionary-encoded fields as positions in {@code dictionary}.
+     */
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarLong(out, person.getId());
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeVarInt(out, dictionary.get(person.getPrice().value));
+        writeVarInt(out, dictionary.get(person.getSubject().value));
+        writeVarInt(out, dictionary.get(person.getLevel().value));
+        writeVarInt(out, dictionary.get(person.getStatus().value));
+        writeVarInt(out, dictionary.get(person.getRole().value));
+        writeString(out, person.getRemark().value);
+        writeTags(out, person.getTags(), dictionary);
+    }
+
+    /**
+     * Writes {@code pair}, with its dictionary-encoded fields as positions in {@code dictionary}.
+     */
+    private static void writePair(DataOutputStream out, Pair pair, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarLong(out, pair.getId());
+        writeVarLong(out, pair.getStudentId());
+        writeVarLong(out, pair.getTutorId());
+        writeString(out, pair.getStudentName());
+        writeString(out, pair.getTutorName());
+        writeVarInt(out, dictionary.get(pair.getSubject()));
+        writeVarInt(out, dictionary.get(pair.getLevel()));
+        writeVarInt(out, dictionary.get(pair.getPrice()));
+        writeTags(out, pair.getTags(), dictionary);
+    }
+
+    /**
+     * Writes the number of {@code tags}, followed by their positions in {@code dictionary}.
+     */
+    private static void writeTags(DataOutputStream out, Set<Tag> tags, Map<String, Integer> dictionary)
+            throws IOException {
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeVarInt(out, dictionary.get(storedValueOf(tag)));
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, seven bits at a time, lowest bits first.
+     * The top bit of each byte is set if more bytes follow.
+     */
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Writes {@code value}, which must not be negative, as {@link #writeVarInt} does.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Returns the text {@link XmlAdaptedTag} stores for {@code tag}.
+     */
+    private static String storedValueOf(Tag tag) {
+        return tag.tagName + "," + tag.tagType;
+    }
+
+    //// reading
+
+    /**
+     * Reads a person written in format {@code version}, to be validated through
+     * {@link XmlAdaptedPerson#toModelType()}.
+     */
+    private static XmlAdaptedPerson readPerson(DataInputStream in, String[] dictionary, int version)
+            throws IOException {
+        String id = version >= 2 ? readId(in) : null;
+        String name = readString(in);
+        String phone = readString(in);
+        String email = readString(in);
+        String address = readString(in);
+        String price = readEntry(in, dictionary);
+        String subject = readEntry(in, dictionary);
+        String level = readEntry(in, dictionary);
+        String status = readEntry(in, dictionary);
+        String role = readEntry(in, dictionary);
+        String remark = readString(in);
+        List<XmlAdaptedTag> tagged = readTags(in, dictionary);
+        return new XmlAdaptedPerson(id, name, phone, email, address, price, subject, level, status, role, tagged,
+                remark);
+    }
+
+    /**
+     * Reads a pair written in format {@code version}, to be validated through {@link XmlAdaptedPair#toModelType()}.
+     */
+    private static XmlAdaptedPair readPair(DataInputStream in, String[] dictionary, int version)
+            throws IOException {
+        String id = version >= 2 ? readId(in) : null;
+        String studentId = version >= 2 ? readId(in) : null;
+        String tutorId = version >= 2 ? readId(in) : null;
+        String studentName = readString(in);
+        String tutorName = readString(in);
+        String subject = readEntry(in, dictionary);
+        String level = readEntry(in, dictionary);
+        String price = readEntry(in, dictionary);
+        List<XmlAdaptedTag> tagged = readTags(in, dictionary);
+        return new XmlAdaptedPair(id, studentId, tutorId, studentName, tutorName, subject, level, price, tagged);
+    }
+
+    /**
+     * Reads tags written by {@link #writeTags}.
+     */
+    private static List<XmlAdaptedTag> readTags(DataInputStream in, String[] dictionary) throws IOException {
+        int count = readVarInt(in);
+        List<XmlAdaptedTag> tagged = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tagged.add(XmlAdaptedTag.fromStoredValue(readEntry(in, dictionary)));
+        }
+        return tagged;
+    }
+
+    /**
+     * Reads a position in {@code dictionary} and returns the value at it.
+     */
+    private static String readEntry(DataInputStream in, String[] dictionary) throws IOException {
+        int position = readVarInt(in);
+        if (position >= dictionary.length) {
+            throw new IOException(String.format(MESSAGE_INVALID_DICTIONARY_POSITION, position));
+        }
+        return dictionary[position];
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads a value written by {@link #writeVarInt}.
+     */
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative length or position " + value);
+                }
+                return value;
+            }
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+
+    /**
+     * Reads an id written by {@link #writeVarLong}, as the text {@link XmlAdaptedPair} stores for it.
+     */
+    private static String readId(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Negative id " + value);
+                }
+                return XmlAdaptedPair.storedValueOf(value);
+            }
+        }
+        throw new IOException("Variable-length integer is too long");
+    }
+}
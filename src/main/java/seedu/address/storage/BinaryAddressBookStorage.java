@@ -0,0 +1,133 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * @see BinaryAddressBookCodec for the format of the file.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private String filePath;
+
+    private String backupFilePath;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this.filePath = filePath;
+        this.backupFilePath = filePath + ".backup";
+    }
+
+    /**
+     * Returns the path of the binary data file that takes the place of the data file at {@code filePath}:
+     * the same path, with its extension replaced by {@link #FILE_EXTENSION}.
+     */
+    public static String getBinaryFilePath(String filePath) {
+        int extensionStart = filePath.lastIndexOf('.');
+        int nameStart = Math.max(filePath.lastIndexOf('/'), filePath.lastIndexOf('\\')) + 1;
+        return (extensionStart > nameStart ? filePath.substring(0, extensionStart) : filePath) + FILE_EXTENSION;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 FileNotFoundException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookCodec.loadDataFromFile(addressBookFile));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + addressBookFile + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The data is written to a temporary file that then replaces the file at {@code filePath},
+     * so the file is left intact if writing fails midway.
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        File tempFile = new File(filePath + ".tmp");
+        FileUtil.createIfMissing(tempFile);
+        BinaryAddressBookCodec.saveDataToFile(tempFile, addressBook);
+        FileUtil.moveAtomically(tempFile.toPath(), Paths.get(filePath));
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param addressBook cannot be null
+     */
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, backupFilePath);
+    }
+
+    /**
+     * Creates this storage's data file from the data in {@code source}, unless the data file already exists.
+     * The data in {@code source} is left in place.
+     *
+     * @return true if data was migrated.
+     * @throws DataConversionException if the data in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to the data file.
+     */
+    public boolean migrateFrom(AddressBookStorage source) throws DataConversionException, IOException {
+        requireNonNull(source);
+        if (new File(filePath).exists()) {
+            return false;
+        }
+
+        Optional<ReadOnlyAddressBook> data = source.readAddressBook();
+        if (!data.isPresent()) {
+            return false;
+        }
+        saveAddressBook(data.get());
+        logger.info("Migrated " + source.getAddressBookFilePath() + " to " + filePath);
+        return true;
+    }
+
+}
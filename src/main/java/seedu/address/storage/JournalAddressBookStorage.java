@@ -0,0 +1,491 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.BiPredicate;
+import java.util.function.IntFunction;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as an xml checkpoint file on the hard disk, plus an append-only
+ * journal of the changes made since the checkpoint. Saving appends only the records of what changed since the
+ * last save, so the cost of a save grows with the size of the change rather than the size of the address book.
+ * Once the journal grows past a size threshold, it is folded into a new checkpoint in the background.
+ *
+ * What changed is found by comparing the saved address book with the last one saved, rather than from the
+ * model's change events: those carry no positions, the write-behind saver hands over only the latest of several
+ * versions, and undo hands over a whole earlier version. The person and pair lists of an
+ * {@link AddressBookSnapshot} share structure with the versions before and after it, so the comparison skips what
+ * they share and takes time proportional to the size of the change, times the log of the size of the lists.
+ *
+ * The first line of the journal holds the checksum of the checkpoint it applies to, so that a journal left
+ * behind by an interrupted compaction is recognised and ignored. A new checkpoint is installed by writing its
+ * journal next to the old one, moving the checkpoint into place, then moving the journal into place; if the
+ * second move is interrupted, the new journal is moved into place when the address book is next read.
+ * Appends and new journals are forced to the storage device before a save returns.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private static final String JOURNAL_HEADER_PREFIX = "addressbook-journal ";
+
+    private final String filePath;
+    private final Path journalPath;
+    private final Path newJournalPath;
+    private final long compactionThreshold;
+    private final Executor compactionExecutor;
+    private final XmlAddressBookStorage checkpointStorage;
+
+    /**
+     * The data as of the end of the journal, or null if there is no journal valid for the current checkpoint,
+     * in which case the next save writes a new checkpoint.
+     */
+    private JournaledData saved;
+    private long journalSize;
+    /** Incremented on every new checkpoint, so that a compaction can tell it has been overtaken. */
+    private long checkpointGeneration;
+    /** The records appended since the running compaction started, or null if no compaction is running. */
+    private List<String> recordsSinceCompactionStarted;
+
+    public JournalAddressBookStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-compactor");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * @param compactionThreshold the journal size, in bytes, past which the journal is compacted.
+     * @param compactionExecutor runs compactions.
+     */
+    public JournalAddressBookStorage(String filePath, long compactionThreshold, Executor compactionExecutor) {
+        requireNonNull(filePath);
+        requireNonNull(compactionExecutor);
+        this.filePath = filePath;
+        this.journalPath = Paths.get(filePath + ".journal");
+        this.newJournalPath = Paths.get(filePath + ".journal.tmp");
+        this.compactionThreshold = compactionThreshold;
+        this.compactionExecutor = compactionExecutor;
+        this.checkpointStorage = new XmlAddressBookStorage(filePath);
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    public String getJournalFilePath() {
+        return journalPath.toString();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * Files other than this storage's own checkpoint are read as plain xml files, without a journal.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the checkpoint or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(String filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        if (!isOwnFile(filePath)) {
+            return checkpointStorage.readAddressBook(filePath);
+        }
+
+        long startTime = System.nanoTime();
+        Optional<ReadOnlyAddressBook> checkpoint = checkpointStorage.readAddressBook(filePath);
+        if (!checkpoint.isPresent()) {
+            return Optional.empty();
+        }
+        List<Person> persons = new ArrayList<>(checkpoint.get().getPersonList());
+        List<Pair> pairs = new ArrayList<>(checkpoint.get().getPairList());
+        List<Tag> tags = new ArrayList<>(checkpoint.get().getTagList());
+
+        int replayed = replayJournal(checksumOf(Paths.get(filePath)), persons, pairs, tags);
+        JournaledData data = saved != null ? saved
+                : new JournaledData(PersistentList.from(persons), PersistentList.from(pairs), tags);
+        logger.info(String.format("Loaded %s and replayed %d journal records in %dms", filePath, replayed,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        return Optional.of(data);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * Files other than this storage's own checkpoint are written as plain xml files, without a journal.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!isOwnFile(filePath)) {
+            checkpointStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+        JournaledData data = JournaledData.of(addressBook);
+        if (saved == null) {
+            writeCheckpoint(data);
+            logger.fine(String.format("Wrote checkpoint %s in %dms", filePath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+            return;
+        }
+
+        List<String> records = new ArrayList<>();
+        for (JournalRecord record : diff(saved, data)) {
+            records.add(JsonUtil.toSingleLineJsonString(record));
+        }
+        long bytesWritten = appendToJournal(records);
+        saved = data;
+        logger.fine(String.format("Appended %d journal records (%d bytes) in %dus", records.size(), bytesWritten,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime)));
+
+        if (journalSize > compactionThreshold && recordsSinceCompactionStarted == null) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * The backup is a plain xml file.
+     * @param addressBook cannot be null
+     */
+    @Override
+    public void backupAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        checkpointStorage.backupAddressBook(addressBook);
+    }
+
+    private boolean isOwnFile(String filePath) {
+        return Paths.get(filePath).equals(Paths.get(this.filePath));
+    }
+
+    //// journal operations
+
+    /**
+     * Applies the records in the journal to the given lists, if the journal was written for the checkpoint with
+     * the given {@code checkpointChecksum}. An incomplete last record, as left behind by a crash mid-append,
+     * is ignored. A new journal left behind by an interrupted {@link #installCheckpoint} replaces the journal
+     * if it was written for the checkpoint, and is deleted otherwise.
+     *
+     * @return the number of records applied.
+     * @throws DataConversionException if a record other than the last is not in the correct format.
+     */
+    private int replayJournal(long checkpointChecksum, List<Person> persons, List<Pair> pairs, List<Tag> tags)
+            throws DataConversionException, IOException {
+        saved = null;
+        if (Files.exists(newJournalPath)) {
+            if (headerFor(checkpointChecksum).equals(readHeader(newJournalPath))) {
+                logger.warning("Installing journal " + newJournalPath + " left behind by an interrupted compaction");
+                FileUtil.moveAtomically(newJournalPath, journalPath);
+            } else {
+                Files.delete(newJournalPath);
+            }
+        }
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty() || !lines.get(0).equals(headerFor(checkpointChecksum))) {
+            logger.warning("Ignoring journal " + journalPath + " as it was not written for the current checkpoint");
+            return 0;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            try {
+                JsonUtil.fromJsonString(lines.get(i), JournalRecord.class).applyTo(persons, pairs, tags);
+            } catch (IOException | IllegalValueException | IndexOutOfBoundsException e) {
+                if (i < lines.size() - 1) {
+                    logger.info("Invalid record at line " + (i + 1) + " of " + journalPath + ": " + e.getMessage());
+                    throw new DataConversionException(e);
+                }
+                logger.warning("Ignoring incomplete last record of journal " + journalPath);
+                return i - 1;
+            }
+        }
+        journalSize = Files.size(journalPath);
+        saved = new JournaledData(PersistentList.from(persons), PersistentList.from(pairs), tags);
+        return lines.size() - 1;
+    }
+
+    /**
+     * Appends {@code records} to the journal, one per line, and forces them to the storage device.
+     *
+     * @return the number of bytes written.
+     */
+    private long appendToJournal(List<String> records) throws IOException {
+        if (records.isEmpty()) {
+            return 0;
+        }
+        StringBuilder builder = new StringBuilder();
+        for (String record : records) {
+            builder.append(record).append('\n');
+        }
+        byte[] bytes = builder.toString().getBytes(StandardCharsets.UTF_8);
+        writeDurably(journalPath, bytes, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        journalSize += bytes.length;
+        if (recordsSinceCompactionStarted != null) {
+            recordsSinceCompactionStarted.addAll(records);
+        }
+        return bytes.length;
+    }
+
+    /**
+     * Returns the records that turn {@code before} into {@code after}.
+     */
+    private static List<JournalRecord> diff(JournaledData before, JournaledData after) {
+        List<JournalRecord> records = new ArrayList<>();
+        diff(before.persons, after.persons, JournalAddressBookStorage::isSamePerson,
+                JournalRecord::insertPerson, JournalRecord::setPerson, JournalRecord::removePerson, records);
+        diff(before.pairs, after.pairs, JournalAddressBookStorage::isSamePair,
+                JournalRecord::insertPair, JournalRecord::setPair, JournalRecord::removePair, records);
+        if (!before.tags.equals(after.tags)) {
+            records.add(JournalRecord.setTags(after.tags));
+        }
+        return records;
+    }
+
+    /**
+     * Appends to {@code records} the records that turn {@code before} into {@code after}.
+     * Elements outside the longest common prefix and suffix of the two lists are recorded as replaced in place,
+     * then removed or inserted to make up the difference in length. A single addition, edit or deletion is
+     * therefore recorded as a single record.
+     */
+    private static <T> void diff(PersistentList<T> before, PersistentList<T> after, BiPredicate<T, T> isSame,
+                                 BiFunction<Integer, T, JournalRecord> insert,
+                                 BiFunction<Integer, T, JournalRecord> set,
+                                 IntFunction<JournalRecord> remove, List<JournalRecord> records) {
+        int shorterSize = Math.min(before.size(), after.size());
+        int prefix = before.mismatch(after, 0, isSame);
+        int suffix = Math.min(before.commonSuffixLength(after, isSame), shorterSize - prefix);
+
+        int changedBefore = before.size() - prefix - suffix;
+        int changedAfter = after.size() - prefix - suffix;
+        int replaced = Math.min(changedBefore, changedAfter);
+        for (int i = prefix; i < prefix + replaced; i = before.mismatch(after, i + 1, isSame)) {
+            records.add(set.apply(i, after.get(i)));
+        }
+        for (int i = replaced; i < changedBefore; i++) {
+            records.add(remove.apply(prefix + replaced));
+        }
+        for (int i = prefix + replaced; i < prefix + changedAfter; i++) {
+            records.add(insert.apply(i, after.get(i)));
+        }
+    }
+
+    /**
+     * Returns true if the two persons would be stored identically.
+     * {@code Person#equals} is not enough, as it ignores ids, tags and remarks.
+     */
+    private static boolean isSamePerson(Person a, Person b) {
+        return a == b || (a.equals(b) && a.getId() == b.getId() && a.getTags().equals(b.getTags())
+                && a.getRemark().equals(b.getRemark()));
+    }
+
+    /**
+     * Returns true if the two pairs would be stored identically.
+     * {@code Pair#equals} is not enough, as it ignores ids and tags.
+     */
+    private static boolean isSamePair(Pair a, Pair b) {
+        return a == b || (a.equals(b) && a.getId() == b.getId() && a.getStudentId() == b.getStudentId()
+                && a.getTutorId() == b.getTutorId() && a.getTags().equals(b.getTags()));
+    }
+
+    //// checkpoint operations
+
+    /**
+     * Writes {@code data} as a new checkpoint with an empty journal.
+     */
+    private void writeCheckpoint(JournaledData data) throws IOException {
+        Path newCheckpoint = Paths.get(filePath + ".checkpoint");
+        checkpointStorage.saveAddressBook(data, newCheckpoint.toString());
+        installCheckpoint(newCheckpoint, Collections.emptyList());
+        saved = data;
+    }
+
+    /**
+     * Folds the journal into a new checkpoint on the compaction executor.
+     * Saves made while the compaction runs are appended both to the current journal and to the journal that
+     * will replace it.
+     */
+    private void startCompaction() {
+        recordsSinceCompactionStarted = new ArrayList<>();
+        JournaledData data = saved;
+        long generation = checkpointGeneration;
+        compactionExecutor.execute(() -> compact(data, generation));
+    }
+
+    /**
+     * Writes {@code data} as a new checkpoint, unless another checkpoint has been written since
+     * {@code generation}, and replaces the journal with the records appended since the compaction started.
+     */
+    private void compact(JournaledData data, long generation) {
+        long startTime = System.nanoTime();
+        Path newCheckpoint = Paths.get(filePath + ".compacted");
+        try {
+            checkpointStorage.saveAddressBook(data, newCheckpoint.toString());
+            synchronized (this) {
+                if (generation != checkpointGeneration) {
+                    Files.deleteIfExists(newCheckpoint);
+                    return;
+                }
+                installCheckpoint(newCheckpoint, recordsSinceCompactionStarted);
+            }
+            logger.info(String.format("Compacted journal %s in %dms", journalPath,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime)));
+        } catch (IOException e) {
+            logger.warning("Failed to compact journal " + journalPath + ": " + StringUtil.getDetails(e));
+        } finally {
+            synchronized (this) {
+                recordsSinceCompactionStarted = null;
+            }
+        }
+    }
+
+    /**
+     * Moves {@code newCheckpoint} over the checkpoint, and replaces the journal with one holding {@code records}.
+     * Both are on the storage device before the checkpoint is moved, so that a crash between the two moves
+     * leaves a new journal that {@link #replayJournal} can install.
+     */
+    private void installCheckpoint(Path newCheckpoint, List<String> records) throws IOException {
+        StringBuilder builder = new StringBuilder(headerFor(checksumOf(newCheckpoint))).append('\n');
+        for (String record : records) {
+            builder.append(record).append('\n');
+        }
+        writeDurably(newJournalPath, builder.toString().getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        try (FileChannel channel = FileChannel.open(newCheckpoint, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+
+        FileUtil.moveAtomically(newCheckpoint, Paths.get(filePath));
+        FileUtil.moveAtomically(newJournalPath, journalPath);
+        journalSize = Files.size(journalPath);
+        checkpointGeneration++;
+    }
+
+    private static String headerFor(long checkpointChecksum) {
+        return JOURNAL_HEADER_PREFIX + Long.toHexString(checkpointChecksum);
+    }
+
+    /**
+     * Returns the first line of {@code journal}, or null if it is empty.
+     */
+    private static String readHeader(Path journal) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(journal, StandardCharsets.UTF_8)) {
+            return reader.readLine();
+        }
+    }
+
+    /**
+     * Writes {@code bytes} to {@code file}, opened with {@code options}, and returns once they
+     * are on the storage device.
+     */
+    private static void writeDurably(Path file, byte[] bytes, OpenOption... options) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, options)) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+    }
+
+    private static long checksumOf(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(Files.readAllBytes(file));
+        return crc.getValue();
+    }
+
+    /**
+     * The address book data as of the end of the journal. The lists are never modified once built.
+     */
+    private static class JournaledData implements ReadOnlyAddressBook {
+        private final PersistentList<Person> persons;
+        private final PersistentList<Pair> pairs;
+        private final List<Tag> tags;
+
+        JournaledData(PersistentList<Person> persons, PersistentList<Pair> pairs, List<Tag> tags) {
+            this.persons = persons;
+            this.pairs = pairs;
+            this.tags = Collections.unmodifiableList(tags);
+        }
+
+        /**
+         * Returns the data of {@code addressBook}. The person and pair lists of an {@link AddressBookSnapshot} are
+         * shared rather than copied.
+         */
+        static JournaledData of(ReadOnlyAddressBook addressBook) {
+            List<Tag> tags = new ArrayList<>(addressBook.getTagList());
+            if (addressBook instanceof AddressBookSnapshot) {
+                AddressBookSnapshot snapshot = (AddressBookSnapshot) addressBook;
+                return new JournaledData(snapshot.getPersons(), snapshot.getPairs(), tags);
+            }
+            return new JournaledData(PersistentList.from(addressBook.getPersonList()),
+                    PersistentList.from(addressBook.getPairList()), tags);
+        }
+
+        @Override
+        public ObservableList<Person> getPersonList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+        }
+
+        @Override
+        public ObservableList<Pair> getPairList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(pairs));
+        }
+
+        @Override
+        public ObservableList<Tag> getTagList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(tags));
+        }
+    }
+}
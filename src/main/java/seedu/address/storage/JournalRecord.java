@@ -0,0 +1,139 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A single change to the persons, pairs or tags of an address book, as stored in a line of the journal of a
+ * {@link JournalAddressBookStorage}. Positions refer to the lists as they were just before the change.
+ */
+public class JournalRecord {
+
+    /**
+     * The kinds of change a record can describe.
+     */
+    public enum Operation {
+        INSERT_PERSON, SET_PERSON, REMOVE_PERSON, INSERT_PAIR, SET_PAIR, REMOVE_PAIR, SET_TAGS
+    }
+
+    private Operation operation;
+    private int index;
+    private XmlAdaptedPerson person;
+    private XmlAdaptedPair pair;
+    private List<XmlAdaptedTag> tags;
+
+    /**
+     * Constructs a JournalRecord.
+     * This is the no-arg constructor that is required by Jackson.
+     */
+    public JournalRecord() {}
+
+    private JournalRecord(Operation operation, int index) {
+        this.operation = operation;
+        this.index = index;
+    }
+
+    /**
+     * Returns a record of {@code person} being inserted at {@code index}.
+     */
+    public static JournalRecord insertPerson(int index, Person person) {
+        JournalRecord record = new JournalRecord(Operation.INSERT_PERSON, index);
+        record.person = new XmlAdaptedPerson(person);
+        return record;
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being replaced by {@code person}.
+     */
+    public static JournalRecord setPerson(int index, Person person) {
+        JournalRecord record = new JournalRecord(Operation.SET_PERSON, index);
+        record.person = new XmlAdaptedPerson(person);
+        return record;
+    }
+
+    /**
+     * Returns a record of the person at {@code index} being removed.
+     */
+    public static JournalRecord removePerson(int index) {
+        return new JournalRecord(Operation.REMOVE_PERSON, index);
+    }
+
+    /**
+     * Returns a record of {@code pair} being inserted at {@code index}.
+     */
+    public static JournalRecord insertPair(int index, Pair pair) {
+        JournalRecord record = new JournalRecord(Operation.INSERT_PAIR, index);
+        record.pair = new XmlAdaptedPair(pair);
+        return record;
+    }
+
+    /**
+     * Returns a record of the pair at {@code index} being replaced by {@code pair}.
+     */
+    public static JournalRecord setPair(int index, Pair pair) {
+        JournalRecord record = new JournalRecord(Operation.SET_PAIR, index);
+        record.pair = new XmlAdaptedPair(pair);
+        return record;
+    }
+
+    /**
+     * Returns a record of the pair at {@code index} being removed.
+     */
+    public static JournalRecord removePair(int index) {
+        return new JournalRecord(Operation.REMOVE_PAIR, index);
+    }
+
+    /**
+     * Returns a record of the tag list being replaced by {@code tags}.
+     */
+    public static JournalRecord setTags(List<Tag> tags) {
+        JournalRecord record = new JournalRecord(Operation.SET_TAGS, 0);
+        record.tags = new ArrayList<>();
+        for (Tag tag : tags) {
+            record.tags.add(new XmlAdaptedTag(tag));
+        }
+        return record;
+    }
+
+    /**
+     * Applies this change to the given lists.
+     *
+     * @throws IllegalValueException if the recorded person, pair or tags violate any data constraints.
+     * @throws IndexOutOfBoundsException if the recorded position is not in the lists.
+     */
+    public void applyTo(List<Person> persons, List<Pair> pairs, List<Tag> tags) throws IllegalValueException {
+        switch (operation) {
+        case INSERT_PERSON:
+            persons.add(index, person.toModelType());
+            break;
+        case SET_PERSON:
+            persons.set(index, person.toModelType());
+            break;
+        case REMOVE_PERSON:
+            persons.remove(index);
+            break;
+        case INSERT_PAIR:
+            pairs.add(index, pair.toModelType());
+            break;
+        case SET_PAIR:
+            pairs.set(index, pair.toModelType());
+            break;
+        case REMOVE_PAIR:
+            pairs.remove(index);
+            break;
+        case SET_TAGS:
+            tags.clear();
+            for (XmlAdaptedTag tag : this.tags) {
+                tags.add(tag.toModelType());
+            }
+            break;
+        default:
+            throw new IllegalValueException("Unknown journal operation: " + operation);
+        }
+    }
+}
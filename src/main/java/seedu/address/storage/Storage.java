@@ -35,4 +35,10 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Blocks until every change passed to {@link #handleAddressBookChangedEvent} has been saved,
+     * then saves further changes as they happen.
+     */
+    void flushAddressBook();
 }
@@ -2,11 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
@@ -22,14 +24,25 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
-
+    /** Saves address book changes in the background, or null if they are saved as they happen. */
+    private WriteBehindAddressBookSaver writeBehindSaver;
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        super(EventsCenter.getInstance().getBackgroundExecutor());
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Saves address book changes on a background thread from now on, coalescing the changes made within
+     * {@code windowMillis} of each other into one write.
+     * Save failures are raised as {@link DataSavingExceptionEvent}s through {@code eventExecutor}.
+     */
+    public void enableWriteBehind(long windowMillis, Executor eventExecutor) {
+        writeBehindSaver = new WriteBehindAddressBookSaver(addressBookStorage, windowMillis, (e, lagMillis) ->
+                eventExecutor.execute(() -> raise(new DataSavingExceptionEvent(e, lagMillis))));
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -62,7 +75,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException, IOException {
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -73,7 +86,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
@@ -88,6 +101,10 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (writeBehindSaver != null) {
+            writeBehindSaver.submit(event.data);
+            return;
+        }
         try {
             saveAddressBook(event.data);
         } catch (IOException e) {
@@ -95,4 +112,12 @@ public class StorageManager extends ComponentManager implements Storage {
         }
     }
 
+    @Override
+    public void flushAddressBook() {
+        if (writeBehindSaver != null) {
+            writeBehindSaver.shutdown();
+            writeBehindSaver = null;
+        }
+    }
+
 }
@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves address book data on a background thread, off the thread that changed it.
+ * Data submitted within {@code windowMillis} of the first unsaved change is coalesced into a single write
+ * of the latest data. A failed write is retried after a delay that doubles with each consecutive failure,
+ * up to {@value #MAX_RETRY_DELAY_MILLIS} milliseconds.
+ *
+ * Submitted data must not change after submission; pass immutable snapshots.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+    private static final long MIN_RETRY_DELAY_MILLIS = 100;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+
+    private final AddressBookStorage addressBookStorage;
+    private final long windowMillis;
+    private final BiConsumer<IOException, Long> failureHandler;
+    private final ScheduledExecutorService writer;
+
+    /** The latest data not yet written, or null if everything submitted has been written. */
+    private ReadOnlyAddressBook pending;
+    /** When the oldest change in {@link #pending} was submitted, as given by {@link System#nanoTime()}. */
+    private long pendingSince;
+    /** Whether a write is queued on the writer thread that has not started yet. */
+    private boolean isScheduled;
+    /** How long to wait before retrying the next failed write. */
+    private long retryDelayMillis;
+
+    /**
+     * @param failureHandler called on the writer thread with the cause of a failed write and the number of
+     *                       milliseconds the unsaved changes had been waiting.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage, long windowMillis,
+                                       BiConsumer<IOException, Long> failureHandler) {
+        requireNonNull(addressBookStorage);
+        requireNonNull(failureHandler);
+        this.addressBookStorage = addressBookStorage;
+        this.windowMillis = windowMillis;
+        this.failureHandler = failureHandler;
+        this.retryDelayMillis = Math.max(windowMillis, MIN_RETRY_DELAY_MILLIS);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code data} to be written, replacing any data submitted earlier that has not been written yet.
+     */
+    public synchronized void submit(ReadOnlyAddressBook data) {
+        requireNonNull(data);
+        if (pending == null) {
+            pendingSince = System.nanoTime();
+        }
+        pending = data;
+        if (!isScheduled) {
+            schedule(windowMillis);
+        }
+    }
+
+    /**
+     * Blocks until all data submitted so far has been written, or has failed to be written.
+     */
+    public void flush() {
+        try {
+            writer.submit(this::writePending).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.severe("Unexpected error while flushing address book: " + e.getCause());
+        }
+    }
+
+    /**
+     * Flushes all submitted data, then stops the writer thread, dropping any retry of a failed write.
+     * No data may be submitted afterwards.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdownNow();
+    }
+
+    /**
+     * Queues a write of the pending data on the writer thread after {@code delayMillis}.
+     */
+    private synchronized void schedule(long delayMillis) {
+        if (writer.isShutdown()) {
+            return;
+        }
+        writer.schedule(this::writePending, delayMillis, TimeUnit.MILLISECONDS);
+        isScheduled = true;
+    }
+
+    /**
+     * Writes the pending data, if any. On failure, the data is kept pending and a retry is scheduled,
+     * unless newer data has been submitted in the meantime, which is then written instead.
+     */
+    private void writePending() {
+        ReadOnlyAddressBook data;
+        long since;
+        synchronized (this) {
+            data = pending;
+            since = pendingSince;
+            pending = null;
+            isScheduled = false;
+        }
+        if (data == null) {
+            return;
+        }
+
+        long lagMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - since);
+        try {
+            addressBookStorage.saveAddressBook(data);
+            logger.fine(() -> "Saved address book " + lagMillis + "ms after the first unsaved change");
+            synchronized (this) {
+                retryDelayMillis = Math.max(windowMillis, MIN_RETRY_DELAY_MILLIS);
+            }
+        } catch (IOException e) {
+            synchronized (this) {
+                if (pending == null) {
+                    pending = data;
+                    pendingSince = since;
+                }
+                if (!isScheduled) {
+                    schedule(retryDelayMillis);
+                    retryDelayMillis = Math.min(retryDelayMillis * 2, MAX_RETRY_DELAY_MILLIS);
+                }
+            }
+            failureHandler.accept(e, lagMillis);
+        }
+    }
+}
@@ -22,7 +22,15 @@ import seedu.address.model.tag.Tag;
 public class XmlAdaptedPair {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Pair's %s field is missing!";
+    public static final String MESSAGE_ID_CONSTRAINTS = "Pair's ids should be positive whole numbers";
 
+    /** Absent in files written before pairs had ids, and for pairs not yet given them. */
+    @XmlElement
+    private String id;
+    @XmlElement
+    private String studentId;
+    @XmlElement
+    private String tutorId;
     @XmlElement(required = true)
     private String studentName;
     @XmlElement(required = true)
@@ -48,6 +56,17 @@ public class XmlAdaptedPair {
      */
     public XmlAdaptedPair(String studentName, String tutorName, String subject, String level,
                             String price,  List<XmlAdaptedTag> tagged) {
+        this(null, null, null, studentName, tutorName, subject, level, price, tagged);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPair} with the given pair details and ids.
+     */
+    public XmlAdaptedPair(String id, String studentId, String tutorId, String studentName, String tutorName,
+                          String subject, String level, String price, List<XmlAdaptedTag> tagged) {
+        this.id = id;
+        this.studentId = studentId;
+        this.tutorId = tutorId;
         this.studentName = studentName;
         this.tutorName = tutorName;
         this.subject = subject;
@@ -65,6 +84,9 @@ public class XmlAdaptedPair {
      * @param source future changes to this will not affect the created XmlAdaptedPair
      */
     public XmlAdaptedPair(Pair source) {
+        id = storedValueOf(source.getId());
+        studentId = storedValueOf(source.getStudentId());
+        tutorId = storedValueOf(source.getTutorId());
         studentName = source.getStudentName();
         tutorName = source.getTutorName();
         subject = source.getSubject();
@@ -83,6 +105,9 @@ public class XmlAdaptedPair {
      * @throws IllegalValueException if there were any data constraints violated in the adapted pair
      */
     public Pair toModelType() throws IllegalValueException {
+        final long id = toId(this.id, MESSAGE_ID_CONSTRAINTS);
+        final long studentId = toId(this.studentId, MESSAGE_ID_CONSTRAINTS);
+        final long tutorId = toId(this.tutorId, MESSAGE_ID_CONSTRAINTS);
 
         final List<Tag> pairTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
@@ -132,7 +157,34 @@ public class XmlAdaptedPair {
 
         final Set<Tag> tags = new HashSet<>(pairTags);
 
-        return new Pair(studentName, tutorName, subject, level, price, tags);
+        return new Pair(id, studentId, tutorId, studentName, tutorName, subject, level, price, tags);
+    }
+
+    /**
+     * Returns the text stored for {@code id}, or null if it is unassigned, so that no element is written for it.
+     */
+    static String storedValueOf(long id) {
+        return id == Pair.UNASSIGNED_ID ? null : String.valueOf(id);
+    }
+
+    /**
+     * Returns the id stored as {@code storedValue}, or {@link Pair#UNASSIGNED_ID} if none was stored.
+     *
+     * @throws IllegalValueException with {@code message} if {@code storedValue} is not a positive whole number.
+     */
+    static long toId(String storedValue, String message) throws IllegalValueException {
+        if (storedValue == null) {
+            return Pair.UNASSIGNED_ID;
+        }
+        try {
+            long id = Long.parseLong(storedValue.trim());
+            if (id > 0) {
+                return id;
+            }
+        } catch (NumberFormatException nfe) {
+            // reported below
+        }
+        throw new IllegalValueException(message);
     }
 
     @Override
@@ -146,7 +198,10 @@ public class XmlAdaptedPair {
         }
 
         XmlAdaptedPair otherPair = (XmlAdaptedPair) other;
-        return Objects.equals(studentName, otherPair.studentName)
+        return Objects.equals(id, otherPair.id)
+                && Objects.equals(studentId, otherPair.studentId)
+                && Objects.equals(tutorId, otherPair.tutorId)
+                && Objects.equals(studentName, otherPair.studentName)
                 && Objects.equals(tutorName, otherPair.tutorName)
                 && Objects.equals(subject, otherPair.subject)
                 && Objects.equals(level, otherPair.level)
@@ -28,7 +28,11 @@ import seedu.address.model.tag.Tag;
 public class XmlAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
+    public static final String MESSAGE_ID_CONSTRAINTS = "Person's id should be a positive whole number";
 
+    /** Absent in files written before persons had ids, and for persons not yet given one. */
+    @XmlElement
+    private String id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -65,6 +69,16 @@ public class XmlAdaptedPerson {
     public XmlAdaptedPerson(String name, String phone, String email, String address,
                             String price, String subject, String level, String status, String role,
                             List<XmlAdaptedTag> tagged, String remark) {
+        this(null, name, phone, email, address, price, subject, level, status, role, tagged, remark);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedPerson} with the given person details and id.
+     */
+    public XmlAdaptedPerson(String id, String name, String phone, String email, String address,
+                            String price, String subject, String level, String status, String role,
+                            List<XmlAdaptedTag> tagged, String remark) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -86,6 +100,7 @@ public class XmlAdaptedPerson {
      * @param source future changes to this will not affect the created XmlAdaptedPerson
      */
     public XmlAdaptedPerson(Person source) {
+        id = XmlAdaptedPair.storedValueOf(source.getId());
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -108,6 +123,8 @@ public class XmlAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person
      */
     public Person toModelType() throws IllegalValueException {
+        final long id = XmlAdaptedPair.toId(this.id, MESSAGE_ID_CONSTRAINTS);
+
         final List<Tag> personTags = new ArrayList<>();
         for (XmlAdaptedTag tag : tagged) {
             personTags.add(tag.toModelType());
@@ -159,7 +176,7 @@ public class XmlAdaptedPerson {
         if (!Subject.isValidSubject(this.subject)) {
             throw new IllegalValueException(Subject.MESSAGE_SUBJECT_CONSTRAINTS);
         }
-        final Subject subject = new Subject(this.subject);
+        final Subject subject = Subject.of(this.subject);
 
         if (this.level == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Level.class.getSimpleName()));
@@ -167,7 +184,7 @@ public class XmlAdaptedPerson {
         if (!Level.isValidLevel(this.level)) {
             throw new IllegalValueException(Level.MESSAGE_LEVEL_CONSTRAINTS);
         }
-        final Level level = new Level(this.level);
+        final Level level = Level.of(this.level);
 
         if (this.status == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Status.class.getSimpleName()));
@@ -175,7 +192,7 @@ public class XmlAdaptedPerson {
         if (!Status.isValidStatus(this.status)) {
             throw new IllegalValueException(Status.MESSAGE_STATUS_CONSTRAINTS);
         }
-        final Status status = new Status(this.status);
+        final Status status = Status.of(this.status);
 
         if (this.role == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
@@ -183,7 +200,7 @@ public class XmlAdaptedPerson {
         if (!Role.isValidRole(this.role)) {
             throw new IllegalValueException(Role.MESSAGE_ROLE_CONSTRAINTS);
         }
-        final Role role = new Role(this.role);
+        final Role role = Role.of(this.role);
 
         final Set<Tag> tags = new HashSet<>(personTags);
 
@@ -192,7 +209,7 @@ public class XmlAdaptedPerson {
         }
         final Remark remark = new Remark(this.remark);
 
-        return new Person(name, phone, email, address, price, subject, level, status, role, tags, remark);
+        return new Person(id, name, phone, email, address, price, subject, level, status, role, tags, remark);
     }
 
     @Override
@@ -206,7 +223,8 @@ public class XmlAdaptedPerson {
         }
 
         XmlAdaptedPerson otherPerson = (XmlAdaptedPerson) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+                && Objects.equals(name, otherPerson.name)
                 && Objects.equals(phone, otherPerson.phone)
                 && Objects.equals(email, otherPerson.email)
                 && Objects.equals(address, otherPerson.address)
@@ -39,6 +39,15 @@ public class XmlAdaptedTag {
         tagName = source.tagName + "," + source.tagType.toString();
     }
 
+    /**
+     * Returns an {@code XmlAdaptedTag} holding {@code storedValue}, the tag name and type as stored in a file.
+     */
+    public static XmlAdaptedTag fromStoredValue(String storedValue) {
+        XmlAdaptedTag tag = new XmlAdaptedTag();
+        tag.tagName = storedValue;
+        return tag;
+    }
+
     /**
      * Converts this jaxb-friendly adapted tag object into the model's Tag object.
      *
@@ -0,0 +1,318 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads and writes address book xml files element by element with StAX, converting straight between the
+ * model's types and the file without building an {@link XmlSerializableAddressBook} of the whole address book.
+ * Files are written byte for byte as {@link XmlFileStorage} writes them.
+ */
+public class XmlAddressBookStreamCodec {
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String INDENT = "    ";
+
+    private static final String ROOT = "addressbook";
+    private static final String PERSON = "persons";
+    private static final String PAIR = "pairs";
+    private static final String TAG = "tags";
+    private static final String PERSON_TAG = "tagged";
+
+    private static final XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    static {
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code file} in xml format.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(file);
+        requireNonNull(addressBook);
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            out.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            writeAddressBook(writer, addressBook);
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Returns the address book in {@code file}.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the file.
+     */
+    public static AddressBook loadDataFromFile(File file) throws DataConversionException, IllegalValueException,
+                                                                 FileNotFoundException {
+        requireNonNull(file);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                return readAddressBook(reader);
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    //// writing
+
+    /**
+     * Writes the root element and everything in it, indented as {@code Marshaller.JAXB_FORMATTED_OUTPUT} does.
+     */
+    private static void writeAddressBook(XMLStreamWriter writer, ReadOnlyAddressBook addressBook)
+            throws XMLStreamException {
+        if (addressBook.getPersonList().isEmpty() && addressBook.getPairList().isEmpty()
+                && addressBook.getTagList().isEmpty()) {
+            writer.writeEmptyElement(ROOT);
+            writer.writeCharacters("\n");
+            return;
+        }
+
+        writer.writeStartElement(ROOT);
+        writer.writeCharacters("\n");
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(writer, person);
+        }
+        for (Pair pair : addressBook.getPairList()) {
+            writePair(writer, pair);
+        }
+        for (Tag tag : addressBook.getTagList()) {
+            writeTextElement(writer, 1, TAG, storedValueOf(tag));
+        }
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    /**
+     * Writes {@code person} in the same element order as {@link XmlAdaptedPerson}.
+     */
+    private static void writePerson(XMLStreamWriter writer, Person person) throws XMLStreamException {
+        writer.writeCharacters(INDENT);
+        writer.writeStartElement(PERSON);
+        writer.writeCharacters("\n");
+        writeIdElement(writer, "id", person.getId());
+        writeTextElement(writer, 2, "name", person.getName().fullName);
+        writeTextElement(writer, 2, "phone", person.getPhone().value);
+        writeTextElement(writer, 2, "email", person.getEmail().value);
+        writeTextElement(writer, 2, "address", person.getAddress().value);
+        writeTextElement(writer, 2, "price", person.getPrice().value);
+        writeTextElement(writer, 2, "subject", person.getSubject().value);
+        writeTextElement(writer, 2, "level", person.getLevel().value);
+        writeTextElement(writer, 2, "status", person.getStatus().value);
+        writeTextElement(writer, 2, "role", person.getRole().value);
+        writeTextElement(writer, 2, "remark", person.getRemark().value);
+        writeTags(writer, person.getTags());
+        writer.writeCharacters(INDENT);
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    /**
+     * Writes {@code pair} in the same element order as {@link XmlAdaptedPair}.
+     */
+    private static void writePair(XMLStreamWriter writer, Pair pair) throws XMLStreamException {
+        writer.writeCharacters(INDENT);
+        writer.writeStartElement(PAIR);
+        writer.writeCharacters("\n");
+        writeIdElement(writer, "id", pair.getId());
+        writeIdElement(writer, "studentId", pair.getStudentId());
+        writeIdElement(writer, "tutorId", pair.getTutorId());
+        writeTextElement(writer, 2, "studentName", pair.getStudentName());
+        writeTextElement(writer, 2, "tutorName", pair.getTutorName());
+        writeTextElement(writer, 2, "subject", pair.getSubject());
+        writeTextElement(writer, 2, "level", pair.getLevel());
+        writeTextElement(writer, 2, "price", pair.getPrice());
+        writeTags(writer, pair.getTags());
+        writer.writeCharacters(INDENT);
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    private static void writeTags(XMLStreamWriter writer, Set<Tag> tags) throws XMLStreamException {
+        for (Tag tag : tags) {
+            writeTextElement(writer, 2, PERSON_TAG, storedValueOf(tag));
+        }
+    }
+
+    /**
+     * Writes an element holding {@code id}, unless it is unassigned, as JAXB leaves out null fields.
+     */
+    private static void writeIdElement(XMLStreamWriter writer, String name, long id) throws XMLStreamException {
+        String storedValue = XmlAdaptedPair.storedValueOf(id);
+        if (storedValue != null) {
+            writeTextElement(writer, 2, name, storedValue);
+        }
+    }
+
+    /**
+     * Writes an element holding only {@code text}, on its own line at the given {@code depth}.
+     * Carriage returns are written as character references, as JAXB does, so that they survive being read back.
+     */
+    private static void writeTextElement(XMLStreamWriter writer, int depth, String name, String text)
+            throws XMLStreamException {
+        for (int i = 0; i < depth; i++) {
+            writer.writeCharacters(INDENT);
+        }
+        writer.writeStartElement(name);
+        int start = 0;
+        for (int end = text.indexOf('\r'); end >= 0; end = text.indexOf('\r', start)) {
+            writer.writeCharacters(text.substring(start, end));
+            writer.writeEntityRef("#13");
+            start = end + 1;
+        }
+        writer.writeCharacters(text.substring(start));
+        writer.writeEndElement();
+        writer.writeCharacters("\n");
+    }
+
+    /**
+     * Returns the text {@link XmlAdaptedTag} stores for {@code tag}.
+     */
+    private static String storedValueOf(Tag tag) {
+        return tag.tagName + "," + tag.tagType;
+    }
+
+    //// reading
+
+    /**
+     * Reads the root element and everything in it, handing the records to an {@link AddressBookLoader} as they
+     * are read. Tags are added to the master tag list before persons' tags, as in
+     * {@link XmlSerializableAddressBook#toModelType()}, so the master tag list keeps the file's order.
+     */
+    private static AddressBook readAddressBook(XMLStreamReader reader)
+            throws XMLStreamException, IllegalValueException {
+        if (reader.nextTag() != XMLStreamConstants.START_ELEMENT || !reader.getLocalName().equals(ROOT)) {
+            throw new XMLStreamException("Expected <" + ROOT + "> element", reader.getLocation());
+        }
+
+        AddressBookLoader loader = new AddressBookLoader();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case PERSON:
+                loader.addPerson(readPerson(reader));
+                break;
+            case PAIR:
+                loader.addPair(readPair(reader));
+                break;
+            case TAG:
+                loader.addTag(XmlAdaptedTag.fromStoredValue(reader.getElementText()));
+                break;
+            default:
+                skipElement(reader);
+                break;
+            }
+        }
+        return loader.finish();
+    }
+
+    /**
+     * Reads a person element, to be validated through {@link XmlAdaptedPerson#toModelType()}.
+     */
+    private static XmlAdaptedPerson readPerson(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        readFields(reader, fields, tagged);
+        return new XmlAdaptedPerson(fields.get("id"), fields.get("name"), fields.get("phone"), fields.get("email"),
+                fields.get("address"), fields.get("price"), fields.get("subject"), fields.get("level"),
+                fields.get("status"), fields.get("role"), tagged, fields.get("remark"));
+    }
+
+    /**
+     * Reads a pair element, to be validated through {@link XmlAdaptedPair#toModelType()}.
+     */
+    private static XmlAdaptedPair readPair(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        readFields(reader, fields, tagged);
+        return new XmlAdaptedPair(fields.get("id"), fields.get("studentId"), fields.get("tutorId"),
+                fields.get("studentName"), fields.get("tutorName"), fields.get("subject"),
+                fields.get("level"), fields.get("price"), tagged);
+    }
+
+    /**
+     * Reads the child elements of the current element into {@code fields}, by element name, and {@code tagged}.
+     * Leaves the reader at the end of the current element.
+     */
+    private static void readFields(XMLStreamReader reader, Map<String, String> fields, List<XmlAdaptedTag> tagged)
+            throws XMLStreamException {
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String name = reader.getLocalName();
+            String text = reader.getElementText();
+            if (name.equals(PERSON_TAG)) {
+                tagged.add(XmlAdaptedTag.fromStoredValue(text));
+            } else {
+                fields.put(name, text);
+            }
+        }
+    }
+
+    /**
+     * Skips the current element and everything in it, as JAXB ignores unknown elements.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+}
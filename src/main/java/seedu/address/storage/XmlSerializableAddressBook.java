@@ -47,21 +47,11 @@ public class XmlSerializableAddressBook {
     /**
      * Converts this addressbook into the model's {@code AddressBook} object.
      *
-     * @throws IllegalValueException if there were any data constraints violated or duplicates in the
-     * {@code XmlAdaptedPerson} or {@code XmlAdaptedTag}.
+     * @throws IllegalValueException listing all data constraints violated and duplicates in the
+     * {@code XmlAdaptedPerson}, {@code XmlAdaptedPair} or {@code XmlAdaptedTag}.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (XmlAdaptedTag t : tags) {
-            addressBook.addTag(t.toModelType());
-        }
-        for (XmlAdaptedPerson p : persons) {
-            addressBook.addPerson(p.toModelType());
-        }
-        for (XmlAdaptedPair pa : pairs) {
-            addressBook.addPair(pa.toModelType());
-        }
-        return addressBook;
+        return AddressBookLoader.load(tags, persons, pairs);
     }
 
     @Override
@@ -20,6 +20,10 @@ import seedu.address.model.tag.Tag;
 public class BrowserPanel extends UiPart<Region> {
 
     private static final String FXML = "BrowserPanel.fxml";
+    private static final Tag STUDENT_TAG = new Tag("Student");
+    private static final Tag STUDENT_TAG_LOWER_CASE = new Tag("student");
+    private static final Tag TUTOR_TAG = new Tag("Tutor");
+    private static final Tag TUTOR_TAG_LOWER_CASE = new Tag("tutor");
 
     private final Logger logger = LogsCenter.getLogger(this.getClass());
 
@@ -71,11 +75,9 @@ public class BrowserPanel extends UiPart<Region> {
         subject.setText(person.getSubject().value);
         level.setText(person.getLevel().value);
         price.setText("$" + person.getPrice().value + " / hr");
-        if (person.getTags().contains(new Tag("Student"))
-                || person.getTags().contains(new Tag("student"))) {
+        if (person.getTags().contains(STUDENT_TAG) || person.getTags().contains(STUDENT_TAG_LOWER_CASE)) {
             role.setText("Student");
-        } else if (person.getTags().contains(new Tag("Tutor"))
-                || person.getTags().contains(new Tag("tutor"))) {
+        } else if (person.getTags().contains(TUTOR_TAG) || person.getTags().contains(TUTOR_TAG_LOWER_CASE)) {
             role.setText("Tutor");
         }
         remark.setText(person.getRemark().value);
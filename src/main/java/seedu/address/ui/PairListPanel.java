@@ -44,7 +44,7 @@ public class PairListPanel extends UiPart<Region> {
         pairListView.getSelectionModel().selectedItemProperty()
                 .addListener((observable, oldValue, newValue) -> {
                     if (newValue != null) {
-                        logger.fine("Selection in pair list panel changed to : '" + newValue + "'");
+                        logger.fine(() -> "Selection in pair list panel changed to : '" + newValue + "'");
                         raise(new PairPanelSelectionChangedEvent(newValue));
                     }
                 });
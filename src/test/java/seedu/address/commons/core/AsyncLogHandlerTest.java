@@ -0,0 +1,129 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_records_writtenInOrderOnAnotherThread() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, target);
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(10, target.messages.size());
+        assertEquals("message 9", target.messages.get(9));
+        assertNotEquals(Thread.currentThread(), target.writingThread);
+        assertTrue(target.isFlushed);
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, target);
+        handler.setLevel(Level.INFO);
+        handler.publish(new LogRecord(Level.FINE, "fine"));
+        handler.publish(new LogRecord(Level.INFO, "info"));
+        handler.flush();
+
+        assertEquals(1, target.messages.size());
+        assertEquals(0, handler.getDroppedCount());
+    }
+
+    @Test
+    public void publish_bufferFull_recordsDroppedAndReported() throws Exception {
+        handler = new AsyncLogHandler(2, target);
+        handler.publish(new LogRecord(Level.INFO, "being written"));
+        assertTrue(target.writing.await(5, TimeUnit.SECONDS));
+
+        // the writer is stuck on the first record, so only two more fit
+        for (int i = 0; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "waiting " + i));
+        }
+        assertEquals(3, handler.getDroppedCount());
+
+        target.release.countDown();
+        handler.flush();
+        assertEquals(4, target.messages.size());
+        assertTrue(target.messages.get(1).startsWith("3 log records were dropped"));
+        assertEquals("waiting 0", target.messages.get(2));
+        assertEquals("waiting 1", target.messages.get(3));
+    }
+
+    @Test
+    public void close_recordsWaiting_writtenBeforeClosing() {
+        target.release.countDown();
+        handler = new AsyncLogHandler(16, target);
+        handler.publish(new LogRecord(Level.INFO, "last words"));
+        handler.close();
+
+        assertEquals(1, target.messages.size());
+        assertTrue(target.isClosed);
+
+        // closed -> further records dropped
+        handler.publish(new LogRecord(Level.INFO, "too late"));
+        assertEquals(1, handler.getDroppedCount());
+    }
+
+    /**
+     * Records the messages written to it, after waiting for {@code release}.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile Thread writingThread;
+        private volatile boolean isFlushed;
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            writingThread = Thread.currentThread();
+            writing.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+            isFlushed = true;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private EventsCenter eventsCenter;
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final RecordingHandler handler = new RecordingHandler();
+
+    @Before
+    public void setUp() {
+        EventsCenter.clearSubscribers();
+        eventsCenter = EventsCenter.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void post_synchronousDispatch_handlerCalledBeforeReturning() {
+        eventsCenter.registerHandler(handler, tasks::add);
+
+        TestEvent event = new TestEvent("a");
+        eventsCenter.post(event);
+        assertEquals(Collections.singletonList(event), handler.events);
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    public void post_asyncDispatch_handlerCalledOnExecutorInOrder() {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.registerHandler(handler, tasks::add);
+
+        TestEvent first = new TestEvent("a");
+        TestEvent second = new TestEvent("b");
+        eventsCenter.post(first).post(second);
+        assertTrue(handler.events.isEmpty());
+        assertEquals(2, eventsCenter.getQueueDepth(handler));
+
+        // one delivery task for all the pending events
+        assertEquals(1, tasks.size());
+        runTasks();
+        assertEquals(Arrays.asList(first, second), handler.events);
+        assertEquals(0, eventsCenter.getQueueDepth(handler));
+        assertEquals(2, eventsCenter.getPeakQueueDepth(handler));
+    }
+
+    @Test
+    public void post_coalescedType_onlyLatestPendingDelivered() {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.coalesce(SnapshotEvent.class);
+        eventsCenter.registerHandler(handler, tasks::add);
+
+        SnapshotEvent firstSnapshot = new SnapshotEvent("1");
+        TestEvent event = new TestEvent("a");
+        SnapshotEvent secondSnapshot = new SnapshotEvent("2");
+        eventsCenter.post(firstSnapshot).post(event).post(secondSnapshot);
+        assertEquals(2, eventsCenter.getQueueDepth(handler));
+
+        runTasks();
+        assertEquals(Arrays.asList(event, secondSnapshot), handler.events);
+
+        // delivered snapshot -> next one delivered as well
+        SnapshotEvent thirdSnapshot = new SnapshotEvent("3");
+        eventsCenter.post(thirdSnapshot);
+        runTasks();
+        assertEquals(Arrays.asList(event, secondSnapshot, thirdSnapshot), handler.events);
+    }
+
+    @Test
+    public void post_noHandler_countedAsDeadEvent() {
+        eventsCenter.registerHandler(handler);
+        eventsCenter.post(new TestEvent("a"));
+        assertEquals(0, eventsCenter.getDeadEventCount());
+
+        eventsCenter.post(new UnhandledEvent());
+        assertEquals(1, eventsCenter.getDeadEventCount());
+    }
+
+    @Test
+    public void awaitDelivery_backgroundExecutor_allEventsHandled() throws Exception {
+        eventsCenter.setAsyncDispatch(true);
+        eventsCenter.registerHandler(handler, eventsCenter.getBackgroundExecutor());
+
+        for (int i = 0; i < 100; i++) {
+            eventsCenter.post(new TestEvent(Integer.toString(i)));
+        }
+        assertTrue(eventsCenter.awaitDelivery(handler, 5000));
+        synchronized (handler) {
+            assertEquals(100, handler.events.size());
+            assertEquals("99", handler.events.get(99).toString());
+        }
+    }
+
+    private void runTasks() {
+        List<Runnable> pendingTasks = new ArrayList<>(tasks);
+        tasks.clear();
+        pendingTasks.forEach(Runnable::run);
+    }
+
+    /**
+     * An event identified by its name.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final String name;
+
+        TestEvent(String name) {
+            this.name = name;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+    /**
+     * An event of a type that may be coalesced.
+     */
+    private static class SnapshotEvent extends TestEvent {
+        SnapshotEvent(String name) {
+            super(name);
+        }
+    }
+
+    /**
+     * An event no handler subscribes to.
+     */
+    private static class UnhandledEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "unhandled";
+        }
+    }
+
+    /**
+     * Records the {@code TestEvent}s it handles.
+     */
+    private static class RecordingHandler {
+        private final List<BaseEvent> events = new ArrayList<>();
+
+        @Subscribe
+        public synchronized void handleTestEvent(TestEvent event) {
+            events.add(event);
+        }
+    }
+}
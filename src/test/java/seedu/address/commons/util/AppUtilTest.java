@@ -1,7 +1,10 @@
 package seedu.address.commons.util;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
+import java.util.Map;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -44,4 +47,13 @@ public class AppUtilTest {
         thrown.expectMessage(errorMessage);
         AppUtil.checkArgument(false,  errorMessage);
     }
+
+    @Test
+    public void getNamedArguments_mixedArguments_onlyNamedOnesReturned() {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(
+                "--port=8080", "positional", "--config=a=b.json", "--=empty", "--flag");
+        assertEquals(2, namedArguments.size());
+        assertEquals("8080", namedArguments.get("port"));
+        assertEquals("a=b.json", namedArguments.get("config"));
+    }
 }
@@ -0,0 +1,160 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void from_list_sameElementsInOrder() {
+        List<String> elements = Arrays.asList("a", "b", "c", "d", "e");
+        assertEquals(elements, PersistentList.from(elements));
+        assertTrue(PersistentList.empty().isEmpty());
+    }
+
+    @Test
+    public void updates_leavePreviousVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.from(Arrays.asList("a", "b", "c"));
+        PersistentList<String> replaced = original.with(1, "x");
+        PersistentList<String> appended = original.plus("d");
+        PersistentList<String> removed = original.minus(0);
+
+        assertEquals(Arrays.asList("a", "b", "c"), original);
+        assertEquals(Arrays.asList("a", "x", "c"), replaced);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), appended);
+        assertEquals(Arrays.asList("b", "c"), removed);
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation < 2) {
+                expected.add(i);
+                actual = actual.plus(i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                actual = actual.with(index, -i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.minus(index);
+            }
+        }
+        assertEquals(expected, actual);
+        assertEquals(expected, new ArrayList<>(actual));
+    }
+
+    @Test
+    public void plus_atIndex_insertedAndBalanced() {
+        Random random = new Random(11);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        for (int i = 0; i < 2000; i++) {
+            // inserting mostly at the front keeps rebalancing the tree
+            int index = random.nextInt(4) == 0 ? random.nextInt(expected.size() + 1) : 0;
+            expected.add(index, i);
+            actual = actual.plus(index, i);
+        }
+        assertEquals(expected, actual);
+        assertEquals(Arrays.asList("a", "x", "b"), PersistentList.from(Arrays.asList("a", "b")).plus(1, "x"));
+        assertEquals(Arrays.asList("a", "b", "x"), PersistentList.from(Arrays.asList("a", "b")).plus(2, "x"));
+    }
+
+    @Test
+    public void mismatchAndCommonSuffixLength_randomUpdates_matchElementwiseComparison() {
+        Random random = new Random(7);
+        PersistentList<Integer> original = PersistentList.empty();
+        for (int i = 0; i < 200; i++) {
+            original = original.plus(i);
+        }
+        for (int trial = 0; trial < 200; trial++) {
+            PersistentList<Integer> updated = original;
+            for (int update = random.nextInt(4); update > 0; update--) {
+                int index = random.nextInt(updated.size());
+                int operation = random.nextInt(3);
+                updated = operation == 0 ? updated.with(index, -1) : operation == 1 ? updated.plus(-2)
+                        : updated.minus(index);
+            }
+
+            int shorterSize = Math.min(original.size(), updated.size());
+            int expectedMismatch = 0;
+            while (expectedMismatch < shorterSize
+                    && original.get(expectedMismatch).equals(updated.get(expectedMismatch))) {
+                expectedMismatch++;
+            }
+            int expectedSuffix = 0;
+            while (expectedSuffix < shorterSize && original.get(original.size() - 1 - expectedSuffix)
+                    .equals(updated.get(updated.size() - 1 - expectedSuffix))) {
+                expectedSuffix++;
+            }
+            assertEquals(expectedMismatch, original.mismatch(updated, 0, Integer::equals));
+            assertEquals(expectedSuffix, original.commonSuffixLength(updated, Integer::equals));
+        }
+    }
+
+    @Test
+    public void mismatch_from_skipsEarlierMismatches() {
+        PersistentList<String> original = PersistentList.from(Arrays.asList("a", "b", "c", "d", "e"));
+        PersistentList<String> updated = original.with(1, "x").with(3, "y");
+
+        assertEquals(1, original.mismatch(updated, 0, String::equals));
+        assertEquals(3, original.mismatch(updated, 2, String::equals));
+        assertEquals(5, original.mismatch(updated, 4, String::equals));
+        assertEquals(5, original.mismatch(original, 0, String::equals));
+    }
+
+    @Test
+    public void mismatch_updatedCopy_sharedElementsNotCompared() {
+        PersistentList<Integer> original = PersistentList.empty();
+        for (int i = 0; i < 100_000; i++) {
+            original = original.plus(i);
+        }
+        PersistentList<Integer> updated = original.with(50_000, -1).minus(70_000);
+        int[] comparisons = new int[1];
+        BiPredicate<Integer, Integer> isSame = (a, b) -> {
+            comparisons[0]++;
+            return a.equals(b);
+        };
+
+        assertEquals(50_000, original.mismatch(updated, 0, isSame));
+        assertEquals(70_000, original.mismatch(updated, 50_001, isSame));
+        assertEquals(29_999, original.commonSuffixLength(updated, isSame));
+        // only the elements on the paths to the updates are compared
+        assertTrue(comparisons[0] < 200);
+    }
+
+    @Test
+    public void mismatch_fromPastShorterList_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.from(Arrays.asList("a")).mismatch(PersistentList.empty(), 1, String::equals);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentList.from(Arrays.asList("a")).get(1);
+    }
+
+    @Test
+    public void add_mutator_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        PersistentList.<String>empty().add("a");
+    }
+}
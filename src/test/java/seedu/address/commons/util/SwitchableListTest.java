@@ -0,0 +1,90 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class SwitchableListTest {
+
+    private final ObservableList<String> first = FXCollections.observableArrayList("a", "b");
+    private final ObservableList<String> second = FXCollections.observableArrayList("x", "y", "z");
+    private final SwitchableList<String> list = new SwitchableList<>(first);
+    private final List<String> copy = new ArrayList<>(list);
+
+    @Before
+    public void setUp() {
+        list.addListener(this::applyChange);
+    }
+
+    @Test
+    public void setSource_newSource_shownAndReportedAsReplacement() {
+        List<Boolean> wasReplaced = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                wasReplaced.add(change.wasReplaced());
+            }
+        });
+        list.setSource(second);
+
+        assertEquals(second, list);
+        assertEquals(second, copy);
+        assertEquals(Arrays.asList(true), wasReplaced);
+    }
+
+    @Test
+    public void setSource_sameSource_noChange() {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> changes.add(change.toString()));
+        list.setSource(first);
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void sourceChanged_currentSource_changesPassedOn() {
+        first.add("c");
+        first.remove("a");
+        first.set(0, "d");
+        assertEquals(Arrays.asList("d", "c"), copy);
+
+        first.sort(null);
+        assertEquals(Arrays.asList("c", "d"), copy);
+    }
+
+    @Test
+    public void sourceChanged_previousSource_changesIgnored() {
+        list.setSource(second);
+        first.add("c");
+        assertEquals(second, copy);
+        assertFalse(copy.contains("c"));
+    }
+
+    /**
+     * Applies {@code change} to {@code copy}, to check that the changes reported match the list.
+     */
+    private void applyChange(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(copy);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), copy.get(i));
+                }
+                copy.clear();
+                copy.addAll(permuted);
+            } else {
+                copy.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                copy.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -1,14 +1,20 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -16,6 +22,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
 
 
 public class LogicManagerTest {
@@ -46,6 +53,21 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_beginThenCommit_queuedCommandsRunTogether() throws Exception {
+        String addCommand = PersonUtil.getAddCommand(AMY);
+        assertCommandSuccess(BeginCommand.COMMAND_WORD, BeginCommand.MESSAGE_SUCCESS, model);
+        assertCommandSuccess(addCommand, String.format(BeginCommand.MESSAGE_QUEUED, 1), model);
+        assertCommandException(BeginCommand.COMMAND_WORD, BeginCommand.MESSAGE_BATCH_ALREADY_STARTED);
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+
+        assertTrue(logic.execute(CommitCommand.COMMAND_WORD).feedbackToUser.startsWith("Ran 1 commands in "));
+        assertEquals(Collections.singletonList(AMY), model.getAddressBook().getPersonList());
+
+        // batch committed -> nothing left to commit
+        assertCommandException(CommitCommand.COMMAND_WORD, CommitCommand.MESSAGE_NO_BATCH);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -8,6 +8,7 @@ import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -22,11 +23,15 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.StudentBuilder;
@@ -145,6 +150,27 @@ public class AddCommandTest {
             return null;
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            // undoable commands always take a snapshot, which is a view of the address book
+            return getAddressBook();
+        }
+
+        @Override
+        public void beginTransaction() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void commitTransaction() {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void rollbackTransaction() {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) throws PersonNotFoundException {
             fail("This method should not be called.");
@@ -167,6 +193,49 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredPersonListByQuery(Query query) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public QueryPlan planQuery(Query query) {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public boolean hasView(String name) {
+            fail("This method should not be called.");
+            return false;
+        }
+
+        @Override
+        public List<String> getViewNames() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void addView(String name, Query query) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToView(String name) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListByName(NameContainsKeywordsPredicate predicate) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void updateFilteredPersonListToSuggestedTutors(Person student, int k) {
+            fail("This method should not be called.");
+        }
+
         //dummy method
         @Override
         public ObservableList<Pair> getFilteredPairList() {
@@ -180,7 +249,29 @@ public class AddCommandTest {
         }
 
         @Override
-        public void deleteTag(Tag tag) throws PersonNotFoundException {
+        public boolean hasTag(Tag tag) {
+            fail("This method should not be called.");
+            return false;
+        }
+
+        @Override
+        public void deleteTag(Tag tag) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public void renameTag(Tag target, Tag replacement) {
+            fail("This method should not be called.");
+        }
+
+        @Override
+        public List<PairMatcher.Match> proposeMatches() {
+            fail("This method should not be called.");
+            return null;
+        }
+
+        @Override
+        public void addMatches(List<PairMatcher.Match> matches) {
             fail("This method should not be called.");
         }
 
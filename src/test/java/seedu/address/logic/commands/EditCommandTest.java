@@ -15,6 +15,7 @@ import static seedu.address.logic.commands.CommandTestUtil.prepareUndoCommand;
 import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPairs.ALICE_AND_BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.Test;
@@ -30,6 +31,7 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
+import seedu.address.testutil.PairBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 /**
@@ -111,6 +113,18 @@ public class EditCommandTest {
         assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PERSON);
     }
 
+    @Test
+    public void execute_renamedPairsDuplicateOthers_failure() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPair(ALICE_AND_BENSON);
+        addressBook.addPair(new PairBuilder(ALICE_AND_BENSON).withStudentName("Alice Renamed").build());
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        EditCommand editCommand = prepareCommand(INDEX_FIRST_PERSON,
+                new EditPersonDescriptorBuilder().withName("Alice Renamed").build());
+        assertCommandFailure(editCommand, model, EditCommand.MESSAGE_DUPLICATE_PAIR);
+    }
+
     @Test
     public void execute_duplicatePersonFilteredList_failure() {
         showPersonAtIndex(model, INDEX_FIRST_PERSON);
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ExplainCommand}.
+ */
+public class ExplainCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ExplainCommand explainMathCommand = new ExplainCommand(Query.keyword("math"));
+
+        // same values -> returns true
+        assertTrue(explainMathCommand.equals(new ExplainCommand(Query.keyword("math"))));
+
+        // different types -> returns false
+        assertFalse(explainMathCommand.equals(new FilterCommand(Query.keyword("math"))));
+
+        // different query -> returns false
+        assertFalse(explainMathCommand.equals(new ExplainCommand(Query.keyword("english"))));
+    }
+
+    @Test
+    public void execute_query_planShownAndPersonsListed() {
+        Query query = Query.and(Arrays.asList(Query.attribute(Attribute.LEVEL, "lower sec"), Query.tag("Friend")));
+        ExplainCommand command = new ExplainCommand(query);
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+
+        String expectedMessage = String.format(ExplainCommand.MESSAGE_PLAN, "AND (est. 2)\n"
+                + "  INDEX level = lower sec (2)\n"
+                + "  SCAN tag = Friend (est. 7)", String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2));
+        assertEquals(expectedMessage, command.execute().feedbackToUser);
+        assertEquals(Arrays.asList(ALICE, GEORGE), model.getFilteredPersonList());
+    }
+}
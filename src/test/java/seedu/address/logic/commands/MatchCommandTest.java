@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.prepareRedoCommand;
+import static seedu.address.logic.commands.CommandTestUtil.prepareUndoCommand;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) for {@code MatchCommand}.
+ */
+public class MatchCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_compatibleStudentAndTutor_pairedAndMarkedMatched() {
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        int expectedCount = expectedModel.proposeMatches().size();
+        addMatches(expectedModel);
+
+        assertCommandSuccess(prepareCommand(), model, String.format(MatchCommand.MESSAGE_SUCCESS, expectedCount),
+                expectedModel);
+
+        // Benson (english, upper sec, 150) can afford Fiona (english, upper sec, 99)
+        Pair pair = model.getAddressBook().getPairList().get(0);
+        assertEquals(BENSON.getName().fullName, pair.getStudentName());
+        assertEquals(FIONA.getName().fullName, pair.getTutorName());
+        Person benson = model.getAddressBook().getPersonList().stream()
+                .filter(person -> person.getName().equals(BENSON.getName())).findFirst().get();
+        assertEquals("Matched", benson.getStatus().value);
+        assertTrue(model.proposeMatches().isEmpty());
+    }
+
+    @Test
+    public void execute_noCompatiblePersons_nothingChanged() {
+        model = new ModelManager(new AddressBook(), new UserPrefs());
+        assertCommandSuccess(prepareCommand(), model, MatchCommand.MESSAGE_NO_MATCHES,
+                new ModelManager(new AddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void executeUndoRedo_matches_success() throws Exception {
+        UndoRedoStack undoRedoStack = new UndoRedoStack();
+        UndoCommand undoCommand = prepareUndoCommand(model, undoRedoStack);
+        RedoCommand redoCommand = prepareRedoCommand(model, undoRedoStack);
+        MatchCommand matchCommand = prepareCommand();
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        matchCommand.execute();
+        undoRedoStack.push(matchCommand);
+
+        // undo -> reverts addressbook back to previous state
+        assertCommandSuccess(undoCommand, model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // redo -> same persons matched again
+        addMatches(expectedModel);
+        assertCommandSuccess(redoCommand, model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        MatchCommand matchCommand = new MatchCommand();
+
+        assertTrue(matchCommand.equals(matchCommand));
+        assertTrue(matchCommand.equals(new MatchCommand()));
+        assertFalse(matchCommand.equals(new ClearCommand()));
+        assertFalse(matchCommand.equals(null));
+    }
+
+    /**
+     * Adds the matches proposed by {@code model} to it.
+     */
+    private static void addMatches(Model model) {
+        try {
+            model.addMatches(model.proposeMatches());
+        } catch (Exception e) {
+            throw new AssertionError("Proposed matches should always be addable", e);
+        }
+    }
+
+    /**
+     * Returns a {@code MatchCommand} with the data of {@code model}.
+     */
+    private MatchCommand prepareCommand() {
+        MatchCommand matchCommand = new MatchCommand();
+        matchCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        return matchCommand;
+    }
+}
@@ -0,0 +1,107 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_TAG;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.prepareRedoCommand;
+import static seedu.address.logic.commands.CommandTestUtil.prepareUndoCommand;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model, UndoCommand and RedoCommand) and unit tests for
+ * {@code RenameTagCommand}.
+ */
+public class RenameTagCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_newTagName_renamed() {
+        Tag target = new Tag(VALID_TAG_FRIEND);
+        Tag newTag = new Tag("Buddy");
+        String expectedMessage = String.format(RenameTagCommand.MESSAGE_RENAME_TAG_SUCCESS, target, newTag);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.renameTag(target, newTag);
+
+        assertCommandSuccess(prepareCommand(target, newTag), model, expectedMessage, expectedModel);
+        assertTrue(model.hasTag(newTag));
+        assertFalse(model.hasTag(target));
+    }
+
+    @Test
+    public void execute_existingTagName_merged() throws Exception {
+        Tag target = new Tag(VALID_TAG_FRIEND);
+        Tag newTag = new Tag(VALID_TAG_HUSBAND);
+        model.addPerson(new PersonBuilder().withName("Husband Person").withTags(VALID_TAG_HUSBAND).build());
+        String expectedMessage = String.format(RenameTagCommand.MESSAGE_MERGE_TAG_SUCCESS, target, newTag);
+
+        ModelManager expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.renameTag(target, newTag);
+
+        assertCommandSuccess(prepareCommand(target, newTag), model, expectedMessage, expectedModel);
+        assertFalse(model.hasTag(target));
+    }
+
+    @Test
+    public void execute_nonExistingTag_failure() {
+        assertCommandFailure(prepareCommand(new Tag("nonExistingTag"), new Tag("Buddy")), model,
+                MESSAGE_INVALID_TAG);
+    }
+
+    @Test
+    public void executeUndoRedo_validTag_success() throws Exception {
+        UndoRedoStack undoRedoStack = new UndoRedoStack();
+        UndoCommand undoCommand = prepareUndoCommand(model, undoRedoStack);
+        RedoCommand redoCommand = prepareRedoCommand(model, undoRedoStack);
+        Tag target = new Tag(VALID_TAG_FRIEND);
+        Tag newTag = new Tag("Buddy");
+        RenameTagCommand renameTagCommand = prepareCommand(target, newTag);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+
+        renameTagCommand.execute();
+        undoRedoStack.push(renameTagCommand);
+
+        // undo -> reverts addressbook back to previous state
+        assertCommandSuccess(undoCommand, model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // redo -> same tag renamed again
+        expectedModel.renameTag(target, newTag);
+        assertCommandSuccess(redoCommand, model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        RenameTagCommand renameFriend = new RenameTagCommand(new Tag(VALID_TAG_FRIEND), new Tag("Buddy"));
+
+        assertTrue(renameFriend.equals(renameFriend));
+        assertTrue(renameFriend.equals(new RenameTagCommand(new Tag(VALID_TAG_FRIEND), new Tag("Buddy"))));
+        assertFalse(renameFriend.equals(new RenameTagCommand(new Tag(VALID_TAG_FRIEND), new Tag("Pal"))));
+        assertFalse(renameFriend.equals(new RenameTagCommand(new Tag(VALID_TAG_HUSBAND), new Tag("Buddy"))));
+        assertFalse(renameFriend.equals(null));
+    }
+
+    /**
+     * Returns a {@code RenameTagCommand} with the given tags.
+     */
+    private RenameTagCommand prepareCommand(Tag target, Tag newTag) {
+        RenameTagCommand renameTagCommand = new RenameTagCommand(target, newTag);
+        renameTagCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        return renameTagCommand;
+    }
+
+}
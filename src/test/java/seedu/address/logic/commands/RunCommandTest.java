@@ -0,0 +1,160 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.prepareRedoCommand;
+import static seedu.address.logic.commands.CommandTestUtil.prepareUndoCommand;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class RunCommandTest {
+    @Rule
+    public final TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final UndoRedoStack undoRedoStack = new UndoRedoStack();
+
+    @Test
+    public void execute_validScript_allCommandsRunAsOneUndoableCommand() throws Exception {
+        RunCommand runCommand = prepareCommand(writeScript(
+                "# new sign-ups",
+                PersonUtil.getAddCommand(AMY),
+                "",
+                PersonUtil.getAddCommand(BOB),
+                DeleteCommand.COMMAND_WORD + " 1"));
+        eventsCollectorRule.eventsCollector.reset();
+
+        CommandResult result = runCommand.execute();
+        assertTrue(result.feedbackToUser.startsWith("Ran 3 commands in "));
+        // the changes are announced, and so saved, once
+        assertEquals(1, countAddressBookChangedEvents());
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(AMY);
+        expectedModel.addPerson(BOB);
+        expectedModel.deletePerson(expectedModel.getFilteredPersonList().get(0));
+        assertEquals(expectedModel, model);
+
+        // one undo for the whole script
+        undoRedoStack.push(runCommand);
+        prepareUndoCommand(model, undoRedoStack).execute();
+        assertEquals(new ModelManager(getTypicalAddressBook(), new UserPrefs()), model);
+
+        // redo runs the same commands again
+        prepareRedoCommand(model, undoRedoStack).execute();
+        assertEquals(expectedModel, model);
+    }
+
+    @Test
+    public void execute_failingCommand_noChangesMade() throws Exception {
+        String failingLine = DeleteCommand.COMMAND_WORD + " 100";
+        RunCommand runCommand = prepareCommand(writeScript(PersonUtil.getAddCommand(AMY), failingLine));
+        eventsCollectorRule.eventsCollector.reset();
+
+        assertCommandFailure(runCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                failingLine, MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertEquals(0, countAddressBookChangedEvents());
+    }
+
+    @Test
+    public void execute_commandNotAllowedInBatch_noChangesMade() throws Exception {
+        RunCommand runCommand = prepareCommand(writeScript(PersonUtil.getAddCommand(AMY), UndoCommand.COMMAND_WORD));
+
+        assertCommandFailure(runCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                UndoCommand.COMMAND_WORD, BatchCommand.MESSAGE_COMMAND_NOT_ALLOWED));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "missing.txt").getPath();
+        RunCommand runCommand = prepareCommand(filePath);
+
+        try {
+            runCommand.execute();
+            throw new AssertionError("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith("Could not read " + filePath));
+        }
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand("first.txt");
+        RunCommand runSecondCommand = new RunCommand("second.txt");
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand("first.txt")));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    /**
+     * Writes {@code lines} to a new file and returns its path.
+     */
+    private String writeScript(String... lines) throws IOException {
+        File script = testFolder.newFile();
+        Files.write(script.toPath(), Arrays.asList(lines), StandardCharsets.UTF_8);
+        return script.getPath();
+    }
+
+    /**
+     * Returns a {@code RunCommand} running the file at {@code filePath}, with the model and stack of this test.
+     */
+    private RunCommand prepareCommand(String filePath) {
+        RunCommand runCommand = new RunCommand(filePath);
+        runCommand.setData(model, new CommandHistory(), undoRedoStack);
+        return runCommand;
+    }
+
+    /**
+     * Returns the number of {@code AddressBookChangedEvent}s collected.
+     */
+    private long countAddressBookChangedEvents() {
+        long count = 0;
+        for (int i = 0; i < eventsCollectorRule.eventsCollector.getSize(); i++) {
+            BaseEvent event = eventsCollectorRule.eventsCollector.get(i);
+            if (event instanceof AddressBookChangedEvent) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SuggestCommand}.
+ */
+public class SuggestCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_student_tutorsListedInRankOrder() throws Exception {
+        Person cheaperTutor = new PersonBuilder(ELLE).withName("Cheaper Tutor").withPhone("9000001")
+                .withPrice("60").build();
+        model.addPerson(cheaperTutor);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.updateFilteredPersonListToSuggestedTutors(ALICE, SuggestCommand.DEFAULT_COUNT);
+
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUGGEST_SUCCESS, 2, ALICE.getName());
+        assertCommandSuccess(prepareCommand(INDEX_FIRST_PERSON, SuggestCommand.DEFAULT_COUNT), model,
+                expectedMessage, expectedModel);
+        // Alice (math, lower sec, 50) is closer in price to the cheaper tutor, added after Elle
+        assertEquals(Arrays.asList(cheaperTutor, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_suggestedTutorEdited_rankingRefreshed() throws Exception {
+        prepareCommand(INDEX_FIRST_PERSON, 1).execute();
+        Person editedElle = new PersonBuilder(ELLE).withStatus("matched").build();
+        model.updatePerson(ELLE, editedElle);
+
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tutor_throwsCommandException() {
+        Index elleIndex = Index.fromOneBased(model.getFilteredPersonList().indexOf(ELLE) + 1);
+        assertCommandFailure(prepareCommand(elleIndex, 1), model, SuggestCommand.MESSAGE_NOT_STUDENT);
+    }
+
+    @Test
+    public void execute_invalidIndex_throwsCommandException() {
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size() + 1);
+        assertCommandFailure(prepareCommand(outOfBoundIndex, 1), model,
+                Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void equals() {
+        SuggestCommand suggestFirst = new SuggestCommand(INDEX_FIRST_PERSON, 3);
+
+        assertTrue(suggestFirst.equals(suggestFirst));
+        assertTrue(suggestFirst.equals(new SuggestCommand(INDEX_FIRST_PERSON, 3)));
+        assertFalse(suggestFirst.equals(new SuggestCommand(INDEX_FIRST_PERSON, 4)));
+        assertFalse(suggestFirst.equals(new SuggestCommand(INDEX_SECOND_PERSON, 3)));
+        assertFalse(suggestFirst.equals(null));
+    }
+
+    /**
+     * Returns a {@code SuggestCommand} with the given parameters and the data of {@code model}.
+     */
+    private SuggestCommand prepareCommand(Index index, int count) {
+        SuggestCommand suggestCommand = new SuggestCommand(index, count);
+        suggestCommand.setData(model, new CommandHistory(), new UndoRedoStack());
+        return suggestCommand;
+    }
+}
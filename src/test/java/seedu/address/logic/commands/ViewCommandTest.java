@@ -0,0 +1,89 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.query.Query;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ViewCommand}.
+ */
+public class ViewCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        ViewCommand viewTutorsCommand = new ViewCommand(Model.VIEW_TUTORS);
+        ViewCommand saveViewCommand = new ViewCommand("mathtutors", Query.keyword("math"));
+
+        // same values -> returns true
+        assertTrue(viewTutorsCommand.equals(new ViewCommand(Model.VIEW_TUTORS)));
+        assertTrue(saveViewCommand.equals(new ViewCommand("mathtutors", Query.keyword("math"))));
+
+        // different types -> returns false
+        assertFalse(viewTutorsCommand.equals(1));
+
+        // different name or query -> returns false
+        assertFalse(viewTutorsCommand.equals(new ViewCommand(Model.VIEW_STUDENTS)));
+        assertFalse(saveViewCommand.equals(new ViewCommand("mathtutors")));
+        assertFalse(saveViewCommand.equals(new ViewCommand("mathtutors", Query.keyword("english"))));
+    }
+
+    @Test
+    public void execute_existingView_personsOfViewListed() throws Exception {
+        CommandResult result = prepareCommand(new ViewCommand("Tutors")).execute();
+
+        assertEquals(String.format(ViewCommand.MESSAGE_VIEW_SUCCESS, Model.VIEW_TUTORS,
+                String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 4)), result.feedbackToUser);
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_newViewWithQuery_savedAndListed() throws Exception {
+        prepareCommand(new ViewCommand("mathtutors", Query.and(Arrays.asList(Query.keyword("math"),
+                Query.keyword("tutor"))))).execute();
+        assertEquals(Collections.singletonList(ELLE), model.getFilteredPersonList());
+
+        model.updateFilteredPersonList(Model.PREDICATE_SHOW_ALL_PERSONS);
+        prepareCommand(new ViewCommand("mathtutors")).execute();
+        assertEquals(Collections.singletonList(ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_unknownView_throwsCommandException() {
+        assertCommandFailure(prepareCommand(new ViewCommand("busy")), model,
+                String.format(ViewCommand.MESSAGE_UNKNOWN_VIEW, "busy", "students, tutors, unmatched"));
+    }
+
+    @Test
+    public void execute_existingViewWithQuery_throwsCommandException() {
+        assertCommandFailure(prepareCommand(new ViewCommand(Model.VIEW_STUDENTS, Query.keyword("math"))), model,
+                String.format(ViewCommand.MESSAGE_DUPLICATE_VIEW, Model.VIEW_STUDENTS));
+    }
+
+    /**
+     * Sets up {@code command} to run against {@code model}.
+     */
+    private ViewCommand prepareCommand(ViewCommand command) {
+        command.setData(model, new CommandHistory(), new UndoRedoStack());
+        return command;
+    }
+}
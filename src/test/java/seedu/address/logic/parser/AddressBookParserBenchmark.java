@@ -0,0 +1,91 @@
+package seedu.address.logic.parser;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.AppUtil;
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@link AddressBookParser} takes to parse realistic {@code add} and {@code edit} commands, and
+ * prints the time per command of each run and of the best run.
+ *
+ * Takes the named arguments {@code --lines=COUNT}, the number of commands of each kind parsed in a run (default
+ * {@value #DEFAULT_LINES}), and {@code --runs=COUNT}, the number of runs (default {@value #DEFAULT_RUNS}). The
+ * first runs warm the JIT compiler up, so compare the best runs.
+ */
+public class AddressBookParserBenchmark {
+
+    public static final int DEFAULT_LINES = 100_000;
+    public static final int DEFAULT_RUNS = 12;
+
+    private static final String[] SUBJECTS = { "math", "english", "physics", "chemistry" };
+
+    /** Keeps the parsed commands reachable, so that parsing them cannot be optimized away. */
+    private static volatile Command sink;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private final String[] addLines;
+    private final String[] editLines;
+
+    public AddressBookParserBenchmark(int lines) {
+        addLines = new String[lines];
+        editLines = new String[lines];
+        for (int i = 0; i < lines; i++) {
+            addLines[i] = "add n/Person Number " + i + " p/9" + String.format("%07d", i) + " e/person" + i
+                    + "@example.com a/Block " + (i % 500) + ", Clementi Ave 2, #02-25 $/" + (20 + i % 200)
+                    + " sub/" + SUBJECTS[i % SUBJECTS.length] + " lvl/upper sec stat/not matched r/"
+                    + (i % 2 == 0 ? "student" : "tutor") + " t/friends t/colleagues";
+            editLines[i] = "edit " + (1 + i % 1000) + " p/9" + String.format("%07d", i) + " e/new" + i
+                    + "@example.com t/priority";
+        }
+    }
+
+    /**
+     * Parses every {@code add} command once and returns the nanoseconds taken per command.
+     */
+    public double timeAddLines() throws ParseException {
+        return timePerLine(addLines);
+    }
+
+    /**
+     * Parses every {@code edit} command once and returns the nanoseconds taken per command.
+     */
+    public double timeEditLines() throws ParseException {
+        return timePerLine(editLines);
+    }
+
+    /**
+     * Parses each of {@code lines} once and returns the nanoseconds taken per line.
+     */
+    private double timePerLine(String[] lines) throws ParseException {
+        long startTime = System.nanoTime();
+        for (String line : lines) {
+            sink = parser.parseCommand(line);
+        }
+        return (System.nanoTime() - startTime) / (double) lines.length;
+    }
+
+    /**
+     * Runs the benchmark described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args) throws ParseException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int lines = Integer.parseInt(namedArguments.getOrDefault("lines", Integer.toString(DEFAULT_LINES)));
+        int runs = Integer.parseInt(namedArguments.getOrDefault("runs", Integer.toString(DEFAULT_RUNS)));
+
+        AddressBookParserBenchmark benchmark = new AddressBookParserBenchmark(lines);
+        double bestAdd = Double.MAX_VALUE;
+        double bestEdit = Double.MAX_VALUE;
+        for (int run = 1; run <= runs; run++) {
+            double add = benchmark.timeAddLines();
+            double edit = benchmark.timeEditLines();
+            bestAdd = Math.min(bestAdd, add);
+            bestEdit = Math.min(bestEdit, edit);
+            System.out.printf("run %d: add %.0f ns per line, edit %.0f ns per line%n", run, add, edit);
+        }
+        System.out.printf("best of %d runs over %d lines each: add %.2f us per line, edit %.2f us per line%n",
+                runs, lines, bestAdd / TimeUnit.MICROSECONDS.toNanos(1), bestEdit / TimeUnit.MICROSECONDS.toNanos(1));
+    }
+}
@@ -7,7 +7,10 @@ import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.REMARK_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import java.util.Arrays;
@@ -19,26 +22,34 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.BeginCommand;
 import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.CommitCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExplainCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.MatchCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RemarkCommand;
 import seedu.address.logic.commands.RemoveTagCommand;
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.KeywordPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Remark;
+import seedu.address.model.query.Query;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -120,7 +131,19 @@ public class AddressBookParserTest {
         String keyword = "foo";
         FilterCommand command = (FilterCommand) parser.parseCommand(
                 FilterCommand.COMMAND_WORD + " " + keyword);
-        assertEquals(new FilterCommand(new KeywordPredicate(keyword)), command);
+        assertEquals(new FilterCommand(Query.keyword(keyword)), command);
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        ViewCommand command = (ViewCommand) parser.parseCommand(ViewCommand.COMMAND_WORD + " tutors");
+        assertEquals(new ViewCommand("tutors"), command);
+    }
+
+    @Test
+    public void parseCommand_explain() throws Exception {
+        ExplainCommand command = (ExplainCommand) parser.parseCommand(ExplainCommand.COMMAND_WORD + " not foo");
+        assertEquals(new ExplainCommand(Query.not(Query.keyword("foo"))), command);
     }
 
     @Test
@@ -189,6 +212,15 @@ public class AddressBookParserTest {
         assertEquals(new SelectCommand(INDEX_FIRST_PERSON), command);
     }
 
+    @Test
+    public void parseCommand_suggest() throws Exception {
+        SuggestCommand command = (SuggestCommand) parser.parseCommand(
+                SuggestCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " " + PREFIX_COUNT + "3");
+        assertEquals(new SuggestCommand(INDEX_FIRST_PERSON, 3), command);
+        assertEquals(new SuggestCommand(INDEX_FIRST_PERSON, SuggestCommand.DEFAULT_COUNT), parser.parseCommand(
+                SuggestCommand.COMMAND_WORD_ALIAS + " " + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
     @Test
     public void parseCommand_redoCommandWord_returnsRedoCommand() throws Exception {
         assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
@@ -228,6 +260,21 @@ public class AddressBookParserTest {
         assertEquals(new RemoveTagCommand(new Tag(VALID_TAG_FRIEND)), command);
     }
 
+    @Test
+    public void parseCommand_renameTag() throws Exception {
+        RenameTagCommand command = (RenameTagCommand) parser.parseCommand(
+                RenameTagCommand.COMMAND_WORD + " " + VALID_TAG_FRIEND + " " + PREFIX_TAG + VALID_TAG_HUSBAND);
+        assertEquals(new RenameTagCommand(new Tag(VALID_TAG_FRIEND), new Tag(VALID_TAG_HUSBAND)), command);
+        assertEquals(command, parser.parseCommand(
+                RenameTagCommand.COMMAND_WORD_ALIAS + " " + VALID_TAG_FRIEND + " " + PREFIX_TAG + VALID_TAG_HUSBAND));
+    }
+
+    @Test
+    public void parseCommand_match() throws Exception {
+        assertTrue(parser.parseCommand(MatchCommand.COMMAND_WORD) instanceof MatchCommand);
+        assertTrue(parser.parseCommand(MatchCommand.COMMAND_WORD_ALIAS + " 3") instanceof MatchCommand);
+    }
+
     @Test
     public void parseCommand_remark() throws Exception {
         RemarkCommand command = (RemarkCommand) parser.parseCommand(RemarkCommand.COMMAND_WORD + " "
@@ -236,6 +283,18 @@ public class AddressBookParserTest {
         assertEquals(new RemarkCommand(INDEX_FIRST_PERSON, remark), command);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " onboarding.txt");
+        assertEquals(new RunCommand("onboarding.txt"), command);
+    }
+
+    @Test
+    public void parseCommand_beginAndCommit() throws Exception {
+        assertTrue(parser.parseCommand(BeginCommand.COMMAND_WORD) instanceof BeginCommand);
+        assertTrue(parser.parseCommand(CommitCommand.COMMAND_WORD) instanceof CommitCommand);
+    }
+
     @Test
     public void parseCommand_remarkAliased() throws Exception {
         RemarkCommand command = (RemarkCommand) parser.parseCommand(RemarkCommand.COMMAND_WORD_ALIAS + " "
@@ -257,4 +316,11 @@ public class AddressBookParserTest {
         thrown.expectMessage(MESSAGE_UNKNOWN_COMMAND);
         parser.parseCommand("unknownCommand");
     }
+
+    @Test
+    public void parseCommand_argumentsOnSeveralLines_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand(FindCommand.COMMAND_WORD + " foo\nbar");
+    }
 }
@@ -1,11 +1,17 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.logic.commands.FilterCommand;
-import seedu.address.model.person.KeywordPredicate;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.PriceRange;
+import seedu.address.model.query.Query;
 
 public class FilterCommandParserTest {
 
@@ -15,11 +21,75 @@ public class FilterCommandParserTest {
     public void parse_validArg_returnsFindCommand() {
         // no leading and trailing whitespaces
         FilterCommand expectedFilterCommand =
-                new FilterCommand(new KeywordPredicate("Alice"));
+                new FilterCommand(Query.keyword("Alice"));
         assertParseSuccess(parser, "Alice", expectedFilterCommand);
 
         // multiple whitespaces before and after keyword
         assertParseSuccess(parser, " \n Alice \n ", expectedFilterCommand);
     }
 
+    @Test
+    public void parse_joinedKeywords_returnsFilterCommand() {
+        assertParseSuccess(parser, "math and upper sec",
+                new FilterCommand(Query.and(Arrays.asList(Query.keyword("math"), Query.keyword("upper sec")))));
+        assertParseSuccess(parser, "math OR english or physics",
+                new FilterCommand(Query.or(Arrays.asList(Query.keyword("math"), Query.keyword("english"),
+                        Query.keyword("physics")))));
+    }
+
+    @Test
+    public void parse_priceRanges_returnsFilterCommand() {
+        assertParseSuccess(parser, "$/30-50",
+                new FilterCommand(Query.price(new PriceRange("30-50"))));
+        assertParseSuccess(parser, "math and $/60-",
+                new FilterCommand(Query.and(Arrays.asList(Query.keyword("math"),
+                        Query.price(new PriceRange("60-"))))));
+    }
+
+    @Test
+    public void parse_invalidPriceRange_throwsParseException() {
+        assertParseFailure(parser, "$/50-30", PriceRange.MESSAGE_PRICE_RANGE_CONSTRAINTS);
+        assertParseFailure(parser, "math or $/cheap", PriceRange.MESSAGE_PRICE_RANGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_mixedConnectors_throwsParseException() {
+        assertParseFailure(parser, "math and upper sec or english",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_groupedAndNegatedTerms_returnsFilterCommand() {
+        assertParseSuccess(parser, "(sub/math or sub/physics) and not stat/not matched",
+                new FilterCommand(Query.and(Arrays.asList(
+                        Query.or(Arrays.asList(Query.attribute(Attribute.SUBJECT, "math"),
+                                Query.attribute(Attribute.SUBJECT, "physics"))),
+                        Query.not(Query.attribute(Attribute.STATUS, "not matched"))))));
+        assertParseSuccess(parser, "t/friends or n/alice bob",
+                new FilterCommand(Query.or(Arrays.asList(Query.tag("friends"),
+                        Query.name(Arrays.asList("alice", "bob"))))));
+    }
+
+    @Test
+    public void parse_notMatchedStatus_returnsFilterCommand() {
+        // whole term -> the status keyword, not a negation
+        assertParseSuccess(parser, "not matched", new FilterCommand(Query.keyword("not matched")));
+        assertParseSuccess(parser, "math and Not Matched",
+                new FilterCommand(Query.and(Arrays.asList(Query.keyword("math"), Query.keyword("Not Matched")))));
+        assertParseSuccess(parser, "not not matched", new FilterCommand(Query.not(Query.keyword("not matched"))));
+
+        // more words in the term -> negation
+        assertParseSuccess(parser, "not matched tutor", new FilterCommand(Query.not(Query.keyword("matched tutor"))));
+    }
+
+    @Test
+    public void parse_malformedQuery_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "(math and english", expectedMessage);
+        assertParseFailure(parser, "math and", expectedMessage);
+        assertParseFailure(parser, "not", expectedMessage);
+        assertParseFailure(parser, "sub/", expectedMessage);
+        assertParseFailure(parser, "math)", expectedMessage);
+    }
+
 }
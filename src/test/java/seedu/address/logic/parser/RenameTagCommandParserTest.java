@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RenameTagCommand;
+import seedu.address.model.tag.Tag;
+
+public class RenameTagCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, RenameTagCommand.MESSAGE_USAGE);
+
+    private RenameTagCommandParser parser = new RenameTagCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsRenameTagCommand() {
+        assertParseSuccess(parser, " Maths t/Math", new RenameTagCommand(new Tag("Maths"), new Tag("Math")));
+        assertParseSuccess(parser, " Lower Sec t/ Secondary One ",
+                new RenameTagCommand(new Tag("Lower Sec"), new Tag("Secondary One")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        // missing new tag
+        assertParseFailure(parser, " Maths", MESSAGE_INVALID_FORMAT);
+        // missing target tag
+        assertParseFailure(parser, " t/Math", MESSAGE_INVALID_FORMAT);
+        // invalid tag name
+        assertParseFailure(parser, " Maths t/Math*", MESSAGE_INVALID_FORMAT);
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SuggestCommand;
+
+public class SuggestCommandParserTest {
+
+    private SuggestCommandParser parser = new SuggestCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsSuggestCommand() {
+        assertParseSuccess(parser, "1", new SuggestCommand(INDEX_FIRST_PERSON, SuggestCommand.DEFAULT_COUNT));
+        assertParseSuccess(parser, "1 " + PREFIX_COUNT + " 3 ", new SuggestCommand(INDEX_FIRST_PERSON, 3));
+    }
+
+    @Test
+    public void parse_invalidIndex_throwsParseException() {
+        assertParseFailure(parser, "a " + PREFIX_COUNT + "3",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidCount_throwsParseException() {
+        assertParseFailure(parser, "1 " + PREFIX_COUNT + "0", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, "1 " + PREFIX_COUNT + "many", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+    }
+}
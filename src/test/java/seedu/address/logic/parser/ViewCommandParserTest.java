@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.model.query.Query;
+
+public class ViewCommandParserTest {
+
+    private ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_nameOnly_returnsViewCommand() {
+        assertParseSuccess(parser, " tutors ", new ViewCommand("tutors"));
+    }
+
+    @Test
+    public void parse_nameAndQuery_returnsViewCommand() {
+        assertParseSuccess(parser, "mathtutors  math and tutor", new ViewCommand("mathtutors",
+                Query.and(Arrays.asList(Query.keyword("math"), Query.keyword("tutor")))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "math-tutors", ViewCommandParser.MESSAGE_INVALID_NAME);
+        assertParseFailure(parser, "mathtutors math and",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE));
+    }
+}
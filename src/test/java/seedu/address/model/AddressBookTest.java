@@ -1,18 +1,30 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_UNUSED;
+import static seedu.address.testutil.TypicalPairs.ALICE_AND_BENSON;
+import static seedu.address.testutil.TypicalPairs.CARL_AND_DANIEL;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,10 +33,16 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairMatcher;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Status;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PairBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 
@@ -57,6 +75,101 @@ public class AddressBookTest {
         assertEquals(newData, addressBook);
     }
 
+    @Test
+    public void resetData_withSnapshot_restoresDataAtSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        addressBook.resetData(original);
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(ALICE);
+        addressBook.addPerson(AMY);
+        assertEquals(original.getPersonList().size(), snapshot.getPersonList().size());
+        assertEquals(ALICE, snapshot.getPersonList().get(0));
+
+        addressBook.resetData(snapshot);
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void restore_snapshotBeforeChanges_changesUndoneAndIndexesKept() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPair(ALICE_AND_BENSON);
+        addressBook.addPair(CARL_AND_DANIEL);
+        addressBook.addPair(new PairBuilder().withStudentName("Alice Pauline").withTutorName("Daniel Meier")
+                .withTags("Chemistry").build());
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        AddressBook rebuilt = new AddressBook(snapshot);
+
+        addressBook.removePerson(ALICE);
+        addressBook.updatePerson(DANIEL, new PersonBuilder(DANIEL).withName("Daniel Renamed").withTags("new").build());
+        addressBook.addPerson(AMY);
+        addressBook.renameTag(new Tag("Physics"), new Tag("Science"));
+        addressBook.applyMatches(Collections.singletonList(new PairMatcher.Match(BENSON, ELLE)));
+        Pair matchedPair = addressBook.getPairList().get(1);
+
+        // changes undone last first
+        List<String> undone = new ArrayList<>();
+        assertTrue(addressBook.restore(snapshot, new AddressBook.ChangeListener() {
+            @Override
+            public void personAdded(Person person, int position) {
+                undone.add("added " + person.getName() + " at " + position);
+            }
+
+            @Override
+            public void pairRemoved(Pair pair, int position) {
+                undone.add("removed " + pair.getPairName() + " at " + position);
+            }
+        }));
+        assertEquals(rebuilt, addressBook);
+        assertEquals(rebuilt.getPairList(), addressBook.getPairList());
+        assertEquals(snapshot.getTagList(), addressBook.getTagList());
+        assertEquals("removed " + matchedPair.getPairName() + " at 1", undone.get(0));
+        assertEquals("added " + ALICE.getName() + " at 0", undone.get(undone.size() - 1));
+
+        // indexes -> as rebuilt from the snapshot
+        for (Person person : rebuilt.getPersonList()) {
+            assertEquals(rebuilt.indexOfPerson(person), addressBook.indexOfPerson(person));
+            assertEquals(new HashSet<>(rebuilt.getPairsOf(person)), new HashSet<>(addressBook.getPairsOf(person)));
+        }
+        assertEquals(rebuilt.suggestTutors(CARL, 5), addressBook.suggestTutors(CARL, 5));
+        assertEquals(rebuilt.getPersonsWithNameMatching(new NameContainsKeywordsPredicate(
+                Collections.singletonList("Daniel"))), addressBook.getPersonsWithNameMatching(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Daniel"))));
+
+        // tag use counts -> every tag released with the last person or pair using it
+        for (Person person : new ArrayList<>(addressBook.getPersonList())) {
+            addressBook.removePerson(person);
+        }
+        assertEquals(Collections.emptyList(), addressBook.getTagList());
+    }
+
+    @Test
+    public void restore_snapshotNotInLog_rebuiltWithoutChanges() throws Exception {
+        AddressBook other = getTypicalAddressBook();
+        AddressBook.ChangeListener failingListener = new AddressBook.ChangeListener() {
+            @Override
+            public void personAdded(Person person, int position) {
+                fail("A rebuild should not report changes");
+            }
+        };
+
+        // snapshot of another address book
+        assertFalse(addressBook.restore(other.snapshot(), failingListener));
+        assertEquals(other, addressBook);
+
+        // log started again since the snapshot
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+        addressBook.setPersons(Collections.singletonList(AMY));
+        assertFalse(addressBook.restore(snapshot, failingListener));
+        assertEquals(other, addressBook);
+
+        // snapshot taken after the rebuild -> changes since undone
+        snapshot = addressBook.snapshot();
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.restore(snapshot, new AddressBook.ChangeListener() {}));
+        assertEquals(other, addressBook);
+    }
+
     @Test
     public void resetData_withDuplicatePersons_throwsAssertionError() {
         // Repeat ALICE twice
@@ -109,6 +222,256 @@ public class AddressBookTest {
         assertEquals(expectedAddressBook, addressBookWithAmyandBob);
     }
 
+    @Test
+    public void removeTag_tagUsedByPair_tagRemovedFromPair() throws Exception {
+        addressBook.addPair(new PairBuilder().withTags("paired").build());
+        addressBook.removeTag(new Tag("paired"));
+        assertFalse(addressBook.getPairList().get(0).hasTag(new Tag("paired")));
+        assertFalse(addressBook.hasTag(new Tag("paired")));
+    }
+
+    @Test
+    public void removeTag_tagUsedByPersonAndPair_rewrittenRecordsReturned() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(ALICE_AND_BENSON);
+        Person oldAlice = typicalAddressBook.getPersonList().get(0);
+        Pair oldPair = typicalAddressBook.getPairList().get(0);
+
+        AddressBook.TagReplacement removal = typicalAddressBook.removeTag(new Tag("Math"));
+        assertTrue(removal.isTagReplaced());
+        assertSame(oldAlice, removal.getOldPersons().get(0));
+        assertSame(typicalAddressBook.getPersonList().get(0), removal.getNewPersons().get(0));
+        assertEquals(Collections.singletonList(oldPair), removal.getOldPairs());
+        assertSame(typicalAddressBook.getPairList().get(0), removal.getNewPairs().get(0));
+
+        // tag no longer in the master tag list -> nothing rewritten
+        removal = typicalAddressBook.removeTag(new Tag("Math"));
+        assertFalse(removal.isTagReplaced());
+        assertTrue(removal.getOldPersons().isEmpty());
+    }
+
+    @Test
+    public void renameTag_newName_renamedInPlace() throws Exception {
+        addressBookWithAmyandBob.renameTag(new Tag(VALID_TAG_FRIEND), new Tag("Buddy"));
+
+        AddressBook expectedAddressBook = new AddressBookBuilder()
+                .withPerson(new PersonBuilder(AMY).withTags("Buddy").build())
+                .withPerson(new PersonBuilder(BOB).withTags("Buddy").build()).build();
+        assertEquals(expectedAddressBook, addressBookWithAmyandBob);
+        assertEquals(expectedAddressBook.getTagList().size(), addressBookWithAmyandBob.getTagList().size());
+        for (Person person : addressBookWithAmyandBob.getPersonList()) {
+            assertTrue(person.hasTag(new Tag("Buddy")));
+            assertFalse(person.hasTag(new Tag(VALID_TAG_FRIEND)));
+        }
+    }
+
+    @Test
+    public void renameTag_existingName_tagsMerged() throws Exception {
+        addressBook.addPerson(new PersonBuilder().withName("Maths Student").withTags("Maths").build());
+        addressBook.addPerson(new PersonBuilder().withName("Math Student").withTags("Math").build());
+        addressBook.addPerson(new PersonBuilder().withName("Both Student").withTags("Maths", "Math").build());
+
+        addressBook.renameTag(new Tag("Maths"), new Tag("Math"));
+        assertFalse(addressBook.hasTag(new Tag("Maths")));
+        for (Person person : addressBook.getPersonList()) {
+            assertTrue(person.hasTag(new Tag("Math")));
+            assertFalse(person.hasTag(new Tag("Maths")));
+        }
+
+        // the merged tag is still counted once for every person using it
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertTrue(addressBook.hasTag(new Tag("Math")));
+        addressBook.removePerson(addressBook.getPersonList().get(0));
+        assertFalse(addressBook.hasTag(new Tag("Math")));
+    }
+
+    @Test
+    public void removePerson_lastPersonWithTag_tagRemoved() throws Exception {
+        Person tutee = new PersonBuilder().withName("Tutee").withTags("tutee").build();
+        addressBook.addPerson(tutee);
+        addressBook.addPerson(new PersonBuilder(tutee).withName("Other Tutee").build());
+        assertTrue(addressBook.getTagList().contains(new Tag("tutee")));
+
+        addressBook.removePerson(tutee);
+        assertTrue(addressBook.getTagList().contains(new Tag("tutee")));
+        addressBook.removePerson(new PersonBuilder(tutee).withName("Other Tutee").build());
+        assertFalse(addressBook.getTagList().contains(new Tag("tutee")));
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_tagListUnchanged() throws Exception {
+        addressBook.addPerson(ALICE);
+        List<Tag> tagsBefore = new ArrayList<>(addressBook.getTagList());
+        try {
+            addressBook.addPerson(new PersonBuilder(ALICE).withTags("duplicate").build());
+            fail("Expected a DuplicatePersonException");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(tagsBefore, addressBook.getTagList());
+        }
+    }
+
+    @Test
+    public void applyMatches_onlyMatchedPersonsReplacedAndIndexed() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        addressBook.addPerson(ELLE);
+        Person storedBenson = addressBook.getPersonList().get(1);
+        assertEquals(Collections.singletonList(addressBook.getPersonList().get(2)),
+                addressBook.suggestTutors(ALICE, 5));
+
+        addressBook.applyMatches(Collections.singletonList(new PairMatcher.Match(ALICE, ELLE)));
+        ObservableList<Person> persons = addressBook.getPersonList();
+        assertEquals(Status.of("matched"), persons.get(0).getStatus());
+        assertEquals(Status.of("matched"), persons.get(2).getStatus());
+        assertSame(storedBenson, persons.get(1));
+        assertEquals(addressBook.getPairList(), addressBook.getPairsOf(persons.get(2)));
+        assertTrue(addressBook.getTagList().contains(new Tag(Status.of("matched").value, Tag.AllTagTypes.STATUS)));
+
+        // the tutor is matched -> no longer suggested
+        assertEquals(Collections.emptyList(), addressBook.suggestTutors(ALICE, 5));
+    }
+
+    @Test
+    public void applyMatches_matchedPersonClashes_nothingChanged() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(ELLE);
+        addressBook.addPerson(new PersonBuilder(ALICE).withStatus("matched").build());
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        try {
+            addressBook.applyMatches(Collections.singletonList(new PairMatcher.Match(ALICE, ELLE)));
+            fail("Expected a DuplicatePersonException");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(expectedAddressBook, addressBook);
+            assertEquals(new HashSet<>(expectedAddressBook.getTagList()), new HashSet<>(addressBook.getTagList()));
+        }
+    }
+
+    @Test
+    public void addPerson_sameTagAsExistingPerson_sharesTagInstance() throws Exception {
+        addressBook.addPerson(new PersonBuilder().withName("Tutee").withTags("tutee").build());
+        addressBook.addPerson(new PersonBuilder().withName("Other Tutee").withTags("tutee").build());
+
+        Tag tutee = new Tag("tutee");
+        Tag first = findTag(addressBook.getPersonList().get(0), tutee);
+        assertSame(first, findTag(addressBook.getPersonList().get(1), tutee));
+        assertSame(first, addressBook.getTagList().get(addressBook.getTagList().indexOf(tutee)));
+    }
+
+    @Test
+    public void updatePair_tagsOfPairs_trackedInTagList() throws Exception {
+        Pair pair = new PairBuilder().withTags("paired").build();
+        addressBook.addPair(pair);
+        assertTrue(addressBook.getTagList().contains(new Tag("paired")));
+
+        addressBook.updatePair(pair, new PairBuilder().withTags("rematched").build());
+        assertFalse(addressBook.getTagList().contains(new Tag("paired")));
+        assertTrue(addressBook.getTagList().contains(new Tag("rematched")));
+    }
+
+    @Test
+    public void addPerson_newPersons_givenDistinctIds() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON.withId(1));
+
+        long aliceId = addressBook.getPersonList().get(0).getId();
+        long bensonId = addressBook.getPersonList().get(1).getId();
+        assertTrue(aliceId != Person.UNASSIGNED_ID);
+        assertTrue(bensonId != Person.UNASSIGNED_ID);
+        assertTrue(aliceId != bensonId);
+    }
+
+    @Test
+    public void resetData_pairsWithoutIds_linkedToPersonsByName() throws Exception {
+        AddressBook withPairs = getTypicalAddressBook();
+        withPairs.setPairs(Arrays.asList(ALICE_AND_BENSON, CARL_AND_DANIEL));
+        addressBook.resetData(withPairs);
+
+        Pair pair = addressBook.getPairList().get(0);
+        assertEquals(Optional.of(ALICE), addressBook.getStudentOf(pair));
+        assertEquals(Optional.of(BENSON), addressBook.getTutorOf(pair));
+        assertEquals(Collections.singletonList(pair), addressBook.getPairsOf(ALICE));
+    }
+
+    @Test
+    public void updatePerson_renamed_pairsRenamed() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(ALICE_AND_BENSON);
+        long aliceId = typicalAddressBook.getPersonList().get(0).getId();
+
+        Person renamedAlice = new PersonBuilder(ALICE).withName("Alice Renamed").build();
+        typicalAddressBook.updatePerson(ALICE, renamedAlice);
+
+        assertEquals(aliceId, typicalAddressBook.getPersonList().get(0).getId());
+        Pair pair = typicalAddressBook.getPairList().get(0);
+        assertEquals("Alice Renamed", pair.getStudentName());
+        assertEquals(Collections.singletonList(pair), typicalAddressBook.getPairsOf(renamedAlice));
+        assertEquals(Optional.of(renamedAlice), typicalAddressBook.getStudentOf(pair));
+    }
+
+    @Test
+    public void renameTag_tagUsedByPersonAndPair_indexesHoldRenamedRecords() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(ALICE_AND_BENSON);
+        assertTrue(typicalAddressBook.getPersonList().get(0).hasTag(new Tag("Math")));
+
+        typicalAddressBook.renameTag(new Tag("Math"), new Tag("Maths"));
+
+        Person storedAlice = typicalAddressBook.getPersonList().get(0);
+        Pair pair = typicalAddressBook.getPairList().get(0);
+        assertTrue(storedAlice.hasTag(new Tag("Maths")));
+        assertTrue(pair.hasTag(new Tag("Maths")));
+        assertSame(storedAlice, typicalAddressBook.getStudentOf(pair).get());
+        assertSame(pair, typicalAddressBook.getPairsOf(storedAlice).get(0));
+        assertSame(storedAlice, typicalAddressBook.getPersonsWithNameMatching(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Alice"))).iterator().next());
+    }
+
+    @Test
+    public void updatePerson_renamedPairsDuplicateOthers_throwsDuplicatePairException() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(ALICE_AND_BENSON);
+        typicalAddressBook.addPair(new PairBuilder(ALICE_AND_BENSON).withStudentName("Alice Renamed").build());
+        List<Pair> pairsBefore = new ArrayList<>(typicalAddressBook.getPairList());
+
+        try {
+            typicalAddressBook.updatePerson(ALICE, new PersonBuilder(ALICE).withName("Alice Renamed").build());
+            fail("Expected a DuplicatePairException");
+        } catch (DuplicatePairException dpe) {
+            assertEquals(pairsBefore, typicalAddressBook.getPairList());
+            assertTrue(typicalAddressBook.getPersonList().contains(ALICE));
+        }
+    }
+
+    @Test
+    public void removePerson_personInPairs_pairsRemoved() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(ALICE_AND_BENSON);
+        typicalAddressBook.addPair(CARL_AND_DANIEL);
+
+        typicalAddressBook.removePerson(BENSON);
+        assertEquals(Collections.singletonList(CARL_AND_DANIEL), typicalAddressBook.getPairList());
+        assertEquals(Collections.emptyList(), typicalAddressBook.getPairsOf(ALICE));
+    }
+
+    @Test
+    public void removePair_pairInAddressBook_unlinkedFromPersons() throws Exception {
+        AddressBook typicalAddressBook = getTypicalAddressBook();
+        typicalAddressBook.addPair(new PairBuilder(ALICE_AND_BENSON).withTags("paired").build());
+
+        typicalAddressBook.removePair(ALICE_AND_BENSON);
+        assertEquals(Collections.emptyList(), typicalAddressBook.getPairList());
+        assertEquals(Collections.emptyList(), typicalAddressBook.getPairsOf(ALICE));
+        assertFalse(typicalAddressBook.hasTag(new Tag("paired")));
+    }
+
+    /**
+     * Returns the instance of {@code tag} held by {@code person}.
+     */
+    private static Tag findTag(Person person, Tag tag) {
+        return person.getTags().stream().filter(tag::equals).findFirst().get();
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
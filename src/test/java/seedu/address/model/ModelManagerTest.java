@@ -1,27 +1,51 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PAIRS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPairs.ALICE_AND_BENSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.AddressBookChangeBatchEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.model.AddressBookResetEvent;
+import seedu.address.commons.events.model.PairAddedEvent;
+import seedu.address.commons.events.model.PairRemovedEvent;
+import seedu.address.commons.events.model.PersonAddedEvent;
+import seedu.address.commons.events.model.PersonRemovedEvent;
+import seedu.address.commons.events.model.PersonUpdatedEvent;
+import seedu.address.commons.events.model.TagRemovedEvent;
 import seedu.address.model.pair.NameContainsKeywordsPredicatePair;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.pair.PairMatcher;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
+import seedu.address.model.query.Query;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         ModelManager modelManager = new ModelManager();
@@ -78,4 +102,219 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookName("differentName");
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void updateFilteredPersonListByQuery_personUpdated_filterStaysCurrent() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateFilteredPersonListByQuery(Query.keyword("math"));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        Person bensonDoingMath = new PersonBuilder(BENSON).withSubject("math").build();
+        modelManager.updatePerson(BENSON, bensonDoingMath);
+        assertEquals(Arrays.asList(ALICE, bensonDoingMath), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListByName_matchDeleted_listInOrderWithoutDeletedPerson() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(DANIEL)
+                .build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateFilteredPersonListByName(
+                new NameContainsKeywordsPredicate(Arrays.asList("Daniel", "Alice", "Benson")));
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(BENSON);
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonListToView_personsChanged_viewStaysCurrent() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(ELLE)
+                .build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+
+        modelManager.updateFilteredPersonListToView(Model.VIEW_STUDENTS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        Person tutorBenson = new PersonBuilder(BENSON).withRole("Tutor").build();
+        modelManager.updatePerson(BENSON, tutorBenson);
+        modelManager.deletePerson(ALICE);
+        modelManager.updateFilteredPersonListToView(Model.VIEW_TUTORS);
+        assertEquals(Arrays.asList(tutorBenson, ELLE), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonListToView(Model.VIEW_STUDENTS);
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        // restored data -> views resolved again
+        modelManager.resetData(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void addView_queryOfView_filterShowsView() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(ELLE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        Query mathTutors = Query.and(Arrays.asList(Query.keyword("math"), Query.keyword("tutor")));
+
+        modelManager.addView("MathTutors", mathTutors);
+        assertTrue(modelManager.hasView("mathtutors"));
+        assertEquals(Arrays.asList(Model.VIEW_STUDENTS, Model.VIEW_TUTORS, Model.VIEW_UNMATCHED, "mathtutors"),
+                modelManager.getViewNames());
+
+        modelManager.updateFilteredPersonListByQuery(mathTutors);
+        assertEquals(Collections.singletonList(ELLE), modelManager.getFilteredPersonList());
+        Person mathTutor = new PersonBuilder(ELLE).withName("Another Tutor").withPhone("9000001").build();
+        modelManager.addPerson(mathTutor);
+        modelManager.updateFilteredPersonListByQuery(mathTutors);
+        assertEquals(Arrays.asList(ELLE, mathTutor), modelManager.getFilteredPersonList());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void addView_existingName_throwsIllegalArgumentException() {
+        new ModelManager().addView("Students", Query.keyword("student"));
+    }
+
+    @Test
+    public void addPerson_raisesPersonAddedEventThenAddressBookChangedEvent() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.addPerson(ALICE);
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        assertEquals(ALICE, ((PersonAddedEvent) eventsCollectorRule.eventsCollector.get(0)).person);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+    }
+
+    @Test
+    public void addMatchesAndDeletePerson_raiseBatchOfChanges() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(ELLE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        // matching -> both persons updated and the pair added
+        modelManager.addMatches(Collections.singletonList(new PairMatcher.Match(ALICE, ELLE)));
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangeBatchEvent batch = (AddressBookChangeBatchEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(3, batch.changes.size());
+        PersonUpdatedEvent studentUpdated = (PersonUpdatedEvent) batch.changes.get(0);
+        assertSame(ALICE, studentUpdated.oldPerson);
+        assertSame(modelManager.getAddressBook().getPersonList().get(0), studentUpdated.newPerson);
+        Pair pair = ((PairAddedEvent) batch.changes.get(2)).pair;
+        assertEquals(Collections.singletonList(pair), modelManager.getAddressBook().getPairList());
+
+        // deleting a matched person -> the person and its pairs removed
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.deletePerson(studentUpdated.newPerson);
+        batch = (AddressBookChangeBatchEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(2, batch.changes.size());
+        assertEquals(studentUpdated.newPerson, ((PersonRemovedEvent) batch.changes.get(0)).person);
+        assertSame(pair, ((PairRemovedEvent) batch.changes.get(1)).pair);
+    }
+
+    @Test
+    public void deleteTag_raisesUpdatesOfTaggedPersonsAndTagRemovedEvent() throws Exception {
+        Person taggedAlice = new PersonBuilder(ALICE).withTags("friends").build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(taggedAlice).withPerson(BENSON).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        Tag friends = new Tag("friends");
+        modelManager.deleteTag(friends);
+        AddressBookChangeBatchEvent batch = (AddressBookChangeBatchEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(2, batch.changes.size());
+        assertEquals(taggedAlice, ((PersonUpdatedEvent) batch.changes.get(0)).oldPerson);
+        assertEquals(friends, ((TagRemovedEvent) batch.changes.get(1)).tag);
+
+        // unused tag -> only the address book change
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.deleteTag(friends);
+        assertEquals(1, eventsCollectorRule.eventsCollector.getSize());
+    }
+
+    @Test
+    public void resetData_earlierSnapshot_raisesUndoneChangesAndKeepsViews() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(ELLE)
+                .build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        ReadOnlyAddressBook snapshot = modelManager.getAddressBookSnapshot();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(DANIEL);
+        eventsCollectorRule.eventsCollector.reset();
+
+        // changes undone one at a time -> announced as they are, last first
+        modelManager.resetData(snapshot);
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangeBatchEvent batch = (AddressBookChangeBatchEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(2, batch.changes.size());
+        assertEquals(DANIEL, ((PersonRemovedEvent) batch.changes.get(0)).person);
+        assertEquals(ALICE, ((PersonAddedEvent) batch.changes.get(1)).person);
+        assertEquals(new ModelManager(addressBook, new UserPrefs()), modelManager);
+
+        modelManager.updateFilteredPersonListToView(Model.VIEW_STUDENTS);
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getFilteredPersonList());
+        modelManager.updateFilteredPersonListToView(Model.VIEW_TUTORS);
+        assertEquals(Collections.singletonList(ELLE), modelManager.getFilteredPersonList());
+
+        // other data -> announced as a reset
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.resetData(new AddressBook());
+        assertTrue(eventsCollectorRule.eventsCollector.get(0) instanceof AddressBookResetEvent);
+    }
+
+    @Test
+    public void commitTransaction_severalChanges_raisesOneBatchOfChanges() throws Exception {
+        ModelManager modelManager = new ModelManager();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+
+        modelManager.commitTransaction();
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        AddressBookChangeBatchEvent batch = (AddressBookChangeBatchEvent) eventsCollectorRule.eventsCollector.get(0);
+        assertEquals(2, batch.changes.size());
+        assertEquals(BENSON, ((PersonAddedEvent) batch.changes.get(1)).person);
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof AddressBookChangedEvent);
+
+        // nothing changed -> no events
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.beginTransaction();
+        modelManager.commitTransaction();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_addressBookRestoredWithoutEvents() throws Exception {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).build();
+        ModelManager modelManager = new ModelManager(addressBook, new UserPrefs());
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.beginTransaction();
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        modelManager.rollbackTransaction();
+
+        assertEquals(new ModelManager(addressBook, new UserPrefs()), modelManager);
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void beginTransaction_transactionOpen_throwsIllegalStateException() {
+        ModelManager modelManager = new ModelManager();
+        modelManager.beginTransaction();
+        thrown.expect(IllegalStateException.class);
+        modelManager.beginTransaction();
+    }
+
+    @Test
+    public void commitTransaction_noTransactionOpen_throwsIllegalStateException() {
+        thrown.expect(IllegalStateException.class);
+        new ModelManager().commitTransaction();
+    }
 }
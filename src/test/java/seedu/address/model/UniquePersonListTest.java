@@ -1,10 +1,25 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +31,63 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void contains_personWithDifferentTags_returnsTrue() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        Person aliceWithOtherTags = new PersonBuilder(ALICE).withTags("colleague").build();
+        assertTrue(uniquePersonList.contains(aliceWithOtherTags));
+    }
+
+    @Test
+    public void setPersons_duplicatePersons_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, ALICE));
+    }
+
+    @Test
+    public void setEach_replacementsOfEachOther_replacedTogether() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.setEach(Arrays.asList(CARL, ALICE), Arrays.asList(ALICE, DANIEL));
+        assertEquals(Arrays.asList(DANIEL, BENSON, ALICE), uniquePersonList.asObservableList());
+        assertEquals(2, uniquePersonList.indexOf(ALICE));
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void setEach_replacementClashesWithUnreplacedPerson_nothingReplaced() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        try {
+            uniquePersonList.setEach(Arrays.asList(ALICE, CARL), Arrays.asList(DANIEL, BENSON));
+            fail("Expected a DuplicatePersonException");
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asObservableList());
+            assertEquals(0, uniquePersonList.indexOf(ALICE));
+        }
+    }
+
+    @Test
+    public void remove_thenSetPerson_replacesShiftedPerson() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+
+        uniquePersonList.setPerson(CARL, DANIEL);
+        assertEquals(Arrays.asList(BENSON, DANIEL), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(CARL));
+    }
+
+    @Test
+    public void remove_missingPerson_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(ALICE);
+    }
 }
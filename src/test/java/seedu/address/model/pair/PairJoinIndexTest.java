@@ -0,0 +1,81 @@
+package seedu.address.model.pair;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PairBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PairJoinIndexTest {
+
+    private final PairJoinIndex index = new PairJoinIndex();
+    private final Person student = new PersonBuilder().withName("Student A").build().withId(1);
+    private final Person tutor = new PersonBuilder().withName("Tutor A").withPhone("91111111").build().withId(2);
+    private final Person otherTutor = new PersonBuilder().withName("Tutor B").withPhone("92222222").build().withId(3);
+
+    @Test
+    public void getPairsOf_pairsOfPerson_inOrderAdded() {
+        Pair first = pairOf(student, tutor, 10);
+        Pair second = pairOf(student, otherTutor, 11);
+        index.putPair(first);
+        index.putPair(second);
+
+        assertEquals(Arrays.asList(first, second), index.getPairsOf(student.getId()));
+        assertEquals(Collections.singletonList(first), index.getPairsOf(tutor.getId()));
+        assertEquals(Collections.emptyList(), index.getPairsOf(99));
+    }
+
+    @Test
+    public void getStudentOfAndTutorOf_personsInIndex_found() {
+        index.putPerson(student);
+        index.putPerson(tutor);
+        Pair pair = pairOf(student, tutor, 10);
+
+        assertEquals(Optional.of(student), index.getStudentOf(pair));
+        assertEquals(Optional.of(tutor), index.getTutorOf(pair));
+        index.removePerson(tutor.getId());
+        assertFalse(index.getTutorOf(pair).isPresent());
+    }
+
+    @Test
+    public void putPair_replacedPair_unlinkedFromOldPersons() {
+        index.putPair(pairOf(student, tutor, 10));
+        Pair rematched = pairOf(student, otherTutor, 10);
+        index.putPair(rematched);
+
+        assertEquals(Collections.emptyList(), index.getPairsOf(tutor.getId()));
+        assertEquals(Collections.singletonList(rematched), index.getPairsOf(otherTutor.getId()));
+        assertEquals(Optional.of(rematched), index.getPair(10));
+    }
+
+    @Test
+    public void removePair_pairRemoved_unlinkedFromPersons() {
+        index.putPair(pairOf(student, tutor, 10));
+        index.removePair(10);
+
+        assertFalse(index.getPair(10).isPresent());
+        assertEquals(Collections.emptyList(), index.getPairsOf(student.getId()));
+        assertEquals(Collections.emptyList(), index.getPairsOf(tutor.getId()));
+    }
+
+    @Test
+    public void putPair_unassignedPersonIds_notLinked() {
+        index.putPair(new PairBuilder().build().withId(10));
+        assertEquals(Collections.emptyList(), index.getPairsOf(Person.UNASSIGNED_ID));
+    }
+
+    /**
+     * Returns a pair of {@code student} and {@code tutor} with the given id.
+     */
+    private static Pair pairOf(Person student, Person tutor, long id) {
+        return new PairBuilder().withStudentName(student.getName().fullName).withTutorName(tutor.getName().fullName)
+                .build().withPersons(student, tutor).withId(id);
+    }
+}
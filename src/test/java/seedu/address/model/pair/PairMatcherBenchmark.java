@@ -0,0 +1,90 @@
+package seedu.address.model.pair;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.AppUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long an address book takes to propose matches between its unmatched students and tutors through
+ * {@link PairMatcher}, and to apply them, and prints the times of each run.
+ *
+ * Takes the named arguments {@code --students=COUNT} (default {@value #DEFAULT_STUDENTS}), {@code --tutors=COUNT}
+ * (default {@value #DEFAULT_TUTORS}) and {@code --runs=COUNT} (default {@value #DEFAULT_RUNS}). Each run matches a
+ * new address book, generated from the same seed.
+ */
+public class PairMatcherBenchmark {
+
+    public static final int DEFAULT_STUDENTS = 50_000;
+    public static final int DEFAULT_TUTORS = 10_000;
+    public static final int DEFAULT_RUNS = 3;
+
+    private static final String[] SUBJECTS = { "math", "english", "physics", "chemistry", "chinese" };
+    private static final String[] LEVELS = { "lower pri", "upper pri", "lower sec", "upper sec" };
+    private static final String[] TAGS = { "Patient", "Experienced", "Online", "Weekends" };
+    private static final long SEED = 42;
+
+    /**
+     * Returns an address book of {@code students} students and {@code tutors} tutors, none of them matched,
+     * spread at random over every subject and level, with prices from 20 to 119 and up to two tags each.
+     */
+    public static AddressBook generateAddressBook(int students, int tutors) throws DuplicatePersonException {
+        Random random = new Random(SEED);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < students + tutors; i++) {
+            addressBook.addPerson(generatePerson(i, i < students ? "Student" : "Tutor", random));
+        }
+        return addressBook;
+    }
+
+    /**
+     * Returns an unmatched person with {@code role}, numbered {@code number} to keep it distinct from others.
+     */
+    public static Person generatePerson(int number, String role, Random random) {
+        List<String> tags = new ArrayList<>();
+        for (String tag : TAGS) {
+            if (tags.size() < 2 && random.nextInt(TAGS.length) == 0) {
+                tags.add(tag);
+            }
+        }
+        return new PersonBuilder().withName(role + " " + number).withPhone("9" + String.format("%07d", number))
+                .withEmail(role.toLowerCase() + number + "@example.com")
+                .withPrice(Integer.toString(20 + random.nextInt(100)))
+                .withSubject(SUBJECTS[random.nextInt(SUBJECTS.length)])
+                .withLevel(LEVELS[random.nextInt(LEVELS.length)])
+                .withStatus("not matched").withRole(role).withTags(tags.toArray(new String[0])).build();
+    }
+
+    /**
+     * Runs the benchmark described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args) throws DuplicatePairException, DuplicatePersonException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int students = Integer.parseInt(namedArguments.getOrDefault("students", Integer.toString(DEFAULT_STUDENTS)));
+        int tutors = Integer.parseInt(namedArguments.getOrDefault("tutors", Integer.toString(DEFAULT_TUTORS)));
+        int runs = Integer.parseInt(namedArguments.getOrDefault("runs", Integer.toString(DEFAULT_RUNS)));
+
+        for (int run = 1; run <= runs; run++) {
+            AddressBook addressBook = generateAddressBook(students, tutors);
+
+            long startTime = System.nanoTime();
+            List<PairMatcher.Match> matches = addressBook.proposeMatches();
+            long proposedTime = System.nanoTime();
+            addressBook.applyMatches(matches);
+            long appliedTime = System.nanoTime();
+
+            System.out.printf("run %d: proposed %d matches between %d students and %d tutors in %d ms, "
+                            + "applied them in %d ms%n", run, matches.size(), students, tutors,
+                    TimeUnit.NANOSECONDS.toMillis(proposedTime - startTime),
+                    TimeUnit.NANOSECONDS.toMillis(appliedTime - proposedTime));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.pair;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.pair.PairMatcher.Match;
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PairMatcherTest {
+
+    private final List<Person> persons = new ArrayList<>();
+
+    @Test
+    public void match_noTutors_noMatches() {
+        add("Student A", "Student", "math", "lower Sec", "50");
+        assertEquals(Collections.emptyList(), match());
+    }
+
+    @Test
+    public void match_differentSubjectOrLevel_notMatched() {
+        Person student = add("Student A", "Student", "math", "lower Sec", "50");
+        add("Tutor A", "Tutor", "english", "lower Sec", "20");
+        add("Tutor B", "Tutor", "math", "upper Sec", "20");
+        Person tutor = add("Tutor C", "Tutor", "math", "lower Sec", "20");
+
+        assertEquals(Collections.singletonList(new Match(student, tutor)), match());
+    }
+
+    @Test
+    public void match_tutorAboveBudget_notMatched() {
+        add("Student A", "Student", "math", "lower Sec", "30");
+        add("Tutor A", "Tutor", "math", "lower Sec", "40");
+        assertEquals(Collections.emptyList(), match());
+    }
+
+    @Test
+    public void match_nestedBudgets_matchesAllStudents() {
+        // serving the larger budget first with the cheapest tutor would leave the smaller budget unmatched
+        Person rich = add("Student A", "Student", "math", "lower Sec", "100");
+        Person poor = add("Student B", "Student", "math", "lower Sec", "30");
+        Person cheap = add("Tutor A", "Tutor", "math", "lower Sec", "25");
+        Person dear = add("Tutor B", "Tutor", "math", "lower Sec", "90");
+
+        assertEquals(Arrays.asList(new Match(poor, cheap), new Match(rich, dear)), match());
+    }
+
+    @Test
+    public void match_matchedPersons_excluded() {
+        Person matchedStudent = add("Student A", "Student", "math", "lower Sec", "50");
+        Person student = add("Student B", "Student", "math", "lower Sec", "50");
+        Person tutor = add("Tutor A", "Tutor", "math", "lower Sec", "50");
+        Person matchedTutor = add("Tutor B", "Tutor", "math", "lower Sec", "50");
+        persons.set(0, new PersonBuilder(matchedStudent).withStatus("matched").build());
+        persons.set(3, new PersonBuilder(matchedTutor).withStatus("matched").build());
+
+        assertEquals(Collections.singletonList(new Match(student, tutor)), match());
+    }
+
+    @Test
+    public void toPair_atTutorsPrice() {
+        Person student = add("Student A", "Student", "math", "lower Sec", "50");
+        Person tutor = add("Tutor A", "Tutor", "math", "lower Sec", "40");
+
+        Pair pair = new Match(student, tutor).toPair();
+        assertEquals("Student A", pair.getStudentName());
+        assertEquals("Tutor A", pair.getTutorName());
+        assertEquals("40", pair.getPrice());
+        assertTrue(pair.getTags().stream().anyMatch(tag -> tag.tagName.equals("40")));
+    }
+
+    /**
+     * Adds an unmatched person with the given attributes to {@code persons} and returns it.
+     */
+    private Person add(String name, String role, String subject, String level, String price) {
+        Person person = new PersonBuilder().withName(name).withPhone(String.valueOf(90000000 + persons.size()))
+                .withRole(role).withSubject(subject).withLevel(level).withPrice(price).withStatus("not Matched")
+                .build();
+        persons.add(person);
+        return person;
+    }
+
+    /**
+     * Returns the matches proposed between {@code persons}, indexed in list order.
+     */
+    private List<Match> match() {
+        AttributeIndex index = new AttributeIndex();
+        for (int i = 0; i < persons.size(); i++) {
+            index.add(persons.get(i), i);
+        }
+        return new PairMatcher(persons, index).match();
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.model.pair;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.AppUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long an address book takes to suggest the best tutors for a student through
+ * {@link TutorSuggester}, on its own and right after a tutor is edited, and prints the times of each run.
+ *
+ * Takes the named arguments {@code --tutors=COUNT} (default {@value #DEFAULT_TUTORS}), {@code --k=COUNT}, the
+ * number of tutors suggested (default {@value #DEFAULT_K}), {@code --queries=COUNT}, the number of students to
+ * suggest tutors for (default {@value #DEFAULT_QUERIES}), and {@code --runs=COUNT} (default
+ * {@value #DEFAULT_RUNS}). Each run queries a new address book, generated as {@link PairMatcherBenchmark} does.
+ */
+public class TutorSuggesterBenchmark {
+
+    public static final int DEFAULT_TUTORS = 100_000;
+    public static final int DEFAULT_K = 10;
+    public static final int DEFAULT_QUERIES = 1000;
+    public static final int DEFAULT_RUNS = 3;
+
+    private static final long SEED = 7;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /**
+     * Runs the benchmark described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args)
+            throws DuplicatePairException, DuplicatePersonException, PersonNotFoundException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int tutors = Integer.parseInt(namedArguments.getOrDefault("tutors", Integer.toString(DEFAULT_TUTORS)));
+        int k = Integer.parseInt(namedArguments.getOrDefault("k", Integer.toString(DEFAULT_K)));
+        int queries = Integer.parseInt(namedArguments.getOrDefault("queries", Integer.toString(DEFAULT_QUERIES)));
+        int runs = Integer.parseInt(namedArguments.getOrDefault("runs", Integer.toString(DEFAULT_RUNS)));
+
+        Random random = new Random(SEED);
+        Person[] students = new Person[queries];
+        for (int i = 0; i < queries; i++) {
+            students[i] = PairMatcherBenchmark.generatePerson(i, "Student", random);
+        }
+
+        int suggested = 0;
+        for (int run = 1; run <= runs; run++) {
+            AddressBook addressBook = PairMatcherBenchmark.generateAddressBook(0, tutors);
+
+            long startTime = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                suggested += addressBook.suggestTutors(students[i], k).size();
+            }
+            long suggestedTime = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                Person tutor = addressBook.getPersonList().get(i % tutors);
+                Person editedTutor = new PersonBuilder(tutor).withPrice(Integer.toString(20 + i % 100)).build();
+                addressBook.updatePerson(tutor, editedTutor);
+                suggested += addressBook.suggestTutors(students[i], k).size();
+            }
+            long endTime = System.nanoTime();
+
+            double suggestMillis = (suggestedTime - startTime) / NANOS_PER_MILLI / queries;
+            double editMillis = (endTime - suggestedTime) / NANOS_PER_MILLI / queries;
+            System.out.printf("run %d: top %d of %d tutors, %.3f ms per suggestion, %.3f ms per edit and suggestion%n",
+                    run, k, tutors, suggestMillis, editMillis);
+        }
+        System.out.println(suggested + " tutors suggested in all");
+    }
+}
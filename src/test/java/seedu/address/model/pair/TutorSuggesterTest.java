@@ -0,0 +1,114 @@
+package seedu.address.model.pair;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class TutorSuggesterTest {
+
+    private final List<Person> persons = new ArrayList<>();
+
+    @Test
+    public void suggest_otherSubjectOrMatched_notSuggested() {
+        Person student = add("Student", "math", "lower Sec", "50");
+        add("Tutor", "english", "lower Sec", "50");
+        Person tutor = add("Tutor", "math", "lower Sec", "50");
+        Person matchedTutor = add("Tutor", "math", "lower Sec", "50");
+        persons.set(3, new PersonBuilder(matchedTutor).withStatus("matched").build());
+
+        assertEquals(Collections.singletonList(tutor), suggest(student, 5));
+    }
+
+    @Test
+    public void suggest_rankedByLevelThenPriceDistance() {
+        Person student = add("Student", "math", "lower Sec", "50");
+        Person otherLevel = add("Tutor", "math", "upper Sec", "50");
+        Person far = add("Tutor", "math", "lower Sec", "90");
+        Person near = add("Tutor", "math", "lower Sec", "40");
+
+        assertEquals(Arrays.asList(near, far, otherLevel), suggest(student, 5));
+    }
+
+    @Test
+    public void suggest_sharedTags_rankedHigher() {
+        Person student = add("Student", "math", "lower Sec", "50", "patient");
+        Person untagged = add("Tutor", "math", "lower Sec", "50");
+        Person tagged = add("Tutor", "math", "lower Sec", "60", "patient");
+
+        assertEquals(Arrays.asList(tagged, untagged), suggest(student, 5));
+    }
+
+    @Test
+    public void suggest_moreCandidatesThanRequested_bestInRankOrder() {
+        Person student = add("Student", "math", "lower Sec", "50");
+        List<Person> tutors = new ArrayList<>();
+        for (int price = 100; price > 50; price -= 10) {
+            tutors.add(add("Tutor", "math", "lower Sec", String.valueOf(price)));
+        }
+        Person tie = add("Tutor", "math", "lower Sec", "60");
+
+        // the tutor at 60 added first wins the tie with the later one
+        assertEquals(Arrays.asList(tutors.get(4), tie, tutors.get(3)), suggest(student, 3));
+    }
+
+    @Test
+    public void suggest_afterAddSetAndRemove_ranksCurrentPersons() {
+        Person student = add("Student", "math", "lower Sec", "50", "patient");
+        Person removed = add("Tutor", "math", "lower Sec", "50");
+        Person edited = add("Tutor", "math", "upper Sec", "50");
+        AttributeIndex index = new AttributeIndex();
+        TutorSuggester suggester = new TutorSuggester(persons, index);
+        for (int i = 0; i < persons.size(); i++) {
+            index.add(persons.get(i), i);
+            suggester.add(persons.get(i), i);
+        }
+
+        index.remove(removed, 1);
+        suggester.remove(1);
+        persons.remove(1);
+        Person editedTutor = new PersonBuilder(edited).withLevel("lower Sec").withTags("patient").build();
+        index.set(edited, editedTutor, 1);
+        suggester.set(editedTutor, 1);
+        persons.set(1, editedTutor);
+        Person addedTutor = add("Tutor", "math", "lower Sec", "55");
+        index.add(addedTutor, 2);
+        suggester.add(addedTutor, 2);
+
+        // same features as a suggester of the current persons -> same ranking
+        assertEquals(Arrays.asList(editedTutor, addedTutor), suggester.suggest(student, 5));
+        assertEquals(suggest(student, 5), suggester.suggest(student, 5));
+    }
+
+    /**
+     * Adds an unmatched person with the given attributes to {@code persons} and returns it.
+     */
+    private Person add(String role, String subject, String level, String price, String... tags) {
+        Person person = new PersonBuilder().withName(role + " " + persons.size())
+                .withPhone(String.valueOf(90000000 + persons.size())).withRole(role).withSubject(subject)
+                .withLevel(level).withPrice(price).withStatus("not Matched").withTags(tags).build();
+        persons.add(person);
+        return person;
+    }
+
+    /**
+     * Returns the tutors suggested for {@code student} among {@code persons}, indexed in list order.
+     */
+    private List<Person> suggest(Person student, int k) {
+        AttributeIndex index = new AttributeIndex();
+        TutorSuggester suggester = new TutorSuggester(persons, index);
+        for (int i = 0; i < persons.size(); i++) {
+            index.add(persons.get(i), i);
+            suggester.add(persons.get(i), i);
+        }
+        return suggester.suggest(student, k);
+    }
+}
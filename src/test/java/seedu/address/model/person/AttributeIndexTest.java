@@ -0,0 +1,106 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.AttributeIndex.Attribute;
+
+public class AttributeIndexTest {
+
+    private AttributeIndex index;
+
+    @Before
+    public void setUp() {
+        index = new AttributeIndex();
+        index.add(ALICE, 0); // math, lower sec, student, 50
+        index.add(BENSON, 1); // english, upper sec, student, 150
+        index.add(CARL, 2); // physics, upper sec, student, 20
+        index.add(ELLE, 3); // math, upper sec, tutor, 210
+    }
+
+    @Test
+    public void lookup_keyword_matchesAnyAttributeIgnoringCase() {
+        assertEquals(bits(0, 3), index.lookup("MATH"));
+        assertEquals(bits(1, 2, 3), index.lookup("upper sec"));
+        assertEquals(bits(), index.lookup("chemistry"));
+        assertEquals(bits(3), index.lookup(Attribute.ROLE, "tutor"));
+    }
+
+    @Test
+    public void lookup_priceRange_inclusiveBounds() {
+        assertEquals(bits(0, 1), index.lookup(new PriceRange("50-150")));
+        assertEquals(bits(1, 3), index.lookup(new PriceRange("100-")));
+        assertEquals(bits(2), index.lookup(new PriceRange("-49")));
+        assertEquals(bits(), index.lookup(new PriceRange("51-149")));
+    }
+
+    @Test
+    public void remove_shiftsLaterPositions() {
+        index.remove(BENSON, 1);
+        assertEquals(bits(0, 2), index.lookup("math"));
+        assertEquals(bits(1, 2), index.lookup("upper sec"));
+        assertEquals(bits(), index.lookup("english"));
+        assertEquals(bits(0, 1), index.lookup(new PriceRange("-100")));
+    }
+
+    @Test
+    public void remove_acrossWordBoundaries_shiftsEveryLaterPosition() {
+        for (int position : new int[] {63, 64, 127, 128, 200}) {
+            index.add(ELLE, position);
+        }
+        index.remove(ALICE, 0);
+        assertEquals(bits(2, 62, 63, 126, 127, 199), index.lookup("math"));
+        assertEquals(bits(2, 62, 63, 126, 127, 199), index.lookup(new PriceRange("210")));
+
+        // last position -> nothing left to shift
+        index.remove(ELLE, 199);
+        assertEquals(bits(2, 62, 63, 126, 127), index.lookup("math"));
+    }
+
+    @Test
+    public void insert_shiftsPositionsFromInsertion() {
+        index.insert(BENSON, 1);
+        assertEquals(bits(0, 4), index.lookup("math"));
+        assertEquals(bits(1, 2), index.lookup("english"));
+        assertEquals(bits(1, 2, 3, 4), index.lookup("upper sec"));
+        assertEquals(bits(1, 2), index.lookup(new PriceRange("150")));
+    }
+
+    @Test
+    public void insert_acrossWordBoundaries_shiftsEveryLaterPosition() {
+        for (int position : new int[] {62, 63, 64, 127, 128}) {
+            index.add(ELLE, position);
+        }
+        index.insert(BENSON, 63);
+        assertEquals(bits(0, 3, 62, 64, 65, 128, 129), index.lookup("math"));
+        assertEquals(bits(1, 63), index.lookup("english"));
+
+        // past the last position -> nothing to shift
+        index.insert(BENSON, 130);
+        assertEquals(bits(0, 3, 62, 64, 65, 128, 129), index.lookup("math"));
+        assertEquals(bits(1, 63, 130), index.lookup("english"));
+    }
+
+    @Test
+    public void set_replacesAttributesAtPosition() {
+        index.set(ALICE, BENSON, 0);
+        assertEquals(bits(3), index.lookup("math"));
+        assertEquals(bits(0, 1), index.lookup("english"));
+        assertEquals(bits(0, 1), index.lookup(new PriceRange("150")));
+    }
+
+    private static BitSet bits(int... positions) {
+        BitSet bits = new BitSet();
+        Arrays.stream(positions).forEach(bits::set);
+        return bits;
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -12,7 +14,7 @@ public class LevelTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        Assert.assertThrows(NullPointerException.class, () -> new Level(null));
+        Assert.assertThrows(NullPointerException.class, () -> Level.of(null));
     }
 
     @Test
@@ -34,19 +36,27 @@ public class LevelTest {
     @Test
     public void checkLevelEquality() {
         //test level against non-level type
-        assertFalse(new Level("upper Sec").equals(null));
-        assertFalse(new Level("upper Sec").equals(new Tag("upper Sec")));
+        assertFalse(Level.of("upper Sec").equals(null));
+        assertFalse(Level.of("upper Sec").equals(new Tag("upper Sec")));
         //test correctly returns equal if level string is the same
-        assertTrue(new Level("upper Sec").equals(new Level("upper Sec")));
+        assertTrue(Level.of("upper Sec").equals(Level.of("upper Sec")));
     }
 
     @Test
     public void checkLevelHashCode() {
-        Level level = new Level("upper sec");
+        Level level = Level.of("upper sec");
         assertTrue(level.hashCode() == level.value.hashCode());
-        level = new Level("lower sec");
+        level = Level.of("lower sec");
         assertTrue(level.hashCode() == level.value.hashCode());
-        level = new Level("lower pri");
+        level = Level.of("lower pri");
         assertTrue(level.hashCode() == level.value.hashCode());
     }
+
+    @Test
+    public void of_equivalentValues_sameInstance() {
+        Level canonical = Level.of("Upper Sec");
+        assertSame(canonical, Level.of("us"));
+        assertSame(canonical, Level.of("UPPER sec"));
+        assertEquals("Upper Sec", canonical.value);
+    }
 }
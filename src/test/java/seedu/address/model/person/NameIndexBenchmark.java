@@ -0,0 +1,111 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.AppUtil;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long {@code find} keywords take to resolve through {@link NameIndex}, against testing every person
+ * with {@link NameContainsKeywordsPredicate} as the filtered list did before the index, at several list sizes.
+ * Prints the time per query of the best run of each at every size.
+ *
+ * Takes the named arguments {@code --persons=COUNT,COUNT,...}, the list sizes (default
+ * {@value #DEFAULT_PERSONS}), {@code --queries=COUNT}, the number of two-keyword queries in a run (default
+ * {@value #DEFAULT_QUERIES}), and {@code --runs=COUNT} (default {@value #DEFAULT_RUNS}). Every name is two of
+ * {@value #WORDS} made-up words, so a query matches about 0.4% of the persons.
+ */
+public class NameIndexBenchmark {
+
+    public static final String DEFAULT_PERSONS = "10000,100000,1000000";
+    public static final int DEFAULT_QUERIES = 20;
+    public static final int DEFAULT_RUNS = 3;
+
+    private static final String[] SYLLABLES = { "ka", "ri", "to", "mei", "lin", "an", "so", "wei", "jun", "ra" };
+    private static final int WORDS = 1000;
+    private static final long SEED = 3;
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    /** Keeps the number of persons found reachable, so that finding them cannot be optimized away. */
+    private static volatile int sink;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final NameIndex nameIndex = new NameIndex();
+    private final List<NameContainsKeywordsPredicate> predicates = new ArrayList<>();
+
+    public NameIndexBenchmark(int personCount, int queryCount) {
+        Random random = new Random(SEED);
+        for (int i = 0; i < personCount; i++) {
+            Person person = new PersonBuilder().withName(randomWord(random) + " " + randomWord(random))
+                    .withPhone(String.format("9%07d", i)).build();
+            persons.add(person);
+            nameIndex.add(person);
+        }
+        for (int i = 0; i < queryCount; i++) {
+            predicates.add(new NameContainsKeywordsPredicate(
+                    Arrays.asList(randomWord(random).toLowerCase(), randomWord(random).toUpperCase())));
+        }
+    }
+
+    /**
+     * Returns one of the {@value #WORDS} words names are made of, capitalized, at random.
+     */
+    private static String randomWord(Random random) {
+        int number = random.nextInt(WORDS);
+        StringBuilder word = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            word.append(SYLLABLES[number % SYLLABLES.length]);
+            number /= SYLLABLES.length;
+        }
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+
+    /**
+     * Resolves every query through the name index once and returns the milliseconds taken per query.
+     */
+    public double timeIndex() {
+        long startTime = System.nanoTime();
+        for (NameContainsKeywordsPredicate predicate : predicates) {
+            sink = nameIndex.resolve(predicate).size();
+        }
+        return (System.nanoTime() - startTime) / NANOS_PER_MILLI / predicates.size();
+    }
+
+    /**
+     * Tests every person against every query once and returns the milliseconds taken per query.
+     */
+    public double timeScan() {
+        long startTime = System.nanoTime();
+        for (NameContainsKeywordsPredicate predicate : predicates) {
+            sink = (int) persons.stream().filter(predicate).count();
+        }
+        return (System.nanoTime() - startTime) / NANOS_PER_MILLI / predicates.size();
+    }
+
+    /**
+     * Runs the benchmark described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        String[] sizes = namedArguments.getOrDefault("persons", DEFAULT_PERSONS).split(",");
+        int queries = Integer.parseInt(namedArguments.getOrDefault("queries", Integer.toString(DEFAULT_QUERIES)));
+        int runs = Integer.parseInt(namedArguments.getOrDefault("runs", Integer.toString(DEFAULT_RUNS)));
+
+        for (String size : sizes) {
+            NameIndexBenchmark benchmark = new NameIndexBenchmark(Integer.parseInt(size), queries);
+            double bestIndex = Double.MAX_VALUE;
+            double bestScan = Double.MAX_VALUE;
+            for (int run = 1; run <= runs; run++) {
+                bestIndex = Math.min(bestIndex, benchmark.timeIndex());
+                bestScan = Math.min(bestScan, benchmark.timeScan());
+            }
+            System.out.printf("%s persons, best of %d runs: index %.3f ms per query, scan %.3f ms per query%n",
+                    size, runs, bestIndex, bestScan);
+        }
+    }
+}
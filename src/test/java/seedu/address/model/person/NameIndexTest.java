@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class NameIndexTest {
+
+    private NameIndex index;
+
+    @Before
+    public void setUp() {
+        index = new NameIndex();
+        index.add(BENSON); // Benson Meier
+        index.add(CARL); // Carl Kurz
+        index.add(DANIEL); // Daniel Meier
+    }
+
+    @Test
+    public void resolve_keywords_matchesFullWordsIgnoringCase() {
+        assertEquals(asSet(BENSON, DANIEL), resolve("meier"));
+        assertEquals(asSet(BENSON, CARL), resolve("BENSON", "kurz"));
+        assertTrue(resolve("Meie").isEmpty());
+    }
+
+    @Test
+    public void set_renamedPerson_movesToNewTokens() {
+        Person renamed = new PersonBuilder(CARL).withName("Carl Meier").build();
+        index.set(CARL, renamed);
+        assertTrue(resolve("kurz").isEmpty());
+        assertEquals(asSet(BENSON, renamed, DANIEL), resolve("meier"));
+    }
+
+    @Test
+    public void remove_person_noLongerMatched() {
+        index.remove(BENSON);
+        assertEquals(asSet(DANIEL), resolve("meier"));
+        assertTrue(resolve("benson").isEmpty());
+    }
+
+    private Set<Person> resolve(String... keywords) {
+        return new HashSet<>(index.resolve(new NameContainsKeywordsPredicate(Arrays.asList(keywords))));
+    }
+
+    private static Set<Person> asSet(Person... persons) {
+        return new HashSet<>(Arrays.asList(persons));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class PriceRangeTest {
+
+    @Test
+    public void constructor_invalidRange_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new PriceRange("50-30"));
+    }
+
+    @Test
+    public void isValidPriceRange() {
+        // invalid price ranges
+        assertFalse(PriceRange.isValidPriceRange("")); // empty string
+        assertFalse(PriceRange.isValidPriceRange("-")); // no bounds
+        assertFalse(PriceRange.isValidPriceRange("50-30")); // minimum above maximum
+        assertFalse(PriceRange.isValidPriceRange("0-30")); // zero
+        assertFalse(PriceRange.isValidPriceRange("thirty-fifty")); // non-numeric
+        assertFalse(PriceRange.isValidPriceRange("30 - 50")); // spaces
+        assertFalse(PriceRange.isValidPriceRange("12345678901")); // too large
+
+        // valid price ranges
+        assertTrue(PriceRange.isValidPriceRange("30-50"));
+        assertTrue(PriceRange.isValidPriceRange("60-")); // no maximum
+        assertTrue(PriceRange.isValidPriceRange("-50")); // no minimum
+        assertTrue(PriceRange.isValidPriceRange("40")); // single price
+    }
+
+    @Test
+    public void constructor_openBounds() {
+        assertEquals(60, new PriceRange("60-").min);
+        assertEquals(Integer.MAX_VALUE, new PriceRange("60-").max);
+        assertEquals(1, new PriceRange("-50").min);
+        assertEquals(new PriceRange("40-40"), new PriceRange("40"));
+    }
+
+    @Test
+    public void contains() {
+        PriceRange range = new PriceRange("30-50");
+        assertTrue(range.contains(new Price("30")));
+        assertTrue(range.contains(new Price("50")));
+        assertFalse(range.contains(new Price("29")));
+        assertFalse(range.contains(new Price("51")));
+        assertFalse(range.contains(new Price(""))); // no price given
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -21,6 +22,9 @@ public class PriceTest {
         // invalid prices
         assertFalse(Price.isValidPrice("-5")); // negative numbers
         assertFalse(Price.isValidPrice("-100"));
+        assertFalse(Price.isValidPrice("0")); // zero
+        assertFalse(Price.isValidPrice("ten")); // non-numeric
+        assertFalse(Price.isValidPrice("12345678901")); // too large
 
         // valid prices
         assertTrue(Price.isValidPrice("25"));
@@ -28,6 +32,22 @@ public class PriceTest {
         assertTrue(Price.isValidPrice("123456")); // large number
     }
 
+    @Test
+    public void getAmount() {
+        assertEquals(25, new Price("25").getAmount());
+        assertTrue(new Price("25").hasAmount());
+        assertEquals(Price.NO_AMOUNT, new Price("").getAmount());
+        assertFalse(new Price("").hasAmount());
+    }
+
+    @Test
+    public void constructor_leadingZeros_normalisedToAmount() {
+        assertEquals("50", new Price("050").value);
+        assertEquals(new Price("50"), new Price("0050"));
+        assertEquals(new Price("50").hashCode(), new Price("050").hashCode());
+        assertEquals("", new Price("").value);
+    }
+
     @Test
     public void checkPriceEquality() {
         //test price against non-price type
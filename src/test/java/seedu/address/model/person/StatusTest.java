@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -12,7 +14,7 @@ public class StatusTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        Assert.assertThrows(NullPointerException.class, () -> new Status(null));
+        Assert.assertThrows(NullPointerException.class, () -> Status.of(null));
     }
 
     @Test
@@ -30,17 +32,25 @@ public class StatusTest {
     @Test
     public void checkStatusEquality() {
         //test status against non-status type
-        assertFalse(new Status("matched").equals(null));
-        assertFalse(new Status("matched").equals(new Tag("matched")));
+        assertFalse(Status.of("matched").equals(null));
+        assertFalse(Status.of("matched").equals(new Tag("matched")));
         //test correctly returns equal if status string is the same
-        assertTrue(new Status("matched").equals(new Status("matched")));
+        assertTrue(Status.of("matched").equals(Status.of("matched")));
     }
 
     @Test
     public void checkStatusHashCode() {
-        Status status = new Status("not Matched");
+        Status status = Status.of("not Matched");
         assertTrue(status.hashCode() == status.value.hashCode());
-        status = new Status("matched");
+        status = Status.of("matched");
         assertTrue(status.hashCode() == status.value.hashCode());
     }
+
+    @Test
+    public void of_equivalentValues_sameInstance() {
+        Status canonical = Status.of("Not Matched");
+        assertSame(canonical, Status.of("nm"));
+        assertSame(canonical, Status.of("not matched"));
+        assertEquals("Not Matched", canonical.value);
+    }
 }
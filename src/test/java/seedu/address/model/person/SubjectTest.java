@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
@@ -11,7 +13,7 @@ public class SubjectTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        Assert.assertThrows(NullPointerException.class, () -> new Subject(null));
+        Assert.assertThrows(NullPointerException.class, () -> Subject.of(null));
     }
 
     @Test
@@ -32,19 +34,27 @@ public class SubjectTest {
     @Test
     public void checkSubjectEquality() {
         //test name against non-name type
-        assertFalse(new Subject("math").equals(null));
-        assertFalse(new Subject("math").equals(new Address("math")));
+        assertFalse(Subject.of("math").equals(null));
+        assertFalse(Subject.of("math").equals(new Address("math")));
         //test correctly returns equal if name string is the same
-        assertTrue(new Subject("math").equals(new Subject("math")));
+        assertTrue(Subject.of("math").equals(Subject.of("math")));
     }
 
     @Test
     public void checkSubjectHashCode() {
-        Subject subject = new Subject("math");
+        Subject subject = Subject.of("math");
         assertTrue(subject.hashCode() == subject.value.hashCode());
-        subject = new Subject("english");
+        subject = Subject.of("english");
         assertTrue(subject.hashCode() == subject.value.hashCode());
-        subject = new Subject("chemistry");
+        subject = Subject.of("chemistry");
         assertTrue(subject.hashCode() == subject.value.hashCode());
     }
+
+    @Test
+    public void of_equivalentValues_sameInstance() {
+        Subject canonical = Subject.of("Math");
+        assertSame(canonical, Subject.of("math"));
+        assertSame(canonical, Subject.of("MATH"));
+        assertEquals("Math", canonical.value);
+    }
 }
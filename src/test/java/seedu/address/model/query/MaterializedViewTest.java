@@ -0,0 +1,126 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class MaterializedViewTest {
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE));
+    private final MaterializedView students =
+            new MaterializedView("students", Query.attribute(Attribute.ROLE, "student"), persons::indexOf);
+
+    @Before
+    public void setUp() {
+        students.reset(persons.stream().filter(students.getQuery()).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void personAdded_matchingAndNotMatching_onlyMatchingAppended() {
+        Person student = new PersonBuilder().withName("New Student").withRole("Student").build();
+        Person tutor = new PersonBuilder().withName("New Tutor").withRole("Tutor").build();
+        add(student);
+        add(tutor);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, student), students.getPersons());
+    }
+
+    @Test
+    public void personAdded_atPosition_insertedInOrder() {
+        Person first = new PersonBuilder().withName("First Student").withRole("Student").build();
+        Person middle = new PersonBuilder().withName("Middle Student").withRole("Student").build();
+        Person tutor = new PersonBuilder().withName("New Tutor").withRole("Tutor").build();
+        insert(0, first);
+        insert(3, middle);
+        insert(1, tutor);
+        assertEquals(Arrays.asList(first, ALICE, BENSON, middle, CARL), students.getPersons());
+    }
+
+    @Test
+    public void personRemoved_member_removed() {
+        remove(BENSON);
+        remove(DANIEL);
+        assertEquals(Arrays.asList(ALICE, CARL), students.getPersons());
+        remove(ALICE);
+        remove(CARL);
+        assertEquals(Collections.emptyList(), students.getPersons());
+    }
+
+    @Test
+    public void personUpdated_stillMatching_replacedInPlace() {
+        Person editedBenson = new PersonBuilder(BENSON).withPrice("10").build();
+        update(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), students.getPersons());
+
+        // only tags changed
+        Person taggedCarl = new PersonBuilder(CARL).withTags("busy").build();
+        update(CARL, taggedCarl);
+        assertEquals(Arrays.asList(ALICE, editedBenson, taggedCarl), students.getPersons());
+    }
+
+    @Test
+    public void personUpdated_matchingChanged_insertedOrRemovedInOrder() {
+        Person studentDaniel = new PersonBuilder(DANIEL).withRole("Student").build();
+        update(DANIEL, studentDaniel);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, studentDaniel), students.getPersons());
+
+        Person tutorBenson = new PersonBuilder(BENSON).withRole("Tutor").build();
+        update(BENSON, tutorBenson);
+        assertEquals(Arrays.asList(ALICE, CARL, studentDaniel), students.getPersons());
+
+        Person studentElle = new PersonBuilder(ELLE).withRole("Student").build();
+        update(ELLE, studentElle);
+        Person studentBenson = new PersonBuilder(tutorBenson).withRole("Student").build();
+        update(tutorBenson, studentBenson);
+        assertEquals(Arrays.asList(ALICE, studentBenson, CARL, studentDaniel, studentElle), students.getPersons());
+    }
+
+    /**
+     * Adds {@code person} to the end of the person list, and applies the addition to the view.
+     */
+    private void add(Person person) {
+        persons.add(person);
+        students.personAdded(person);
+    }
+
+    /**
+     * Inserts {@code person} at {@code position} in the person list, and applies the insertion to the view.
+     */
+    private void insert(int position, Person person) {
+        persons.add(position, person);
+        students.personAdded(person, position);
+    }
+
+    /**
+     * Removes {@code person} from the person list, and applies the removal to the view.
+     */
+    private void remove(Person person) {
+        int position = persons.indexOf(person);
+        persons.remove(position);
+        students.personRemoved(person, position);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the person list, and applies the update to the view.
+     */
+    private void update(Person target, Person editedPerson) {
+        int position = persons.indexOf(target);
+        persons.set(position, editedPerson);
+        students.personUpdated(target, editedPerson, position);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PriceRange;
+
+public class QueryPlannerTest {
+
+    private final AddressBook addressBook = getTypicalAddressBook();
+
+    @Test
+    public void explain_and_indexLookupsBeforeScansFewestMatchesFirst() {
+        Query query = Query.and(Arrays.asList(Query.tag("Friend"), Query.keyword("upper sec"),
+                Query.attribute(Attribute.SUBJECT, "math")));
+        assertEquals("AND (est. 2)\n"
+                + "  INDEX subject = math (2)\n"
+                + "  INDEX any attribute = upper sec (5)\n"
+                + "  SCAN tag = Friend (est. 7)", addressBook.planQuery(query).explain());
+    }
+
+    @Test
+    public void explain_or_indexLookupsBeforeScansMostMatchesFirst() {
+        Query query = Query.or(Arrays.asList(Query.attribute(Attribute.SUBJECT, "math"), Query.tag("Friend"),
+                Query.price(new PriceRange("-100"))));
+        assertEquals("OR (est. 7)\n"
+                + "  INDEX price 1-100 (4)\n"
+                + "  INDEX subject = math (2)\n"
+                + "  SCAN tag = Friend (est. 7)", addressBook.planQuery(query).explain());
+    }
+
+    @Test
+    public void explain_unusedTag_resolvedWithoutScan() {
+        assertEquals("NOT (est. 7)\n"
+                + "  INDEX tag = busy (unused tag) (0)", addressBook.planQuery(Query.not(Query.tag("busy"))).explain());
+    }
+
+    @Test
+    public void execute_queries_sameAsTestingEachPerson() {
+        List<Query> queries = Arrays.asList(
+                Query.keyword("math"),
+                Query.name(Arrays.asList("meier", "kurz")),
+                Query.not(Query.attribute(Attribute.ROLE, "tutor")),
+                Query.and(Arrays.asList(Query.tag("Friend"), Query.price(new PriceRange("60-")),
+                        Query.not(Query.keyword("english")))),
+                Query.or(Arrays.asList(Query.tag("busy"), Query.attribute(Attribute.LEVEL, "lower sec"),
+                        Query.and(Arrays.asList(Query.keyword("tutor"), Query.name(Arrays.asList("fiona")))))),
+                Query.and(Arrays.asList(Query.keyword("chinese"), Query.keyword("student"), Query.tag("Friend"))));
+        for (Query query : queries) {
+            assertEquals(query.toString(), matchesOf(query), addressBook.planQuery(query).execute());
+        }
+    }
+
+    /**
+     * Returns the positions of the persons in the address book matched by {@code query}, tested one at a time.
+     */
+    private BitSet matchesOf(Query query) {
+        List<Person> persons = addressBook.getPersonList();
+        BitSet matches = new BitSet();
+        for (int i = 0; i < persons.size(); i++) {
+            if (query.test(persons.get(i))) {
+                matches.set(i);
+            }
+        }
+        return matches;
+    }
+}
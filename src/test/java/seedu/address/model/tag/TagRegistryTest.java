@@ -0,0 +1,133 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TagRegistryTest {
+
+    private final TagRegistry registry = new TagRegistry();
+
+    @Test
+    public void acquire_newTags_addedInOrderAndCounted() {
+        registry.acquire(tags("friends"));
+        registry.acquire(tags("friends", "colleagues"));
+
+        assertEquals(Arrays.asList(new Tag("friends"), new Tag("colleagues")), registry.asObservableList());
+        assertEquals(2, registry.getUseCount(new Tag("friends")));
+        assertEquals(1, registry.getUseCount(new Tag("colleagues")));
+    }
+
+    @Test
+    public void acquire_equalTag_returnsMasterInstance() {
+        Tag master = new Tag("friends");
+        registry.acquire(Collections.singleton(master));
+
+        Set<Tag> interned = registry.acquire(tags("friends"));
+        assertSame(master, interned.iterator().next());
+    }
+
+    @Test
+    public void acquire_singleTag_returnsSharedSet() {
+        TagSet first = registry.acquire(tags("friends"));
+        TagSet second = registry.acquire(tags("friends"));
+
+        assertSame(first, second);
+        assertEquals(tags("friends"), first);
+        assertEquals(tags("friends", "colleagues"), registry.acquire(tags("colleagues", "friends")));
+    }
+
+    @Test
+    public void release_lastUse_tagRemoved() {
+        registry.acquire(tags("friends", "colleagues"));
+        registry.acquire(tags("friends"));
+
+        registry.release(tags("friends", "colleagues"));
+        assertEquals(Collections.singletonList(new Tag("friends")), registry.asObservableList());
+        assertEquals(0, registry.getUseCount(new Tag("colleagues")));
+
+        registry.release(tags("friends"));
+        assertEquals(Collections.emptyList(), registry.asObservableList());
+    }
+
+    @Test
+    public void setTags_unusedTags_keptUntilReleased() throws Exception {
+        registry.setTags(tags("friends"));
+        registry.add(new Tag("colleagues"));
+        assertEquals(2, registry.asObservableList().size());
+        assertEquals(0, registry.getUseCount(new Tag("friends")));
+
+        registry.acquire(tags("friends"));
+        registry.release(tags("friends"));
+        assertEquals(Collections.singletonList(new Tag("colleagues")), registry.asObservableList());
+    }
+
+    @Test
+    public void replace_newName_takesPlaceAndCount() {
+        registry.acquire(tags("Maths"));
+        registry.acquire(tags("Maths", "English"));
+
+        Tag renamed = registry.replace(new Tag("Maths"), new Tag("Math"));
+        assertEquals(Arrays.asList(new Tag("Math"), new Tag("English")), registry.asObservableList());
+        assertSame(renamed, registry.asObservableList().get(0));
+        assertEquals(2, registry.getUseCount(new Tag("Math")));
+        assertEquals(0, registry.getUseCount(new Tag("Maths")));
+    }
+
+    @Test
+    public void replace_existingName_countsMerged() {
+        registry.acquire(tags("Maths"));
+        registry.acquire(tags("Math"));
+
+        registry.replace(new Tag("Maths"), new Tag("Math"));
+        assertEquals(Collections.singletonList(new Tag("Math")), registry.asObservableList());
+        assertEquals(2, registry.getUseCount(new Tag("Math")));
+    }
+
+    @Test
+    public void replace_nullReplacement_tagRemoved() {
+        registry.acquire(tags("Maths", "English"));
+
+        assertEquals(null, registry.replace(new Tag("Maths"), null));
+        assertEquals(Collections.singletonList(new Tag("English")), registry.asObservableList());
+    }
+
+    @Test
+    public void restore_earlierTagList_orderAndInstancesRestoredWithCounts() {
+        registry.acquire(tags("colleagues", "friends"));
+        registry.release(tags("colleagues", "friends"));
+        registry.acquire(tags("friends"));
+
+        // the counts are those of the tags in use, the order and instances those restored
+        Tag colleagues = new Tag("colleagues");
+        Tag friends = new Tag("friends");
+        Tag unused = new Tag("unused");
+        registry.restore(Arrays.asList(colleagues, friends, unused));
+        assertEquals(Arrays.asList(colleagues, friends, unused), registry.asObservableList());
+        assertSame(friends, registry.acquire(tags("friends")).iterator().next());
+        assertEquals(2, registry.getUseCount(friends));
+        assertEquals(0, registry.getUseCount(colleagues));
+
+        // unused restored tags kept until released
+        registry.acquire(tags("colleagues"));
+        registry.release(tags("colleagues"));
+        assertEquals(Arrays.asList(friends, unused), registry.asObservableList());
+    }
+
+    /**
+     * Returns the tags with the given names.
+     */
+    private static Set<Tag> tags(String... tagNames) {
+        Set<Tag> tags = new HashSet<>();
+        for (String tagName : tagNames) {
+            tags.add(new Tag(tagName));
+        }
+        return tags;
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+public class TagSetTest {
+
+    private final Tag friends = new Tag("friends");
+    private final Tag busy = new Tag("busy");
+    private final Tag colleagues = new Tag("colleagues");
+
+    @Test
+    public void of_tags_sortedByNameWithoutDuplicates() {
+        TagSet tags = TagSet.of(Arrays.asList(friends, busy, colleagues, new Tag("busy")));
+
+        List<Tag> iterated = new ArrayList<>();
+        tags.forEach(iterated::add);
+        assertEquals(Arrays.asList(busy, colleagues, friends), iterated);
+        assertEquals(iterated, new ArrayList<>(tags));
+        assertEquals(3, tags.size());
+    }
+
+    @Test
+    public void of_tagSetOrNoTags_sharedInstance() {
+        TagSet tags = TagSet.of(Collections.singleton(friends));
+        assertSame(tags, TagSet.of(tags));
+        assertSame(TagSet.empty(), TagSet.of(Collections.emptySet()));
+    }
+
+    @Test
+    public void contains() {
+        TagSet tags = TagSet.of(Arrays.asList(friends, busy));
+        assertTrue(tags.contains(new Tag("friends")));
+        assertTrue(tags.contains(busy));
+        assertFalse(tags.contains(colleagues));
+        assertFalse(tags.contains("friends"));
+        assertFalse(TagSet.empty().contains(friends));
+    }
+
+    @Test
+    public void equals_otherSetWithSameTags_returnsTrue() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(friends, busy));
+        TagSet tags = TagSet.of(hashSet);
+        assertEquals(hashSet, tags);
+        assertEquals(tags, hashSet);
+        assertEquals(hashSet.hashCode(), tags.hashCode());
+        assertEquals(TagSet.of(friends), Collections.singleton(friends));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void add_throwsUnsupportedOperationException() {
+        TagSet.of(friends).add(busy);
+    }
+}
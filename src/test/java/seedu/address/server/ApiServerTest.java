@@ -0,0 +1,250 @@
+package seedu.address.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private ApiServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        EventsCenter.clearSubscribers();
+        server = new ApiServer(new LogicManager(model), model, 0, 4);
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void getPersons_noParameters_allPersonsReturned() throws Exception {
+        Response response = send("GET", ApiServer.PERSONS_PATH, null);
+        assertEquals(200, response.status);
+        assertEquals(model.getAddressBook().getPersonList().size(), countOccurrences(response.body, "\"name\""));
+        assertTrue(response.body.contains("\"name\":\"Alice Pauline\""));
+    }
+
+    @Test
+    public void getPersons_findOrFilter_matchingPersonsReturned() throws Exception {
+        Response response = send("GET", ApiServer.PERSONS_PATH + "?find=" + encode("Meier"), null);
+        assertEquals(200, response.status);
+        // Benson Meier and Daniel Meier
+        assertEquals(2, countOccurrences(response.body, "\"name\""));
+
+        response = send("GET", ApiServer.PERSONS_PATH + "?filter=" + encode("n/Alice or n/Carl"), null);
+        assertEquals(2, countOccurrences(response.body, "\"name\""));
+
+        // invalid query -> bad request
+        response = send("GET", ApiServer.PERSONS_PATH + "?filter=" + encode("and"), null);
+        assertEquals(400, response.status);
+        assertTrue(response.body.startsWith("{\"error\":"));
+    }
+
+    @Test
+    public void getStats_countsOfPersons() throws Exception {
+        Response response = send("GET", ApiServer.STATS_PATH, null);
+        assertEquals(200, response.status);
+        assertTrue(response.body.contains("\"persons\":" + model.getAddressBook().getPersonList().size()));
+    }
+
+    @Test
+    public void postCommand_validCommand_runAndVisibleToQueries() throws Exception {
+        Response response = send("POST", ApiServer.COMMANDS_PATH, commandRequest(PersonUtil.getAddCommand(AMY)));
+        assertEquals(200, response.status);
+        assertEquals("{\"feedback\":\"" + String.format(AddCommand.MESSAGE_SUCCESS, AMY) + "\"}", response.body);
+        assertTrue(model.getAddressBook().getPersonList().contains(AMY));
+
+        response = send("GET", ApiServer.PERSONS_PATH + "?find=" + encode(AMY.getName().fullName), null);
+        assertEquals(1, countOccurrences(response.body, "\"name\""));
+    }
+
+    @Test
+    public void postCommand_invalidRequests_badRequest() throws Exception {
+        Response response = send("POST", ApiServer.COMMANDS_PATH, commandRequest("delete 100"));
+        assertEquals(400, response.status);
+
+        response = send("POST", ApiServer.COMMANDS_PATH, "not json");
+        assertEquals(400, response.status);
+        assertTrue(response.body.contains("The request body should be"));
+    }
+
+    @Test
+    public void postCommand_notJson_unsupportedMediaTypeAndNotRun() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        assertEquals(415, sendRaw("POST " + ApiServer.COMMANDS_PATH, "127.0.0.1", "text/plain", null,
+                commandRequest("clear")).status);
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void send_notFromThisMachine_forbidden() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+
+        // host rebound to the loopback address -> forbidden
+        assertEquals(403, sendRaw("GET " + ApiServer.PERSONS_PATH, "attacker.example", null, null, null).status);
+
+        // page of another origin -> forbidden
+        assertEquals(403, sendRaw("POST " + ApiServer.COMMANDS_PATH, "127.0.0.1", "application/json",
+                "http://attacker.example", commandRequest("clear")).status);
+        assertEquals(403, sendRaw("GET " + ApiServer.PERSONS_PATH, "localhost", null, "null", null).status);
+        assertEquals(personCount, model.getAddressBook().getPersonList().size());
+
+        // page served from this machine -> handled
+        assertEquals(200, sendRaw("GET " + ApiServer.PERSONS_PATH, "localhost", null,
+                "http://localhost:" + server.getPort(), null).status);
+    }
+
+    @Test
+    public void send_wrongMethod_methodNotAllowed() throws Exception {
+        assertEquals(405, send("GET", ApiServer.COMMANDS_PATH, null).status);
+        assertEquals(405, send("POST", ApiServer.STATS_PATH, "{}").status);
+    }
+
+    @Test
+    public void send_queriesDuringCommands_allHandled() throws Exception {
+        int personCount = model.getAddressBook().getPersonList().size();
+        ExecutorService clients = Executors.newFixedThreadPool(4);
+        List<Future<Response>> responses = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            String command = "remark 1 r/Remark " + i;
+            responses.add(clients.submit(() -> send("POST", ApiServer.COMMANDS_PATH, commandRequest(command))));
+            responses.add(clients.submit(() -> send("GET", ApiServer.PERSONS_PATH, null)));
+        }
+        try {
+            for (int i = 0; i < responses.size(); i++) {
+                Response response = responses.get(i).get();
+                assertEquals(200, response.status);
+                if (i % 2 == 1) {
+                    // every query sees a consistent address book
+                    assertEquals(personCount, countOccurrences(response.body, "\"name\""));
+                }
+            }
+        } finally {
+            clients.shutdownNow();
+        }
+    }
+
+    @Test
+    public void loadTestClient_run_allRequestsHandled() throws Exception {
+        LoadTestClient.Result result = new LoadTestClient(server.getPort(), 20).run(2, 50);
+        assertEquals(100, result.getRequestCount());
+        assertEquals(0, result.getFailedCount());
+        assertTrue(result.getLatencyMillis(99) <= result.getLatencyMillis(100));
+    }
+
+    /**
+     * Sends a request with {@code body}, if not null, to the server and returns its response.
+     */
+    private Response send(String method, String path, String body) throws IOException {
+        HttpURLConnection connection =
+                (HttpURLConnection) new URL("http://127.0.0.1:" + server.getPort() + path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream responseBody = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+             Scanner scanner = new Scanner(responseBody, StandardCharsets.UTF_8.name())) {
+            return new Response(status, scanner.useDelimiter("\\A").hasNext() ? scanner.next() : "");
+        }
+    }
+
+    /**
+     * Sends {@code requestLine} over a plain socket with the given headers, where not null, and {@code body}, and
+     * returns the status of the response. Unlike {@link #send}, this can set any {@code Host}.
+     */
+    private Response sendRaw(String requestLine, String host, String contentType, String origin, String body)
+            throws IOException {
+        byte[] bodyBytes = body == null ? new byte[0] : body.getBytes(StandardCharsets.UTF_8);
+        StringBuilder request = new StringBuilder(requestLine + " HTTP/1.1\r\nHost: " + host + ":" + server.getPort()
+                + "\r\nConnection: close\r\nContent-Length: " + bodyBytes.length + "\r\n");
+        if (contentType != null) {
+            request.append("Content-Type: ").append(contentType).append("\r\n");
+        }
+        if (origin != null) {
+            request.append("Origin: ").append(origin).append("\r\n");
+        }
+        request.append("\r\n");
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getPort());
+             Scanner scanner = new Scanner(socket.getInputStream(), StandardCharsets.UTF_8.name())) {
+            OutputStream output = socket.getOutputStream();
+            output.write(request.toString().getBytes(StandardCharsets.UTF_8));
+            output.write(bodyBytes);
+            output.flush();
+            // the status line is "HTTP/1.1 STATUS REASON"
+            scanner.next();
+            return new Response(scanner.nextInt(), "");
+        }
+    }
+
+    private static String commandRequest(String command) {
+        return "{\"command\": \"" + command + "\"}";
+    }
+
+    private static String encode(String text) throws IOException {
+        return URLEncoder.encode(text, StandardCharsets.UTF_8.name());
+    }
+
+    /**
+     * Returns the number of times {@code part} occurs in {@code text}.
+     */
+    private static int countOccurrences(String text, String part) {
+        int count = 0;
+        for (int index = text.indexOf(part); index != -1; index = text.indexOf(part, index + 1)) {
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * The status and body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
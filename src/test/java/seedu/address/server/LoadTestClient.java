@@ -0,0 +1,196 @@
+package seedu.address.server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.AppUtil;
+
+/**
+ * Measures how fast an {@link ApiServer} on this machine handles a mix of queries and commands, sent by several
+ * clients at once, and reports the requests handled per second and the latency percentiles.
+ *
+ * Takes the named arguments {@code --port=PORT} (default {@value #DEFAULT_PORT}), {@code --clients=COUNT}, the
+ * number of clients sending requests at once (default {@value #DEFAULT_CLIENTS}), {@code --requests=COUNT}, the
+ * number of requests each client sends (default {@value #DEFAULT_REQUESTS}), and {@code --writePercent=PERCENT},
+ * the share of requests that run a command (default {@value #DEFAULT_WRITE_PERCENT}). The commands change the
+ * remark of the first person, so the server needs at least one person.
+ */
+public class LoadTestClient {
+
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_CLIENTS = 8;
+    public static final int DEFAULT_REQUESTS = 2000;
+    public static final int DEFAULT_WRITE_PERCENT = 10;
+
+    private static final String[] QUERIES = {
+        ApiServer.PERSONS_PATH,
+        ApiServer.PERSONS_PATH + "?" + ApiServer.FIND_PARAMETER + "=" + encode("alex david"),
+        ApiServer.PERSONS_PATH + "?" + ApiServer.FILTER_PARAMETER + "=" + encode("math and not stat/matched"),
+        ApiServer.STATS_PATH
+    };
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final String baseUrl;
+    private final int writePercent;
+
+    public LoadTestClient(int port, int writePercent) {
+        this.baseUrl = "http://127.0.0.1:" + port;
+        this.writePercent = writePercent;
+    }
+
+    /**
+     * Sends {@code requestsPerClient} requests from each of {@code clients} clients at once, after a short warm-up,
+     * and returns the results.
+     */
+    public Result run(int clients, int requestsPerClient) throws IOException, InterruptedException {
+        sendRequests(0, Math.max(1, requestsPerClient / 10));
+
+        ExecutorService executor = Executors.newFixedThreadPool(clients);
+        List<Future<long[]>> latencies = new ArrayList<>();
+        long startTime = System.nanoTime();
+        for (int client = 0; client < clients; client++) {
+            int firstRequest = client * requestsPerClient;
+            latencies.add(executor.submit(() -> sendRequests(firstRequest, requestsPerClient)));
+        }
+        long[] allLatencies = new long[clients * requestsPerClient];
+        try {
+            for (int client = 0; client < clients; client++) {
+                System.arraycopy(latencies.get(client).get(), 0, allLatencies, client * requestsPerClient,
+                        requestsPerClient);
+            }
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return new Result(allLatencies, System.nanoTime() - startTime);
+    }
+
+    /**
+     * Sends {@code count} requests one after another, numbered from {@code firstRequest}, and returns the latency
+     * of each in nanoseconds, or its negation if the server failed to handle it.
+     */
+    private long[] sendRequests(int firstRequest, int count) throws IOException {
+        long[] latencies = new long[count];
+        for (int i = 0; i < count; i++) {
+            int request = firstRequest + i;
+            long startTime = System.nanoTime();
+            boolean isHandled = request % 100 < writePercent
+                    ? send("POST", ApiServer.COMMANDS_PATH, "{\"command\": \"remark 1 r/Load test " + request + "\"}")
+                    : send("GET", QUERIES[request % QUERIES.length], null);
+            long latency = System.nanoTime() - startTime;
+            latencies[i] = isHandled ? latency : -latency;
+        }
+        return latencies;
+    }
+
+    /**
+     * Sends a request, reads the whole response so that the connection can be reused, and returns true if the
+     * server handled the request successfully.
+     */
+    private boolean send(String method, String path, String body) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+        connection.setRequestMethod(method);
+        if (body != null) {
+            connection.setDoOutput(true);
+            connection.setRequestProperty("Content-Type", "application/json");
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        int status = connection.getResponseCode();
+        try (InputStream responseBody = status < HttpURLConnection.HTTP_BAD_REQUEST
+                ? connection.getInputStream() : connection.getErrorStream()) {
+            byte[] buffer = new byte[8192];
+            while (responseBody != null && responseBody.read(buffer) != -1) {
+                // discard the response
+            }
+        }
+        return status == HttpURLConnection.HTTP_OK;
+    }
+
+    /**
+     * Returns {@code text} encoded for a query string.
+     */
+    private static String encode(String text) {
+        try {
+            return URLEncoder.encode(text, StandardCharsets.UTF_8.name());
+        } catch (IOException e) {
+            throw new AssertionError("UTF-8 is always supported", e);
+        }
+    }
+
+    /**
+     * The requests per second and latency percentiles of a run.
+     */
+    public static class Result {
+        private final long[] sortedLatencies;
+        private final long elapsedNanos;
+        private final int failedCount;
+
+        /**
+         * @param latencies the latency of each request in nanoseconds, negated if the request failed.
+         */
+        Result(long[] latencies, long elapsedNanos) {
+            this.sortedLatencies = Arrays.stream(latencies).map(Math::abs).sorted().toArray();
+            this.elapsedNanos = elapsedNanos;
+            this.failedCount = (int) Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        }
+
+        public int getRequestCount() {
+            return sortedLatencies.length;
+        }
+
+        public int getFailedCount() {
+            return failedCount;
+        }
+
+        public double getRequestsPerSecond() {
+            return sortedLatencies.length / (elapsedNanos / (NANOS_PER_MILLI * 1000));
+        }
+
+        /**
+         * Returns the latency in milliseconds that {@code percentile} percent of the requests took at most.
+         */
+        public double getLatencyMillis(double percentile) {
+            int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+            return sortedLatencies[Math.max(0, Math.min(index, sortedLatencies.length - 1))] / NANOS_PER_MILLI;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d requests (%d failed) in %.0f ms: %.0f requests per second, "
+                            + "latency p50 %.2f ms, p99 %.2f ms, max %.2f ms",
+                    getRequestCount(), failedCount, elapsedNanos / NANOS_PER_MILLI, getRequestsPerSecond(),
+                    getLatencyMillis(50), getLatencyMillis(99), getLatencyMillis(100));
+        }
+    }
+
+    /**
+     * Runs the load test described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int port = Integer.parseInt(namedArguments.getOrDefault("port", Integer.toString(DEFAULT_PORT)));
+        int clients = Integer.parseInt(namedArguments.getOrDefault("clients", Integer.toString(DEFAULT_CLIENTS)));
+        int requests = Integer.parseInt(namedArguments.getOrDefault("requests", Integer.toString(DEFAULT_REQUESTS)));
+        int writePercent = Integer.parseInt(
+                namedArguments.getOrDefault("writePercent", Integer.toString(DEFAULT_WRITE_PERCENT)));
+
+        System.out.println(new LoadTestClient(port, writePercent).run(clients, requests));
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPairs;
+import seedu.address.testutil.TypicalPersons;
+
+public class AddressBookLoaderTest {
+
+    @Test
+    public void load_typicalRecords_sameAsAddingInOrder() throws Exception {
+        AddressBook expected = TypicalPersons.getTypicalAddressBook();
+        for (Pair pair : TypicalPairs.getTypicalPairs()) {
+            expected.addPair(pair);
+        }
+        XmlSerializableAddressBook serializable = new XmlSerializableAddressBook(expected);
+
+        AddressBook loaded = serializable.toModelType();
+        assertEquals(expected, loaded);
+        assertEquals(expected.getPersonList(), loaded.getPersonList());
+        assertEquals(expected.getPairList(), loaded.getPairList());
+    }
+
+    @Test
+    public void load_manyChunks_fileOrderAndMergedTags() throws Exception {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        List<Person> expectedPersons = new ArrayList<>();
+        for (int i = 0; i < AddressBookLoader.CHUNK_SIZE * 3 + 7; i++) {
+            Person person = new PersonBuilder().withName("Person " + i).withTags("tag" + (i % 5)).build();
+            expectedPersons.add(person);
+            persons.add(new XmlAdaptedPerson(person));
+        }
+        List<XmlAdaptedTag> tags = Collections.singletonList(new XmlAdaptedTag(new Tag("tag4")));
+
+        AddressBook loaded = AddressBookLoader.load(tags, persons, Collections.emptyList());
+        assertEquals(expectedPersons, loaded.getPersonList());
+        Set<Tag> expectedTags = new LinkedHashSet<>();
+        expectedTags.add(new Tag("tag4"));
+        expectedPersons.forEach(person -> expectedTags.addAll(person.getTags()));
+        assertEquals(new ArrayList<>(expectedTags), loaded.getTagList());
+    }
+
+    @Test
+    public void load_invalidAndDuplicateRecords_allReportedWithPositions() {
+        List<XmlAdaptedPerson> persons = new ArrayList<>();
+        persons.add(new XmlAdaptedPerson(ALICE));
+        for (int i = 0; i < AddressBookLoader.CHUNK_SIZE; i++) {
+            persons.add(new XmlAdaptedPerson(new PersonBuilder().withName("Person " + i).build()));
+        }
+        persons.add(withName(BENSON, "B@nson"));
+        persons.add(new XmlAdaptedPerson(ALICE));
+        persons.add(withName(BENSON, ""));
+        List<XmlAdaptedTag> tags = Collections.singletonList(new XmlAdaptedTag("#friend"));
+
+        try {
+            AddressBookLoader.load(tags, persons, Collections.emptyList());
+            fail("Expected an IllegalValueException");
+        } catch (IllegalValueException ive) {
+            int invalidPosition = AddressBookLoader.CHUNK_SIZE + 2;
+            String[] expectedLines = {
+                String.format(AddressBookLoader.MESSAGE_INVALID_RECORDS, 4),
+                String.format(AddressBookLoader.MESSAGE_INVALID_RECORD, "tag", 1, Tag.MESSAGE_TAG_CONSTRAINTS),
+                String.format(AddressBookLoader.MESSAGE_INVALID_RECORD, "person", invalidPosition,
+                        Name.MESSAGE_NAME_CONSTRAINTS),
+                String.format(AddressBookLoader.MESSAGE_DUPLICATE_RECORD, "person", invalidPosition + 1,
+                        "person", 1),
+                String.format(AddressBookLoader.MESSAGE_INVALID_RECORD, "person", invalidPosition + 2,
+                        Name.MESSAGE_NAME_CONSTRAINTS)
+            };
+            assertEquals(String.join("\n", expectedLines), ive.getMessage());
+        }
+    }
+
+    /**
+     * Returns the adapted {@code person}, with its name replaced by {@code name}.
+     */
+    private static XmlAdaptedPerson withName(Person person, String name) {
+        List<XmlAdaptedTag> tagged = new ArrayList<>();
+        person.getTags().forEach(tag -> tagged.add(new XmlAdaptedTag(tag)));
+        return new XmlAdaptedPerson(name, person.getPhone().value, person.getEmail().value,
+                person.getAddress().value, person.getPrice().value, person.getSubject().value,
+                person.getLevel().value, person.getStatus().value, person.getRole().value, tagged,
+                person.getRemark().value);
+    }
+}
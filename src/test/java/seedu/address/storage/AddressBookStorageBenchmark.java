@@ -0,0 +1,82 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.AppUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.pair.PairMatcherBenchmark;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Measures how long an address book takes to be saved to and loaded from an xml file through
+ * {@link XmlAddressBookStorage} and a binary file through {@link BinaryAddressBookStorage}, and how large each file
+ * is. Prints the times and sizes of each run.
+ *
+ * Takes the named arguments {@code --persons=COUNT} (default {@value #DEFAULT_PERSONS}) and {@code --runs=COUNT}
+ * (default {@value #DEFAULT_RUNS}). The address book holds as many students as tutors, generated as
+ * {@link PairMatcherBenchmark} does, with the pairs proposed between them. The files are written to a temporary
+ * folder, deleted afterwards. The first runs warm the JIT compiler up, so compare the last runs.
+ */
+public class AddressBookStorageBenchmark {
+
+    public static final int DEFAULT_PERSONS = 100_000;
+    public static final int DEFAULT_RUNS = 3;
+
+    private static final double BYTES_PER_MEGABYTE = 1024 * 1024;
+
+    /**
+     * Saves {@code addressBook} through {@code storage} and loads it back, and prints the times taken and the size
+     * of the file written.
+     */
+    private static void time(String format, AddressBookStorage storage, ReadOnlyAddressBook addressBook)
+            throws DataConversionException, IOException {
+        long startTime = System.nanoTime();
+        storage.saveAddressBook(addressBook);
+        long savedTime = System.nanoTime();
+        int loadedPersons = storage.readAddressBook().get().getPersonList().size();
+        long loadedTime = System.nanoTime();
+
+        double megabytes = new File(storage.getAddressBookFilePath()).length() / BYTES_PER_MEGABYTE;
+        System.out.printf("  %-6s save %5d ms, load %5d ms (%d persons), %.1f MB%n", format,
+                TimeUnit.NANOSECONDS.toMillis(savedTime - startTime),
+                TimeUnit.NANOSECONDS.toMillis(loadedTime - savedTime), loadedPersons, megabytes);
+    }
+
+    /**
+     * Runs the benchmark described by the named arguments in {@code args} and prints the results.
+     */
+    public static void main(String[] args) throws DataConversionException, DuplicatePairException,
+            DuplicatePersonException, IOException {
+        Map<String, String> namedArguments = AppUtil.getNamedArguments(args);
+        int persons = Integer.parseInt(namedArguments.getOrDefault("persons", Integer.toString(DEFAULT_PERSONS)));
+        int runs = Integer.parseInt(namedArguments.getOrDefault("runs", Integer.toString(DEFAULT_RUNS)));
+
+        AddressBook addressBook = PairMatcherBenchmark.generateAddressBook(persons / 2, persons - persons / 2);
+        addressBook.applyMatches(addressBook.proposeMatches());
+        ReadOnlyAddressBook snapshot = addressBook.snapshot();
+
+        Path folder = Files.createTempDirectory("storageBenchmark");
+        String xmlFilePath = folder.resolve("addressbook.xml").toString();
+        String binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(xmlFilePath);
+        try {
+            for (int run = 1; run <= runs; run++) {
+                System.out.printf("run %d: %d persons, %d pairs%n", run, snapshot.getPersonList().size(),
+                        snapshot.getPairList().size());
+                time("xml", new XmlAddressBookStorage(xmlFilePath), snapshot);
+                time("binary", new BinaryAddressBookStorage(binaryFilePath), snapshot);
+            }
+        } finally {
+            Files.deleteIfExists(new File(xmlFilePath).toPath());
+            Files.deleteIfExists(new File(binaryFilePath).toPath());
+            Files.deleteIfExists(folder);
+        }
+    }
+}
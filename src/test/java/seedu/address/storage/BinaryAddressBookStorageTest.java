@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.testutil.TypicalPairs;
+
+public class BinaryAddressBookStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals("data/addressbook.bin", BinaryAddressBookStorage.getBinaryFilePath("data/addressbook.xml"));
+        assertEquals("data.d/addressbook.bin", BinaryAddressBookStorage.getBinaryFilePath("data.d/addressbook"));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(getTempFilePath("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void read_notBinaryFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml").readAddressBook();
+    }
+
+    @Test
+    public void read_unsupportedVersion_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("addressbook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "rw")) {
+            file.seek(4); // the version follows the magic number
+            file.writeByte(BinaryAddressBookCodec.FORMAT_VERSION + 1);
+        }
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        String filePath = getTempFilePath("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        for (Pair pair : TypicalPairs.getTypicalPairs()) {
+            original.addPair(pair);
+        }
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(new AddressBook(original), new AddressBook(readBack));
+        assertEquals(original.getPairList(), readBack.getPairList());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(new AddressBook(original), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_ids_kept() throws Exception {
+        String filePath = getTempFilePath("addressbook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addPair(TypicalPairs.ALICE_AND_BENSON);
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getId(), readBack.getPersonList().get(i).getId());
+        }
+        Pair pair = original.getPairList().get(0);
+        Pair pairReadBack = readBack.getPairList().get(0);
+        assertEquals(pair.getId(), pairReadBack.getId());
+        assertEquals(pair.getStudentId(), pairReadBack.getStudentId());
+        assertEquals(pair.getTutorId(), pairReadBack.getTutorId());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanXml() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        String xmlFilePath = getTempFilePath("addressbook.xml");
+        String binaryFilePath = getTempFilePath("addressbook.bin");
+        new XmlAddressBookStorage(xmlFilePath).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(addressBook);
+        assertTrue(new File(binaryFilePath).length() * 3 < new File(xmlFilePath).length());
+    }
+
+    @Test
+    public void migrateFrom_xmlFile_migratedOnce() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(getTempFilePath("addressbook.xml"));
+        xmlStorage.saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(getTempFilePath("addressbook.bin"));
+
+        assertTrue(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        // binary file already exists
+        xmlStorage.saveAddressBook(new AddressBook());
+        assertFalse(binaryStorage.migrateFrom(xmlStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void migrateFrom_missingXmlFile_nothingMigrated() throws IOException, DataConversionException {
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(getTempFilePath("addressbook.bin"));
+        assertFalse(binaryStorage.migrateFrom(new XmlAddressBookStorage(getTempFilePath("missing.xml"))));
+        assertFalse(new File(binaryStorage.getAddressBookFilePath()).exists());
+    }
+}
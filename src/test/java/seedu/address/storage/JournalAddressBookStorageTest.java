@@ -0,0 +1,167 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath() {
+        return testFolder.getRoot().getPath() + File.separator + "TempAddressBook.xml";
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(getTempFilePath()).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedToJournalOnly() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] checkpoint = Files.readAllBytes(Paths.get(filePath));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original.snapshot());
+        Person editedBenson = new PersonBuilder(BENSON).withRemark("Prefers mornings").build();
+        original.updatePerson(BENSON, editedBenson);
+        storage.saveAddressBook(original.snapshot());
+
+        // checkpoint untouched, one person record per change in the journal
+        assertArrayEquals(checkpoint, Files.readAllBytes(Paths.get(filePath)));
+        assertEquals(3, readJournal(storage).stream().filter(line -> line.contains("_PERSON")).count());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(editedBenson.getRemark(), readBack.getPersonList().get(0).getRemark());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoCheckpoint() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 0, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original.snapshot());
+
+        // only the header is left in the journal, and the checkpoint alone holds the data
+        assertEquals(1, readJournal(storage).size());
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalForOtherCheckpoint_journalIgnored() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+
+        // checkpoint replaced behind the journal's back
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(replacement, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+
+        Files.write(Paths.get(storage.getJournalFilePath()), "{\"operation\":\"INSERT_PE".getBytes(),
+                StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // the next save starts a fresh journal rather than appending after the incomplete record
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original.snapshot());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_crashBetweenCheckpointAndJournalMoves_newJournalInstalled() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+
+        // a new checkpoint moved into place, its journal still waiting next to the old journal
+        String otherFilePath = testFolder.getRoot().getPath() + File.separator + "OtherAddressBook.xml";
+        JournalAddressBookStorage other = new JournalAddressBookStorage(otherFilePath, Long.MAX_VALUE, Runnable::run);
+        other.saveAddressBook(original);
+        original.addPerson(IDA);
+        other.saveAddressBook(original.snapshot());
+        Files.copy(Paths.get(otherFilePath), Paths.get(filePath), StandardCopyOption.REPLACE_EXISTING);
+        Files.copy(Paths.get(other.getJournalFilePath()), Paths.get(storage.getJournalFilePath() + ".tmp"));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(Paths.get(storage.getJournalFilePath() + ".tmp")));
+    }
+
+    @Test
+    public void readAddressBook_crashBeforeCheckpointMove_newJournalDeleted() throws Exception {
+        String filePath = getTempFilePath();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, Long.MAX_VALUE, Runnable::run);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original.snapshot());
+
+        // a journal for a checkpoint that never replaced the current one
+        Files.write(Paths.get(storage.getJournalFilePath() + ".tmp"),
+                "addressbook-journal 0\n".getBytes(StandardCharsets.UTF_8));
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertFalse(Files.exists(Paths.get(storage.getJournalFilePath() + ".tmp")));
+    }
+
+    private List<String> readJournal(JournalAddressBookStorage storage) throws Exception {
+        return Files.readAllLines(Paths.get(storage.getJournalFilePath()), StandardCharsets.UTF_8);
+    }
+}
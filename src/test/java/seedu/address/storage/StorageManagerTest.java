@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.util.function.BooleanSupplier;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -81,6 +82,62 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_writeBehind_coalescesChangesIntoOneSave() throws Exception {
+        XmlAddressBookStorageSaveCountingStub addressBookStorage =
+                new XmlAddressBookStorageSaveCountingStub(getTempFilePath("writeBehind"));
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage("dummy"));
+        storage.enableWriteBehind(60_000, Runnable::run);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook.snapshot()));
+        assertEquals(0, addressBookStorage.saveCount);
+
+        storage.flushAddressBook();
+        assertEquals(1, addressBookStorage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindExceptionThrown_eventRaised() {
+        StorageManager storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub("dummy"),
+                                                    new JsonUserPrefsStorage("dummy"));
+        storage.enableWriteBehind(60_000, Runnable::run);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_writeBehindSaveFailsOnce_laterChangeSaved() throws Exception {
+        XmlAddressBookStorageFailingOnceStub addressBookStorage =
+                new XmlAddressBookStorageFailingOnceStub(getTempFilePath("writeBehindRetry"));
+        StorageManager storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage("dummy"));
+        storage.enableWriteBehind(10, Runnable::run);
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        waitUntil(() -> addressBookStorage.attemptCount > 0);
+
+        // failed save, then a later change without flushing -> saved in the background
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook.snapshot()));
+        waitUntil(() -> addressBookStorage.savedCount > 0);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        storage.flushAddressBook();
+    }
+
+    /**
+     * Waits up to 5 seconds for {@code condition} to hold, failing the test if it does not.
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the address book to be saved", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -97,5 +154,45 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class to count the number of times the save method is called
+     */
+    class XmlAddressBookStorageSaveCountingStub extends XmlAddressBookStorage {
+
+        private int saveCount = 0;
+
+        public XmlAddressBookStorageSaveCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * A Stub class to throw an exception the first time the save method is called
+     */
+    class XmlAddressBookStorageFailingOnceStub extends XmlAddressBookStorage {
+
+        private volatile int attemptCount = 0;
+        private volatile int savedCount = 0;
+
+        public XmlAddressBookStorageFailingOnceStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+            if (attemptCount++ == 0) {
+                throw new IOException("dummy exception");
+            }
+            super.saveAddressBook(addressBook, filePath);
+            savedCount++;
+        }
+    }
+
 
 }
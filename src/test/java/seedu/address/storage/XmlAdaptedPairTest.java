@@ -13,6 +13,7 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.pair.Pair;
 import seedu.address.model.person.Level;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Price;
@@ -124,6 +125,22 @@ public class XmlAdaptedPairTest {
     }
 
 
+    @Test
+    public void toModelType_invalidStudentId_throwsIllegalValueException() {
+        XmlAdaptedPair pair = new XmlAdaptedPair("1", "student", "2", VALID_STUDENT_NAME, VALID_TUTOR_NAME,
+                VALID_SUBJECT, VALID_LEVEL, VALID_PRICE, VALID_TAGS);
+        Assert.assertThrows(IllegalValueException.class, XmlAdaptedPair.MESSAGE_ID_CONSTRAINTS, pair::toModelType);
+    }
+
+    @Test
+    public void toModelType_withIds_idsKept() throws Exception {
+        Pair pair = new XmlAdaptedPair("1", "2", "3", VALID_STUDENT_NAME, VALID_TUTOR_NAME, VALID_SUBJECT,
+                VALID_LEVEL, VALID_PRICE, VALID_TAGS).toModelType();
+        assertEquals(1, pair.getId());
+        assertEquals(2, pair.getStudentId());
+        assertEquals(3, pair.getTutorId());
+    }
+
     @Test
     public void testXmlAdaptedPairEquality() {
         XmlAdaptedPair alice = new XmlAdaptedPair(ALICE_AND_BENSON);
@@ -210,6 +210,19 @@ public class XmlAdaptedPersonTest {
         Assert.assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_invalidId_throwsIllegalValueException() {
+        XmlAdaptedPerson person = new XmlAdaptedPerson("0", VALID_NAME, VALID_PHONE, VALID_EMAIL, VALID_ADDRESS,
+                VALID_PRICE, VALID_SUBJECT, VALID_LEVEL, VALID_STATUS, VALID_ROLE, VALID_TAGS, VALID_REMARK);
+        Assert.assertThrows(IllegalValueException.class, XmlAdaptedPerson.MESSAGE_ID_CONSTRAINTS, person::toModelType);
+    }
+
+    @Test
+    public void toModelType_withId_idKept() throws Exception {
+        XmlAdaptedPerson person = new XmlAdaptedPerson(BENSON.withId(42));
+        assertEquals(42, person.toModelType().getId());
+    }
+
     @Test
     public void testXmlAdaptedPersonEquality() {
         XmlAdaptedPerson alice = new XmlAdaptedPerson(ALICE);
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.pair.Pair;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TypicalPairs;
+
+public class XmlAddressBookStreamCodecTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
+    private static final File MISSING_FILE = new File(TEST_DATA_FOLDER + "missing.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveDataToFile_typicalAddressBook_sameBytesAsJaxb() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        for (Pair pair : TypicalPairs.getTypicalPairs()) {
+            addressBook.addPair(pair);
+        }
+        addressBook.addPerson(new PersonBuilder().withName("Zed Zed")
+                .withRemark("a&b<c>d\"e'f\tg\u00e9h\u4e2d\ud83d\ude00 \r\n x").build());
+        assertSameBytesAsJaxb(addressBook);
+    }
+
+    @Test
+    public void saveDataToFile_emptyAddressBook_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(new AddressBook());
+    }
+
+    @Test
+    public void loadDataFromFile_savedAddressBook_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder().withName("Zed Zed").withRemark("line\r\nbreak").build());
+        File file = testFolder.newFile("addressbook.xml");
+
+        XmlAddressBookStreamCodec.saveDataToFile(file, original);
+        AddressBook readBack = XmlAddressBookStreamCodec.loadDataFromFile(file);
+        assertEquals(original, readBack);
+        assertEquals(original.getPersonList().get(original.getPersonList().size() - 1).getRemark(),
+                readBack.getPersonList().get(readBack.getPersonList().size() - 1).getRemark());
+    }
+
+    @Test
+    public void loadDataFromFile_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(java.io.FileNotFoundException.class);
+        XmlAddressBookStreamCodec.loadDataFromFile(MISSING_FILE);
+    }
+
+    @Test
+    public void loadDataFromFile_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlAddressBookStreamCodec.loadDataFromFile(new File(TEST_DATA_FOLDER + "NotXmlFormatAddressBook.xml"));
+    }
+
+    @Test
+    public void loadDataFromFile_invalidPerson_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        XmlAddressBookStreamCodec.loadDataFromFile(new File(TEST_DATA_FOLDER + "invalidPersonAddressBook.xml"));
+    }
+
+    /**
+     * Asserts that {@code addressBook} is saved with the same bytes by the codec as by JAXB.
+     */
+    private void assertSameBytesAsJaxb(AddressBook addressBook) throws Exception {
+        File jaxbFile = testFolder.newFile("jaxb.xml");
+        File streamFile = testFolder.newFile("stream.xml");
+        XmlUtil.saveDataToFile(jaxbFile, new XmlSerializableAddressBook(addressBook));
+        XmlAddressBookStreamCodec.saveDataToFile(streamFile, addressBook);
+        assertArrayEquals(Files.readAllBytes(jaxbFile.toPath()), Files.readAllBytes(streamFile.toPath()));
+    }
+}
@@ -81,7 +81,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Status} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withStatus(String status) {
-        descriptor.setStatus(new Status(status));
+        descriptor.setStatus(Status.of(status));
         return this;
     }
 
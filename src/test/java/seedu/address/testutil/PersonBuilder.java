@@ -52,10 +52,10 @@ public class PersonBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         price = new Price(DEFAULT_PRICE);
-        subject = new Subject(DEFAULT_SUBJECT);
-        level = new Level(DEFAULT_LEVEL);
-        status = new Status(DEFAULT_STATUS);
-        role = new Role(DEFAULT_ROLE);
+        subject = Subject.of(DEFAULT_SUBJECT);
+        level = Level.of(DEFAULT_LEVEL);
+        status = Status.of(DEFAULT_STATUS);
+        role = Role.of(DEFAULT_ROLE);
         tags = SampleDataUtil.getTagSet(DEFAULT_TAGS);
         remark = new Remark(DEFAULT_REMARK);
     }
@@ -121,7 +121,7 @@ public class PersonBuilder {
      * Sets the {@code Level} of the {@code Person} that we are building.
      */
     public PersonBuilder withLevel(String level) {
-        this.level = new Level(level);
+        this.level = Level.of(level);
         return this;
     }
 
@@ -129,7 +129,7 @@ public class PersonBuilder {
      * Sets the {@code Subject} of the {@code Person} that we are building.
      */
     public PersonBuilder withSubject(String subject) {
-        this.subject = new Subject(subject);
+        this.subject = Subject.of(subject);
         return this;
     }
 
@@ -137,7 +137,7 @@ public class PersonBuilder {
      * Sets the {@code Status} of the {@code Person} that we are building.
      */
     public PersonBuilder withStatus(String status) {
-        this.status = new Status(status);
+        this.status = Status.of(status);
         return this;
     }
 
@@ -153,7 +153,7 @@ public class PersonBuilder {
      * Sets the {@code Role} of the {@code Person} that we are building.
      */
     public PersonBuilder withRole(String role) {
-        this.role = new Role(role);
+        this.role = Role.of(role);
         return this;
     }
 
@@ -49,9 +49,9 @@ public class TutorBuilder {
         email = new Email(DEFAULT_EMAIL);
         address = new Address(DEFAULT_ADDRESS);
         price = new Price(DEFAULT_PRICE);
-        subject = new Subject(DEFAULT_SUBJECT);
-        level = new Level(DEFAULT_LEVEL);
-        status = new Status(DEFAULT_STATUS);
+        subject = Subject.of(DEFAULT_SUBJECT);
+        level = Level.of(DEFAULT_LEVEL);
+        status = Status.of(DEFAULT_STATUS);
         tags = SampleDataUtil.getTagSet(DEFAULT_TAGS);
         remark = new Remark(DEFAULT_REMARK);
     }
@@ -107,7 +107,7 @@ public class TutorBuilder {
      * Sets the {@code Level} of the {@code Person} that we are building.
      */
     public TutorBuilder withLevel(String level) {
-        this.level = new Level(level);
+        this.level = Level.of(level);
         return this;
     }
 
@@ -115,7 +115,7 @@ public class TutorBuilder {
      * Sets the {@code Subject} of the {@code Person} that we are building.
      */
     public TutorBuilder withSubject(String subject) {
-        this.subject = new Subject(subject);
+        this.subject = Subject.of(subject);
         return this;
     }
 
@@ -123,7 +123,7 @@ public class TutorBuilder {
      * Sets the {@code Status} of the {@code Person} that we are building.
      */
     public TutorBuilder withStatus(String status) {
-        this.status = new Status(status);
+        this.status = Status.of(status);
         return this;
     }
 
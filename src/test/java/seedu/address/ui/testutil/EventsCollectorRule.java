@@ -76,6 +76,13 @@ public class EventsCollectorRule implements TestRule {
             return events.get(events.size() - 1);
         }
 
+        /**
+         * Returns the event collected at {@code index}, counting from the oldest
+         */
+        public BaseEvent get(int index) {
+            return events.get(index);
+        }
+
         /**
          * Returns true if the collector did not receive any events
          */